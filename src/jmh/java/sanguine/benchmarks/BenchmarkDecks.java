@@ -0,0 +1,121 @@
+package sanguine.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import sanguine.model.BasicSanguineCard;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.SanguineCard;
+
+/**
+ * Builds the decks, games and deck files the benchmarks run on.
+ *
+ * <p>Everything is generated from a fixed seed so every run measures the same positions.</p>
+ */
+final class BenchmarkDecks {
+  static final long SEED = 42;
+
+  /**
+   * This class only has static methods.
+   */
+  private BenchmarkDecks() {
+  }
+
+  /**
+   * Parses a board size parameter such as "11x11" into its rows and columns.
+   *
+   * @param board the board size
+   * @return the rows and columns
+   */
+  static int[] dimensions(String board) {
+    String[] parts = board.split("x");
+    return new int[] {Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+  }
+
+  /**
+   * Generates a deck of distinct cards with random influence grids. Every card costs 1, the one
+   * cost placeCardLegal and placeCard agree on for any amount of pawns, so openings always have
+   * a legal move.
+   *
+   * @param size the amount of cards
+   * @param seed the seed of the grids
+   * @return the deck
+   */
+  static List<SanguineCard> distinctDeck(int size, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    List<SanguineCard> deck = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      deck.add(new BasicSanguineCard("Card" + i, 1, 1 + random.nextInt(5),
+          grid(random)));
+    }
+    return deck;
+  }
+
+  /**
+   * Starts a game on a board of the given size, with decks just big enough for the board.
+   *
+   * @param board    the board size, such as "11x11"
+   * @param handSize the hand size of both players
+   * @return the started game
+   * @throws IOException if the model fails to start
+   */
+  static BasicSanguineModel startedGame(String board, int handSize) throws IOException {
+    int[] size = dimensions(board);
+    int cards = Math.max(size[0] * size[1], handSize * 3);
+
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.startGame(size[0], size[1], distinctDeck(cards, SEED), distinctDeck(cards, SEED + 1),
+        handSize);
+    return model;
+  }
+
+  /**
+   * Writes a text deck of the given amount of cards.
+   *
+   * @param file  where the deck is written
+   * @param cards the amount of cards
+   * @throws IOException if the file can not be written
+   */
+  static void writeTextDeck(Path file, int cards) throws IOException {
+    SplittableRandom random = new SplittableRandom(SEED);
+
+    try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      for (int i = 0; i < cards; i++) {
+        out.write("Card" + i + " " + (1 + random.nextInt(3)) + " " + (1 + random.nextInt(9)));
+        out.newLine();
+        for (String row : grid(random)) {
+          out.write(row);
+          out.newLine();
+        }
+      }
+    }
+  }
+
+  /**
+   * Generates a random 5x5 influence grid with the card at its center.
+   *
+   * @param random the source of randomness
+   * @return the grid rows
+   */
+  private static List<String> grid(SplittableRandom random) {
+    List<String> rows = new ArrayList<>(5);
+    for (int row = 0; row < 5; row++) {
+      StringBuilder line = new StringBuilder(5);
+      for (int col = 0; col < 5; col++) {
+        if (row == 2 && col == 2) {
+          line.append('C');
+        } else {
+          line.append(random.nextInt(4) == 0 ? 'I' : 'X');
+        }
+      }
+      rows.add(line.toString());
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,104 @@
+package sanguine.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import sanguine.model.DeckCache;
+import sanguine.model.DeckCompiler;
+import sanguine.model.DeckParser;
+import sanguine.model.SanguineCard;
+
+/**
+ * Benchmarks of loading decks from 1,000 to 1,000,000 cards: parsing the text format, mapping
+ * the compiled format, and hitting the deck cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeckParserBenchmark {
+  @Param({"1000", "100000", "1000000"})
+  public int cards;
+
+  private Path directory;
+  private String textDeck;
+  private String compiledDeck;
+
+  /**
+   * Writes the text deck and compiles it.
+   *
+   * @throws IOException if the decks can not be written
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("sanguine-jmh");
+    textDeck = directory.resolve("bench.deck").toString();
+    compiledDeck = directory.resolve("bench.sdeck").toString();
+
+    BenchmarkDecks.writeTextDeck(Path.of(textDeck), cards);
+    DeckCompiler.compile(textDeck, compiledDeck);
+  }
+
+  /**
+   * Deletes the decks.
+   *
+   * @throws IOException if the decks can not be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    DeckCache.clear();
+    Files.deleteIfExists(Path.of(textDeck));
+    Files.deleteIfExists(Path.of(compiledDeck));
+    Files.deleteIfExists(directory);
+  }
+
+  /**
+   * Parses the text deck.
+   *
+   * @return the deck
+   * @throws IOException if the deck can not be read
+   */
+  @Benchmark
+  public List<SanguineCard> parseText() throws IOException {
+    return DeckParser.makeDeck(textDeck);
+  }
+
+  /**
+   * Maps the compiled deck.
+   *
+   * @return the deck
+   * @throws IOException if the deck can not be read
+   */
+  @Benchmark
+  public List<SanguineCard> loadCompiled() throws IOException {
+    return DeckParser.makeDeck(compiledDeck);
+  }
+
+  /**
+   * Looks the text deck up in the deck cache, which only parses it on the first call.
+   *
+   * @return the deck
+   * @throws IOException if the deck can not be read
+   */
+  @Benchmark
+  public List<SanguineCard> cachedLookup() throws IOException {
+    return DeckCache.get(textDeck);
+  }
+}
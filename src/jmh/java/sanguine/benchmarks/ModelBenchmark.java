@@ -0,0 +1,218 @@
+package sanguine.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.BitBoard;
+import sanguine.model.BoardView;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+import sanguine.model.SanguineGameBoard;
+import sanguine.model.SanguinePlayer;
+
+/**
+ * Benchmarks of the model's hot paths: playing a turn, checking legality and reading the board,
+ * across board sizes from 3x5 to 101x101 and several hand sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+  /**
+   * A game that has just started, shared by the read only benchmarks.
+   */
+  @State(Scope.Thread)
+  public static class StartedGame {
+    @Param({"3x5", "5x7", "11x11", "51x51", "101x101"})
+    public String board;
+
+    @Param({"3", "7", "15"})
+    public int handSize;
+
+    BasicSanguineModel model;
+
+    /**
+     * Starts the game.
+     *
+     * @throws IOException if the model fails to start
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      model = BenchmarkDecks.startedGame(board, handSize);
+    }
+  }
+
+  /**
+   * A fresh game and a legal opening move, rebuilt before every call so playTurn always runs
+   * against the same position.
+   */
+  @State(Scope.Thread)
+  public static class OpeningMove {
+    @Param({"3x5", "5x7", "11x11", "51x51", "101x101"})
+    public String board;
+
+    @Param({"3", "7", "15"})
+    public int handSize;
+
+    BasicSanguineModel model;
+    int row;
+    SanguineCard card;
+
+    /**
+     * Starts a new game and picks the first legal opening move of the red player.
+     *
+     * @throws IOException if the model fails to start
+     */
+    @Setup(Level.Invocation)
+    public void setUp() throws IOException {
+      model = BenchmarkDecks.startedGame(board, handSize);
+      SanguinePlayer red = model.getTurn();
+      card = red.getHand().getFirst();
+      row = 0;
+      while (!model.placeCardLegal(row, 0, card, red)) {
+        row++;
+      }
+    }
+  }
+
+  /**
+   * The same opening move on a bitboard of the fresh game, which is copied before every call.
+   */
+  @State(Scope.Thread)
+  public static class OpeningBits {
+    @Param({"3x5", "5x7", "11x11", "51x51", "101x101"})
+    public String board;
+
+    @Param({"3", "7", "15"})
+    public int handSize;
+
+    BitBoard start;
+    BitBoard bits;
+    int row;
+    SanguineCard card;
+
+    /**
+     * Starts a game and picks the first legal opening move of the red player.
+     *
+     * @throws IOException if the model fails to start
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      BasicSanguineModel model = BenchmarkDecks.startedGame(board, handSize);
+      SanguinePlayer red = model.getTurn();
+      card = red.getHand().getFirst();
+      row = 0;
+      while (!model.placeCardLegal(row, 0, card, red)) {
+        row++;
+      }
+      start = BitBoard.of(model.getBoardView());
+    }
+
+    /**
+     * Restores the fresh board.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+      bits = start.copy();
+    }
+  }
+
+  /**
+   * Plays an opening move: placing the card, spreading its influence and drawing. Measured as
+   * throughput, the figure the regression gate tracks.
+   *
+   * @param game the fresh game
+   * @return the game, so the turn is not dead code
+   * @throws IOException if the model fails to draw
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public BasicSanguineModel playTurn(OpeningMove game) throws IOException {
+    game.model.playTurn(game.row, 0, game.card);
+    return game.model;
+  }
+
+  /**
+   * Places the opening move's card on a bitboard, spreading its influence a row at a time, to
+   * compare with playTurn.
+   *
+   * @param game the fresh bitboard
+   * @return the bitboard, so the placement is not dead code
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public BitBoard bitBoardPlace(OpeningBits game) {
+    game.bits.place(game.row, 0, game.card, PlayerColor.RED);
+    return game.bits;
+  }
+
+  /**
+   * Checks every cell of the board for a legal placement of the first card in hand, the loop
+   * every strategy runs.
+   *
+   * @param game the started game
+   * @param hole sinks the results
+   */
+  @Benchmark
+  public void placeCardLegal(StartedGame game, Blackhole hole) {
+    SanguinePlayer player = game.model.getTurn();
+    SanguineCard card = player.getHand().getFirst();
+    int rows = game.model.getBoardView().getRows();
+    int cols = game.model.getBoardView().getCols();
+
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        hole.consume(game.model.placeCardLegal(row, col, card, player));
+      }
+    }
+  }
+
+  /**
+   * Copies the board, as the views and strategies do on every call.
+   *
+   * @param game the started game
+   * @return the copy
+   * @throws IOException if the default deck can not be read
+   */
+  @Benchmark
+  public SanguineGameBoard getBoard(StartedGame game) throws IOException {
+    return game.model.getBoard();
+  }
+
+  /**
+   * Reads the owner and pawns of every cell through the live board view, the reads the views
+   * make for every cell.
+   *
+   * @param game the started game
+   * @param hole sinks the results
+   */
+  @Benchmark
+  public void boardViewScan(StartedGame game, Blackhole hole) {
+    BoardView cells = game.model.getBoardView();
+
+    for (int row = 0; row < cells.getRows(); row++) {
+      for (int col = 0; col < cells.getCols(); col++) {
+        hole.consume(cells.getOwner(row, col));
+        hole.consume(cells.getPawnCount(row, col));
+      }
+    }
+  }
+}
@@ -0,0 +1,611 @@
+package sanguine.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A tool that compares JMH results against a stored baseline and fails when any benchmark got
+ * slower than allowed.
+ *
+ * <p>Both files are JMH JSON results (-rf json). A benchmark is identified by its name and
+ * parameters. Its primary score is compared to the baseline's: for time per operation modes a
+ * higher score is a regression, for throughput a lower one is. A benchmark that regressed by
+ * more than the allowed percentage fails the gate, and so does a baseline benchmark that is
+ * missing from the results or has no score there, as when it crashed. Benchmarks only in the
+ * results are reported as new but do not fail it.</p>
+ *
+ * <p>Usage: RegressionGate &lt;baseline json&gt; &lt;results json&gt; &lt;allowed regression
+ * percent&gt;</p>
+ */
+public final class RegressionGate {
+
+  /**
+   * This class only has static methods.
+   */
+  private RegressionGate() {
+  }
+
+  /**
+   * Compares the results to the baseline, prints the comparison and exits with 1 if any
+   * benchmark regressed past the allowed percentage or did not run.
+   *
+   * @param args the baseline path, the results path and the allowed regression in percent
+   * @throws IOException if a file can not be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      System.err.println("usage: RegressionGate <baseline json> <results json> <percent>");
+      System.exit(2);
+    }
+
+    Path baseline = Path.of(args[0]);
+    if (!Files.exists(baseline)) {
+      System.err.println("no baseline at " + baseline
+          + ", record one with gradle jmhGateBaseline");
+      System.exit(1);
+    }
+
+    List<Comparison> comparisons = compare(read(baseline), read(Path.of(args[1])),
+        Double.parseDouble(args[2]));
+    System.out.print(table(comparisons));
+
+    long regressions = comparisons.stream().filter(Comparison::regressed).count();
+    long missing = comparisons.stream().filter(Comparison::missing).count();
+    if (regressions > 0) {
+      System.err.println(regressions + " benchmark(s) regressed more than " + args[2] + "%");
+    }
+    if (missing > 0) {
+      System.err.println(missing + " baseline benchmark(s) did not run or have no score");
+    }
+    if (comparisons.stream().anyMatch(Comparison::failed)) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Reads the primary score of every benchmark in a JMH JSON results file.
+   *
+   * @param file the results file
+   * @return the scores by benchmark, in file order
+   * @throws IOException              if the file can not be read
+   * @throws IllegalArgumentException if the file is not JMH JSON results
+   */
+  public static Map<String, Score> read(Path file) throws IOException {
+    return parse(Files.readString(file, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Reads the primary score of every benchmark in JMH JSON results.
+   *
+   * @param json the results
+   * @return the scores by benchmark, in result order
+   * @throws IllegalArgumentException if the text is not JMH JSON results
+   */
+  public static Map<String, Score> parse(String json) {
+    if (json == null) {
+      throw new IllegalArgumentException("json is null");
+    }
+
+    Object root = new JsonReader(json).readDocument();
+    if (!(root instanceof List<?> results)) {
+      throw new IllegalArgumentException("JMH results must be a JSON array");
+    }
+
+    Map<String, Score> scores = new LinkedHashMap<>();
+    for (Object result : results) {
+      Map<?, ?> entry = object(result, "result");
+      Map<?, ?> metric = object(entry.get("primaryMetric"), "primaryMetric");
+
+      String key = entry.get("benchmark") + params(entry.get("params"));
+      scores.put(key, new Score(String.valueOf(entry.get("mode")),
+          number(metric.get("score")), String.valueOf(metric.get("scoreUnit"))));
+    }
+    return scores;
+  }
+
+  /**
+   * Compares every benchmark in either the baseline or the results.
+   *
+   * @param baseline the baseline scores
+   * @param results  the new scores
+   * @param percent  the allowed regression, in percent
+   * @return the comparisons, baseline benchmarks first
+   * @throws IllegalArgumentException if an argument is null or the percentage is negative
+   */
+  public static List<Comparison> compare(Map<String, Score> baseline,
+                                         Map<String, Score> results, double percent) {
+    if (baseline == null || results == null) {
+      throw new IllegalArgumentException("scores are null");
+    }
+    if (percent < 0 || Double.isNaN(percent)) {
+      throw new IllegalArgumentException("allowed regression must not be negative: " + percent);
+    }
+
+    List<Comparison> comparisons = new ArrayList<>();
+    for (Map.Entry<String, Score> entry : baseline.entrySet()) {
+      comparisons.add(new Comparison(entry.getKey(), entry.getValue(),
+          results.get(entry.getKey()), percent));
+    }
+    for (Map.Entry<String, Score> entry : results.entrySet()) {
+      if (!baseline.containsKey(entry.getKey())) {
+        comparisons.add(new Comparison(entry.getKey(), null, entry.getValue(), percent));
+      }
+    }
+    return comparisons;
+  }
+
+  /**
+   * Renders comparisons as an aligned table with one row per benchmark.
+   *
+   * @param comparisons the comparisons
+   * @return the table
+   */
+  public static String table(List<Comparison> comparisons) {
+    List<String[]> rows = new ArrayList<>();
+    rows.add(new String[] {"Benchmark", "Baseline", "Current", "Change", "Status"});
+    for (Comparison comparison : comparisons) {
+      rows.add(new String[] {shortName(comparison.benchmark()), format(comparison.baseline()),
+          format(comparison.current()), comparison.change(), comparison.status()});
+    }
+
+    int[] widths = new int[5];
+    for (String[] row : rows) {
+      for (int i = 0; i < row.length; i++) {
+        widths[i] = Math.max(widths[i], row[i].length());
+      }
+    }
+
+    StringBuilder out = new StringBuilder();
+    for (String[] row : rows) {
+      for (int i = 0; i < row.length; i++) {
+        String cell = i == 0 ? pad(row[i], widths[i], false) : pad(row[i], widths[i], true);
+        out.append(cell).append(i == row.length - 1 ? System.lineSeparator() : "  ");
+      }
+    }
+    return out.toString();
+  }
+
+  /**
+   * The primary score of one benchmark.
+   *
+   * @param mode  the JMH mode, such as avgt or thrpt
+   * @param value the score
+   * @param unit  the unit of the score, such as us/op
+   */
+  public record Score(String mode, double value, String unit) {
+
+    /**
+     * Returns whether a higher score is better, which is only true of throughput.
+     *
+     * @return if higher is better
+     */
+    public boolean higherIsBetter() {
+      return "thrpt".equals(mode);
+    }
+  }
+
+  /**
+   * The comparison of one benchmark to its baseline.
+   *
+   * @param benchmark the benchmark name and parameters
+   * @param baseline  the baseline score, or null if the benchmark is new
+   * @param current   the new score, or null if the benchmark did not run
+   * @param percent   the allowed regression, in percent
+   */
+  public record Comparison(String benchmark, Score baseline, Score current, double percent) {
+
+    /**
+     * Returns how much worse the benchmark got, in percent. Negative if it got better.
+     *
+     * @return the regression, or NaN if either score is missing or they can not be compared
+     */
+    public double regression() {
+      if (baseline == null || current == null || !baseline.mode().equals(current.mode())
+          || !baseline.unit().equals(current.unit()) || baseline.value() == 0) {
+        return Double.NaN;
+      }
+
+      double change = (current.value() - baseline.value()) / baseline.value() * 100;
+      return baseline.higherIsBetter() ? 0.0 - change : change;
+    }
+
+    /**
+     * Returns whether the benchmark regressed past the allowed percentage.
+     *
+     * @return if it regressed
+     */
+    public boolean regressed() {
+      return regression() > percent;
+    }
+
+    /**
+     * Returns whether a baseline benchmark is missing from the results or has no score there,
+     * which is how a benchmark that crashed shows up.
+     *
+     * @return if it is missing
+     */
+    public boolean missing() {
+      return baseline != null && (current == null || Double.isNaN(current.value()));
+    }
+
+    /**
+     * Returns whether the benchmark fails the gate: it regressed or is missing.
+     *
+     * @return if it fails
+     */
+    public boolean failed() {
+      return regressed() || missing();
+    }
+
+    /**
+     * Returns the change as a signed percentage, where positive is worse.
+     *
+     * @return the change, or "-" if it can not be computed
+     */
+    public String change() {
+      double regression = regression();
+      return Double.isNaN(regression) ? "-" : String.format(Locale.ROOT, "%+.1f%%", regression);
+    }
+
+    /**
+     * Returns the status of the benchmark: ok, REGRESSED, new, MISSING or incomparable.
+     *
+     * @return the status
+     */
+    public String status() {
+      if (baseline == null) {
+        return "new";
+      }
+      if (missing()) {
+        return "MISSING";
+      }
+      if (Double.isNaN(regression())) {
+        return "incomparable";
+      }
+      return regressed() ? "REGRESSED" : "ok";
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that renders a benchmark's parameters, sorted by name.
+   *
+   * @param params the params object of a result, or null if there are none
+   * @return the parameters, such as " [board=11x11, handSize=7]", or empty if there are none
+   */
+  private static String params(Object params) {
+    if (params == null) {
+      return "";
+    }
+    Map<String, Object> sorted = new TreeMap<>();
+    for (Map.Entry<?, ?> entry : object(params, "params").entrySet()) {
+      sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+    }
+    return " " + sorted.toString().replace('{', '[').replace('}', ']');
+  }
+
+  /**
+   * A helper method that drops the package of a benchmark, keeping its class, method and
+   * parameters.
+   *
+   * @param benchmark the benchmark name and parameters
+   * @return the shortened name
+   */
+  private static String shortName(String benchmark) {
+    int end = benchmark.indexOf(' ');
+    String name = end < 0 ? benchmark : benchmark.substring(0, end);
+    int method = name.lastIndexOf('.');
+    int type = method < 0 ? -1 : name.lastIndexOf('.', method - 1);
+    return benchmark.substring(type + 1);
+  }
+
+  /**
+   * A helper method that renders a score with its unit.
+   *
+   * @param score the score, or null
+   * @return the rendered score, or "-" if there is none
+   */
+  private static String format(Score score) {
+    if (score == null) {
+      return "-";
+    }
+    return String.format(Locale.ROOT, "%.3f %s", score.value(), score.unit());
+  }
+
+  /**
+   * A helper method that pads a cell to a width.
+   *
+   * @param cell  the cell
+   * @param width the width
+   * @param right if the cell is aligned right
+   * @return the padded cell
+   */
+  private static String pad(String cell, int width, boolean right) {
+    String padding = " ".repeat(width - cell.length());
+    return right ? padding + cell : cell + padding;
+  }
+
+  /**
+   * A helper method that checks a JSON value is an object.
+   *
+   * @param value the value
+   * @param name  what the value is, for the error message
+   * @return the object
+   */
+  private static Map<?, ?> object(Object value, String name) {
+    if (!(value instanceof Map<?, ?> map)) {
+      throw new IllegalArgumentException(name + " must be a JSON object");
+    }
+    return map;
+  }
+
+  /**
+   * A helper method that checks a JSON value is a number. JMH writes NaN as a string.
+   *
+   * @param value the value
+   * @return the number
+   */
+  private static double number(Object value) {
+    if (value instanceof Double number) {
+      return number;
+    }
+    if ("NaN".equals(value)) {
+      return Double.NaN;
+    }
+    throw new IllegalArgumentException("score must be a number: " + value);
+  }
+
+  /**
+   * A reader of the JSON JMH writes: objects, arrays, strings, numbers, booleans and null.
+   * Objects become maps in key order, arrays lists and numbers doubles.
+   */
+  private static final class JsonReader {
+    private final String text;
+    private int pos;
+
+    /**
+     * A constructor that takes in the JSON text.
+     *
+     * @param text the JSON text
+     */
+    JsonReader(String text) {
+      this.text = text;
+    }
+
+    /**
+     * Reads the single value of the text.
+     *
+     * @return the value
+     */
+    Object readDocument() {
+      Object value = readValue();
+      skipSpace();
+      if (pos != text.length()) {
+        throw error("trailing characters");
+      }
+      return value;
+    }
+
+    /**
+     * Reads the value at the current position.
+     *
+     * @return the value
+     */
+    private Object readValue() {
+      skipSpace();
+      if (pos >= text.length()) {
+        throw error("unexpected end of JSON");
+      }
+
+      char next = text.charAt(pos);
+      switch (next) {
+        case '{' -> {
+          return readObject();
+        }
+        case '[' -> {
+          return readArray();
+        }
+        case '"' -> {
+          return readString();
+        }
+        case 't' -> {
+          return readWord("true", Boolean.TRUE);
+        }
+        case 'f' -> {
+          return readWord("false", Boolean.FALSE);
+        }
+        case 'n' -> {
+          return readWord("null", null);
+        }
+        default -> {
+          return readNumber();
+        }
+      }
+    }
+
+    /**
+     * Reads an object.
+     *
+     * @return the object's members in order
+     */
+    private Map<String, Object> readObject() {
+      Map<String, Object> object = new LinkedHashMap<>();
+      pos++;
+      skipSpace();
+      if (peek() == '}') {
+        pos++;
+        return object;
+      }
+
+      while (true) {
+        skipSpace();
+        if (peek() != '"') {
+          throw error("expected a member name");
+        }
+        String key = readString();
+        skipSpace();
+        expect(':');
+        object.put(key, readValue());
+        skipSpace();
+        if (peek() == ',') {
+          pos++;
+        } else {
+          expect('}');
+          return object;
+        }
+      }
+    }
+
+    /**
+     * Reads an array.
+     *
+     * @return the elements in order
+     */
+    private List<Object> readArray() {
+      List<Object> array = new ArrayList<>();
+      pos++;
+      skipSpace();
+      if (peek() == ']') {
+        pos++;
+        return array;
+      }
+
+      while (true) {
+        array.add(readValue());
+        skipSpace();
+        if (peek() == ',') {
+          pos++;
+        } else {
+          expect(']');
+          return array;
+        }
+      }
+    }
+
+    /**
+     * Reads a string, decoding its escapes.
+     *
+     * @return the string
+     */
+    private String readString() {
+      StringBuilder out = new StringBuilder();
+      pos++;
+
+      while (pos < text.length()) {
+        char next = text.charAt(pos++);
+        if (next == '"') {
+          return out.toString();
+        }
+        if (next != '\\') {
+          out.append(next);
+          continue;
+        }
+        if (pos >= text.length()) {
+          break;
+        }
+
+        char escape = text.charAt(pos++);
+        switch (escape) {
+          case 'b' -> out.append('\b');
+          case 'f' -> out.append('\f');
+          case 'n' -> out.append('\n');
+          case 'r' -> out.append('\r');
+          case 't' -> out.append('\t');
+          case 'u' -> {
+            if (pos + 4 > text.length()) {
+              throw error("bad unicode escape");
+            }
+            out.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+            pos += 4;
+          }
+          default -> out.append(escape);
+        }
+      }
+      throw error("unterminated string");
+    }
+
+    /**
+     * Reads a number.
+     *
+     * @return the number
+     */
+    private Double readNumber() {
+      int start = pos;
+      while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+        pos++;
+      }
+      if (start == pos) {
+        throw error("unexpected character '" + text.charAt(pos) + "'");
+      }
+      try {
+        return Double.parseDouble(text.substring(start, pos));
+      } catch (NumberFormatException exo) {
+        throw error("bad number " + text.substring(start, pos));
+      }
+    }
+
+    /**
+     * Reads a literal word.
+     *
+     * @param word  the word
+     * @param value the value of the word
+     * @return the value
+     */
+    private Object readWord(String word, Object value) {
+      if (!text.startsWith(word, pos)) {
+        throw error("unexpected character '" + text.charAt(pos) + "'");
+      }
+      pos += word.length();
+      return value;
+    }
+
+    /**
+     * Skips the character expected at the current position.
+     *
+     * @param expected the character
+     */
+    private void expect(char expected) {
+      if (peek() != expected) {
+        throw error("expected '" + expected + "'");
+      }
+      pos++;
+    }
+
+    /**
+     * Returns the character at the current position.
+     *
+     * @return the character, or 0 at the end of the text
+     */
+    private char peek() {
+      return pos < text.length() ? text.charAt(pos) : 0;
+    }
+
+    /**
+     * Skips whitespace.
+     */
+    private void skipSpace() {
+      while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+        pos++;
+      }
+    }
+
+    /**
+     * Builds the error of malformed JSON at the current position.
+     *
+     * @param message what is wrong
+     * @return the error
+     */
+    private IllegalArgumentException error(String message) {
+      return new IllegalArgumentException("bad JSON at " + pos + ": " + message);
+    }
+  }
+}
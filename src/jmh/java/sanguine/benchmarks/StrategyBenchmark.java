@@ -0,0 +1,98 @@
+package sanguine.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.PlayerColor;
+import sanguine.strategies.BasicStrategy;
+import sanguine.strategies.Coordinates;
+import sanguine.strategies.FirstSpot;
+import sanguine.strategies.MaxOwnership;
+import sanguine.strategies.MaximizeRowScore;
+import sanguine.strategies.MiniMax;
+
+/**
+ * Benchmarks of one move choice of every strategy, a few turns into a game.
+ *
+ * <p>The larger boards are left out of the defaults because the search strategies take seconds
+ * per choice there; pass -Pjmh.params=board=51x51 to measure them.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+  // the amount of moves played by FirstSpot before measuring
+  private static final int OPENING_MOVES = 4;
+
+  @Param({"firstSpot", "maxOwnership", "maximizeRowScore", "miniMax"})
+  public String strategy;
+
+  @Param({"3x5", "5x7", "11x11"})
+  public String board;
+
+  @Param({"3", "7"})
+  public int handSize;
+
+  private BasicSanguineModel model;
+  private BasicStrategy chooser;
+
+  /**
+   * Starts a game and plays a few opening moves, so the strategy sees cards on the board.
+   *
+   * @throws IOException if the model fails to start
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    model = BenchmarkDecks.startedGame(board, handSize);
+
+    BasicStrategy opening = new FirstSpot();
+    for (int i = 0; i < OPENING_MOVES && !model.isGameOver(); i++) {
+      Coordinates move = opening.choose(model, model.getTurn().getColor());
+      if (move.card() == null) {
+        model.passTurn();
+        continue;
+      }
+      try {
+        model.playTurn(move.row(), move.col(), move.card());
+      } catch (IllegalStateException exo) {
+        // the model rejects influence on an opponent's pawns, so the opening ends there
+        break;
+      }
+    }
+
+    switch (strategy) {
+      case "firstSpot" -> chooser = new FirstSpot();
+      case "maxOwnership" -> chooser = new MaxOwnership();
+      case "maximizeRowScore" -> chooser = new MaximizeRowScore();
+      case "miniMax" -> chooser = new MiniMax();
+      default -> throw new IllegalArgumentException("unknown strategy: " + strategy);
+    }
+  }
+
+  /**
+   * Chooses a move for the player whose turn it is.
+   *
+   * @return the chosen move
+   * @throws IOException if the default deck can not be read
+   */
+  @Benchmark
+  public Coordinates choose() throws IOException {
+    PlayerColor color = model.getTurn().getColor();
+    return chooser.choose(model, color);
+  }
+}
@@ -0,0 +1,107 @@
+package sanguine.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.BoardView;
+import sanguine.model.PlayerColor;
+import sanguine.view.BasicSanguineTextualView;
+import sanguine.view.RenderCache;
+
+/**
+ * Benchmarks of the views: rendering the textual view in full and as changes, and looking up
+ * every cell sprite of a board in the render cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewBenchmark {
+  // the size in pixels of a cell sprite
+  private static final int CELL_SIZE = 48;
+
+  @Param({"3x5", "11x11", "101x101"})
+  public String board;
+
+  private BasicSanguineModel model;
+  private BasicSanguineTextualView view;
+  private RenderCache cache;
+  private StringBuilder out;
+
+  /**
+   * Starts a game and warms the render cache.
+   *
+   * @throws IOException if the model fails to start
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    model = BenchmarkDecks.startedGame(board, 3);
+    view = new BasicSanguineTextualView(model);
+    cache = new RenderCache();
+    out = new StringBuilder();
+  }
+
+  /**
+   * Renders the whole board into a reused buffer.
+   *
+   * @return the buffer
+   * @throws IOException if the buffer fails, which it does not
+   */
+  @Benchmark
+  public StringBuilder renderFull() throws IOException {
+    out.setLength(0);
+    view.render(out);
+    return out;
+  }
+
+  /**
+   * Renders the rows changed since the last render, which is none after the first call.
+   *
+   * @return the amount of rows rendered
+   * @throws IOException if the buffer fails, which it does not
+   */
+  @Benchmark
+  public int renderChanges() throws IOException {
+    out.setLength(0);
+    return view.renderChanges(out);
+  }
+
+  /**
+   * Looks up the sprite of every cell of the board, as one repaint of the board panel does.
+   *
+   * @param hole sinks the sprites
+   */
+  @Benchmark
+  public void spriteLookups(Blackhole hole) {
+    BoardView cells = model.getBoardView();
+
+    for (int row = 0; row < cells.getRows(); row++) {
+      for (int col = 0; col < cells.getCols(); col++) {
+        PlayerColor owner = cells.getOwner(row, col);
+        if (owner == null) {
+          hole.consume(owner);
+        } else if (cells.hasCard(row, col)) {
+          hole.consume(cache.cardCell(owner, cells.getValue(row, col), CELL_SIZE, CELL_SIZE));
+        } else {
+          hole.consume(cache.pawnCell(owner, cells.getPawnCount(row, col), CELL_SIZE,
+              CELL_SIZE));
+        }
+      }
+    }
+  }
+}
@@ -1,11 +1,14 @@
 package sanguine;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import sanguine.controller.SanguinePlayerController;
 import sanguine.model.AiPlayer;
-import sanguine.model.BasicSanguineModel;
-import sanguine.model.DeckParser;
+import sanguine.model.ConcurrentSanguineModel;
+import sanguine.model.DeckCache;
+import sanguine.model.GameJournalWriter;
 import sanguine.model.HumanPlayer;
 import sanguine.model.PlayerColor;
 import sanguine.model.SanguineCard;
@@ -26,7 +29,9 @@ public final class SanguineGame {
   /**
    * this is the main method.
    *
-   * @param args from the command line.
+   * @param args from the command line: rows, columns, red deck, blue deck, red player type,
+   *             blue player type, and optionally a journal path to record the game to. The
+   *             decks are shuffled with a new seed every game, or -Dsanguine.seed to repeat one
    *
    * @throws IOException if the deck file is unreachable
    */
@@ -44,11 +49,16 @@ public final class SanguineGame {
     String bluePlayerType = args[5];
 
 
-    SanguineModel model = new BasicSanguineModel();
+    // the views read the model on the event dispatch thread while AI players move on theirs
+    ConcurrentSanguineModel model = new ConcurrentSanguineModel();
+    if (args.length > 6) {
+      model.setJournal(new GameJournalWriter(Path.of(args[6])));
+    }
     List<SanguineCard> redDeck = setDecks(redDeckPath, model);
     List<SanguineCard> blueDeck = setDecks(blueDeckPath, model);
 
-    model.startGame(rows, cols, redDeck, blueDeck, 7);
+    long seed = Long.getLong("sanguine.seed", ThreadLocalRandom.current().nextLong());
+    model.startGame(rows, cols, redDeck, blueDeck, 7, seed);
     UserPlayer redPlayer = makeUserPlayer(model, PlayerColor.RED, redPlayerType);
     UserPlayer bluePlayer = makeUserPlayer(model, PlayerColor.BLUE, bluePlayerType);
 
@@ -76,7 +86,7 @@ public final class SanguineGame {
       throws IOException {
     List<SanguineCard> deck = List.of();
     try {
-      deck = DeckParser.makeDeck(deckPath);
+      deck = DeckCache.copy(deckPath);
     } catch (IllegalArgumentException | IOException e) {
       //we will handle this in the next lines
     }
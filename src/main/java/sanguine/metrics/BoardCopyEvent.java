@@ -0,0 +1,33 @@
+package sanguine.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for one copy of a SanguineGameBoard, the copy the strategies make for
+ * every simulated placement.
+ *
+ * <p>Strategies copy boards thousands of times per decision, so the event is disabled unless a
+ * recording asks for it, e.g. -XX:StartFlightRecording:+sanguine.BoardCopy#enabled=true. Its
+ * stack trace shows who copied.</p>
+ */
+@Name("sanguine.BoardCopy")
+@Label("Board Copy")
+@Category({"Sanguine", "Model"})
+@Description("A copy of the game board")
+@Enabled(false)
+public final class BoardCopyEvent extends Event {
+  @Label("Rows")
+  public int rows;
+
+  @Label("Columns")
+  public int cols;
+
+  @Label("Occupied Cells")
+  @Description("The cells holding pawns or a card, the cells that had to be copied")
+  public int occupied;
+}
@@ -0,0 +1,44 @@
+package sanguine.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for one decision of an instrumented strategy, with the work it did.
+ */
+@Name("sanguine.Decision")
+@Label("Strategy Decision")
+@Category({"Sanguine", "Strategy"})
+@Description("A move chosen by a strategy")
+@StackTrace(false)
+public final class DecisionEvent extends Event {
+  @Label("Strategy")
+  public String strategy;
+
+  @Label("Player")
+  public String player;
+
+  @Label("Rows")
+  public int rows;
+
+  @Label("Columns")
+  public int cols;
+
+  @Label("Candidates")
+  @Description("The moves open to the strategy: cards in hand times cells on the board")
+  public int candidates;
+
+  @Label("Simulated Placements")
+  public long placements;
+
+  @Label("Board Copies")
+  public long boardCopies;
+
+  @Label("Passed")
+  @Description("Whether the strategy chose to pass")
+  public boolean passed;
+}
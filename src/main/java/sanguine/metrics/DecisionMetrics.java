@@ -0,0 +1,85 @@
+package sanguine.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The metrics of one strategy's decisions: how long each took, how many placements it simulated
+ * and how many boards it copied, along with the time spent in each of its named phases.
+ *
+ * <p>Metrics are recorded through a DecisionTrace and are safe to share between threads.</p>
+ */
+public final class DecisionMetrics {
+  // Private fields:
+  private final String strategy;
+  private final LogHistogram latency = new LogHistogram();
+  private final LogHistogram placements = new LogHistogram();
+  private final LogHistogram boardCopies = new LogHistogram();
+  private final Map<String, LogHistogram> phases = new ConcurrentHashMap<>();
+
+  /**
+   * A constructor that takes in the name of the strategy measured.
+   *
+   * @param strategy the strategy name
+   */
+  DecisionMetrics(String strategy) {
+    this.strategy = strategy;
+  }
+
+  /**
+   * Returns the name of the strategy measured.
+   *
+   * @return the strategy name
+   */
+  public String getStrategy() {
+    return strategy;
+  }
+
+  /**
+   * Records one finished decision.
+   *
+   * @param nanos       how long the decision took
+   * @param placements  the placements simulated while deciding
+   * @param boardCopies the boards copied while deciding
+   */
+  void recordDecision(long nanos, long placements, long boardCopies) {
+    latency.record(nanos);
+    this.placements.record(placements);
+    this.boardCopies.record(boardCopies);
+  }
+
+  /**
+   * Records the time spent in one run of a phase.
+   *
+   * @param phase the phase name
+   * @param nanos how long the phase took
+   */
+  void recordPhase(String phase, long nanos) {
+    phases.computeIfAbsent(phase, key -> new LogHistogram()).record(nanos);
+  }
+
+  /**
+   * Returns the metrics recorded so far.
+   *
+   * @return the snapshot
+   */
+  public DecisionSnapshot snapshot() {
+    Map<String, HistogramSnapshot> phaseSnapshots = new TreeMap<>();
+    for (Map.Entry<String, LogHistogram> entry : phases.entrySet()) {
+      phaseSnapshots.put(entry.getKey(), entry.getValue().snapshot());
+    }
+    return new DecisionSnapshot(strategy, latency.snapshot(), placements.snapshot(),
+        boardCopies.snapshot(), phaseSnapshots);
+  }
+
+  /**
+   * Forgets every recorded decision and phase.
+   */
+  void reset() {
+    latency.reset();
+    placements.reset();
+    boardCopies.reset();
+    phases.clear();
+  }
+}
@@ -0,0 +1,76 @@
+package sanguine.metrics;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The decision metrics of one strategy at one moment.
+ *
+ * @param strategy    the strategy name
+ * @param latency     the nanoseconds each decision took
+ * @param placements  the placements simulated by each decision
+ * @param boardCopies the boards copied by each decision
+ * @param phases      the nanoseconds each run of a phase took, by phase name
+ */
+public record DecisionSnapshot(String strategy, HistogramSnapshot latency,
+                               HistogramSnapshot placements, HistogramSnapshot boardCopies,
+                               Map<String, HistogramSnapshot> phases) {
+
+  /**
+   * A constructor that makes the phases unmodifiable.
+   */
+  public DecisionSnapshot {
+    phases = Collections.unmodifiableMap(phases);
+  }
+
+  /**
+   * Returns the amount of decisions made.
+   *
+   * @return the decisions
+   */
+  public long decisions() {
+    return latency.getCount();
+  }
+
+  /**
+   * Returns the simulated placements per second of deciding, the strategy's search speed.
+   *
+   * @return the placements per second, zero if no time was spent deciding
+   */
+  public double placementsPerSecond() {
+    return latency.getSum() == 0 ? 0 : placements.getSum() * 1e9 / latency.getSum();
+  }
+
+  /**
+   * Writes the snapshot as a JSON object.
+   *
+   * @param out where the JSON is written
+   * @throws IOException if out fails
+   */
+  public void writeJson(Appendable out) throws IOException {
+    out.append("{\"strategy\":");
+    MetricsRegistry.writeString(out, strategy);
+    out.append(",\"decisions\":").append(Long.toString(decisions()))
+        .append(",\"placementsPerSecond\":").append(Double.toString(placementsPerSecond()))
+        .append(",\"latencyNanos\":");
+    latency.writeJson(out);
+    out.append(",\"placements\":");
+    placements.writeJson(out);
+    out.append(",\"boardCopies\":");
+    boardCopies.writeJson(out);
+    out.append(",\"phaseNanos\":{");
+
+    boolean first = true;
+    for (Map.Entry<String, HistogramSnapshot> entry : phases.entrySet()) {
+      if (!first) {
+        out.append(',');
+      }
+      first = false;
+      MetricsRegistry.writeString(out, entry.getKey());
+      out.append(':');
+      entry.getValue().writeJson(out);
+    }
+    out.append("}}");
+  }
+}
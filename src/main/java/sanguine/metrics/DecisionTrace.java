@@ -0,0 +1,208 @@
+package sanguine.metrics;
+
+/**
+ * The decision a thread is currently making, which code deep inside a strategy reports its work
+ * to without being handed anything.
+ *
+ * <p>A trace is started around a decision and finished when it returns. While it is open,
+ * countPlacement, countBoardCopy and phase record into it; with no trace open on the thread they
+ * do nothing, so the counting sites cost next to nothing outside of instrumented decisions.
+ * Traces nest: a decision made inside another one (MiniMax asking MaxOwnership, say) records its
+ * own metrics, and its counts are also added to the decision around it.</p>
+ */
+public final class DecisionTrace {
+  private static final ThreadLocal<DecisionTrace> CURRENT = new ThreadLocal<>();
+  private static final Phase NO_PHASE = new Phase(null, null, 0, null);
+
+  // Private fields:
+  private final DecisionMetrics metrics;
+  private final DecisionTrace outer;
+  private final long start;
+  private long placements;
+  private long boardCopies;
+  private boolean finished;
+
+  /**
+   * A constructor that takes in where the decision is recorded and the decision around it.
+   *
+   * @param metrics where the decision is recorded
+   * @param outer   the trace open when this one started, or null
+   */
+  private DecisionTrace(DecisionMetrics metrics, DecisionTrace outer) {
+    this.metrics = metrics;
+    this.outer = outer;
+    this.start = System.nanoTime();
+  }
+
+  /**
+   * Starts timing a decision on the current thread.
+   *
+   * @param metrics where the decision is recorded
+   * @return the open trace, to be finished when the decision returns
+   * @throws IllegalArgumentException if metrics is null
+   */
+  public static DecisionTrace start(DecisionMetrics metrics) {
+    if (metrics == null) {
+      throw new IllegalArgumentException("metrics is null");
+    }
+    DecisionTrace trace = new DecisionTrace(metrics, CURRENT.get());
+    CURRENT.set(trace);
+    return trace;
+  }
+
+  /**
+   * Finishes the decision, records it and reopens the decision around it, if any.
+   *
+   * @throws IllegalStateException if the trace is finished already, or is not the innermost one
+   *                               open on this thread
+   */
+  public void finish() {
+    if (finished || CURRENT.get() != this) {
+      throw new IllegalStateException("trace is not the open decision of this thread");
+    }
+    finished = true;
+    metrics.recordDecision(System.nanoTime() - start, placements, boardCopies);
+
+    if (outer == null) {
+      CURRENT.remove();
+    } else {
+      outer.placements += placements;
+      outer.boardCopies += boardCopies;
+      CURRENT.set(outer);
+    }
+  }
+
+  /**
+   * Returns the placements simulated by the decision so far, including nested decisions.
+   *
+   * @return the simulated placements
+   */
+  public long getPlacements() {
+    return placements;
+  }
+
+  /**
+   * Returns the boards copied by the decision so far, including nested decisions.
+   *
+   * @return the board copies
+   */
+  public long getBoardCopies() {
+    return boardCopies;
+  }
+
+  /**
+   * Counts one simulated placement in the open decision, if there is one.
+   */
+  public static void countPlacement() {
+    DecisionTrace trace = CURRENT.get();
+    if (trace != null) {
+      trace.placements++;
+    }
+  }
+
+  /**
+   * Counts one board copy in the open decision, if there is one.
+   */
+  public static void countBoardCopy() {
+    DecisionTrace trace = CURRENT.get();
+    if (trace != null) {
+      trace.boardCopies++;
+    }
+  }
+
+  /**
+   * Starts timing a phase of the open decision. phase(name, step) opens and closes one around a
+   * step of code.
+   *
+   * @param name the phase name
+   * @return the phase, to be closed when it ends; does nothing if no decision is open
+   */
+  public static Phase phase(String name) {
+    DecisionTrace trace = CURRENT.get();
+    if (trace == null) {
+      return NO_PHASE;
+    }
+    PhaseEvent event = new PhaseEvent();
+    event.begin();
+    return new Phase(trace.metrics, name, System.nanoTime(), event);
+  }
+
+  /**
+   * Runs a step of the open decision as a timed phase, closing the phase however the step ends.
+   *
+   * @param name the phase name
+   * @param step the step
+   * @param <T>  the result of the step
+   * @param <E>  the exception the step may throw
+   * @return the result of the step
+   * @throws E if the step throws it
+   */
+  public static <T, E extends Exception> T phase(String name, Step<T, E> step) throws E {
+    Phase phase = phase(name);
+    try {
+      return step.run();
+    } finally {
+      phase.close();
+    }
+  }
+
+  /**
+   * A step of a decision timed by phase(name, step), which may throw a checked exception.
+   *
+   * @param <T> the result of the step
+   * @param <E> the exception the step may throw
+   */
+  @FunctionalInterface
+  public interface Step<T, E extends Exception> {
+
+    /**
+     * Runs the step.
+     *
+     * @return the result of the step
+     * @throws E if the step fails
+     */
+    T run() throws E;
+  }
+
+  /**
+   * One timed run of a phase of a decision, also reported to Flight Recorder as a PhaseEvent.
+   */
+  public static final class Phase implements AutoCloseable {
+    private final DecisionMetrics metrics;
+    private final String name;
+    private final long start;
+    private final PhaseEvent event;
+
+    /**
+     * A constructor that takes in where the phase is recorded and when it started.
+     *
+     * @param metrics where the phase is recorded, or null to record nothing
+     * @param name    the phase name
+     * @param start   when the phase started, in nanoseconds
+     * @param event   the begun Flight Recorder event, or null to record nothing
+     */
+    private Phase(DecisionMetrics metrics, String name, long start, PhaseEvent event) {
+      this.metrics = metrics;
+      this.name = name;
+      this.start = start;
+      this.event = event;
+    }
+
+    /**
+     * Records how long the phase took.
+     */
+    @Override
+    public void close() {
+      if (metrics == null) {
+        return;
+      }
+      metrics.recordPhase(name, System.nanoTime() - start);
+
+      if (event.shouldCommit()) {
+        event.strategy = metrics.getStrategy();
+        event.phase = name;
+        event.commit();
+      }
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package sanguine.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for one deck file parsed or mapped by DeckParser.makeDeck.
+ */
+@Name("sanguine.DeckLoad")
+@Label("Deck Load")
+@Category({"Sanguine", "Deck"})
+@Description("A deck file loaded")
+@StackTrace(false)
+public final class DeckLoadEvent extends Event {
+  @Label("Path")
+  public String path;
+
+  @Label("Compiled")
+  @Description("Whether the deck was in the compiled binary format")
+  public boolean compiled;
+
+  @Label("Size")
+  @DataAmount
+  public long bytes;
+
+  @Label("Cards")
+  public int cards;
+}
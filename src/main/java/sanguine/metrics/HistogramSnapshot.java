@@ -0,0 +1,154 @@
+package sanguine.metrics;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The values a LogHistogram had recorded at one moment. Snapshots do not change.
+ */
+public final class HistogramSnapshot {
+  // Private fields:
+  private final long count;
+  private final long sum;
+  private final long min;
+  private final long max;
+  private final long[] buckets;
+
+  /**
+   * A constructor that takes in the totals and bucket counts of a histogram.
+   *
+   * @param count   the amount of values
+   * @param sum     the sum of the values
+   * @param min     the smallest value, zero if there are none
+   * @param max     the largest value, zero if there are none
+   * @param buckets the count of every bucket, owned by the snapshot
+   */
+  HistogramSnapshot(long count, long sum, long min, long max, long[] buckets) {
+    this.count = count;
+    this.sum = sum;
+    this.min = min;
+    this.max = max;
+    this.buckets = buckets;
+  }
+
+  /**
+   * Returns the amount of values recorded.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the sum of the values recorded.
+   *
+   * @return the sum
+   */
+  public long getSum() {
+    return sum;
+  }
+
+  /**
+   * Returns the smallest value recorded.
+   *
+   * @return the smallest value, zero if there are none
+   */
+  public long getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the largest value recorded.
+   *
+   * @return the largest value, zero if there are none
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * Returns the mean of the values recorded.
+   *
+   * @return the mean, zero if there are none
+   */
+  public double getMean() {
+    return count == 0 ? 0 : (double) sum / count;
+  }
+
+  /**
+   * Returns an upper bound of the given percentile: the upper bound of the bucket holding it,
+   * capped at the largest value recorded.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the bound, zero if there are no values
+   * @throws IllegalArgumentException if the percentile is not from 0 to 100
+   */
+  public long getPercentile(double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("percentile must be from 0 to 100: " + percentile);
+    }
+    if (count == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < buckets.length; i++) {
+      seen += buckets[i];
+      if (seen >= rank) {
+        return Math.min(LogHistogram.upperBound(i), max);
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Returns the count of every bucket. Bucket 0 counts zeros and bucket i values from 2^(i-1)
+   * up to 2^i - 1.
+   *
+   * @return a copy of the bucket counts
+   */
+  public long[] getBuckets() {
+    return Arrays.copyOf(buckets, buckets.length);
+  }
+
+  /**
+   * Writes the snapshot as a JSON object: its totals, common percentiles and the upper bound and
+   * count of every non-empty bucket.
+   *
+   * @param out where the JSON is written
+   * @throws IOException if out fails
+   */
+  public void writeJson(Appendable out) throws IOException {
+    out.append("{\"count\":").append(Long.toString(count))
+        .append(",\"sum\":").append(Long.toString(sum))
+        .append(",\"min\":").append(Long.toString(min))
+        .append(",\"max\":").append(Long.toString(max))
+        .append(",\"mean\":").append(Double.toString(getMean()))
+        .append(",\"p50\":").append(Long.toString(getPercentile(50)))
+        .append(",\"p90\":").append(Long.toString(getPercentile(90)))
+        .append(",\"p99\":").append(Long.toString(getPercentile(99)))
+        .append(",\"buckets\":{");
+
+    boolean first = true;
+    for (int i = 0; i < buckets.length; i++) {
+      if (buckets[i] == 0) {
+        continue;
+      }
+      if (!first) {
+        out.append(',');
+      }
+      first = false;
+      out.append('"').append(Long.toString(LogHistogram.upperBound(i))).append("\":")
+          .append(Long.toString(buckets[i]));
+    }
+    out.append("}}");
+  }
+
+  @Override
+  public String toString() {
+    return "HistogramSnapshot[count=" + count + ", mean=" + getMean() + ", p99="
+        + getPercentile(99) + ", max=" + max + "]";
+  }
+}
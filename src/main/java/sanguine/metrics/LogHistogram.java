@@ -0,0 +1,90 @@
+package sanguine.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values in power of two buckets.
+ *
+ * <p>Bucket 0 counts zeros and bucket i counts values from 2^(i-1) up to 2^i - 1, so 64 buckets
+ * cover every long with a relative error under a factor of two. Recording is lock free and never
+ * allocates, which keeps it cheap enough to time every AI decision. Counts are exact; only
+ * percentiles are rounded up to their bucket's upper bound.</p>
+ *
+ * <p>Histograms are safe to record into from many threads at once. A snapshot taken while
+ * values are being recorded may miss the newest of them.</p>
+ */
+public final class LogHistogram {
+  static final int BUCKETS = 64;
+
+  // Private fields:
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+  /**
+   * Records one value. Negative values, such as a clock that went backwards, count as zero.
+   *
+   * @param value the value
+   */
+  public void record(long value) {
+    long recorded = Math.max(0, value);
+
+    buckets.incrementAndGet(bucketOf(recorded));
+    count.increment();
+    sum.add(recorded);
+    min.accumulateAndGet(recorded, Math::min);
+    max.accumulateAndGet(recorded, Math::max);
+  }
+
+  /**
+   * Returns the values recorded so far.
+   *
+   * @return the snapshot
+   */
+  public HistogramSnapshot snapshot() {
+    long[] counts = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+    }
+    long total = count.sum();
+    return new HistogramSnapshot(total, sum.sum(), total == 0 ? 0 : min.get(),
+        total == 0 ? 0 : max.get(), counts);
+  }
+
+  /**
+   * Forgets every recorded value.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets.set(i, 0);
+    }
+    count.reset();
+    sum.reset();
+    min.set(Long.MAX_VALUE);
+    max.set(Long.MIN_VALUE);
+  }
+
+  /**
+   * Returns the bucket a value is counted in.
+   *
+   * @param value the non-negative value
+   * @return the bucket
+   */
+  static int bucketOf(long value) {
+    return value == 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(value);
+  }
+
+  /**
+   * Returns the largest value counted in a bucket.
+   *
+   * @param bucket the bucket
+   * @return the upper bound
+   */
+  static long upperBound(int bucket) {
+    return bucket == 0 ? 0 : bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+  }
+}
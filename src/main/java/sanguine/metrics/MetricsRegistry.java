@@ -0,0 +1,130 @@
+package sanguine.metrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of the decision metrics of every strategy, by strategy name.
+ *
+ * <p>AI players record into the process wide registry returned by global() unless given their
+ * own. Headless runners can take a snapshot at any time or dump every strategy's metrics as one
+ * JSON document. The registry is safe to share between threads.</p>
+ */
+public final class MetricsRegistry {
+  private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+  // Private fields:
+  private final Map<String, DecisionMetrics> strategies = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the process wide registry.
+   *
+   * @return the registry
+   */
+  public static MetricsRegistry global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Returns the metrics of a strategy, creating them on first use.
+   *
+   * @param strategy the strategy name
+   * @return the metrics
+   * @throws IllegalArgumentException if the name is null
+   */
+  public DecisionMetrics strategy(String strategy) {
+    if (strategy == null) {
+      throw new IllegalArgumentException("strategy is null");
+    }
+    return strategies.computeIfAbsent(strategy, DecisionMetrics::new);
+  }
+
+  /**
+   * Returns the metrics of every strategy recorded so far, sorted by strategy name.
+   *
+   * @return the snapshots
+   */
+  public List<DecisionSnapshot> snapshot() {
+    List<DecisionSnapshot> snapshots = new ArrayList<>();
+    for (DecisionMetrics metrics : strategies.values()) {
+      snapshots.add(metrics.snapshot());
+    }
+    snapshots.sort(Comparator.comparing(DecisionSnapshot::strategy));
+    return snapshots;
+  }
+
+  /**
+   * Forgets every recorded decision. Metrics handed out stay registered and keep recording.
+   */
+  public void reset() {
+    for (DecisionMetrics metrics : strategies.values()) {
+      metrics.reset();
+    }
+  }
+
+  /**
+   * Writes the metrics of every strategy as a JSON object with one member per strategy. Latencies
+   * are in nanoseconds.
+   *
+   * @param out where the JSON is written
+   * @throws IOException              if out fails
+   * @throws IllegalArgumentException if out is null
+   */
+  public void writeJson(Appendable out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("out is null");
+    }
+
+    out.append("{\"strategies\":[");
+    boolean first = true;
+    for (DecisionSnapshot snapshot : snapshot()) {
+      if (!first) {
+        out.append(',');
+      }
+      first = false;
+      snapshot.writeJson(out);
+    }
+    out.append("]}");
+  }
+
+  /**
+   * Returns the metrics of every strategy as JSON.
+   *
+   * @return the JSON
+   */
+  public String toJson() {
+    StringBuilder out = new StringBuilder();
+    try {
+      writeJson(out);
+    } catch (IOException exo) {
+      throw new IllegalStateException(exo);
+    }
+    return out.toString();
+  }
+
+  /**
+   * Writes a JSON string, escaping quotes, backslashes and control characters.
+   *
+   * @param out   where the string is written
+   * @param value the string
+   * @throws IOException if out fails
+   */
+  static void writeString(Appendable out, String value) throws IOException {
+    out.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char next = value.charAt(i);
+      if (next == '"' || next == '\\') {
+        out.append('\\').append(next);
+      } else if (next < 0x20) {
+        out.append(String.format("\\u%04x", (int) next));
+      } else {
+        out.append(next);
+      }
+    }
+    out.append('"');
+  }
+}
@@ -0,0 +1,25 @@
+package sanguine.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for one run of a named phase of a strategy decision, such as
+ * MiniMax's blockedDaOps.
+ */
+@Name("sanguine.DecisionPhase")
+@Label("Decision Phase")
+@Category({"Sanguine", "Strategy"})
+@Description("A phase of a strategy decision")
+@StackTrace(false)
+public final class PhaseEvent extends Event {
+  @Label("Strategy")
+  public String strategy;
+
+  @Label("Phase")
+  public String phase;
+}
@@ -0,0 +1,38 @@
+package sanguine.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for one placement a strategy simulates on a copied board.
+ *
+ * <p>Like BoardCopyEvent, it fires thousands of times per decision and is disabled unless a
+ * recording asks for it, e.g. -XX:StartFlightRecording:+sanguine.SimulatedPlacement#enabled=true.
+ * </p>
+ */
+@Name("sanguine.SimulatedPlacement")
+@Label("Simulated Placement")
+@Category({"Sanguine", "Strategy"})
+@Description("A card placement simulated by a strategy")
+@Enabled(false)
+public final class SimulationEvent extends Event {
+  @Label("Rows")
+  public int rows;
+
+  @Label("Columns")
+  public int cols;
+
+  @Label("Row")
+  public int row;
+
+  @Label("Column")
+  public int col;
+
+  @Label("Influenced Cells")
+  @Description("The cells on the board the card's influence reached")
+  public int influenced;
+}
@@ -0,0 +1,42 @@
+package sanguine.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for one turn played or passed in a BasicSanguineModel, spanning the
+ * placement, its influence and the draws that follow.
+ */
+@Name("sanguine.Turn")
+@Label("Turn")
+@Category({"Sanguine", "Model"})
+@Description("A turn played or passed")
+@StackTrace(false)
+public final class TurnEvent extends Event {
+  @Label("Player")
+  public String player;
+
+  @Label("Passed")
+  public boolean passed;
+
+  @Label("Rows")
+  public int rows;
+
+  @Label("Columns")
+  public int cols;
+
+  @Label("Row")
+  @Description("The row played, -1 for a pass")
+  public int row;
+
+  @Label("Column")
+  @Description("The column played, -1 for a pass")
+  public int col;
+
+  @Label("Card")
+  public String card;
+}
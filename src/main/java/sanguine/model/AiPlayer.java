@@ -3,8 +3,10 @@ package sanguine.model;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import sanguine.metrics.MetricsRegistry;
 import sanguine.strategies.BasicStrategy;
 import sanguine.strategies.Coordinates;
+import sanguine.strategies.InstrumentedStrategy;
 import sanguine.strategies.MaxOwnership;
 import sanguine.view.Listener;
 
@@ -29,12 +31,27 @@ public class AiPlayer implements UserPlayer {
 
   /**
    * A controller for an AI player that takes in a set strategy, color, and read only model.
+   * Its decisions are recorded in the process wide metrics registry.
    *
    * @param strat the final strategy for the AI player
    * @param color the AI player's color
    * @param model a read only model
    */
   public AiPlayer(BasicStrategy strat, PlayerColor color, ModelReadOnlyInterface model) {
+    this(strat, color, model, MetricsRegistry.global());
+  }
+
+  /**
+   * A controller for an AI player whose decisions are recorded in the given metrics registry:
+   * their latency, simulated placements and board copies, under the strategy's class name.
+   *
+   * @param strat    the final strategy for the AI player
+   * @param color    the AI player's color
+   * @param model    a read only model
+   * @param registry where the AI player's decisions are recorded
+   */
+  public AiPlayer(BasicStrategy strat, PlayerColor color, ModelReadOnlyInterface model,
+                  MetricsRegistry registry) {
     if (strat == null) {
       throw new IllegalArgumentException("Strategy is Null!");
     }
@@ -47,7 +64,12 @@ public class AiPlayer implements UserPlayer {
         throw new IllegalArgumentException("Model is null!");
     }
 
-    this.strat = strat;
+    if (registry == null) {
+      throw new IllegalArgumentException("Metrics registry is null!");
+    }
+
+    this.strat = strat instanceof InstrumentedStrategy ? strat
+        : new InstrumentedStrategy(strat, registry);
     this.color = color;
     this.model = model;
     listeners = new ArrayList<>();
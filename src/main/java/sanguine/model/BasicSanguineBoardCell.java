@@ -27,6 +27,20 @@ public class BasicSanguineBoardCell implements SanguineBoardCell {
     this.ownerColor = pawns.getFirst().getColor();
   }
   
+  /**
+   * A constructor for a copy of a cell, taking its contents as they are.
+   *
+   * @param pawns      the pawns
+   * @param card       the card, or null
+   * @param ownerColor the owner, or null
+   */
+  private BasicSanguineBoardCell(List<BasicSanguinePawn> pawns, SanguineCard card,
+                                 PlayerColor ownerColor) {
+    this.pawns = pawns;
+    this.card = card;
+    this.ownerColor = ownerColor;
+  }
+
   /**
    * A constructor that initializes pawns to an empty list.
    */
@@ -39,6 +53,28 @@ public class BasicSanguineBoardCell implements SanguineBoardCell {
     return List.copyOf(pawns);
   }
 
+  /**
+   * A method that gets the amount of pawns in the cell without copying them.
+   *
+   * @return the amount of pawns in the cell
+   */
+  public int getPawnCount() {
+    return pawns.size();
+  }
+
+  /**
+   * A method that checks whether a player could place a card here, as placeCard does, without
+   * placing it: the cell holds no card and at least as many of the player's pawns as it costs.
+   *
+   * @param card  the card
+   * @param color the player's color
+   * @return whether the card can be placed
+   */
+  boolean accepts(SanguineCard card, PlayerColor color) {
+    return card != null && !pawns.isEmpty() && pawns.size() >= card.getCost()
+        && getColor() == color;
+  }
+
   @Override
   public SanguineCard getCard() {
     if (card == null) {
@@ -136,6 +172,16 @@ public class BasicSanguineBoardCell implements SanguineBoardCell {
     return card != null && pawns.isEmpty();
   }
 
+  /**
+   * Returns a copy that shares the card and pawns of this cell, since neither is ever changed in
+   * place, for a board that stops sharing a row with a fork.
+   *
+   * @return the copy
+   */
+  BasicSanguineBoardCell duplicate() {
+    return new BasicSanguineBoardCell(new ArrayList<>(pawns), card, ownerColor);
+  }
+
   /**
    * returns a copy of itself. deep copy with pawns if needed, or cards if it contains a card.
    *
@@ -21,6 +21,7 @@ public class BasicSanguineCard implements SanguineCard {
   private final List<String> influenceStr;
   private List<List<Integer>> influenceInt;
   private List<List<CardColor>> influenceColor;
+  private int influenceMask;
 
 
   /**
@@ -89,6 +90,11 @@ public class BasicSanguineCard implements SanguineCard {
     return influenceInt;
   }
 
+  @Override
+  public int getInfluenceMask() {
+    return influenceMask;
+  }
+
   @Override
   public String toString() {
     StringBuilder output = new StringBuilder();
@@ -182,6 +188,8 @@ public class BasicSanguineCard implements SanguineCard {
   private void setIntAndColorInfluence(List<String> influenceStr) {
     List<List<Integer>> intInfluence = new ArrayList<>();
     List<List<CardColor>> colorInfluence = new ArrayList<>();
+    int mask = 0;
+    int bit = 0;
 
     for (String s : influenceStr) {
 
@@ -204,15 +212,18 @@ public class BasicSanguineCard implements SanguineCard {
           case 'I' -> {
             intList.add(1);
             colorList.add(CardColor.CYAN);
+            mask |= 1 << bit;
           }
           default -> throw new IllegalArgumentException("influenceStr contains non I,C,X");
         }
+        bit++;
       }
       intInfluence.add(intList);
       colorInfluence.add(colorList);
     }
     influenceInt = intInfluence;
     influenceColor = colorInfluence;
+    influenceMask = mask;
   }
 
 }
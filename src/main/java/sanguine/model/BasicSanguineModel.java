@@ -1,11 +1,12 @@
 package sanguine.model;
 
+import sanguine.metrics.TurnEvent;
 import sanguine.view.Listener;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * A Basic implementation of SanguineModel that takes in type SanguineGame Card.
@@ -25,6 +26,7 @@ import java.util.List;
 public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelControllerPublisher {
     //TODO: need to notify player after every move, not make a private method for it.
   private SanguineGameBoard board;
+  private BoardView boardView;
   private boolean gameStarted; // if the game has been started at one point in time
   // INVARIANT: consecutivePasses is always >= to zero.
   private int consecutivePasses;
@@ -34,6 +36,8 @@ public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelCon
   // INVARIANT: maxHandSize is always > than zero.
   private int maxHandSize;
   private List<ModelListener> listeners;
+  private GameJournalWriter journal; // null when the game is not recorded
+  private ThreatMap threats; // null until first asked for, and after a move that threw
 
   /**
    * construcotr for basic sanguine model. initializes variables that are not passed into the
@@ -51,17 +55,47 @@ public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelCon
     return board.getBoard();
   }
 
+  @Override
+  public BoardView getBoardView() throws IllegalStateException {
+    hasGameStarted();
+
+    return boardView;
+  }
+
   @Override
   public void startGame(int rows, int cols, List<SanguineCard> deck1,
                         List<SanguineCard> deck2, int handSize)
       throws IllegalArgumentException, IllegalStateException, IOException {
+    start(rows, cols, deck1, deck2, handSize, false, 0);
+  }
 
+  @Override
+  public void startGame(int rows, int cols, List<SanguineCard> deck1,
+                        List<SanguineCard> deck2, int handSize, long seed)
+      throws IllegalArgumentException, IllegalStateException, IOException {
+    start(rows, cols, deck1, deck2, handSize, true, seed);
+  }
+
+  /**
+   * private helper method that starts the game for both startGame methods.
+   *
+   * @param rows     the number of rows in the game board
+   * @param cols     the number of columns in the game board
+   * @param deck1    the first player's deck
+   * @param deck2    the second player's deck
+   * @param handSize the hand size for each player
+   * @param seeded   whether to shuffle with the seed instead of the fixed shuffle
+   * @param seed     the seed of the game, if seeded
+   */
+  private void start(int rows, int cols, List<SanguineCard> deck1, List<SanguineCard> deck2,
+                     int handSize, boolean seeded, long seed) throws IOException {
     if (gameStarted) {
       throw new IllegalStateException("Game has already been started!");
     }
 
     // dimension validity should be checked in SanguineGame board
     board = new SanguineGameBoard(rows, cols);
+    boardView = new SanguineBoardView(board);
 
     // If decks are empty or null, we give the player a default deck
     Result checkedNullDecks = handleNullDecks(deck1, deck2);
@@ -79,13 +113,27 @@ public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelCon
       throw new IllegalArgumentException("Hand size is invalid");
     }
 
+    if (journal != null && seeded) {
+      journal.writeHeader(rows, cols, handSize, seed, checkedNullDecks.deck1(),
+          checkedNullDecks.deck2());
+    } else if (journal != null) {
+      journal.writeHeader(rows, cols, handSize, checkedNullDecks.deck1(),
+          checkedNullDecks.deck2());
+    }
+
     // Set players
     this.redPlayer = new SanguinePlayer(checkedNullDecks.deck1(), PlayerColor.RED, handSize);
     this.bluePlayer = new SanguinePlayer(checkedNullDecks.deck2(), PlayerColor.BLUE, handSize);
 
-    // shuffle their decks for randomized hand
-    redPlayer.shuffle();
-    bluePlayer.shuffle();
+    // shuffle their decks for randomized hand, each player from its own stream of the seed
+    if (seeded) {
+      SplittableRandom random = new SplittableRandom(seed);
+      redPlayer.shuffle(random.split());
+      bluePlayer.shuffle(random.split());
+    } else {
+      redPlayer.shuffle();
+      bluePlayer.shuffle();
+    }
 
     // takes handSize amount of cards from each player's deck to hand
     makePlayerHands(handSize);
@@ -101,6 +149,110 @@ public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelCon
     }
   }
 
+  /**
+   * Records the game to a journal: its start, then every move, closing the journal when the game
+   * ends. Must be set before the game starts. Moves are recorded by hand index, so a recorded
+   * game only accepts cards from the mover's hand.
+   *
+   * @param journal the journal to write to
+   * @throws IllegalStateException    if the game has already been started
+   * @throws IllegalArgumentException if the journal is null
+   */
+  public void setJournal(GameJournalWriter journal) {
+    if (gameStarted) {
+      throw new IllegalStateException("Game has already been started!");
+    }
+    if (journal == null) {
+      throw new IllegalArgumentException("journal is null");
+    }
+    this.journal = journal;
+  }
+
+  /**
+   * Starts the game at a position in the middle of play instead of a new one, as read by
+   * PositionNotation. The board and players are taken as they are. Listeners are not notified,
+   * since a restored game is new and has none yet.
+   *
+   * @param board    the board
+   * @param red      the red player
+   * @param blue     the blue player
+   * @param turn     the color of the player to move
+   * @param passes   the amount of passes in a row leading up to the position
+   * @param handSize the max hand size of both players
+   * @throws IllegalStateException    if the game has already been started
+   * @throws IllegalArgumentException if an argument is null or a count is out of range
+   */
+  void restore(SanguineGameBoard board, SanguinePlayer red, SanguinePlayer blue,
+               PlayerColor turn, int passes, int handSize) {
+    if (gameStarted) {
+      throw new IllegalStateException("Game has already been started!");
+    }
+    if (board == null || red == null || blue == null || turn == null) {
+      throw new IllegalArgumentException("position is missing a part");
+    }
+    if (passes < 0 || handSize <= 0) {
+      throw new IllegalArgumentException("invalid passes or hand size");
+    }
+
+    this.board = board;
+    this.boardView = new SanguineBoardView(board);
+    this.redPlayer = red;
+    this.bluePlayer = blue;
+    this.currentPlayer = turn == PlayerColor.RED ? red : blue;
+    this.consecutivePasses = passes;
+    this.maxHandSize = handSize;
+    this.gameStarted = true;
+  }
+
+  @Override
+  public BasicSanguineModel fork() throws IllegalStateException {
+    hasGameStarted();
+
+    BasicSanguineModel fork = new BasicSanguineModel();
+    fork.restore(board.fork(), redPlayer.fork(), bluePlayer.fork(), currentPlayer.getColor(),
+        consecutivePasses, maxHandSize);
+    return fork;
+  }
+
+  /**
+   * Returns the live board, without copying it.
+   *
+   * @return the board
+   */
+  SanguineGameBoard board() {
+    hasGameStarted();
+    return board;
+  }
+
+  /**
+   * Returns the live player of a color, without copying it.
+   *
+   * @param color the color of the player
+   * @return the player
+   */
+  SanguinePlayer player(PlayerColor color) {
+    hasGameStarted();
+    return color == PlayerColor.RED ? redPlayer : bluePlayer;
+  }
+
+  /**
+   * Returns the amount of passes in a row leading up to the current turn.
+   *
+   * @return the consecutive passes
+   */
+  int consecutivePasses() {
+    return consecutivePasses;
+  }
+
+  /**
+   * Returns the max hand size of both players.
+   *
+   * @return the max hand size
+   */
+  int maxHandSize() {
+    return maxHandSize;
+  }
+
   /**
    * private helper method that checks if two decks are null. if theyre null, it makes default
    * decks.
@@ -174,15 +326,35 @@ public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelCon
 
   @Override
   public List<SanguineCard> createDeck() throws IOException {
-    return DeckParser.makeDeck("docs" + File.separator + "example.deck");
+    return DeckCache.copy(DeckCache.DEFAULT_DECK_PATH);
   }
 
   @Override
   public void passTurn()
       throws IllegalStateException, IOException {
     hasGameStarted();
+    TurnEvent event = new TurnEvent();
+    event.begin();
+    PlayerColor player = currentPlayer.getColor();
     changePlayer();
 
+    if (journal != null) {
+      journal.writePass();
+      if (consecutivePasses >= 2) {
+        journal.close();
+      }
+    }
+
+    if (event.shouldCommit()) {
+      event.player = player.toString();
+      event.passed = true;
+      event.rows = board.getRows();
+      event.cols = board.getCols();
+      event.row = -1;
+      event.col = -1;
+      event.commit();
+    }
+
     if (consecutivePasses >= 2) {
         for (ModelListener listener : listeners) {
             listener.notifyGameEnded();
@@ -227,7 +399,28 @@ public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelCon
       throw new IllegalArgumentException("card is null");
     }
 
-    placeCard(row, col, card);
+    TurnEvent event = new TurnEvent();
+    event.begin();
+    PlayerColor player = currentPlayer.getColor();
+    int handIndex = journal == null ? -1 : currentPlayer.getHand().indexOf(card);
+    if (journal != null && handIndex < 0) {
+      throw new IllegalArgumentException("a recorded game can only play cards from the hand");
+    }
+    // dropped while the move is made, so a move that throws halfway leaves it to be rebuilt
+    ThreatMap map = threats;
+    threats = null;
+    try {
+      placeCard(row, col, card);
+    } catch (IllegalStateException exo) {
+      // the card is down and part of its influence applied, so replaying needs the move too
+      if (journal != null) {
+        journal.writePlace(handIndex, row, col);
+      }
+      throw exo;
+    }
+    if (journal != null) {
+      journal.writePlace(handIndex, row, col);
+    }
 
     if (!currentPlayer.getDeck().isEmpty() && currentPlayer.getHand().size() < maxHandSize) {
       currentPlayer.deckToHand(1);
@@ -237,6 +430,22 @@ public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelCon
     currentPlayer.drawHandToBoard();
 
     consecutivePasses = 0;
+
+    // a map built by a listener during the move is of the board halfway through it
+    if (map != null) {
+      map.update(row, col);
+    }
+    threats = map;
+
+    if (event.shouldCommit()) {
+      event.player = player.toString();
+      event.rows = board.getRows();
+      event.cols = board.getCols();
+      event.row = row;
+      event.col = col;
+      event.card = card.getName();
+      event.commit();
+    }
   }
 
   @Override
@@ -312,7 +521,7 @@ public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelCon
 
   @Override
   public SanguineBoardCell getCellAt(int row, int col) {
-    SanguineBoardCell original = board.getCellAt(row, col);
+    SanguineBoardCell original = board.cellAt(row, col);
 
     return original.getCopy();
   }
@@ -351,7 +560,47 @@ public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelCon
     if (col < 0 || col > board.getRows()) {
       throw new IllegalArgumentException("cols is out of bounds for col " + col);
     }
-    return board.getCellAt(row, col).getColor();
+    return board.cellAt(row, col).getColor();
+  }
+
+  @Override
+  public List<Placement> getThreats(int row, int col)
+      throws IllegalStateException, IllegalArgumentException {
+    hasGameStarted();
+
+    if (threats == null) {
+      threats = new ThreatMap(board, redPlayer, bluePlayer);
+    }
+    return threats.get(row, col);
+  }
+
+  @Override
+  public List<Placement> getPlacementsTouching(PlayerColor color, int row, int col)
+      throws IllegalStateException, IllegalArgumentException {
+    hasGameStarted();
+    if (color == null) {
+      throw new IllegalArgumentException("Player color is null!");
+    }
+    board.cellAt(row, col); // throws if the cell is not on the board
+
+    List<Placement> placements = new ArrayList<>();
+    for (SanguineCard card : ThreatMap.distinct(player(color).getHand())) {
+      InfluenceIndex.addPlacements(board, card, color, row, col, placements);
+    }
+    return placements;
+  }
+
+  /**
+   * Returns the threats on a cell if they are mapped, without ever mapping them, so the call
+   * only reads.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the threats, or null if they are not mapped
+   */
+  List<Placement> mappedThreats(int row, int col) {
+    ThreatMap map = threats;
+    return map == null ? null : map.get(row, col);
   }
 
   @Override
@@ -376,13 +625,15 @@ public class BasicSanguineModel implements SanguineModel<SanguineCard>, ModelCon
       throw new IllegalArgumentException("Row coordinate is invalid!");
     }
 
-    BasicSanguineBoardCell cell = board.getCellAt(row, col);
+    BasicSanguineBoardCell cell = board.cellAt(row, col);
 
-    if (cell.containsCard() || cell.getPawns().isEmpty() || cell.getColor() != player.getColor()) {
+    // pawn counts instead of pawn copies, so checking a move allocates nothing
+    if (cell.containsCard() || cell.getPawnCount() == 0
+        || cell.getColor() != player.getColor()) {
       return false;
     }
 
-    if (card.getCost() < cell.getPawns().size()) {
+    if (card.getCost() < cell.getPawnCount()) {
       return false;
     } else {
       return true;
@@ -0,0 +1,334 @@
+package sanguine.model;
+
+/**
+ * A board engine that keeps a game's cells as bitsets instead of cell objects, for wide boards
+ * and for searches that place many cards.
+ *
+ * <p>Every row is held in five planes of 64 cells per long: the cells red owns, the cells blue
+ * owns, the cells holding a card, and the low and high bits of each cell's pawn count. Placing a
+ * card touches at most five rows, and in each it applies the card's influence to every cell at
+ * once with a few shifted masks: empty cells and cells of the placer's with under three pawns
+ * gain a pawn of the placer's, cells of the other player's with three pawns flip to the placer,
+ * and cards are left alone, as in BasicSanguineModel.</p>
+ *
+ * <p>The engine reproduces the model move for move, including where the model throws: a
+ * placement it would refuse is refused with an IllegalArgumentException before anything changes,
+ * and influence reaching a cell of the other player's with under three pawns throws an
+ * IllegalStateException after influencing the cells before that one, row by row, as the model
+ * does. Only the board is kept; hands and turns stay with the model.</p>
+ */
+public final class BitBoard implements BoardView {
+  // how far from its cell a card's influence reaches
+  private static final int REACH = 2;
+  private static final int GRID = 5;
+  private static final int GRID_ROW = (1 << GRID) - 1;
+
+  private final int rows;
+  private final int cols;
+  private final int words;
+  private final long[][] red;
+  private final long[][] blue;
+  private final long[][] cards;
+  private final long[][] low;
+  private final long[][] high;
+  private final int[] values;
+  private final int[] redScores;
+  private final int[] blueScores;
+
+  /**
+   * A constructor for an empty board, of the sizes SanguineGameBoard allows.
+   *
+   * @param rows the amount of rows, at least one
+   * @param cols the amount of columns, odd and greater than one
+   * @throws IllegalArgumentException if the dimensions are invalid
+   */
+  public BitBoard(int rows, int cols) {
+    if (cols % 2 != 1 || cols == 1) {
+      throw new IllegalArgumentException("invalid cols");
+    }
+    if (rows < 1) {
+      throw new IllegalArgumentException("invalid rows");
+    }
+
+    this.rows = rows;
+    this.cols = cols;
+    this.words = (cols + 63) >>> 6;
+    this.red = new long[rows][words];
+    this.blue = new long[rows][words];
+    this.cards = new long[rows][words];
+    this.low = new long[rows][words];
+    this.high = new long[rows][words];
+    this.values = new int[rows * cols];
+    this.redScores = new int[rows];
+    this.blueScores = new int[rows];
+  }
+
+  /**
+   * A constructor for a copy of a board.
+   *
+   * @param other the board copied
+   */
+  private BitBoard(BitBoard other) {
+    this.rows = other.rows;
+    this.cols = other.cols;
+    this.words = other.words;
+    this.red = copy(other.red);
+    this.blue = copy(other.blue);
+    this.cards = copy(other.cards);
+    this.low = copy(other.low);
+    this.high = copy(other.high);
+    this.values = other.values.clone();
+    this.redScores = other.redScores.clone();
+    this.blueScores = other.blueScores.clone();
+  }
+
+  /**
+   * Returns a bitboard of the cells a view shows, such as a game's getBoardView().
+   *
+   * @param view the board to read
+   * @return the bitboard
+   * @throws IllegalArgumentException if the view is null or shows more than three pawns
+   */
+  public static BitBoard of(BoardView view) {
+    if (view == null) {
+      throw new IllegalArgumentException("view is null");
+    }
+
+    BitBoard board = new BitBoard(view.getRows(), view.getCols());
+    for (int row = 0; row < board.rows; row++) {
+      for (int col = 0; col < board.cols; col++) {
+        PlayerColor owner = view.getOwner(row, col);
+        int pawns = view.getPawnCount(row, col);
+        if (owner == null) {
+          continue;
+        }
+        if (pawns > 3) {
+          throw new IllegalArgumentException("too many pawns at " + row + "," + col);
+        }
+
+        int word = col >>> 6;
+        long bit = 1L << (col & 63);
+        board.plane(owner)[row][word] |= bit;
+        if (view.hasCard(row, col)) {
+          board.cards[row][word] |= bit;
+          board.values[row * board.cols + col] = view.getValue(row, col);
+          board.scores(owner)[row] += view.getValue(row, col);
+        } else {
+          board.low[row][word] |= (pawns & 1) == 1 ? bit : 0;
+          board.high[row][word] |= (pawns & 2) == 2 ? bit : 0;
+        }
+      }
+    }
+    return board;
+  }
+
+  /**
+   * Returns a copy of this board, which changes independently of it.
+   *
+   * @return the copy
+   */
+  public BitBoard copy() {
+    return new BitBoard(this);
+  }
+
+  /**
+   * Places a card for a player and applies its influence, as BasicSanguineModel.playTurn does
+   * to its board.
+   *
+   * @param row   the row of the cell
+   * @param col   the column of the cell
+   * @param card  the card
+   * @param color the player placing it
+   * @throws IllegalArgumentException if an argument is null, the cell is not on the board, or the
+   *                                  cell holds a card or too few of the player's pawns
+   * @throws IllegalStateException    if the influence reaches a cell holding one or two of the
+   *                                  other player's pawns, after influencing the cells before it
+   */
+  public void place(int row, int col, SanguineCard card, PlayerColor color) {
+    checkCell(row, col);
+    if (card == null || color == null) {
+      throw new IllegalArgumentException("card or color is null");
+    }
+    int pawns = getPawnCount(row, col);
+    if (hasCard(row, col) || pawns == 0 || pawns < card.getCost()
+        || getOwner(row, col) != color) {
+      throw new IllegalArgumentException("card can not be placed at " + row + "," + col);
+    }
+
+    int word = col >>> 6;
+    long bit = 1L << (col & 63);
+    low[row][word] &= ~bit;
+    high[row][word] &= ~bit;
+    cards[row][word] |= bit;
+    values[row * cols + col] = card.getValue();
+    scores(color)[row] += card.getValue();
+
+    long[][] mine = plane(color);
+    long[][] theirs = plane(color == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED);
+    int mask = card.getInfluenceMask();
+    for (int gridRow = 0; gridRow < GRID; gridRow++) {
+      int target = row + gridRow - REACH;
+      int pattern = mask >>> (gridRow * GRID) & GRID_ROW;
+      if (pattern != 0 && target >= 0 && target < rows) {
+        influenceRow(target, col - REACH, pattern, mine[target], theirs[target]);
+      }
+    }
+  }
+
+  @Override
+  public int getRows() {
+    return rows;
+  }
+
+  @Override
+  public int getCols() {
+    return cols;
+  }
+
+  @Override
+  public PlayerColor getOwner(int row, int col) {
+    checkCell(row, col);
+    long bit = 1L << (col & 63);
+    if ((red[row][col >>> 6] & bit) != 0) {
+      return PlayerColor.RED;
+    }
+    return (blue[row][col >>> 6] & bit) != 0 ? PlayerColor.BLUE : null;
+  }
+
+  @Override
+  public int getPawnCount(int row, int col) {
+    checkCell(row, col);
+    int word = col >>> 6;
+    int shift = col & 63;
+    return (int) (low[row][word] >>> shift & 1) | (int) (high[row][word] >>> shift & 1) << 1;
+  }
+
+  @Override
+  public boolean hasCard(int row, int col) {
+    checkCell(row, col);
+    return (cards[row][col >>> 6] >>> (col & 63) & 1) == 1;
+  }
+
+  @Override
+  public int getValue(int row, int col) {
+    checkCell(row, col);
+    return values[row * cols + col];
+  }
+
+  @Override
+  public int getRowScore(PlayerColor color, int row) {
+    if (color == null) {
+      throw new IllegalArgumentException("Player Color is null!");
+    }
+    if (row < 0 || row >= rows) {
+      throw new IllegalArgumentException("row invalid: " + row);
+    }
+    return scores(color)[row];
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that applies one row of a card's influence grid to a row of the board, a
+   * word of 64 cells at a time.
+   *
+   * @param row     the row of the board
+   * @param from    the column the first cell of the grid row falls on, which may be off the board
+   * @param pattern the grid row's influence, bit 0 leftmost
+   * @param mine    the row of the placer's plane
+   * @param theirs  the row of the other player's plane
+   * @throws IllegalStateException if the influence reaches one or two of the other player's pawns
+   */
+  private void influenceRow(int row, int from, int pattern, long[] mine, long[] theirs) {
+    int first = Math.max(from, 0);
+    int last = Math.min(from + GRID - 1, cols - 1);
+    long[] lows = low[row];
+    long[] highs = high[row];
+    long[] held = cards[row];
+
+    for (int word = first >>> 6; word <= last >>> 6; word++) {
+      int shift = from - (word << 6);
+      long touched = shift >= 0 ? (long) pattern << shift : (long) pattern >>> -shift;
+      touched &= ~held[word] & columnsOf(word);
+      long three = lows[word] & highs[word];
+
+      // the model stops at the first of these, having influenced the cells before it
+      long refused = touched & theirs[word] & ~three;
+      if (refused != 0) {
+        touched &= Long.lowestOneBit(refused) - 1;
+      }
+
+      long flip = touched & theirs[word] & three;
+      long grow = touched & ~theirs[word] & ~three;
+      highs[word] |= lows[word] & grow;
+      lows[word] ^= grow;
+      mine[word] |= grow | flip;
+      theirs[word] &= ~flip;
+
+      if (refused != 0) {
+        throw new IllegalStateException("Can not place a pawn in a cell you dont own.");
+      }
+    }
+  }
+
+  /**
+   * A helper method that returns the bits of a word that are columns of the board.
+   *
+   * @param word the word
+   * @return the mask of columns
+   */
+  private long columnsOf(int word) {
+    int left = cols - (word << 6);
+    return left >= 64 ? -1L : (1L << left) - 1;
+  }
+
+  /**
+   * A helper method that returns the plane of a player's cells.
+   *
+   * @param color the player
+   * @return the plane
+   */
+  private long[][] plane(PlayerColor color) {
+    return color == PlayerColor.RED ? red : blue;
+  }
+
+  /**
+   * A helper method that returns the row scores of a player.
+   *
+   * @param color the player
+   * @return the row scores
+   */
+  private int[] scores(PlayerColor color) {
+    return color == PlayerColor.RED ? redScores : blueScores;
+  }
+
+  /**
+   * A helper method that makes sure coordinates are on the board.
+   *
+   * @param row the row
+   * @param col the column
+   * @throws IllegalArgumentException if they are not
+   */
+  private void checkCell(int row, int col) {
+    if (row < 0 || row >= rows) {
+      throw new IllegalArgumentException("row invalid: " + row);
+    }
+    if (col < 0 || col >= cols) {
+      throw new IllegalArgumentException("column invalid " + col);
+    }
+  }
+
+  /**
+   * A helper method that copies a plane.
+   *
+   * @param plane the plane
+   * @return the copy
+   */
+  private static long[][] copy(long[][] plane) {
+    long[][] copy = new long[plane.length][];
+    for (int row = 0; row < plane.length; row++) {
+      copy[row] = plane[row].clone();
+    }
+    return copy;
+  }
+}
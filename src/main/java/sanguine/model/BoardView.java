@@ -0,0 +1,75 @@
+package sanguine.model;
+
+/**
+ * This interface marks a live, read only view of a game board.
+ *
+ * <p>Unlike getBoard() or getCellAt(), nothing is copied: every query reads the current state
+ * of the board directly. This is what renderers and heuristics that look at every cell after
+ * every move should use.</p>
+ *
+ * <p>Coordinates are 0-base indexed and every method throws an IllegalArgumentException when
+ * given coordinates that are not on the board.</p>
+ */
+public interface BoardView {
+
+  /**
+   * A method that gets the number of rows in the board.
+   *
+   * @return the number of rows
+   */
+  int getRows();
+
+  /**
+   * A method that gets the number of columns in the board.
+   *
+   * @return the number of columns
+   */
+  int getCols();
+
+  /**
+   * A method that gets the owner of a cell: the color of its pawns or of the player that placed
+   * its card.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the owner of the cell, or null if the cell is empty
+   */
+  PlayerColor getOwner(int row, int col);
+
+  /**
+   * A method that gets the amount of pawns in a cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the amount of pawns, zero if the cell is empty or holds a card
+   */
+  int getPawnCount(int row, int col);
+
+  /**
+   * A method that returns whether a cell holds a card.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return whether the cell holds a card
+   */
+  boolean hasCard(int row, int col);
+
+  /**
+   * A method that gets the value of the card in a cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the value of the card, zero if the cell holds no card
+   */
+  int getValue(int row, int col);
+
+  /**
+   * A method that gets the row score of a player: the sum of the values of their cards in the row.
+   *
+   * @param color the player color
+   * @param row   the row
+   * @return the row score of the player
+   * @throws IllegalArgumentException if the color is null or the row is invalid
+   */
+  int getRowScore(PlayerColor color, int row);
+}
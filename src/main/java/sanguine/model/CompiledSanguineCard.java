@@ -0,0 +1,180 @@
+package sanguine.model;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A SanguineGame card read straight out of a memory mapped compiled deck.
+ *
+ * <p>The card holds no copy of its data: its cost, value and influence mask are read from the
+ * mapped file every time they are asked for, and its name comes from the deck's interned name
+ * table. The influence grids are built once per distinct mask and shared by every card with
+ * that pattern.</p>
+ *
+ * <p>Cards are rendered, compared and hashed exactly like a BasicSanguineCard with the same
+ * name, cost, value and grid, so the two can be mixed freely.</p>
+ */
+final class CompiledSanguineCard implements SanguineCard {
+  // grids shared by every compiled card, keyed by influence mask
+  private static final Map<Integer, Grid> GRIDS = new ConcurrentHashMap<>();
+
+  // Private fields:
+  private final ByteBuffer deck;
+  private final int offset;
+  private final String[] names;
+
+  /**
+   * A constructor for a card stored at the given offset of a compiled deck. The deck is
+   * validated by DeckParser before any card is made.
+   *
+   * @param deck   the mapped compiled deck
+   * @param offset the offset of this card's record
+   * @param names  the interned names of the deck
+   */
+  CompiledSanguineCard(ByteBuffer deck, int offset, String[] names) {
+    this.deck = deck;
+    this.offset = offset;
+    this.names = names;
+  }
+
+  @Override
+  public int getCost() {
+    return deck.getInt(offset + 4) >>> DeckCompiler.COST_SHIFT;
+  }
+
+  @Override
+  public int getValue() {
+    return deck.getInt(offset + 8);
+  }
+
+  @Override
+  public String getName() {
+    return names[deck.getInt(offset)];
+  }
+
+  @Override
+  public int getInfluenceMask() {
+    return deck.getInt(offset + 4) & DeckCompiler.MASK_BITS;
+  }
+
+  @Override
+  public List<List<CardColor>> getColorInfluence() {
+    return grid().colors();
+  }
+
+  @Override
+  public List<String> getStringInfluence() {
+    return grid().strings();
+  }
+
+  @Override
+  public List<List<Integer>> getIntInfluence() {
+    return grid().ints();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder output = new StringBuilder();
+
+    output.append(getName()).append(" ").append(getCost()).append(" ").append(getValue())
+        .append(System.lineSeparator());
+
+    for (String str : getStringInfluence()) {
+      output.append(str).append(System.lineSeparator());
+    }
+    return output.toString();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+
+    if (!(other instanceof Card)) {
+      return false;
+    }
+    return this.toString().equals(other.toString());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getName(), getCost(), getValue(), getStringInfluence());
+  }
+
+  /**
+   * Returns the influence grid of a mask as 'X', 'I' and 'C' rows, in the form BasicSanguineCard
+   * takes. The grid is shared with every compiled card of that mask.
+   *
+   * @param mask the influence mask, without the center bit
+   * @return the grid rows
+   */
+  static List<String> influenceRows(int mask) {
+    return GRIDS.computeIfAbsent(mask, Grid::of).strings();
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that returns the shared grids of this card's influence mask.
+   *
+   * @return the grids
+   */
+  private Grid grid() {
+    return GRIDS.computeIfAbsent(getInfluenceMask(), Grid::of);
+  }
+
+  /**
+   * The three views of one influence grid, as built by BasicSanguineCard.
+   *
+   * @param strings the grid as 'X', 'I' and 'C' rows
+   * @param ints    the grid as 1 for influence, 0 otherwise
+   * @param colors  the grid as CYAN for influence, ORANGE for the card, GRAY otherwise
+   */
+  private record Grid(List<String> strings, List<List<Integer>> ints,
+                      List<List<CardColor>> colors) {
+
+    /**
+     * Builds the grids of an influence mask.
+     *
+     * @param mask the influence mask
+     * @return the grids
+     */
+    static Grid of(int mask) {
+      List<String> strings = new ArrayList<>();
+      List<List<Integer>> ints = new ArrayList<>();
+      List<List<CardColor>> colors = new ArrayList<>();
+
+      for (int row = 0; row < 5; row++) {
+        StringBuilder str = new StringBuilder();
+        List<Integer> intRow = new ArrayList<>();
+        List<CardColor> colorRow = new ArrayList<>();
+
+        for (int col = 0; col < 5; col++) {
+          int bit = 1 << (row * 5 + col);
+          if (bit == DeckCompiler.CENTER_BIT) {
+            str.append('C');
+            intRow.add(0);
+            colorRow.add(CardColor.ORANGE);
+          } else if ((mask & bit) != 0) {
+            str.append('I');
+            intRow.add(1);
+            colorRow.add(CardColor.CYAN);
+          } else {
+            str.append('X');
+            intRow.add(0);
+            colorRow.add(CardColor.GRAY);
+          }
+        }
+        strings.add(str.toString());
+        ints.add(List.copyOf(intRow));
+        colors.add(List.copyOf(colorRow));
+      }
+      return new Grid(List.copyOf(strings), List.copyOf(ints), List.copyOf(colors));
+    }
+  }
+}
@@ -0,0 +1,339 @@
+package sanguine.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * A BasicSanguineModel that is safe to read and play from many threads at once, for views on the
+ * event dispatch thread, AI players searching in the background and metrics readers.
+ *
+ * <p>Moves, starting the game and subscribing take a write lock. Queries take none: they read
+ * optimistically, then validate that no move ran meanwhile and only if one did, read again under
+ * a read lock. Readers therefore never block each other or a move, and a query that overlaps a
+ * move, even one that threw on a half changed board, is retried rather than returned.</p>
+ *
+ * <p>Nothing a query returns is live: cells, hands, players and boards are copies, and the board
+ * view reads through the same lock on every call. Listeners are told of a move while its write
+ * lock is held, on the thread that made it; that thread may read the model, and make the next
+ * move, from inside the notification.</p>
+ */
+public final class ConcurrentSanguineModel implements SanguineModel<SanguineCard> {
+  private final BasicSanguineModel model;
+  private final StampedLock lock;
+  private final BoardView view;
+  private volatile Thread writer;
+
+  /**
+   * A constructor for a model whose game has not been started yet.
+   */
+  public ConcurrentSanguineModel() {
+    this.model = new BasicSanguineModel();
+    this.lock = new StampedLock();
+    this.view = new LockedBoardView();
+  }
+
+  /**
+   * A change to the model, made under the write lock.
+   *
+   * @param <T> the result of the change
+   */
+  @FunctionalInterface
+  private interface Change<T> {
+
+    /**
+     * Makes the change.
+     *
+     * @return the result
+     * @throws IOException if the model throws it
+     */
+    T apply() throws IOException;
+  }
+
+  /**
+   * Records the game to a journal, as BasicSanguineModel.setJournal does.
+   *
+   * @param journal the journal
+   * @throws IllegalStateException    if the game has already been started
+   * @throws IllegalArgumentException if the journal is null
+   */
+  public void setJournal(GameJournalWriter journal) {
+    writeUnchecked(() -> {
+      model.setJournal(journal);
+      return null;
+    });
+  }
+
+  @Override
+  public void startGame(int rows, int cols, List<SanguineCard> deck1, List<SanguineCard> deck2,
+                        int handSize) throws IOException {
+    write(() -> {
+      model.startGame(rows, cols, deck1, deck2, handSize);
+      return null;
+    });
+  }
+
+  @Override
+  public void startGame(int rows, int cols, List<SanguineCard> deck1, List<SanguineCard> deck2,
+                        int handSize, long seed) throws IOException {
+    write(() -> {
+      model.startGame(rows, cols, deck1, deck2, handSize, seed);
+      return null;
+    });
+  }
+
+  @Override
+  public List<SanguineCard> createDeck() throws IOException {
+    return model.createDeck();
+  }
+
+  @Override
+  public void passTurn() throws IOException {
+    write(() -> {
+      model.passTurn();
+      return null;
+    });
+  }
+
+  @Override
+  public void playTurn(int row, int col, SanguineCard card) throws IOException {
+    write(() -> {
+      model.playTurn(row, col, card);
+      return null;
+    });
+  }
+
+  @Override
+  public void addControllerSubscriber(ModelListener listener) {
+    writeUnchecked(() -> {
+      model.addControllerSubscriber(listener);
+      return null;
+    });
+  }
+
+  @Override
+  public SanguineGameBoard getBoard() throws IOException {
+    try {
+      return read(() -> {
+        try {
+          return model.getBoard();
+        } catch (IOException exo) {
+          throw new UncheckedIOException(exo);
+        }
+      });
+    } catch (UncheckedIOException exo) {
+      throw exo.getCause();
+    }
+  }
+
+  @Override
+  public BoardView getBoardView() {
+    read(model::getBoardView);
+    return view;
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return read(model::isGameOver);
+  }
+
+  @Override
+  public int getScore(PlayerColor color) {
+    return read(() -> model.getScore(color));
+  }
+
+  @Override
+  public SanguinePlayer getWinner() throws TieException {
+    return read(model::getWinner);
+  }
+
+  @Override
+  public SanguinePlayer getTurn() {
+    return read(() -> {
+      SanguinePlayer player = model.getTurn();
+      return new SanguinePlayer(player.getHand(), player.getDeck(), player.getColor(),
+          model.maxHandSize());
+    });
+  }
+
+  @Override
+  public SanguineBoardCell getCellAt(int row, int col) {
+    return read(() -> model.getCellAt(row, col));
+  }
+
+  @Override
+  public List<SanguineCard> getPlayerHand(PlayerColor color) {
+    return read(() -> model.getPlayerHand(color));
+  }
+
+  @Override
+  public PlayerColor getOwnershipOfCell(int row, int col) {
+    return read(() -> model.getOwnershipOfCell(row, col));
+  }
+
+  @Override
+  public int getRowScore(PlayerColor color, int row) {
+    return read(() -> model.getRowScore(color, row));
+  }
+
+  /**
+   * Returns the threats on a cell, as BasicSanguineModel.getThreats does. The threats are mapped
+   * under the write lock the first time they are asked for, and after a move that threw; after
+   * that they are read like any other query.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the threats
+   */
+  @Override
+  public List<Placement> getThreats(int row, int col) {
+    List<Placement> threats = read(() -> model.mappedThreats(row, col));
+    return threats != null ? threats : writeUnchecked(() -> model.getThreats(row, col));
+  }
+
+  @Override
+  public List<Placement> getPlacementsTouching(PlayerColor color, int row, int col) {
+    return read(() -> model.getPlacementsTouching(color, row, col));
+  }
+
+  @Override
+  public boolean placeCardLegal(int row, int col, SanguineCard card, SanguinePlayer player) {
+    return read(() -> model.placeCardLegal(row, col, card, player));
+  }
+
+  /**
+   * Returns a fork of the game, as BasicSanguineModel.fork does. Forking marks the game's rows as
+   * shared, so it takes the write lock; the fork itself is private to the caller and not locked.
+   *
+   * @return the fork
+   * @throws IllegalStateException if the game has not been started
+   */
+  @Override
+  public BasicSanguineModel fork() {
+    return writeUnchecked(model::fork);
+  }
+
+  @Override
+  public List<ModelListener> seeSubscribers() {
+    return read(model::seeSubscribers);
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that runs a query: optimistically first, and under a read lock if a change
+   * ran meanwhile. The thread making a change reads directly.
+   *
+   * @param query the query
+   * @param <T>   the result of the query
+   * @return the result
+   */
+  private <T> T read(Supplier<T> query) {
+    if (writer == Thread.currentThread()) {
+      return query.get();
+    }
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        T result = query.get();
+        if (lock.validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException exo) {
+        // thrown by the model as it was, not as a change left it halfway
+        if (lock.validate(stamp)) {
+          throw exo;
+        }
+      }
+    }
+
+    stamp = lock.readLock();
+    try {
+      return query.get();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * A helper method that makes a change under the write lock. A change made from inside another,
+   * by a listener on the thread making it, runs in the same lock.
+   *
+   * @param change the change
+   * @param <T>    the result of the change
+   * @return the result
+   * @throws IOException if the change throws it
+   */
+  private <T> T write(Change<T> change) throws IOException {
+    if (writer == Thread.currentThread()) {
+      return change.apply();
+    }
+    long stamp = lock.writeLock();
+    writer = Thread.currentThread();
+    try {
+      return change.apply();
+    } finally {
+      writer = null;
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * A helper method that makes a change that does not throw IOException under the write lock.
+   *
+   * @param change the change
+   * @param <T>    the result of the change
+   * @return the result
+   */
+  private <T> T writeUnchecked(Change<T> change) {
+    try {
+      return write(change);
+    } catch (IOException exo) {
+      throw new UncheckedIOException(exo);
+    }
+  }
+
+  /**
+   * The board view handed out by the model, which reads through the model's lock on every
+   * call.
+   */
+  private final class LockedBoardView implements BoardView {
+
+    @Override
+    public int getRows() {
+      return read(() -> model.getBoardView().getRows());
+    }
+
+    @Override
+    public int getCols() {
+      return read(() -> model.getBoardView().getCols());
+    }
+
+    @Override
+    public PlayerColor getOwner(int row, int col) {
+      return read(() -> model.getBoardView().getOwner(row, col));
+    }
+
+    @Override
+    public int getPawnCount(int row, int col) {
+      return read(() -> model.getBoardView().getPawnCount(row, col));
+    }
+
+    @Override
+    public boolean hasCard(int row, int col) {
+      return read(() -> model.getBoardView().hasCard(row, col));
+    }
+
+    @Override
+    public int getValue(int row, int col) {
+      return read(() -> model.getBoardView().getValue(row, col));
+    }
+
+    @Override
+    public int getRowScore(PlayerColor color, int row) {
+      return read(() -> model.getBoardView().getRowScore(color, row));
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package sanguine.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A process wide cache of parsed decks, keyed by the canonical path of the deck file.
+ *
+ * <p>The first load of a deck parses it with DeckParser and keeps an immutable copy. Every
+ * following load only checks the file's size and modification time; if either changed the deck
+ * is parsed again, otherwise the cached deck is returned without reading the file.</p>
+ *
+ * <p>Cards are immutable, so decks can share them. Callers that need to shuffle or draw from a
+ * deck ask for a copy, which shares the cached cards until it is first modified.</p>
+ *
+ * <p>This class is safe to use from multiple threads.</p>
+ */
+public final class DeckCache {
+  /**
+   * The path of the deck used whenever a player does not bring their own.
+   */
+  public static final String DEFAULT_DECK_PATH = "docs" + File.separator + "example.deck";
+
+  // Private fields:
+  private static final Map<String, Path> CANONICAL_PATHS = new ConcurrentHashMap<>();
+  private static final Map<Path, Entry> DECKS = new ConcurrentHashMap<>();
+
+  /**
+   * This class only has static methods.
+   */
+  private DeckCache() {
+  }
+
+  /**
+   * Returns the immutable, parsed deck stored at the given path.
+   *
+   * @param path the deck file path
+   * @return the deck, which can not be modified
+   * @throws IOException              if the file path is invalid
+   * @throws IllegalArgumentException if the path is null or the deck is invalid
+   */
+  public static List<SanguineCard> get(String path) throws IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("path is null");
+    }
+
+    Path canonical = CANONICAL_PATHS.get(path);
+    if (canonical == null) {
+      canonical = Path.of(path).toRealPath();
+      CANONICAL_PATHS.put(path, canonical);
+    }
+
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(canonical, BasicFileAttributes.class);
+    } catch (IOException exo) {
+      // the file moved or was deleted, resolve the path again next time
+      CANONICAL_PATHS.remove(path);
+      DECKS.remove(canonical);
+      throw exo;
+    }
+
+    long size = attributes.size();
+    long modified = attributes.lastModifiedTime().toMillis();
+
+    Entry entry = DECKS.get(canonical);
+    if (entry == null || entry.size() != size || entry.modified() != modified) {
+      entry = new Entry(size, modified, List.copyOf(DeckParser.makeDeck(canonical.toString())));
+      DECKS.put(canonical, entry);
+    }
+    return entry.deck();
+  }
+
+  /**
+   * Returns a modifiable copy of the deck stored at the given path, for a player to shuffle and
+   * draw from. The copy shares the cached deck until it is first modified.
+   *
+   * @param path the deck file path
+   * @return a copy of the deck
+   * @throws IOException              if the file path is invalid
+   * @throws IllegalArgumentException if the path is null or the deck is invalid
+   */
+  public static List<SanguineCard> copy(String path) throws IOException {
+    return new CopyOnWriteDeck(get(path));
+  }
+
+  /**
+   * Drops every cached deck.
+   */
+  public static void clear() {
+    CANONICAL_PATHS.clear();
+    DECKS.clear();
+  }
+
+  /**
+   * A cached deck along with the file attributes it was parsed from.
+   *
+   * @param size     the size of the file in bytes
+   * @param modified the modification time of the file in milliseconds
+   * @param deck     the immutable deck
+   */
+  private record Entry(long size, long modified, List<SanguineCard> deck) {
+  }
+
+  /**
+   * A modifiable deck that reads from a shared, immutable deck until it is first modified, and
+   * only then copies the cards into a list of its own.
+   */
+  private static final class CopyOnWriteDeck extends AbstractList<SanguineCard>
+      implements RandomAccess {
+    private List<SanguineCard> cards;
+    private boolean copied;
+
+    /**
+     * A constructor that shares the given deck.
+     *
+     * @param shared the immutable deck to share
+     */
+    CopyOnWriteDeck(List<SanguineCard> shared) {
+      this.cards = shared;
+    }
+
+    @Override
+    public SanguineCard get(int index) {
+      return cards.get(index);
+    }
+
+    @Override
+    public int size() {
+      return cards.size();
+    }
+
+    @Override
+    public SanguineCard set(int index, SanguineCard card) {
+      return own().set(index, card);
+    }
+
+    @Override
+    public void add(int index, SanguineCard card) {
+      own().add(index, card);
+      modCount++;
+    }
+
+    @Override
+    public SanguineCard remove(int index) {
+      SanguineCard removed = own().remove(index);
+      modCount++;
+      return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+      own().subList(fromIndex, toIndex).clear();
+      modCount++;
+    }
+
+    /**
+     * A helper method that copies the shared cards the first time this deck is modified.
+     *
+     * @return the cards owned by this deck
+     */
+    private List<SanguineCard> own() {
+      if (!copied) {
+        cards = new ArrayList<>(cards);
+        copied = true;
+      }
+      return cards;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package sanguine.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A tool that compiles a text deck (docs/*.deck) into the compact binary deck format.
+ *
+ * <p>The text format stays the source of truth: compiled decks are build outputs that
+ * DeckParser.makeDeck loads without parsing any text. A compiled deck is laid out as:</p>
+ * <pre>
+ * header   magic (int), version (int), name count (int), card count (int), card offset (int)
+ * names    name count times: length in bytes (short), UTF-8 bytes
+ * cards    at card offset, card count times: name index (int),
+ *          influence mask | cost &lt;&lt; 25 (int), value (int)
+ * </pre>
+ * Every number is big endian. Names are interned, so a deck with many copies of a card stores
+ * its name once. The influence mask is the 25 bit mask of SanguineCard.getInfluenceMask().
+ *
+ * <p>Usage: DeckCompiler &lt;text deck&gt; &lt;compiled deck&gt;</p>
+ */
+public final class DeckCompiler {
+  // Format constants, shared with DeckParser:
+  static final int MAGIC = 0x0053444B; // "\0SDK", a text deck never starts with a NUL byte
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 20;
+  static final int CARD_SIZE = 12;
+  static final int COST_SHIFT = 25;
+  static final int MASK_BITS = (1 << COST_SHIFT) - 1;
+  static final int CENTER_BIT = 1 << 12;
+
+  /**
+   * This class only has static methods.
+   */
+  private DeckCompiler() {
+  }
+
+  /**
+   * Compiles the text deck at the first path into a binary deck at the second path.
+   *
+   * @param args the text deck path and the compiled deck path
+   * @throws IOException if a file can not be read or written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("usage: DeckCompiler <text deck> <compiled deck>");
+      System.exit(1);
+    }
+    int cards = compile(args[0], args[1]);
+    System.out.println("compiled " + cards + " cards into " + args[1]);
+  }
+
+  /**
+   * Compiles a text deck into the binary deck format.
+   *
+   * @param textPath     the path of the text deck
+   * @param compiledPath the path the compiled deck is written to
+   * @return the amount of cards compiled
+   * @throws IOException              if a file can not be read or written
+   * @throws IllegalArgumentException if the text deck is invalid, or has a 'C' anywhere but the
+   *                                  center of a grid, which the binary format can not hold
+   */
+  public static int compile(String textPath, String compiledPath) throws IOException {
+    if (textPath == null || compiledPath == null) {
+      throw new IllegalArgumentException("path is null");
+    }
+
+    List<SanguineCard> deck = DeckParser.makeDeck(textPath);
+
+    Map<String, Integer> nameIndexes = new LinkedHashMap<>();
+    List<byte[]> names = new ArrayList<>();
+    int namesSize = 0;
+
+    for (SanguineCard card : deck) {
+      checkCenterOnly(card);
+      if (!nameIndexes.containsKey(card.getName())) {
+        byte[] name = card.getName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > Short.MAX_VALUE) {
+          throw new IllegalArgumentException("card name is too long: " + card.getName());
+        }
+        nameIndexes.put(card.getName(), names.size());
+        names.add(name);
+        namesSize += 2 + name.length;
+      }
+    }
+
+    // cards start on a 4 byte boundary
+    int cardOffset = (HEADER_SIZE + namesSize + 3) & ~3;
+    ByteBuffer out = ByteBuffer.allocate(cardOffset + deck.size() * CARD_SIZE);
+
+    out.putInt(MAGIC).putInt(VERSION).putInt(names.size()).putInt(deck.size())
+        .putInt(cardOffset);
+    for (byte[] name : names) {
+      out.putShort((short) name.length).put(name);
+    }
+
+    out.position(cardOffset);
+    for (SanguineCard card : deck) {
+      out.putInt(nameIndexes.get(card.getName()))
+          .putInt(card.getInfluenceMask() | card.getCost() << COST_SHIFT)
+          .putInt(card.getValue());
+    }
+    out.flip();
+
+    try (FileChannel channel = FileChannel.open(Path.of(compiledPath), StandardOpenOption.WRITE,
+        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (out.hasRemaining()) {
+        channel.write(out);
+      }
+    }
+    return deck.size();
+  }
+
+  /**
+   * A helper method that makes sure a card's grid only has a 'C' at its center. The text format
+   * allows more in the middle row, but they have no influence and a mask can not hold them.
+   *
+   * @param card the card to check
+   */
+  private static void checkCenterOnly(SanguineCard card) {
+    List<String> grid = card.getStringInfluence();
+    for (int row = 0; row < grid.size(); row++) {
+      for (int col = 0; col < grid.get(row).length(); col++) {
+        if (grid.get(row).charAt(col) == 'C' && (row != 2 || col != 2)) {
+          throw new IllegalArgumentException("card can only have C at its center: "
+              + card.getName());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package sanguine.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The composition of a deck: how many copies of each card it holds, regardless of order.
+ *
+ * <p>Cards are identified by their rendering (name, cost, value and influence grid), the same
+ * way cards are compared for equality. Two decks with the same composition hold the same cards
+ * and can only differ in order.</p>
+ */
+public final class DeckComposition {
+  private final Map<String, Integer> counts;
+  private final int hash;
+
+  /**
+   * A constructor that takes in the count of every card, sorted by card.
+   *
+   * @param counts the count of every card
+   */
+  private DeckComposition(Map<String, Integer> counts) {
+    this.counts = Collections.unmodifiableMap(counts);
+    this.hash = counts.hashCode();
+  }
+
+  /**
+   * Returns the composition of a deck.
+   *
+   * @param deck the deck
+   * @return the composition
+   * @throws IllegalArgumentException if the deck is null
+   */
+  public static DeckComposition of(List<SanguineCard> deck) {
+    if (deck == null) {
+      throw new IllegalArgumentException("deck is null");
+    }
+
+    Map<String, Integer> counts = new TreeMap<>();
+    for (SanguineCard card : deck) {
+      counts.merge(card.toString(), 1, Integer::sum);
+    }
+    return new DeckComposition(counts);
+  }
+
+  /**
+   * Returns how many copies of a card the composition holds.
+   *
+   * @param card the card
+   * @return the amount of copies, zero if there are none
+   */
+  public int count(SanguineCard card) {
+    return counts.getOrDefault(card.toString(), 0);
+  }
+
+  /**
+   * Returns the amount of cards in the composition.
+   *
+   * @return the deck size
+   */
+  public int size() {
+    int size = 0;
+    for (int count : counts.values()) {
+      size += count;
+    }
+    return size;
+  }
+
+  /**
+   * Returns the amount of distinct cards in the composition.
+   *
+   * @return the amount of distinct cards
+   */
+  public int distinctCards() {
+    return counts.size();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof DeckComposition)) {
+      return false;
+    }
+    DeckComposition that = (DeckComposition) other;
+    return hash == that.hash && counts.equals(that.counts);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "DeckComposition[" + size() + " cards, " + distinctCards() + " distinct]";
+  }
+}
@@ -0,0 +1,203 @@
+package sanguine.model;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A library of decks loaded from every deck file in a directory.
+ *
+ * <p>Files ending in .deck (text decks) or .sdeck (compiled decks) are parsed and validated in
+ * parallel on a bounded thread pool. A file that can not be read, parsed or validated is recorded
+ * with its error instead of stopping the load, so one bad deck does not hide the others.</p>
+ *
+ * <p>Loaded decks are indexed by composition: the multiset of cards they hold, regardless of
+ * order. Decks built from the same cards share one composition.</p>
+ *
+ * <p>A library does not change once loaded and is safe to share between threads.</p>
+ */
+public final class DeckLibrary {
+  // Private fields:
+  private final Map<Path, List<SanguineCard>> decks;
+  private final Map<Path, String> errors;
+  private final Map<Path, DeckComposition> compositions;
+  private final Map<DeckComposition, List<Path>> index;
+
+  /**
+   * A constructor that takes in the results of a load.
+   *
+   * @param decks        the valid decks by file
+   * @param errors       the error of every file that failed by file
+   * @param compositions the composition of every valid deck by file
+   */
+  private DeckLibrary(Map<Path, List<SanguineCard>> decks, Map<Path, String> errors,
+                      Map<Path, DeckComposition> compositions) {
+    this.decks = Collections.unmodifiableMap(decks);
+    this.errors = Collections.unmodifiableMap(errors);
+    this.compositions = Collections.unmodifiableMap(compositions);
+
+    Map<DeckComposition, List<Path>> byComposition = new HashMap<>();
+    for (Map.Entry<Path, DeckComposition> entry : compositions.entrySet()) {
+      byComposition.computeIfAbsent(entry.getValue(), key -> new ArrayList<>())
+          .add(entry.getKey());
+    }
+    for (Map.Entry<DeckComposition, List<Path>> entry : byComposition.entrySet()) {
+      entry.setValue(List.copyOf(entry.getValue()));
+    }
+    this.index = Collections.unmodifiableMap(byComposition);
+  }
+
+  /**
+   * Loads every deck file in a directory, using one thread per available processor.
+   *
+   * @param directory the directory holding the deck files
+   * @return the loaded library
+   * @throws IOException              if the directory can not be listed
+   * @throws IllegalArgumentException if the directory is null
+   */
+  public static DeckLibrary load(Path directory) throws IOException {
+    return load(directory, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Loads every deck file in a directory. Subdirectories are not searched.
+   *
+   * @param directory the directory holding the deck files
+   * @param threads   the most decks parsed at the same time
+   * @return the loaded library
+   * @throws IOException              if the directory can not be listed
+   * @throws IllegalArgumentException if the directory is null or threads is not positive
+   * @throws IllegalStateException    if the thread is interrupted while loading
+   */
+  public static DeckLibrary load(Path directory, int threads) throws IOException {
+    if (directory == null) {
+      throw new IllegalArgumentException("directory is null");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be positive: " + threads);
+    }
+
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.{deck,sdeck}")) {
+      for (Path file : stream) {
+        if (Files.isRegularFile(file)) {
+          files.add(file);
+        }
+      }
+    }
+    Collections.sort(files);
+
+    Map<Path, List<SanguineCard>> decks = new TreeMap<>();
+    Map<Path, String> errors = new TreeMap<>();
+    Map<Path, DeckComposition> compositions = new TreeMap<>();
+
+    ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads,
+        Math.max(1, files.size())));
+    try {
+      List<Future<Loaded>> results = new ArrayList<>();
+      for (Path file : files) {
+        results.add(pool.submit(() -> loadOne(file)));
+      }
+
+      for (int i = 0; i < files.size(); i++) {
+        Path file = files.get(i);
+        try {
+          Loaded loaded = results.get(i).get();
+          decks.put(file, loaded.deck());
+          compositions.put(file, loaded.composition());
+        } catch (ExecutionException exo) {
+          Throwable cause = exo.getCause();
+          errors.put(file, cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        }
+      }
+    } catch (InterruptedException exo) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("interrupted while loading decks from " + directory);
+    } finally {
+      pool.shutdownNow();
+    }
+
+    return new DeckLibrary(decks, errors, compositions);
+  }
+
+  /**
+   * Returns every valid deck, by file, in path order.
+   *
+   * @return the valid decks
+   */
+  public Map<Path, List<SanguineCard>> getDecks() {
+    return decks;
+  }
+
+  /**
+   * Returns the error of every file that could not be loaded, by file, in path order.
+   *
+   * @return the errors
+   */
+  public Map<Path, String> getErrors() {
+    return errors;
+  }
+
+  /**
+   * Returns the composition of a loaded deck.
+   *
+   * @param file the deck file
+   * @return the composition, or null if the file was not loaded
+   */
+  public DeckComposition getComposition(Path file) {
+    return compositions.get(file);
+  }
+
+  /**
+   * Returns the files of every loaded deck built from the given composition.
+   *
+   * @param composition the composition to look up
+   * @return the files, in path order, empty if there are none
+   */
+  public List<Path> findByComposition(DeckComposition composition) {
+    return index.getOrDefault(composition, List.of());
+  }
+
+  /**
+   * Returns every composition in the library along with the files built from it.
+   *
+   * @return the composition index
+   */
+  public Map<DeckComposition, List<Path>> getIndex() {
+    return index;
+  }
+
+  /**
+   * A helper method that parses and validates one deck file. Runs on the pool.
+   *
+   * @param file the deck file
+   * @return the deck and its composition
+   * @throws IOException              if the file can not be read
+   * @throws IllegalArgumentException if the deck is invalid
+   */
+  private static Loaded loadOne(Path file) throws IOException {
+    List<SanguineCard> deck = List.copyOf(DeckParser.makeDeck(file.toString()));
+    DeckParser.checkValidDeck(deck);
+    return new Loaded(deck, DeckComposition.of(deck));
+  }
+
+  /**
+   * The result of loading one deck file.
+   *
+   * @param deck        the immutable deck
+   * @param composition its composition
+   */
+  private record Loaded(List<SanguineCard> deck, DeckComposition composition) {
+  }
+}
@@ -1,12 +1,17 @@
 package sanguine.model;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import sanguine.metrics.DeckLoadEvent;
 
 /**
  * This class takes in a file path and converts it to a list of Basic SanguineGame Cards or a deck.
@@ -15,8 +20,32 @@ import java.util.Map;
  * As a result, these files that contain a deck are checked for a valid deck
  * For example, we can not have more than 2 of the same card and a valid card must have
  * a name, value, cost, and a 5x5 influence grid.
+ *
+ * <p>The file is read once, in fixed size chunks, through a FileChannel that is always closed
+ * before makeDeck returns. Card titles and grid lines are parsed straight from the bytes; grid
+ * lines made of X, I and C are shared Strings, so only card names are allocated per card.</p>
+ *
+ * <p>Decks compiled by DeckCompiler are recognized by their magic number and memory mapped
+ * instead of parsed.</p>
  */
 public class DeckParser {
+  // the amount of bytes read from the file at a time
+  private static final int CHUNK_SIZE = 1 << 16;
+  // every 5 character grid line made of X, I and C, indexed by its base-3 code
+  private static final String[] GRID_LINES = new String[243];
+
+  static {
+    char[] symbols = {'X', 'I', 'C'};
+    for (int code = 0; code < GRID_LINES.length; code++) {
+      char[] line = new char[5];
+      int rest = code;
+      for (int i = 4; i >= 0; i--) {
+        line[i] = symbols[rest % 3];
+        rest /= 3;
+      }
+      GRID_LINES[code] = new String(line);
+    }
+  }
 
   // Public methods:
 
@@ -31,45 +60,85 @@ public class DeckParser {
    */
   public static List<SanguineCard> makeDeck(String path)
       throws IOException, IllegalArgumentException {
+    if (path == null) {
+      throw new IllegalArgumentException("path is null");
+    }
 
-    List<String> allStrings = parseToList(path);
-    List<SanguineCard> deck = new ArrayList<SanguineCard>();
+    DeckLoadEvent event = new DeckLoadEvent();
+    event.begin();
 
-    if (allStrings.size() % 6 != 0) {
-      throw new IllegalArgumentException("Invalid deck size");
-    }
+    try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+      boolean compiled = isCompiled(channel);
+      List<SanguineCard> deck = compiled ? loadCompiled(channel) : parseText(channel);
 
-    for (int i = 0; i < allStrings.size(); i += 6) {
+      if (event.shouldCommit()) {
+        event.path = path;
+        event.compiled = compiled;
+        event.bytes = channel.size();
+        event.cards = deck.size();
+        event.commit();
+      }
+      return deck;
+    }
+  }
 
-      List<String> influence = new ArrayList<>();
+  /**
+   * A method that ensures a given deck is valid.
+   * A valid deck must not contain more than two duplicates of a card
+   *
+   * @param deck the deck to be checked for validity
+   * @throws IllegalArgumentException if deck is invalid.
+   */
+  public static void checkValidDeck(List<SanguineCard> deck) {
+    Map<String, Integer> checked = new HashMap<>();
 
-      String title = allStrings.get(i);
-      String[] listedTitle = title.split(" ");
-      if (listedTitle.length != 3) {
-        throw new IllegalArgumentException("deck is invalid for title: " + title);
+    for (SanguineCard card : deck) {
+      // render each card once, it is both the key and the error message
+      String rendered = card.toString();
+      int count = checked.merge(rendered, 1, Integer::sum);
+      if (count > 2) {
+        throw new IllegalArgumentException("cannot have more than two iterations of a card: "
+            + rendered.substring(0, 5));
       }
+    }
+  }
+
+  // Private methods:
+
+  /**
+   * A method that parses a text deck: a title line followed by five grid lines per card.
+   *
+   * @param channel the open deck file
+   * @return the deck
+   * @throws IOException              if the file can not be read
+   * @throws IllegalArgumentException if the deck is invalid
+   */
+  private static List<SanguineCard> parseText(FileChannel channel) throws IOException {
+    List<SanguineCard> deck = new ArrayList<SanguineCard>();
+    LineReader reader = new LineReader(channel);
 
+    while (reader.nextLine()) {
+      String title = reader.lineAsString();
+      String[] listedTitle = splitTitle(reader);
 
-      for (int j = i + 1; j < i + 6; j++) {
-        influence.add(allStrings.get(j));
+      String[] influence = new String[5];
+      for (int row = 0; row < 5; row++) {
+        if (!reader.nextLine()) {
+          throw new IllegalArgumentException("Invalid deck size");
+        }
+        influence[row] = gridLine(reader);
       }
 
       // BasicSanguineCard constructor can throw an error, but if it does, the deck is invalid.
-      // Integer.parseInt can also throw an error.
-      int cost = 0;
-      int value = 0;
-      try {
-        cost = Integer.parseInt(listedTitle[1]);
-        value = Integer.parseInt(listedTitle[2]);
-      } catch (NumberFormatException e) {
-        throw new IllegalArgumentException("deck is invalid for title: " + title);
-      }
+      // Parsing the numbers can also throw an error.
+      int cost = parseNumber(listedTitle[1], title);
+      int value = parseNumber(listedTitle[2], title);
 
       BasicSanguineCard card = new BasicSanguineCard(
           listedTitle[0],
           cost,
           value,
-          influence
+          List.of(influence)
       );
 
       deck.add(card);
@@ -78,80 +147,258 @@ public class DeckParser {
   }
 
   /**
-   * A method that ensures a given deck is valid.
-   * A valid deck must not contain more than two duplicates of a card
+   * A method that checks whether a deck file starts with the compiled deck magic number.
    *
-   * @param deck the deck to be checked for validity
-   * @throws IllegalArgumentException if deck is invalid.
+   * @param channel the open deck file
+   * @return whether the deck is compiled
+   * @throws IOException if the file can not be read
    */
-  public static void checkValidDeck(List<SanguineCard> deck) {
-    Map<String, Integer> checked = new HashMap<>();
+  private static boolean isCompiled(FileChannel channel) throws IOException {
+    if (channel.size() < DeckCompiler.HEADER_SIZE) {
+      return false;
+    }
+    // positional reads leave the channel at the start of the file
+    ByteBuffer magic = ByteBuffer.allocate(4);
+    int read = 0;
+    while (magic.hasRemaining() && read >= 0) {
+      read = channel.read(magic, magic.position());
+    }
+    return magic.getInt(0) == DeckCompiler.MAGIC;
+  }
 
-    for (SanguineCard card : deck) {
-      if (checked.containsKey(card.toString())) {
-        if (checked.get(card.toString()) >= 2) {
-          throw new IllegalArgumentException("cannot have more than two iterations of a card: "
-              + card.toString().substring(0, 5));
-        }
-        checked.replace(card.toString(), checked.get(card.toString()) + 1);
-      } else {
-        checked.put(card.toString(), 1);
+  /**
+   * A method that loads a compiled deck by memory mapping it. Nothing is parsed or copied: every
+   * card reads its cost, value and influence mask from the mapping. The mapping stays valid after
+   * the file is closed.
+   *
+   * @param channel the open deck file
+   * @return the deck
+   * @throws IOException              if the file can not be mapped
+   * @throws IllegalArgumentException if the compiled deck is corrupt
+   */
+  private static List<SanguineCard> loadCompiled(FileChannel channel) throws IOException {
+    ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+        .asReadOnlyBuffer();
+    int size = mapped.capacity();
+
+    if (mapped.getInt(4) != DeckCompiler.VERSION) {
+      throw new IllegalArgumentException("unsupported compiled deck version: "
+          + mapped.getInt(4));
+    }
+    int nameCount = mapped.getInt(8);
+    int cardCount = mapped.getInt(12);
+    int cardOffset = mapped.getInt(16);
+    if (nameCount < 0 || cardCount < 0 || cardOffset < DeckCompiler.HEADER_SIZE
+        || (long) cardOffset + (long) cardCount * DeckCompiler.CARD_SIZE > size) {
+      throw new IllegalArgumentException("compiled deck is corrupt");
+    }
+
+    String[] names = new String[nameCount];
+    int position = DeckCompiler.HEADER_SIZE;
+    for (int i = 0; i < nameCount; i++) {
+      if (position + 2 > cardOffset) {
+        throw new IllegalArgumentException("compiled deck is corrupt");
+      }
+      int length = mapped.getShort(position);
+      if (length < 0 || position + 2 + length > cardOffset) {
+        throw new IllegalArgumentException("compiled deck is corrupt");
+      }
+      byte[] name = new byte[length];
+      mapped.get(position + 2, name);
+      names[i] = new String(name, StandardCharsets.UTF_8);
+      position += 2 + length;
+    }
+
+    List<SanguineCard> deck = new ArrayList<SanguineCard>(cardCount);
+    for (int i = 0; i < cardCount; i++) {
+      int offset = cardOffset + i * DeckCompiler.CARD_SIZE;
+      int nameIndex = mapped.getInt(offset);
+      int packed = mapped.getInt(offset + 4);
+      int cost = packed >>> DeckCompiler.COST_SHIFT;
+
+      if (nameIndex < 0 || nameIndex >= nameCount || cost < 1 || cost > 3
+          || (packed & DeckCompiler.CENTER_BIT) != 0 || mapped.getInt(offset + 8) <= 0) {
+        throw new IllegalArgumentException("compiled deck has an invalid card at " + i);
       }
+      deck.add(new CompiledSanguineCard(mapped, offset, names));
     }
+    return deck;
   }
 
   /**
-   * A method that parses the deck text file and produces a string of each line in the list.
+   * A method that splits the current title line on single spaces, like String.split(" ").
+   * A valid title has exactly three parts: the name, the cost and the value.
    *
-   * @param path the text file path containing a text representation of the deck.
-   * @return a list of Strings containing a line of the text file
-   * @throws IOException              if file path is invalid
-   * @throws IllegalArgumentException if deck is invalid
+   * @param reader the reader positioned on the title line
+   * @return the three parts of the title
+   * @throws IllegalArgumentException if the title does not have three parts
    */
-  private static List<String> parseToList(String path)
-      throws IOException, IllegalArgumentException {
+  private static String[] splitTitle(LineReader reader) {
+    byte[] line = reader.line;
+    int end = reader.length;
 
-    List<String> finalList = new ArrayList<>();
-    BufferedReader realReader = new BufferedReader(new FileReader(path));
-    BufferedReader countingReader = new BufferedReader(new FileReader(path));
+    // String.split drops trailing empty parts
+    while (end > 0 && line[end - 1] == ' ') {
+      end--;
+    }
 
-    try {
-      validSizeDeckFile(countingReader);
-    } catch (IllegalArgumentException | IOException ignored) {
-      System.out.print("");
+    String[] parts = new String[3];
+    int count = 0;
+    int start = 0;
+    for (int i = 0; i <= end; i++) {
+      if (i == end || line[i] == ' ') {
+        if (count == 3) {
+          throw new IllegalArgumentException("deck is invalid for title: "
+              + reader.lineAsString());
+        }
+        parts[count++] = new String(line, start, i - start, StandardCharsets.UTF_8);
+        start = i + 1;
+      }
     }
 
-    String next = realReader.readLine();
+    if (count != 3) {
+      throw new IllegalArgumentException("deck is invalid for title: " + reader.lineAsString());
+    }
+    return parts;
+  }
 
-    while (next != null) {
-      finalList.add(next);
-      next = realReader.readLine();
+  /**
+   * A method that returns the current line as a grid line. Lines of five X, I or C characters
+   * are shared; anything else is copied so the card constructor can report it.
+   *
+   * @param reader the reader positioned on a grid line
+   * @return the grid line
+   */
+  private static String gridLine(LineReader reader) {
+    if (reader.length != 5) {
+      return reader.lineAsString();
     }
 
-    return finalList;
+    int code = 0;
+    for (int i = 0; i < 5; i++) {
+      int symbol;
+      switch (reader.line[i]) {
+        case 'X' -> symbol = 0;
+        case 'I' -> symbol = 1;
+        case 'C' -> symbol = 2;
+        default -> {
+          return reader.lineAsString();
+        }
+      }
+      code = code * 3 + symbol;
+    }
+    return GRID_LINES[code];
   }
 
   /**
-   * A method that checks if the file given has cards in the correct format with 6 lines per card.
+   * A method that parses the cost or value of a card.
    *
-   * @param countingReader the buffered reader
-   * @throws IllegalArgumentException if countingReader is null or if deck is an incorrect size
-   * @throws IllegalStateException    if deck is invalid
-   * @throws IOException              if file path is invalid
+   * @param number the text of the number
+   * @param title  the title of the card, for the error message
+   * @return the number
+   * @throws IllegalArgumentException if the number can not be parsed
    */
-  private static void validSizeDeckFile(BufferedReader countingReader)
-      throws IllegalStateException, IOException {
-    if (countingReader == null) {
-      throw new IllegalArgumentException("Buffered Reader is null!");
+  private static int parseNumber(String number, String title) {
+    try {
+      return Integer.parseInt(number);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("deck is invalid for title: " + title);
     }
+  }
+
+  /**
+   * Reads a file line by line through a FileChannel, reusing one chunk buffer and one line
+   * buffer. Lines end with "\n", "\r\n" or "\r", like BufferedReader.readLine().
+   */
+  private static final class LineReader {
+    private final FileChannel channel;
+    private final ByteBuffer chunk;
+    private byte[] line;
+    private int length;
+    private boolean skipNewline;
+    private boolean endOfFile;
+
+    /**
+     * Reads lines from the start of an open file. The channel is closed by its owner.
+     *
+     * @param channel the file to read
+     */
+    LineReader(FileChannel channel) {
+      this.channel = channel;
+      chunk = ByteBuffer.allocate(CHUNK_SIZE);
+      chunk.flip();
+      line = new byte[128];
+    }
+
+    /**
+     * Moves to the next line of the file.
+     *
+     * @return false if there are no lines left
+     * @throws IOException if the file can not be read
+     */
+    boolean nextLine() throws IOException {
+      length = 0;
+      boolean readAny = false;
+
+      while (true) {
+        if (!chunk.hasRemaining() && !fill()) {
+          return readAny;
+        }
+        readAny = true;
 
-    int totalLines = 0;
+        byte next = chunk.get();
+        if (skipNewline) {
+          skipNewline = false;
+          if (next == '\n') {
+            readAny = false;
+            continue;
+          }
+        }
+        if (next == '\n') {
+          return true;
+        }
+        if (next == '\r') {
+          skipNewline = true;
+          return true;
+        }
 
-    while (countingReader.readLine() != null) {
-      totalLines++;
+        if (length == line.length) {
+          line = Arrays.copyOf(line, length * 2);
+        }
+        line[length++] = next;
+      }
     }
-    if (totalLines % 6 != 0) {
-      throw new IllegalArgumentException("Incorrect size deck given!");
+
+    /**
+     * Returns the current line as a String.
+     *
+     * @return the current line
+     */
+    String lineAsString() {
+      return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the next chunk of the file into the buffer.
+     *
+     * @return false if the end of the file was reached
+     * @throws IOException if the file can not be read
+     */
+    private boolean fill() throws IOException {
+      if (endOfFile) {
+        return false;
+      }
+      chunk.clear();
+      int read = channel.read(chunk);
+      while (read == 0) {
+        read = channel.read(chunk);
+      }
+      chunk.flip();
+      if (read < 0) {
+        endOfFile = true;
+        return false;
+      }
+      return true;
     }
   }
 }
@@ -0,0 +1,365 @@
+package sanguine.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a game journal written by GameJournalWriter and replays it.
+ *
+ * <p>The journal is memory mapped. Its header is decoded when it is opened; its moves are read
+ * straight out of the mapping every time they are asked for, so visiting them allocates nothing
+ * and runs at the speed of the mapping. A half written move at the end of the file is
+ * ignored.</p>
+ *
+ * <p>A journal can be replayed into a BasicSanguineModel, which checks every move against the
+ * rules, or visited move by move to drive any other engine.</p>
+ *
+ * <p>Usage: GameJournalReader &lt;journal&gt;</p>
+ */
+public final class GameJournalReader {
+
+  /**
+   * A visitor of the moves of a journal, in the order they were played.
+   */
+  @FunctionalInterface
+  public interface MoveVisitor {
+
+    /**
+     * Visits one move.
+     *
+     * @param handIndex the index of the card in the mover's hand, -1 for a pass
+     * @param row       the row of the cell, -1 for a pass
+     * @param col       the column of the cell, -1 for a pass
+     * @throws IOException if the visitor fails
+     */
+    void visit(int handIndex, int row, int col) throws IOException;
+  }
+
+  // Private fields:
+  private final ByteBuffer mapped;
+  private final int rows;
+  private final int cols;
+  private final int handSize;
+  private final long seed;
+  private final boolean seeded;
+  private final List<SanguineCard> redDeck;
+  private final List<SanguineCard> blueDeck;
+  private final int moveOffset;
+  private final int moveCount;
+
+  /**
+   * A constructor that decodes the header of a mapped journal.
+   *
+   * @param mapped the mapped journal
+   * @throws IllegalArgumentException if the journal is corrupt
+   */
+  private GameJournalReader(ByteBuffer mapped) {
+    int size = mapped.capacity();
+    if (size < GameJournalWriter.HEADER_SIZE || mapped.getInt(0) != GameJournalWriter.MAGIC) {
+      throw new IllegalArgumentException("not a game journal");
+    }
+    if (mapped.getInt(4) != GameJournalWriter.VERSION) {
+      throw new IllegalArgumentException("unsupported game journal version: "
+          + mapped.getInt(4));
+    }
+
+    this.mapped = mapped;
+    this.rows = mapped.getInt(8);
+    this.cols = mapped.getInt(12);
+    this.handSize = mapped.getInt(16);
+    this.seed = mapped.getLong(20);
+    int nameCount = mapped.getInt(28);
+    int cardCount = mapped.getInt(32);
+    int redSize = mapped.getInt(36);
+    int blueSize = mapped.getInt(40);
+    this.moveOffset = mapped.getInt(44);
+    this.seeded = mapped.getInt(48) != 0;
+    if (nameCount < 0 || cardCount < 0 || redSize < 0 || blueSize < 0
+        || moveOffset < GameJournalWriter.HEADER_SIZE || moveOffset > size) {
+      throw new IllegalArgumentException("game journal is corrupt");
+    }
+
+    String[] names = new String[nameCount];
+    int position = GameJournalWriter.HEADER_SIZE;
+    for (int i = 0; i < nameCount; i++) {
+      int length = position + 2 > moveOffset ? -1 : mapped.getShort(position);
+      if (length < 0 || position + 2 + length > moveOffset) {
+        throw new IllegalArgumentException("game journal is corrupt");
+      }
+      byte[] name = new byte[length];
+      mapped.get(position + 2, name);
+      names[i] = new String(name, StandardCharsets.UTF_8);
+      position += 2 + length;
+    }
+
+    int cardOffset = (position + 3) & ~3;
+    if ((long) cardOffset + (long) cardCount * DeckCompiler.CARD_SIZE
+        + ((long) redSize + blueSize) * 4 != moveOffset) {
+      throw new IllegalArgumentException("game journal is corrupt");
+    }
+    List<SanguineCard> cards = new ArrayList<>(cardCount);
+    for (int i = 0; i < cardCount; i++) {
+      int offset = cardOffset + i * DeckCompiler.CARD_SIZE;
+      int nameIndex = mapped.getInt(offset);
+      int packed = mapped.getInt(offset + 4);
+      int mask = packed & DeckCompiler.MASK_BITS;
+      if (nameIndex < 0 || nameIndex >= nameCount || (mask & DeckCompiler.CENTER_BIT) != 0) {
+        throw new IllegalArgumentException("game journal has an invalid card at " + i);
+      }
+      cards.add(new BasicSanguineCard(names[nameIndex], packed >>> DeckCompiler.COST_SHIFT,
+          mapped.getInt(offset + 8), CompiledSanguineCard.influenceRows(mask)));
+    }
+
+    int deckOffset = cardOffset + cardCount * DeckCompiler.CARD_SIZE;
+    this.redDeck = readDeck(deckOffset, redSize, cards);
+    this.blueDeck = readDeck(deckOffset + redSize * 4, blueSize, cards);
+    this.moveCount = (size - moveOffset) / GameJournalWriter.MOVE_SIZE;
+  }
+
+  /**
+   * Memory maps a journal and decodes its header. The mapping stays valid after the file is
+   * closed.
+   *
+   * @param path the path of the journal
+   * @return the reader
+   * @throws IOException              if the file can not be mapped
+   * @throws IllegalArgumentException if the path is null or the journal is corrupt
+   */
+  public static GameJournalReader open(Path path) throws IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("path is null");
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new GameJournalReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+          .asReadOnlyBuffer());
+    }
+  }
+
+  /**
+   * Prints the header of a journal, then replays it into a BasicSanguineModel and prints the
+   * final scores and how fast its moves were visited and replayed.
+   *
+   * @param args the journal path
+   * @throws IOException if the journal can not be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("usage: GameJournalReader <journal>");
+      System.exit(1);
+    }
+
+    GameJournalReader journal = open(Path.of(args[0]));
+    System.out.println(journal.getRows() + "x" + journal.getCols() + ", hand "
+        + journal.getHandSize()
+        + (journal.isSeeded() ? ", seed " + journal.getSeed() : ", fixed shuffle")
+        + ", decks " + journal.getRedDeck().size() + " and " + journal.getBlueDeck().size()
+        + " cards, " + journal.getMoveCount() + " moves");
+
+    long[] passes = new long[1];
+    long start = System.nanoTime();
+    journal.visitMoves((handIndex, row, col) -> passes[0] += handIndex < 0 ? 1 : 0);
+    long visited = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    BasicSanguineModel model = journal.replay();
+    long replayed = System.nanoTime() - start;
+
+    System.out.println(passes[0] + " passes, red " + model.getScore(PlayerColor.RED) + ", blue "
+        + model.getScore(PlayerColor.BLUE) + (model.isGameOver() ? ", game over" : ""));
+    System.out.printf("visited at %.0f moves/s, replayed at %.0f moves/s%n",
+        journal.getMoveCount() * 1e9 / Math.max(1, visited),
+        journal.getMoveCount() * 1e9 / Math.max(1, replayed));
+  }
+
+  /**
+   * Returns the rows of the board.
+   *
+   * @return the rows
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Returns the columns of the board.
+   *
+   * @return the columns
+   */
+  public int getCols() {
+    return cols;
+  }
+
+  /**
+   * Returns the hand size of both players.
+   *
+   * @return the hand size
+   */
+  public int getHandSize() {
+    return handSize;
+  }
+
+  /**
+   * Returns the seed of the game.
+   *
+   * @return the seed, 0 if the game used the fixed shuffle
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns whether the game was started with a seed, rather than the fixed shuffle.
+   *
+   * @return if the game has a seed
+   */
+  public boolean isSeeded() {
+    return seeded;
+  }
+
+  /**
+   * Returns the red deck, in the order it was given to startGame.
+   *
+   * @return the red deck
+   */
+  public List<SanguineCard> getRedDeck() {
+    return redDeck;
+  }
+
+  /**
+   * Returns the blue deck, in the order it was given to startGame.
+   *
+   * @return the blue deck
+   */
+  public List<SanguineCard> getBlueDeck() {
+    return blueDeck;
+  }
+
+  /**
+   * Returns the amount of moves recorded.
+   *
+   * @return the amount of moves
+   */
+  public int getMoveCount() {
+    return moveCount;
+  }
+
+  /**
+   * Returns one move.
+   *
+   * @param index the index of the move, from zero
+   * @return the move
+   * @throws IllegalArgumentException if there is no such move
+   */
+  public Perft.Move getMove(int index) {
+    if (index < 0 || index >= moveCount) {
+      throw new IllegalArgumentException("no move " + index + " of " + moveCount);
+    }
+    int packed = mapped.getInt(moveOffset + index * GameJournalWriter.MOVE_SIZE);
+    return packed == GameJournalWriter.PASS ? Perft.Move.PASS
+        : new Perft.Move(packed >>> 24, packed >>> 12 & 0xFFF, packed & 0xFFF);
+  }
+
+  /**
+   * Visits every move in order, without allocating.
+   *
+   * @param visitor the visitor
+   * @throws IOException              if the visitor fails
+   * @throws IllegalArgumentException if the visitor is null
+   */
+  public void visitMoves(MoveVisitor visitor) throws IOException {
+    if (visitor == null) {
+      throw new IllegalArgumentException("visitor is null");
+    }
+    int end = moveOffset + moveCount * GameJournalWriter.MOVE_SIZE;
+    for (int offset = moveOffset; offset < end; offset += GameJournalWriter.MOVE_SIZE) {
+      int packed = mapped.getInt(offset);
+      if (packed == GameJournalWriter.PASS) {
+        visitor.visit(-1, -1, -1);
+      } else {
+        visitor.visit(packed >>> 24, packed >>> 12 & 0xFFF, packed & 0xFFF);
+      }
+    }
+  }
+
+  /**
+   * Starts a new game as the journal's game started.
+   *
+   * @return the started game, before any move
+   * @throws IOException if the model fails to start
+   */
+  public BasicSanguineModel start() throws IOException {
+    BasicSanguineModel model = new BasicSanguineModel();
+    if (seeded) {
+      model.startGame(rows, cols, new ArrayList<>(redDeck), new ArrayList<>(blueDeck), handSize,
+          seed);
+    } else {
+      model.startGame(rows, cols, new ArrayList<>(redDeck), new ArrayList<>(blueDeck), handSize);
+    }
+    return model;
+  }
+
+  /**
+   * Starts a new game and plays every move of the journal on it.
+   *
+   * <p>The model records a move once its card is on the board, even if the move then throws,
+   * such as when the influence stops at pawns of the other player's. Replaying such a move throws
+   * the same way after placing the card, and the replay carries on past it.</p>
+   *
+   * @return the game after the last move
+   * @throws IOException              if the model fails to start or draw
+   * @throws IllegalArgumentException if a move is not legal in the game, such as a hand index
+   *                                  past the end of the mover's hand
+   */
+  public BasicSanguineModel replay() throws IOException {
+    BasicSanguineModel model = start();
+    visitMoves((handIndex, row, col) -> {
+      if (handIndex < 0) {
+        model.passTurn();
+      } else {
+        List<SanguineCard> hand = model.getTurn().getHand();
+        if (handIndex >= hand.size()) {
+          throw new IllegalArgumentException("hand index " + handIndex + " is past the hand");
+        }
+        boolean empty = !model.board().cellAt(row, col).containsCard();
+        try {
+          model.playTurn(row, col, hand.get(handIndex));
+        } catch (IllegalArgumentException | IllegalStateException exo) {
+          // a move that threw after placing its card was recorded, and throws the same way again
+          if (!empty || !model.board().cellAt(row, col).containsCard()) {
+            throw exo;
+          }
+        }
+      }
+    });
+    return model;
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that reads a deck as card indexes.
+   *
+   * @param offset the offset of the deck
+   * @param size   the amount of cards in the deck
+   * @param cards  the cards, by index
+   * @return the deck
+   * @throws IllegalArgumentException if an index is out of range
+   */
+  private List<SanguineCard> readDeck(int offset, int size, List<SanguineCard> cards) {
+    List<SanguineCard> deck = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int index = mapped.getInt(offset + i * 4);
+      if (index < 0 || index >= cards.size()) {
+        throw new IllegalArgumentException("game journal has an invalid deck card at " + i);
+      }
+      deck.add(cards.get(index));
+    }
+    return List.copyOf(deck);
+  }
+}
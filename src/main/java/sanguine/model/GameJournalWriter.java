@@ -0,0 +1,287 @@
+package sanguine.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the record of one game to an append-only binary journal, read back by
+ * GameJournalReader. A journal is laid out as:
+ * <pre>
+ * header   magic (int), version (int), rows (int), cols (int), hand size (int), seed (long),
+ *          name count (int), card count (int), red deck size (int), blue deck size (int),
+ *          move offset (int), seeded (int, 1 if the decks were shuffled with the seed, 0 if
+ *          the game used the fixed shuffle)
+ * names    name count times: length in bytes (short), UTF-8 bytes
+ * cards    card count times: name index (int), influence mask | cost &lt;&lt; 25 (int), value (int)
+ * decks    the red deck then the blue deck, as card indexes (int), in the order given to
+ *          startGame
+ * moves    at move offset, one per turn: hand index &lt;&lt; 24 | row &lt;&lt; 12 | col (int),
+ *          or -1 for a pass
+ * </pre>
+ * Every number is big endian. Cards are stored once each and packed like a compiled deck, so
+ * only cards with their 'C' at the center can be recorded.
+ *
+ * <p>Moves are collected in a buffer and written to the file channel a batch at a time, when the
+ * buffer fills, on flush and on close. A journal cut short by a crash loses at most the moves
+ * still in the buffer; a half written move at the end is ignored by the reader.</p>
+ */
+public final class GameJournalWriter implements AutoCloseable {
+  // Format constants, shared with GameJournalReader:
+  static final int MAGIC = 0x0053474A; // "\0SGJ"
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 52;
+  static final int MOVE_SIZE = 4;
+  static final int PASS = -1;
+  static final int MAX_HAND_INDEX = 0x7F;
+  static final int MAX_COORDINATE = 0xFFF;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  // Private fields:
+  private final FileChannel channel;
+  private final ByteBuffer buffer;
+  private boolean started;
+  private long moves;
+
+  /**
+   * A constructor that creates the journal file, replacing any file already there. Nothing is
+   * written until the game starts.
+   *
+   * @param path the path of the journal
+   * @throws IOException              if the file can not be created
+   * @throws IllegalArgumentException if the path is null
+   */
+  public GameJournalWriter(Path path) throws IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("path is null");
+    }
+    this.channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+    this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  }
+
+  /**
+   * Writes the header of a game started with a seed: everything needed to start it again.
+   * Called once, before any move.
+   *
+   * @param rows     the rows of the board
+   * @param cols     the columns of the board
+   * @param handSize the hand size of both players
+   * @param seed     the seed of the game
+   * @param redDeck  the red deck, in the order given to startGame
+   * @param blueDeck the blue deck, in the order given to startGame
+   * @throws IOException              if the header can not be written
+   * @throws IllegalStateException    if the header has already been written
+   * @throws IllegalArgumentException if a deck is null or holds a card the format can not, or
+   *                                  the board or hand is too large for it
+   */
+  public void writeHeader(int rows, int cols, int handSize, long seed,
+                          List<SanguineCard> redDeck, List<SanguineCard> blueDeck)
+      throws IOException {
+    writeHeader(rows, cols, handSize, true, seed, redDeck, blueDeck);
+  }
+
+  /**
+   * Writes the header of a game started without a seed, which used the fixed shuffle.
+   *
+   * @param rows     the rows of the board
+   * @param cols     the columns of the board
+   * @param handSize the hand size of both players
+   * @param redDeck  the red deck, in the order given to startGame
+   * @param blueDeck the blue deck, in the order given to startGame
+   * @throws IOException              if the header can not be written
+   * @throws IllegalStateException    if the header has already been written
+   * @throws IllegalArgumentException if a deck is null or holds a card the format can not, or
+   *                                  the board or hand is too large for it
+   */
+  public void writeHeader(int rows, int cols, int handSize, List<SanguineCard> redDeck,
+                          List<SanguineCard> blueDeck) throws IOException {
+    writeHeader(rows, cols, handSize, false, 0, redDeck, blueDeck);
+  }
+
+  /**
+   * Records a card placed from the mover's hand.
+   *
+   * @param handIndex the index of the card in the mover's hand before the move
+   * @param row       the row of the cell
+   * @param col       the column of the cell
+   * @throws IOException              if a full batch can not be written
+   * @throws IllegalStateException    if the header has not been written
+   * @throws IllegalArgumentException if the move does not fit the format
+   */
+  public void writePlace(int handIndex, int row, int col) throws IOException {
+    if (handIndex < 0 || handIndex > MAX_HAND_INDEX || row < 0 || row > MAX_COORDINATE
+        || col < 0 || col > MAX_COORDINATE) {
+      throw new IllegalArgumentException("move can not be recorded: " + handIndex + " at "
+          + row + "," + col);
+    }
+    writeMove(handIndex << 24 | row << 12 | col);
+  }
+
+  /**
+   * Records a pass.
+   *
+   * @throws IOException           if a full batch can not be written
+   * @throws IllegalStateException if the header has not been written
+   */
+  public void writePass() throws IOException {
+    writeMove(PASS);
+  }
+
+  /**
+   * Returns the amount of moves recorded so far, written or still buffered.
+   *
+   * @return the amount of moves
+   */
+  public long getMoveCount() {
+    return moves;
+  }
+
+  /**
+   * Writes every buffered move to the file.
+   *
+   * @throws IOException if the moves can not be written
+   */
+  public void flush() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Writes every buffered move and closes the file. Closing a closed journal does nothing.
+   *
+   * @throws IOException if the moves can not be written
+   */
+  @Override
+  public void close() throws IOException {
+    if (!channel.isOpen()) {
+      return;
+    }
+    try {
+      flush();
+    } finally {
+      channel.close();
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that writes the header for both writeHeader methods.
+   *
+   * @param rows     the rows of the board
+   * @param cols     the columns of the board
+   * @param handSize the hand size of both players
+   * @param seeded   whether the decks were shuffled with the seed
+   * @param seed     the seed of the game, if seeded
+   * @param redDeck  the red deck, in the order given to startGame
+   * @param blueDeck the blue deck, in the order given to startGame
+   * @throws IOException if the header can not be written
+   */
+  private void writeHeader(int rows, int cols, int handSize, boolean seeded, long seed,
+                           List<SanguineCard> redDeck, List<SanguineCard> blueDeck)
+      throws IOException {
+    if (started) {
+      throw new IllegalStateException("header has already been written");
+    }
+    if (redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("deck is null");
+    }
+    if (rows - 1 > MAX_COORDINATE || cols - 1 > MAX_COORDINATE) {
+      throw new IllegalArgumentException("board is too large to record: " + rows + "x" + cols);
+    }
+    // refused here rather than by writePlace, which runs after the card is already down
+    if (handSize - 1 > MAX_HAND_INDEX) {
+      throw new IllegalArgumentException("hand is too large to record: " + handSize);
+    }
+
+    Map<String, Integer> cardIndexes = new LinkedHashMap<>();
+    List<SanguineCard> cards = new ArrayList<>();
+    Map<String, Integer> nameIndexes = new HashMap<>();
+    List<byte[]> names = new ArrayList<>();
+    int namesSize = 0;
+
+    for (List<SanguineCard> deck : List.of(redDeck, blueDeck)) {
+      for (SanguineCard card : deck) {
+        if (cardIndexes.containsKey(card.toString())) {
+          continue;
+        }
+        if (!CompiledSanguineCard.influenceRows(card.getInfluenceMask())
+            .equals(card.getStringInfluence())) {
+          throw new IllegalArgumentException("card can only have C at its center: "
+              + card.getName());
+        }
+        cardIndexes.put(card.toString(), cards.size());
+        cards.add(card);
+        if (!nameIndexes.containsKey(card.getName())) {
+          byte[] name = card.getName().getBytes(StandardCharsets.UTF_8);
+          if (name.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("card name is too long: " + card.getName());
+          }
+          nameIndexes.put(card.getName(), names.size());
+          names.add(name);
+          namesSize += 2 + name.length;
+        }
+      }
+    }
+
+    // cards start on a 4 byte boundary, so the decks and moves after them do too
+    int cardOffset = (HEADER_SIZE + namesSize + 3) & ~3;
+    int moveOffset = cardOffset + cards.size() * DeckCompiler.CARD_SIZE
+        + (redDeck.size() + blueDeck.size()) * 4;
+    ByteBuffer header = ByteBuffer.allocate(moveOffset);
+
+    header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols).putInt(handSize)
+        .putLong(seed).putInt(names.size()).putInt(cards.size()).putInt(redDeck.size())
+        .putInt(blueDeck.size()).putInt(moveOffset).putInt(seeded ? 1 : 0);
+    for (byte[] name : names) {
+      header.putShort((short) name.length).put(name);
+    }
+    header.position(cardOffset);
+    for (SanguineCard card : cards) {
+      header.putInt(nameIndexes.get(card.getName()))
+          .putInt(card.getInfluenceMask() | card.getCost() << DeckCompiler.COST_SHIFT)
+          .putInt(card.getValue());
+    }
+    for (List<SanguineCard> deck : List.of(redDeck, blueDeck)) {
+      for (SanguineCard card : deck) {
+        header.putInt(cardIndexes.get(card.toString()));
+      }
+    }
+
+    header.flip();
+    while (header.hasRemaining()) {
+      channel.write(header);
+    }
+    started = true;
+  }
+
+  /**
+   * A helper method that buffers one packed move, writing the batch out first if it is full.
+   *
+   * @param packed the packed move
+   * @throws IOException if a full batch can not be written
+   */
+  private void writeMove(int packed) throws IOException {
+    if (!started) {
+      throw new IllegalStateException("header has not been written");
+    }
+    if (buffer.remaining() < MOVE_SIZE) {
+      flush();
+    }
+    buffer.putInt(packed);
+    moves++;
+  }
+}
@@ -0,0 +1,97 @@
+package sanguine.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Derives the seeds of a batch of games, and independent random streams for the threads playing
+ * them, from one master seed.
+ *
+ * <p>A game's seed depends only on the master seed and the game's index, not on which thread
+ * plays it or in what order, so a batch run on any number of threads starts every game the same
+ * way and can be reproduced from its master seed alone. Seeds are spread with the SplitMix64
+ * mixing function SplittableRandom is built on, so neighbouring indexes give unrelated seeds.</p>
+ *
+ * <p>Streams are SplittableRandom instances and must not be shared between threads; each thread
+ * takes its own with threadRandom, or splits one off a stream it owns.</p>
+ */
+public final class GameSeeds {
+  // the odd constant SplittableRandom steps its seed by
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+  // keeps thread streams apart from game seeds of the same index
+  private static final long THREAD_SALT = 0x5851F42D4C957F2DL;
+  // keeps a game's stream apart from the stream startGame shuffles its decks with
+  private static final long GAME_SALT = 0x2545F4914F6CDD1DL;
+
+  private final long masterSeed;
+
+  /**
+   * A constructor that takes in the master seed of a batch.
+   *
+   * @param masterSeed the master seed
+   */
+  public GameSeeds(long masterSeed) {
+    this.masterSeed = masterSeed;
+  }
+
+  /**
+   * Returns the master seed of the batch.
+   *
+   * @return the master seed
+   */
+  public long getMasterSeed() {
+    return masterSeed;
+  }
+
+  /**
+   * Returns the seed of a game, to be passed to startGame.
+   *
+   * @param game the index of the game in the batch, from zero
+   * @return the seed
+   * @throws IllegalArgumentException if the index is negative
+   */
+  public long gameSeed(long game) {
+    if (game < 0) {
+      throw new IllegalArgumentException("game index is negative: " + game);
+    }
+    return mix(masterSeed + (game + 1) * GOLDEN_GAMMA);
+  }
+
+  /**
+   * Returns a new random stream for a game, for anything in the game besides the shuffle, such
+   * as a strategy that breaks ties at random. startGame shuffles from a stream seeded with the
+   * game's seed, so this one is seeded apart from it and never repeats the deal.
+   *
+   * @param game the index of the game in the batch, from zero
+   * @return the stream
+   * @throws IllegalArgumentException if the index is negative
+   */
+  public SplittableRandom gameRandom(long game) {
+    return new SplittableRandom(mix(gameSeed(game) ^ GAME_SALT));
+  }
+
+  /**
+   * Returns a new random stream for a worker thread, independent of every game's stream.
+   *
+   * @param thread the index of the thread, from zero
+   * @return the stream
+   * @throws IllegalArgumentException if the index is negative
+   */
+  public SplittableRandom threadRandom(int thread) {
+    if (thread < 0) {
+      throw new IllegalArgumentException("thread index is negative: " + thread);
+    }
+    return new SplittableRandom(mix((masterSeed ^ THREAD_SALT) + (thread + 1L) * GOLDEN_GAMMA));
+  }
+
+  /**
+   * A helper method that scrambles the bits of a seed, as SplitMix64 does.
+   *
+   * @param seed the seed
+   * @return the scrambled seed
+   */
+  private static long mix(long seed) {
+    seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+    seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+    return seed ^ (seed >>> 31);
+  }
+}
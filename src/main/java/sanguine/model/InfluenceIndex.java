@@ -0,0 +1,116 @@
+package sanguine.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The reverse of a card's influence grid: from a cell, the offsets of every cell the card could
+ * be placed on to influence it.
+ *
+ * <p>A grid is a fixed 5x5 pattern around the card, so a card placed at (r, c) influences
+ * (r + dr, c + dc) for each of its influence offsets, and a cell is influenced from (r - dr,
+ * c - dc). The offsets are worked out once per influence mask and shared by every card with that
+ * pattern, ordered so the sources they give run by row, then column. Checking only those sources
+ * answers "which placements touch this cell" in time proportional to the card's influence
+ * rather than to the board.</p>
+ */
+public final class InfluenceIndex {
+  // indexes shared by every card, keyed by influence mask
+  private static final Map<Integer, InfluenceIndex> INDEXES = new ConcurrentHashMap<>();
+  // how far from its cell a card's influence reaches
+  private static final int REACH = 2;
+
+  private final int[] rowOffsets;
+  private final int[] colOffsets;
+
+  /**
+   * A constructor that reverses an influence mask.
+   *
+   * @param mask the influence mask
+   */
+  private InfluenceIndex(int mask) {
+    int size = Integer.bitCount(mask);
+    this.rowOffsets = new int[size];
+    this.colOffsets = new int[size];
+
+    // the highest bit is the source furthest up and left of the cell, so walk down from it
+    int next = 0;
+    for (int bit = 24; bit >= 0; bit--) {
+      if ((mask >> bit & 1) == 1) {
+        rowOffsets[next] = REACH - bit / 5;
+        colOffsets[next] = REACH - bit % 5;
+        next++;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of a card's influence.
+   *
+   * @param card the card
+   * @return the index, shared with every card of the same influence
+   * @throws IllegalArgumentException if the card is null
+   */
+  public static InfluenceIndex of(SanguineCard card) {
+    if (card == null) {
+      throw new IllegalArgumentException("card is null");
+    }
+    return INDEXES.computeIfAbsent(card.getInfluenceMask(), InfluenceIndex::new);
+  }
+
+  /**
+   * Returns how many cells the card influences, which is how many cells it can be placed on to
+   * influence a given one.
+   *
+   * @return the amount of source offsets
+   */
+  public int size() {
+    return rowOffsets.length;
+  }
+
+  /**
+   * Returns the row offset of a source: a card placed on (row + getRowOffset(i), col +
+   * getColOffset(i)) influences (row, col).
+   *
+   * @param index the source, from 0 to size() - 1
+   * @return the row offset of the source
+   */
+  public int getRowOffset(int index) {
+    return rowOffsets[index];
+  }
+
+  /**
+   * Returns the column offset of a source, as for getRowOffset.
+   *
+   * @param index the source, from 0 to size() - 1
+   * @return the column offset of the source
+   */
+  public int getColOffset(int index) {
+    return colOffsets[index];
+  }
+
+  /**
+   * Adds the placements of a card that influence a cell and that playTurn would accept from a
+   * player, by row, then column.
+   *
+   * @param board the board
+   * @param card  the card
+   * @param color the player
+   * @param row   the row of the influenced cell
+   * @param col   the column of the influenced cell
+   * @param into  the list to add the placements to
+   */
+  static void addPlacements(SanguineGameBoard board, SanguineCard card, PlayerColor color,
+                            int row, int col, List<Placement> into) {
+    InfluenceIndex index = of(card);
+    for (int source = 0; source < index.size(); source++) {
+      int fromRow = row + index.rowOffsets[source];
+      int fromCol = col + index.colOffsets[source];
+      if (fromRow >= 0 && fromRow < board.getRows() && fromCol >= 0 && fromCol < board.getCols()
+          && board.cellAt(fromRow, fromCol).accepts(card, color)) {
+        into.add(new Placement(card, fromRow, fromCol));
+      }
+    }
+  }
+}
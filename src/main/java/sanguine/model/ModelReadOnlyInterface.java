@@ -23,6 +23,16 @@ public interface ModelReadOnlyInterface {
   SanguineGameBoard getBoard() throws IOException;
 
 
+  /**
+   * Returns a live, read only view of the board. Nothing is copied, so the view always shows the
+   * current state of the game. Prefer this over getBoard() when only reading cells.
+   *
+   * @return a read only view of the board
+   * @throws IllegalStateException when the game has not started
+   */
+  BoardView getBoardView() throws IllegalStateException;
+
+
   /**
    * When both players pass their turn in a row.
    *
@@ -134,6 +144,56 @@ public interface ModelReadOnlyInterface {
                                 SanguinePlayer player)
       throws IllegalStateException, IllegalArgumentException;
 
+  /**
+   * Returns the threats on a cell: the placements the player who does not own it could make
+   * from their current hand whose influence would flip the cell's pawns to them. Placements are
+   * listed in the order of that player's hand, then by row and column. Only a cell of three pawns
+   * can be flipped, and a placement whose influence stops at one or two of the owner's pawns
+   * before reaching the cell is left out, as playTurn would not flip it.
+   *
+   * <p>The model keeps its threats up to date as moves are made, so this is a lookup rather than
+   * a simulation of every card on every cell.</p>
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the threats, empty if the cell holds fewer than three pawns
+   * @throws IllegalStateException    if the game has not been started
+   * @throws IllegalArgumentException if the cell is not on the board
+   */
+  List<Placement> getThreats(int row, int col)
+      throws IllegalStateException, IllegalArgumentException;
+
+  /**
+   * Returns the placements a player could make from their current hand whose influence reaches
+   * a cell, whoever holds it. Placements are listed in the order of the hand, then by row and
+   * column.
+   *
+   * <p>Only the cells each card could influence the cell from are checked, through the card's
+   * InfluenceIndex, so this takes time in proportion to the hand rather than the board.</p>
+   *
+   * @param color the player
+   * @param row   the row of the cell
+   * @param col   the column of the cell
+   * @return the placements
+   * @throws IllegalStateException    if the game has not been started
+   * @throws IllegalArgumentException if the color is null or the cell is not on the board
+   */
+  List<Placement> getPlacementsTouching(PlayerColor color, int row, int col)
+      throws IllegalStateException, IllegalArgumentException;
+
+  /**
+   * Returns a private, playable copy of the game for simulating moves. Moves on the fork follow
+   * the same rules as the game, through the same code, but change neither the game nor any other
+   * fork. The fork has no listeners and records nothing.
+   *
+   * <p>Forking is cheap: the fork shares the board's rows and the players' hands and decks with
+   * the game, and either side copies a row or a player only when it is about to change it.</p>
+   *
+   * @return the fork
+   * @throws IllegalStateException if the game has not been started
+   */
+  SanguineModel<SanguineCard> fork() throws IllegalStateException;
+
   /**
    * A method that returns a list of subscribers.
    *
@@ -0,0 +1,332 @@
+package sanguine.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A move generation counter for BasicSanguineModel, in the style of chess perft: it walks every
+ * line of play from a fixed starting position to a given depth and counts the positions reached
+ * at every ply.
+ *
+ * <p>The moves of a position are passing, and every card in the mover's hand (by hand index, so
+ * two copies of a card are two moves) on every cell where placeCardLegal accepts it. Each move is
+ * applied with playTurn. A move placeCardLegal accepts but playTurn then throws on is counted as
+ * rejected instead of being followed: it marks a disagreement inside the model, and any faster
+ * engine must reproduce both counts to match it. A finished game has no moves.</p>
+ *
+ * <p>Every move is played on a fork of the position before it, so a position costs one move and
+ * the rows it changes rather than a replay of its line. The counts are exact; the speed is only a
+ * baseline for faster engines.</p>
+ *
+ * <p>Usage: Perft &lt;rows&gt; &lt;cols&gt; &lt;hand size&gt; &lt;seed&gt; &lt;depth&gt;
+ * [red deck] [blue deck]</p>
+ */
+public final class Perft {
+
+  /**
+   * This class only has static methods.
+   */
+  private Perft() {
+  }
+
+  /**
+   * Prints the counts of a position to standard out: the positions and rejected moves at every
+   * ply, the positions at the last ply under every root move, and the speed.
+   *
+   * @param args the rows, columns, hand size, seed and depth, then optionally the red and blue
+   *             deck paths, which default to the example deck
+   * @throws IOException if a deck can not be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 5 || args.length > 7) {
+      System.err.println("usage: Perft <rows> <cols> <hand size> <seed> <depth> "
+          + "[red deck] [blue deck]");
+      System.exit(1);
+    }
+
+    String redDeck = args.length > 5 ? args[5] : DeckCache.DEFAULT_DECK_PATH;
+    String blueDeck = args.length > 6 ? args[6] : redDeck;
+    Position position = new Position(Integer.parseInt(args[0]), Integer.parseInt(args[1]),
+        Integer.parseInt(args[2]), Long.parseLong(args[3]), DeckCache.get(redDeck),
+        DeckCache.get(blueDeck));
+    int depth = Integer.parseInt(args[4]);
+
+    System.out.println("position " + position.rows() + "x" + position.cols() + ", hand "
+        + position.handSize() + ", seed " + position.seed() + ", decks " + redDeck + " "
+        + blueDeck);
+    Result result = run(position, depth);
+
+    for (int ply = 1; ply <= depth; ply++) {
+      System.out.println("depth " + ply + ": " + result.positions()[ply] + " positions, "
+          + result.rejected()[ply] + " rejected");
+    }
+    System.out.println("root moves at depth " + depth + ":");
+    for (Map.Entry<String, Long> entry : result.rootMoves().entrySet()) {
+      System.out.println("  " + entry.getKey() + ": " + entry.getValue());
+    }
+    System.out.printf("%d positions in %.3f s, %.0f positions/s%n", result.totalPositions(),
+        result.nanos() / 1e9, result.positionsPerSecond());
+  }
+
+  /**
+   * Counts the positions reached from a starting position at every ply up to a depth.
+   *
+   * @param position the starting position
+   * @param depth    the plies to search, at least one
+   * @return the counts
+   * @throws IOException              if the model fails to start
+   * @throws IllegalArgumentException if the position is null or the depth is below one
+   */
+  public static Result run(Position position, int depth) throws IOException {
+    if (position == null) {
+      throw new IllegalArgumentException("position is null");
+    }
+    if (depth < 1) {
+      throw new IllegalArgumentException("depth must be at least one: " + depth);
+    }
+
+    long[] positions = new long[depth + 1];
+    long[] rejected = new long[depth + 1];
+    Map<String, Long> rootMoves = new LinkedHashMap<>();
+    positions[0] = 1;
+
+    long start = System.nanoTime();
+    BasicSanguineModel root = position.start();
+    List<Move> line = new ArrayList<>();
+
+    for (Move move : legalMoves(root)) {
+      line.add(move);
+      BasicSanguineModel child = play(root, move);
+      if (child == null) {
+        rejected[1]++;
+      } else {
+        positions[1]++;
+        long leaves = search(line, child, depth, positions, rejected);
+        rootMoves.put(move.describe(root.getTurn().getHand()), leaves);
+      }
+      line.remove(line.size() - 1);
+    }
+
+    return new Result(positions, rejected, rootMoves, System.nanoTime() - start);
+  }
+
+  /**
+   * Returns every move of the player whose turn it is: pass first, then every card in hand on
+   * every cell placeCardLegal accepts, by hand index, then row, then column.
+   *
+   * @param model the started game
+   * @return the moves, empty if the game is over
+   * @throws IllegalArgumentException if the model is null
+   */
+  public static List<Move> legalMoves(ModelReadOnlyInterface model) {
+    if (model == null) {
+      throw new IllegalArgumentException("model is null");
+    }
+    if (model.isGameOver()) {
+      return List.of();
+    }
+
+    SanguinePlayer player = model.getTurn();
+    List<SanguineCard> hand = player.getHand();
+    BoardView board = model.getBoardView();
+    List<Move> moves = new ArrayList<>();
+    moves.add(Move.PASS);
+
+    for (int index = 0; index < hand.size(); index++) {
+      for (int row = 0; row < board.getRows(); row++) {
+        for (int col = 0; col < board.getCols(); col++) {
+          if (model.placeCardLegal(row, col, hand.get(index), player)) {
+            moves.add(new Move(index, row, col));
+          }
+        }
+      }
+    }
+    return moves;
+  }
+
+  /**
+   * A deterministic starting position: the board size, hand size and both decks, which are
+   * shuffled with the seed before the game starts.
+   *
+   * @param rows     the rows of the board
+   * @param cols     the columns of the board
+   * @param handSize the hand size of both players
+   * @param seed     the seed of the shuffle
+   * @param deck1    the red deck, in file order
+   * @param deck2    the blue deck, in file order
+   */
+  public record Position(int rows, int cols, int handSize, long seed, List<SanguineCard> deck1,
+                         List<SanguineCard> deck2) {
+
+    /**
+     * A constructor that makes the decks unmodifiable.
+     *
+     * @throws IllegalArgumentException if a deck is null
+     */
+    public Position {
+      if (deck1 == null || deck2 == null) {
+        throw new IllegalArgumentException("deck is null");
+      }
+      deck1 = List.copyOf(deck1);
+      deck2 = List.copyOf(deck2);
+    }
+
+    /**
+     * Starts a new game at this position.
+     *
+     * @return the started game
+     * @throws IOException if the model fails to start
+     */
+    public BasicSanguineModel start() throws IOException {
+      List<SanguineCard> red = new ArrayList<>(deck1);
+      List<SanguineCard> blue = new ArrayList<>(deck2);
+      Random random = new Random(seed);
+      Collections.shuffle(red, random);
+      Collections.shuffle(blue, random);
+
+      BasicSanguineModel model = new BasicSanguineModel();
+      model.startGame(rows, cols, red, blue, handSize);
+      return model;
+    }
+  }
+
+  /**
+   * One move: a pass, or the card at a hand index placed on a cell.
+   *
+   * @param handIndex the index of the card in the mover's hand, -1 for a pass
+   * @param row       the row of the cell, -1 for a pass
+   * @param col       the column of the cell, -1 for a pass
+   */
+  public record Move(int handIndex, int row, int col) {
+    public static final Move PASS = new Move(-1, -1, -1);
+
+    /**
+     * Returns whether the move is a pass.
+     *
+     * @return if the move passes
+     */
+    public boolean isPass() {
+      return handIndex < 0;
+    }
+
+    /**
+     * Plays the move on a game.
+     *
+     * @param model the game
+     * @throws IOException if the model fails to draw
+     */
+    void apply(BasicSanguineModel model) throws IOException {
+      if (isPass()) {
+        model.passTurn();
+      } else {
+        model.playTurn(row, col, model.getTurn().getHand().get(handIndex));
+      }
+    }
+
+    /**
+     * Describes the move, such as "pass" or "Security#0@1,0".
+     *
+     * @param hand the mover's hand
+     * @return the description
+     */
+    String describe(List<SanguineCard> hand) {
+      if (isPass()) {
+        return "pass";
+      }
+      return hand.get(handIndex).getName() + "#" + handIndex + "@" + row + "," + col;
+    }
+  }
+
+  /**
+   * The counts of a search.
+   *
+   * @param positions the positions reached at every ply, with the start at ply zero
+   * @param rejected  the moves generated at every ply that playTurn threw on
+   * @param rootMoves the positions at the last ply under every root move, in move order
+   * @param nanos     how long the search took
+   */
+  public record Result(long[] positions, long[] rejected, Map<String, Long> rootMoves,
+                       long nanos) {
+
+    /**
+     * Returns the positions reached at every ply after the start.
+     *
+     * @return the total positions
+     */
+    public long totalPositions() {
+      long total = 0;
+      for (int ply = 1; ply < positions.length; ply++) {
+        total += positions[ply];
+      }
+      return total;
+    }
+
+    /**
+     * Returns the positions reached per second.
+     *
+     * @return the speed
+     */
+    public double positionsPerSecond() {
+      return nanos == 0 ? 0 : totalPositions() * 1e9 / nanos;
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that counts the positions under a position reached by a line.
+   *
+   * @param line      the line from the start to the position, extended and restored in place
+   * @param model     the game at the position
+   * @param depth     the plies to search in total
+   * @param positions the positions reached at every ply, added to
+   * @param rejected  the moves rejected at every ply, added to
+   * @return the positions at the last ply under this one
+   * @throws IOException if the model fails to draw
+   */
+  private static long search(List<Move> line, BasicSanguineModel model, int depth,
+                             long[] positions, long[] rejected) throws IOException {
+    if (line.size() == depth) {
+      return 1;
+    }
+
+    long leaves = 0;
+    int ply = line.size() + 1;
+    for (Move move : legalMoves(model)) {
+      line.add(move);
+      BasicSanguineModel child = play(model, move);
+      if (child == null) {
+        rejected[ply]++;
+      } else {
+        positions[ply]++;
+        leaves += search(line, child, depth, positions, rejected);
+      }
+      line.remove(line.size() - 1);
+    }
+    return leaves;
+  }
+
+  /**
+   * A helper method that plays a move on a fork of a game, leaving the game as it is.
+   *
+   * @param model the game
+   * @param move  the move to play
+   * @return the fork after the move, or null if the model threw on it
+   * @throws IOException if the model fails to draw
+   */
+  private static BasicSanguineModel play(BasicSanguineModel model, Move move)
+      throws IOException {
+    BasicSanguineModel child = model.fork();
+    try {
+      move.apply(child);
+    } catch (IllegalArgumentException | IllegalStateException exo) {
+      return null;
+    }
+    return child;
+  }
+}
@@ -0,0 +1,11 @@
+package sanguine.model;
+
+/**
+ * A card from a player's hand placed on a cell, as one move that player could make.
+ *
+ * @param card the card placed
+ * @param row  the row of the cell
+ * @param col  the column of the cell
+ */
+public record Placement(SanguineCard card, int row, int col) {
+}
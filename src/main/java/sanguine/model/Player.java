@@ -1,6 +1,7 @@
 package sanguine.model;
 
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * This interface marks the concept of a Player in a game of SanguineGame.
@@ -46,10 +47,19 @@ public interface Player {
   SanguineCard drawHandToBoard() throws IllegalArgumentException;
 
   /**
-   * A method that shuffles a player's deck.
+   * A method that shuffles a player's deck the same fixed way every time.
    */
   void shuffle();
 
+  /**
+   * A method that shuffles a player's deck with the given random numbers, so games started with
+   * the same seed deal the same cards.
+   *
+   * @param random the source of random numbers
+   * @throws IllegalArgumentException if random is null
+   */
+  void shuffle(RandomGenerator random);
+
   /**
    * A method that draws a card from the deck to the hand if allowable.
    *
@@ -0,0 +1,302 @@
+package sanguine.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact binary twin of PositionNotation, for sending positions over the network many times a
+ * game. The cards are sent once, as a table, and every position after that names cards by their
+ * index in it, so a position on a 3x5 board takes about fifty bytes.
+ *
+ * <p>A card table is a u16 count and then, for every card, its name as modified UTF-8, a u8
+ * cost, a u8 value and its influence mask as an i32. A position is the u16 rows and columns, the
+ * u8 hand size, side to move (0 red, 1 blue) and consecutive passes, then every cell row by row
+ * as a u8 tag: 0 for empty, 1 to 3 for red pawns, 5 to 7 for blue pawns, and 8 or 9 for a red
+ * or blue card followed by its u16 card id. Last come red's and blue's hands, each as a u8
+ * count of card ids.</p>
+ *
+ * <p>Decks are not part of a position: they are hidden from the players, so a position read
+ * back is a game whose players have nothing left to draw.</p>
+ */
+public final class PositionCodec {
+  private static final int RED_CARD = 8;
+  private static final int BLUE_CARD = 9;
+  private static final int BLUE_PAWNS = 4;
+
+  private final List<SanguineCard> cards;
+  private final Map<String, Integer> ids;
+
+  /**
+   * A constructor that takes in the cards positions may hold.
+   *
+   * @param cards the cards, by id
+   * @throws IllegalArgumentException if the list is null, holds too many cards, holds the same
+   *                                  card twice or holds a card with a 'C' off its center
+   */
+  public PositionCodec(List<SanguineCard> cards) {
+    if (cards == null || cards.size() > 0xFFFF) {
+      throw new IllegalArgumentException("card table is null or too large");
+    }
+    this.cards = List.copyOf(cards);
+    this.ids = new HashMap<>();
+    for (SanguineCard card : this.cards) {
+      if (!CompiledSanguineCard.influenceRows(card.getInfluenceMask())
+          .equals(card.getStringInfluence())) {
+        throw new IllegalArgumentException("card can only have C at its center: "
+            + card.getName());
+      }
+      if (card.getCost() > 0xFF || card.getValue() > 0xFF) {
+        throw new IllegalArgumentException("card cost or value too large: " + card.getName());
+      }
+      if (ids.put(card.toString(), ids.size()) != null) {
+        throw new IllegalArgumentException("card listed twice: " + card.getName());
+      }
+    }
+  }
+
+  /**
+   * Makes a codec for the cards of a game that has just been started, while every card is still
+   * in a hand or deck.
+   *
+   * @param model the started game
+   * @return the codec
+   * @throws IllegalArgumentException if the model is null or holds a card the codec can not
+   * @throws IllegalStateException    if the game has not been started
+   */
+  public static PositionCodec of(BasicSanguineModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("model is null");
+    }
+    Map<String, SanguineCard> distinct = new HashMap<>();
+    List<SanguineCard> cards = new ArrayList<>();
+    for (PlayerColor color : PlayerColor.values()) {
+      SanguinePlayer player = model.player(color);
+      for (List<SanguineCard> list : List.of(player.getHand(), player.getDeck())) {
+        for (SanguineCard card : list) {
+          if (distinct.putIfAbsent(card.toString(), card) == null) {
+            cards.add(card);
+          }
+        }
+      }
+    }
+    return new PositionCodec(cards);
+  }
+
+  /**
+   * Reads a card table into a codec.
+   *
+   * @param in where the table is read from
+   * @return the codec
+   * @throws IOException              if reading fails
+   * @throws IllegalArgumentException if the table is malformed
+   */
+  public static PositionCodec readCards(DataInput in) throws IOException {
+    int count = in.readUnsignedShort();
+    List<SanguineCard> cards = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String name = in.readUTF();
+      int cost = in.readUnsignedByte();
+      int value = in.readUnsignedByte();
+      int mask = in.readInt();
+      if ((mask & ~DeckCompiler.MASK_BITS) != 0 || (mask & DeckCompiler.CENTER_BIT) != 0) {
+        throw new IllegalArgumentException("invalid influence mask for card " + name);
+      }
+      cards.add(new BasicSanguineCard(name, cost, value,
+          CompiledSanguineCard.influenceRows(mask)));
+    }
+    return new PositionCodec(cards);
+  }
+
+  /**
+   * Returns the cards of the codec.
+   *
+   * @return the cards, by id
+   */
+  public List<SanguineCard> getCards() {
+    return cards;
+  }
+
+  /**
+   * Writes the card table.
+   *
+   * @param out where the table is written
+   * @throws IOException if writing fails
+   */
+  public void writeCards(DataOutput out) throws IOException {
+    out.writeShort(cards.size());
+    for (SanguineCard card : cards) {
+      out.writeUTF(card.getName());
+      out.writeByte(card.getCost());
+      out.writeByte(card.getValue());
+      out.writeInt(card.getInfluenceMask());
+    }
+  }
+
+  /**
+   * Writes the position of a started game.
+   *
+   * @param model the started game
+   * @param out   where the position is written
+   * @throws IOException              if writing fails
+   * @throws IllegalArgumentException if the model is null or holds a card not in the table
+   * @throws IllegalStateException    if the game has not been started
+   */
+  public void writePosition(BasicSanguineModel model, DataOutput out) throws IOException {
+    if (model == null) {
+      throw new IllegalArgumentException("model is null");
+    }
+    SanguineGameBoard board = model.board();
+    out.writeShort(board.getRows());
+    out.writeShort(board.getCols());
+    out.writeByte(model.maxHandSize());
+    out.writeByte(model.getTurn().getColor() == PlayerColor.RED ? 0 : 1);
+    out.writeByte(Math.min(model.consecutivePasses(), 0xFF));
+
+    for (int row = 0; row < board.getRows(); row++) {
+      for (int col = 0; col < board.getCols(); col++) {
+        BasicSanguineBoardCell cell = board.cellAt(row, col);
+        PlayerColor color = cell.getColor();
+        if (color == null) {
+          out.writeByte(0);
+        } else if (cell.containsCard()) {
+          out.writeByte(color == PlayerColor.RED ? RED_CARD : BLUE_CARD);
+          out.writeShort(idOf(cell.getCard()));
+        } else {
+          out.writeByte((color == PlayerColor.RED ? 0 : BLUE_PAWNS) + cell.getPawnCount());
+        }
+      }
+    }
+
+    for (PlayerColor color : PlayerColor.values()) {
+      List<SanguineCard> hand = model.player(color).getHand();
+      out.writeByte(hand.size());
+      for (SanguineCard card : hand) {
+        out.writeShort(idOf(card));
+      }
+    }
+  }
+
+  /**
+   * Reads a position into a new started game.
+   *
+   * @param in where the position is read from
+   * @return the game at the position, with empty decks
+   * @throws IOException              if reading fails
+   * @throws IllegalArgumentException if the position is malformed
+   */
+  public BasicSanguineModel readPosition(DataInput in) throws IOException {
+    int rows = in.readUnsignedShort();
+    int cols = in.readUnsignedShort();
+    int handSize = in.readUnsignedByte();
+    int side = in.readUnsignedByte();
+    int passes = in.readUnsignedByte();
+    if (rows < 1 || cols < 1 || side > 1) {
+      throw new IllegalArgumentException("invalid position header");
+    }
+
+    BasicSanguineBoardCell[][] cells = new BasicSanguineBoardCell[rows][cols];
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        int tag = in.readUnsignedByte();
+        if (tag != 0) {
+          cells[row][col] = cell(tag, in);
+        }
+      }
+    }
+
+    List<List<SanguineCard>> hands = new ArrayList<>(2);
+    for (int i = 0; i < 2; i++) {
+      int count = in.readUnsignedByte();
+      List<SanguineCard> hand = new ArrayList<>(count);
+      for (int j = 0; j < count; j++) {
+        hand.add(card(in.readUnsignedShort()));
+      }
+      hands.add(hand);
+    }
+
+    try {
+      SanguineGameBoard board = new SanguineGameBoard(rows, cols, cells);
+      SanguinePlayer red = new SanguinePlayer(hands.get(0), List.of(), PlayerColor.RED,
+          handSize);
+      SanguinePlayer blue = new SanguinePlayer(hands.get(1), List.of(), PlayerColor.BLUE,
+          handSize);
+      BasicSanguineModel model = new BasicSanguineModel();
+      model.restore(board, red, blue, side == 0 ? PlayerColor.RED : PlayerColor.BLUE, passes,
+          handSize);
+      return model;
+    } catch (IllegalArgumentException exo) {
+      throw new IllegalArgumentException("invalid position: " + exo.getMessage(), exo);
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that returns the id of a card in the table.
+   *
+   * @param card the card
+   * @return the id
+   * @throws IllegalArgumentException if the card is not in the table
+   */
+  private int idOf(SanguineCard card) {
+    Integer id = ids.get(card.toString());
+    if (id == null) {
+      throw new IllegalArgumentException("card not in the table: " + card.getName());
+    }
+    return id;
+  }
+
+  /**
+   * A helper method that looks up a card by id.
+   *
+   * @param id the id
+   * @return the card
+   * @throws IllegalArgumentException if there is no card with the id
+   */
+  private SanguineCard card(int id) {
+    if (id >= cards.size()) {
+      throw new IllegalArgumentException("no card with id " + id);
+    }
+    return cards.get(id);
+  }
+
+  /**
+   * A helper method that reads the rest of one occupied cell.
+   *
+   * @param tag the tag that started the cell
+   * @param in  where the cell is read from
+   * @return the cell
+   * @throws IOException              if reading fails
+   * @throws IllegalArgumentException if the tag is invalid
+   */
+  private BasicSanguineBoardCell cell(int tag, DataInput in) throws IOException {
+    PlayerColor color;
+    SanguineCard card = null;
+    int count;
+    if (tag == RED_CARD || tag == BLUE_CARD) {
+      color = tag == RED_CARD ? PlayerColor.RED : PlayerColor.BLUE;
+      card = card(in.readUnsignedShort());
+      count = card.getCost();
+    } else if (tag >= 1 && tag <= 3 || tag >= BLUE_PAWNS + 1 && tag <= BLUE_PAWNS + 3) {
+      color = tag < BLUE_PAWNS ? PlayerColor.RED : PlayerColor.BLUE;
+      count = tag & 3;
+    } else {
+      throw new IllegalArgumentException("invalid cell tag " + tag);
+    }
+
+    List<BasicSanguinePawn> pawns = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      pawns.add(new BasicSanguinePawn(color));
+    }
+    BasicSanguineBoardCell cell = new BasicSanguineBoardCell(pawns);
+    if (card != null) {
+      cell.placeCard(card, color);
+    }
+    return cell;
+  }
+}
@@ -0,0 +1,578 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact one line text notation for a game in progress, in the spirit of chess FEN. It holds
+ * everything needed to carry on playing: the board, both hands and decks in order, the side to
+ * move and the consecutive passes.
+ *
+ * <p>A position is ten fields separated by single spaces:</p>
+ * <pre>
+ * &lt;rows&gt;x&lt;cols&gt; &lt;hand size&gt; &lt;r|b to move&gt; &lt;passes&gt; &lt;board&gt;
+ * &lt;red hand&gt; &lt;red deck&gt; &lt;blue hand&gt; &lt;blue deck&gt; &lt;cards&gt;
+ * </pre>
+ *
+ * <p>The board lists its rows top to bottom separated by '/', and each row its cells left to
+ * right separated by ','. A cell is a run of empty cells as a number, pawns as 'r' or 'b' and a
+ * count from 1 to 3, or a card as 'R' or 'B' and a card id. Hands and decks are card ids
+ * separated by ',', or '-' when empty. Cards are the distinct cards of the position, by id from
+ * zero, separated by ';', each as name:cost:value:mask with the influence mask in hex. Names are
+ * percent escaped, so a position never holds a space or a separator outside its syntax.</p>
+ *
+ * <p>For example, the start of a 3x5 game with one card per hand and two left in each deck:</p>
+ * <pre>
+ * 3x5 1 r 0 r1,3,b1/r1,3,b1/r1,3,b1 0 1,2 3 4,5 A:1:1:22880;B:1:2:22880;...
+ * </pre>
+ *
+ * <p>Only cards whose grid has its 'C' at the center can be written, the same cards a compiled
+ * deck can hold, since every other cell of the grid is rebuilt from its mask.</p>
+ */
+public final class PositionNotation {
+  private static final String HEX = "0123456789ABCDEF";
+
+  /**
+   * This class only has static methods.
+   */
+  private PositionNotation() {
+  }
+
+  /**
+   * Writes the position of a started game.
+   *
+   * @param model the started game
+   * @return the position
+   * @throws IllegalArgumentException if the model is null or holds a card the notation can not
+   * @throws IllegalStateException    if the game has not been started
+   */
+  public static String write(BasicSanguineModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("model is null");
+    }
+
+    SanguineGameBoard board = model.board();
+    SanguinePlayer red = model.player(PlayerColor.RED);
+    SanguinePlayer blue = model.player(PlayerColor.BLUE);
+    Map<String, Integer> ids = new HashMap<>();
+    List<SanguineCard> cards = new ArrayList<>();
+
+    StringBuilder out = new StringBuilder(64 + board.getBoardSize() * 3);
+    out.append(board.getRows()).append('x').append(board.getCols()).append(' ')
+        .append(model.maxHandSize()).append(' ')
+        .append(model.getTurn().getColor() == PlayerColor.RED ? 'r' : 'b').append(' ')
+        .append(model.consecutivePasses()).append(' ');
+
+    for (int row = 0; row < board.getRows(); row++) {
+      if (row > 0) {
+        out.append('/');
+      }
+      int rowStart = out.length();
+      int empty = 0;
+      for (int col = 0; col < board.getCols(); col++) {
+        BasicSanguineBoardCell cell = board.cellAt(row, col);
+        PlayerColor color = cell.getColor();
+        if (color == null) {
+          empty++;
+          continue;
+        }
+        if (empty > 0) {
+          separate(out, rowStart);
+          out.append(empty);
+          empty = 0;
+        }
+        separate(out, rowStart);
+
+        boolean isRed = color == PlayerColor.RED;
+        if (cell.containsCard()) {
+          out.append(isRed ? 'R' : 'B').append(idOf(cell.getCard(), ids, cards));
+        } else {
+          out.append(isRed ? 'r' : 'b').append(cell.getPawnCount());
+        }
+      }
+      if (empty > 0) {
+        separate(out, rowStart);
+        out.append(empty);
+      }
+    }
+
+    for (SanguinePlayer player : List.of(red, blue)) {
+      out.append(' ');
+      writeIds(out, player.getHand(), ids, cards);
+      out.append(' ');
+      writeIds(out, player.getDeck(), ids, cards);
+    }
+
+    out.append(' ');
+    if (cards.isEmpty()) {
+      out.append('-');
+    }
+    for (int id = 0; id < cards.size(); id++) {
+      SanguineCard card = cards.get(id);
+      if (id > 0) {
+        out.append(';');
+      }
+      escape(out, card.getName());
+      out.append(':').append(card.getCost()).append(':').append(card.getValue()).append(':')
+          .append(Integer.toHexString(card.getInfluenceMask()).toUpperCase());
+    }
+    return out.toString();
+  }
+
+  /**
+   * Reads a position into a new started game.
+   *
+   * <p>A game starts with at least one card per cell in each deck, and a move drops at most one
+   * card, so every card id written for a game's hands, decks and board adds up to at least one
+   * per cell. A board with more cells than the position has characters is rejected before it is
+   * allocated.</p>
+   *
+   * @param position the position
+   * @return the game at the position
+   * @throws IllegalArgumentException if the position is null or malformed
+   */
+  public static BasicSanguineModel read(String position) {
+    if (position == null) {
+      throw new IllegalArgumentException("position is null");
+    }
+
+    Cursor in = new Cursor(position);
+    int rows = in.number();
+    in.expect('x');
+    int cols = in.number();
+    in.expect(' ');
+    int handSize = in.number();
+    in.expect(' ');
+    PlayerColor turn = switch (in.next()) {
+      case 'r' -> PlayerColor.RED;
+      case 'b' -> PlayerColor.BLUE;
+      default -> throw in.error("side to move must be r or b");
+    };
+    in.expect(' ');
+    int passes = in.number();
+    in.expect(' ');
+
+    if (rows < 1 || cols < 1 || (long) rows * cols > position.length()) {
+      throw in.error("invalid board size " + rows + "x" + cols);
+    }
+    int boardStart = in.index;
+    in.skipField();
+
+    List<List<Integer>> lists = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      in.expect(' ');
+      lists.add(in.ids());
+    }
+    in.expect(' ');
+    List<SanguineCard> cards = in.cards();
+    if (!in.atEnd()) {
+      throw in.error("trailing characters");
+    }
+
+    int end = in.index;
+    in.index = boardStart;
+    BasicSanguineBoardCell[][] cells = in.board(rows, cols, cards);
+    in.index = end;
+
+    try {
+      SanguineGameBoard board = new SanguineGameBoard(rows, cols, cells);
+      SanguinePlayer red = new SanguinePlayer(cardsOf(lists.get(0), cards, in),
+          cardsOf(lists.get(1), cards, in), PlayerColor.RED, handSize);
+      SanguinePlayer blue = new SanguinePlayer(cardsOf(lists.get(2), cards, in),
+          cardsOf(lists.get(3), cards, in), PlayerColor.BLUE, handSize);
+
+      BasicSanguineModel model = new BasicSanguineModel();
+      model.restore(board, red, blue, turn, passes, handSize);
+      return model;
+    } catch (IllegalArgumentException exo) {
+      throw new IllegalArgumentException("invalid position: " + exo.getMessage(), exo);
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that writes the separator before a cell, unless it is the first of its row.
+   *
+   * @param out      the position so far
+   * @param rowStart where the row starts in the position
+   */
+  private static void separate(StringBuilder out, int rowStart) {
+    if (out.length() > rowStart) {
+      out.append(',');
+    }
+  }
+
+  /**
+   * A helper method that writes a list of cards as ids.
+   *
+   * @param out   the position so far
+   * @param list  the cards
+   * @param ids   the id of every card seen so far, by rendering
+   * @param cards the cards seen so far, by id
+   */
+  private static void writeIds(StringBuilder out, List<SanguineCard> list,
+                               Map<String, Integer> ids, List<SanguineCard> cards) {
+    if (list.isEmpty()) {
+      out.append('-');
+      return;
+    }
+    for (int i = 0; i < list.size(); i++) {
+      if (i > 0) {
+        out.append(',');
+      }
+      out.append(idOf(list.get(i), ids, cards));
+    }
+  }
+
+  /**
+   * A helper method that returns the id of a card, giving it the next one if it is new.
+   *
+   * @param card  the card
+   * @param ids   the id of every card seen so far, by rendering
+   * @param cards the cards seen so far, by id
+   * @return the id
+   * @throws IllegalArgumentException if the card has a 'C' anywhere but its center
+   */
+  private static int idOf(SanguineCard card, Map<String, Integer> ids, List<SanguineCard> cards) {
+    Integer id = ids.get(card.toString());
+    if (id != null) {
+      return id;
+    }
+    if (!CompiledSanguineCard.influenceRows(card.getInfluenceMask())
+        .equals(card.getStringInfluence())) {
+      throw new IllegalArgumentException("card can only have C at its center: "
+          + card.getName());
+    }
+    ids.put(card.toString(), cards.size());
+    cards.add(card);
+    return cards.size() - 1;
+  }
+
+  /**
+   * A helper method that percent escapes a card name.
+   *
+   * @param out  the position so far
+   * @param name the name
+   */
+  private static void escape(StringBuilder out, String name) {
+    for (int i = 0; i < name.length(); i++) {
+      char character = name.charAt(i);
+      if (character <= ' ' || character == 0x7F || character == '%' || character == ':'
+          || character == ';' || character == ',' || character == '/') {
+        out.append('%').append(HEX.charAt(character >> 4)).append(HEX.charAt(character & 0xF));
+      } else {
+        out.append(character);
+      }
+    }
+  }
+
+  /**
+   * A helper method that looks up a list of card ids.
+   *
+   * @param list  the ids
+   * @param cards the cards, by id
+   * @param in    the cursor, for errors
+   * @return the cards
+   */
+  private static List<SanguineCard> cardsOf(List<Integer> list, List<SanguineCard> cards,
+                                            Cursor in) {
+    List<SanguineCard> result = new ArrayList<>(list.size());
+    for (int id : list) {
+      result.add(in.card(id, cards));
+    }
+    return result;
+  }
+
+  /**
+   * A position being read, and how far along it the reader is.
+   */
+  private static final class Cursor {
+    private final String text;
+    private int index;
+
+    /**
+     * A constructor for a cursor at the start of a position.
+     *
+     * @param text the position
+     */
+    Cursor(String text) {
+      this.text = text;
+    }
+
+    /**
+     * Returns whether the whole position has been read.
+     *
+     * @return if there is nothing left
+     */
+    boolean atEnd() {
+      return index == text.length();
+    }
+
+    /**
+     * Returns the character at the cursor without reading it.
+     *
+     * @return the character, or NUL at the end
+     */
+    char peek() {
+      return index < text.length() ? text.charAt(index) : '\0';
+    }
+
+    /**
+     * Reads one character.
+     *
+     * @return the character
+     */
+    char next() {
+      if (atEnd()) {
+        throw error("unexpected end");
+      }
+      return text.charAt(index++);
+    }
+
+    /**
+     * Reads one character that must be the given one.
+     *
+     * @param expected the character
+     */
+    void expect(char expected) {
+      if (peek() != expected) {
+        throw error("expected '" + expected + "'");
+      }
+      index++;
+    }
+
+    /**
+     * Reads a non-negative decimal number.
+     *
+     * @return the number
+     */
+    int number() {
+      int start = index;
+      long value = 0;
+      while (index < text.length() && text.charAt(index) >= '0' && text.charAt(index) <= '9') {
+        value = value * 10 + text.charAt(index++) - '0';
+        if (value > Integer.MAX_VALUE) {
+          throw error("number too large");
+        }
+      }
+      if (index == start) {
+        throw error("expected a number");
+      }
+      return (int) value;
+    }
+
+    /**
+     * Moves past the current field, up to the next space or the end.
+     */
+    void skipField() {
+      int space = text.indexOf(' ', index);
+      index = space < 0 ? text.length() : space;
+    }
+
+    /**
+     * Reads a list of card ids, or '-' for none.
+     *
+     * @return the ids
+     */
+    List<Integer> ids() {
+      List<Integer> ids = new ArrayList<>();
+      if (peek() == '-') {
+        index++;
+        return ids;
+      }
+      ids.add(number());
+      while (peek() == ',') {
+        index++;
+        ids.add(number());
+      }
+      return ids;
+    }
+
+    /**
+     * Reads the card table, or '-' for none.
+     *
+     * @return the cards, by id
+     */
+    List<SanguineCard> cards() {
+      List<SanguineCard> cards = new ArrayList<>();
+      if (peek() == '-' && index + 1 == text.length()) {
+        index++;
+        return cards;
+      }
+      while (true) {
+        String name = name();
+        expect(':');
+        int cost = number();
+        expect(':');
+        int value = number();
+        expect(':');
+        int mask = hex();
+        if ((mask & ~DeckCompiler.MASK_BITS) != 0 || (mask & DeckCompiler.CENTER_BIT) != 0) {
+          throw error("invalid influence mask");
+        }
+        try {
+          cards.add(new BasicSanguineCard(name, cost, value,
+              CompiledSanguineCard.influenceRows(mask)));
+        } catch (IllegalArgumentException exo) {
+          throw error(exo.getMessage());
+        }
+        if (peek() != ';') {
+          return cards;
+        }
+        index++;
+      }
+    }
+
+    /**
+     * Reads the board, one row at a time.
+     *
+     * @param rows  the rows of the board
+     * @param cols  the columns of the board
+     * @param cards the cards, by id
+     * @return the cells
+     */
+    BasicSanguineBoardCell[][] board(int rows, int cols, List<SanguineCard> cards) {
+      BasicSanguineBoardCell[][] cells = new BasicSanguineBoardCell[rows][cols];
+      for (int row = 0; row < rows; row++) {
+        if (row > 0) {
+          expect('/');
+        }
+        int col = 0;
+        while (true) {
+          char kind = peek();
+          if (kind >= '0' && kind <= '9') {
+            int empty = number();
+            if (empty == 0 || empty > cols - col) {
+              throw error("invalid run of empty cells");
+            }
+            col += empty;
+          } else {
+            index++;
+            if (col >= cols) {
+              throw error("row " + row + " has more than " + cols + " columns");
+            }
+            cells[row][col++] = cell(kind, cards);
+          }
+          if (peek() != ',') {
+            break;
+          }
+          index++;
+        }
+        if (col != cols) {
+          throw error("row " + row + " does not have " + cols + " columns");
+        }
+      }
+      if (peek() != ' ') {
+        throw error("board has more than " + rows + " rows");
+      }
+      return cells;
+    }
+
+    /**
+     * Reads the rest of one occupied cell.
+     *
+     * @param kind  the character that started the cell
+     * @param cards the cards, by id
+     * @return the cell
+     */
+    BasicSanguineBoardCell cell(char kind, List<SanguineCard> cards) {
+      PlayerColor color = switch (kind) {
+        case 'r', 'R' -> PlayerColor.RED;
+        case 'b', 'B' -> PlayerColor.BLUE;
+        default -> throw error("invalid cell '" + kind + "'");
+      };
+      int count = number();
+      SanguineCard card = null;
+      if (Character.isUpperCase(kind)) {
+        card = card(count, cards);
+        count = card.getCost();
+      } else if (count < 1 || count > 3) {
+        throw error("a cell holds 1 to 3 pawns");
+      }
+
+      List<BasicSanguinePawn> pawns = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        pawns.add(new BasicSanguinePawn(color));
+      }
+      BasicSanguineBoardCell cell = new BasicSanguineBoardCell(pawns);
+      if (card != null) {
+        cell.placeCard(card, color);
+      }
+      return cell;
+    }
+
+    /**
+     * Looks up a card by id.
+     *
+     * @param id    the id
+     * @param cards the cards, by id
+     * @return the card
+     */
+    SanguineCard card(int id, List<SanguineCard> cards) {
+      if (id >= cards.size()) {
+        throw error("no card with id " + id);
+      }
+      return cards.get(id);
+    }
+
+    /**
+     * Reads a hexadecimal number.
+     *
+     * @return the number
+     */
+    int hex() {
+      int start = index;
+      long value = 0;
+      while (index < text.length() && Character.digit(text.charAt(index), 16) >= 0
+          && index - start < 8) {
+        value = value << 4 | Character.digit(text.charAt(index++), 16);
+      }
+      if (index == start) {
+        throw error("expected a hex number");
+      }
+      return (int) value;
+    }
+
+    /**
+     * Reads a percent escaped card name, up to the next ':'.
+     *
+     * @return the name
+     */
+    String name() {
+      StringBuilder name = new StringBuilder();
+      while (index < text.length() && text.charAt(index) != ':') {
+        char character = text.charAt(index++);
+        if (character == ' ' || character == ';') {
+          throw error("unescaped '" + character + "' in card name");
+        }
+        if (character == '%') {
+          if (index + 2 > text.length()) {
+            throw error("unfinished escape");
+          }
+          int high = Character.digit(text.charAt(index), 16);
+          int low = Character.digit(text.charAt(index + 1), 16);
+          if (high < 0 || low < 0) {
+            throw error("invalid escape");
+          }
+          index += 2;
+          character = (char) (high << 4 | low);
+        }
+        name.append(character);
+      }
+      return name.toString();
+    }
+
+    /**
+     * Makes an error for the cursor's place in the position.
+     *
+     * @param message what is wrong
+     * @return the error
+     */
+    IllegalArgumentException error(String message) {
+      return new IllegalArgumentException("invalid position at " + index + ": " + message);
+    }
+  }
+}
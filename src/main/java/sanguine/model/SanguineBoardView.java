@@ -0,0 +1,58 @@
+package sanguine.model;
+
+/**
+ * A read only view over a SanguineGameBoard that forwards every query to the live board.
+ *
+ * <p>The view is created once per game by the model and never copies cells, so it always
+ * reflects the latest move. Clients can not reach the mutable board through it.</p>
+ */
+final class SanguineBoardView implements BoardView {
+  private final SanguineGameBoard board;
+
+  /**
+   * A constructor that wraps the given board.
+   *
+   * @param board the live game board
+   */
+  SanguineBoardView(SanguineGameBoard board) {
+    if (board == null) {
+      throw new IllegalArgumentException("board is null");
+    }
+    this.board = board;
+  }
+
+  @Override
+  public int getRows() {
+    return board.getRows();
+  }
+
+  @Override
+  public int getCols() {
+    return board.getCols();
+  }
+
+  @Override
+  public PlayerColor getOwner(int row, int col) {
+    return board.cellAt(row, col).getColor();
+  }
+
+  @Override
+  public int getPawnCount(int row, int col) {
+    return board.cellAt(row, col).getPawnCount();
+  }
+
+  @Override
+  public boolean hasCard(int row, int col) {
+    return board.cellAt(row, col).containsCard();
+  }
+
+  @Override
+  public int getValue(int row, int col) {
+    return board.cellAt(row, col).getValue();
+  }
+
+  @Override
+  public int getRowScore(PlayerColor color, int row) {
+    return board.getPlayerColorRowScore(color, row);
+  }
+}
@@ -60,6 +60,16 @@ public interface SanguineCard extends Card {
    */
   List<List<Integer>> getIntInfluence();
 
+  /**
+   * A method that returns the influence grid of a SanguineGame Card as a 25 bit mask.
+   *
+   * <p>Bit (row * 5 + col) is set when the grid has influence ('I') at that row and column,</p>
+   * so bit 0 is the top left corner and bit 12 is the card itself, which is never set.
+   *
+   * @return the influence grid as a bit mask
+   */
+  int getInfluenceMask();
+
   /**
    * A method that returns the name of a SanguineGame Card.
    *
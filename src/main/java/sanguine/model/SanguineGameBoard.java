@@ -1,8 +1,10 @@
 package sanguine.model;
 
-import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import sanguine.metrics.BoardCopyEvent;
+import sanguine.metrics.DecisionTrace;
 
 /**
  * This is a class representing a SanguineGame game board.
@@ -17,6 +19,8 @@ import java.util.List;
 public class SanguineGameBoard implements GameBoard {
 
   private BasicSanguineBoardCell[][] board;
+  // rows this board shares with a fork or the board it was forked from, null if none
+  private boolean[] shared;
 
   //the rows and cols and invariant.
   private int rows;
@@ -57,9 +61,12 @@ public class SanguineGameBoard implements GameBoard {
    * <p>The amount of columns must be odd and greater than one.</p>
    * The amount of rows must be greater than zero.
    *
+   * <p>The board takes ownership of the given cells. A null cell is replaced by an empty one.</p>
+   *
    * @param board the given game board the amount of rows
    * @param rows  the amount of rows
    * @param cols  the amount of columns
+   * @throws IllegalArgumentException if the dimensions are invalid or do not match the board
    */
   public SanguineGameBoard(int rows, int cols, BasicSanguineBoardCell[][] board) {
     if (cols % 2 != 1 || cols == 1) {
@@ -68,26 +75,87 @@ public class SanguineGameBoard implements GameBoard {
     if (rows < 1) {
       throw new IllegalArgumentException("invalid rows");
     }
-
-    board = new BasicSanguineBoardCell[rows][cols];
+    if (board == null || board.length != rows) {
+      throw new IllegalArgumentException("board does not have " + rows + " rows");
+    }
 
     for (int r = 0; r < rows; r++) {
+      if (board[r] == null || board[r].length != cols) {
+        throw new IllegalArgumentException("row " + r + " does not have " + cols + " columns");
+      }
       for (int c = 0; c < cols; c++) {
-        board[r][c] = new BasicSanguineBoardCell();
+        if (board[r][c] == null) {
+          board[r][c] = new BasicSanguineBoardCell();
+        }
       }
     }
+
+    this.board = board;
+    this.cols = cols;
+    this.rows = rows;
   }
 
+  /**
+   * A constructor for a fork, which takes the rows of its parent as they are.
+   *
+   * @param board  the rows, shared with the parent
+   * @param shared which rows are shared
+   */
+  private SanguineGameBoard(BasicSanguineBoardCell[][] board, boolean[] shared) {
+    this.board = board;
+    this.shared = shared;
+    this.rows = board.length;
+    this.cols = board[0].length;
+  }
+
+  /**
+   * Returns the cell at the coordinates, for the caller to change. If the row is shared with a
+   * fork, it is copied first.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the cell
+   */
   @Override
   public BasicSanguineBoardCell getCellAt(int row, int col) {
     areCoordsValid(row, col);
+    own(row);
 
     return board[row][col];
   }
 
+  /**
+   * Returns the cell at the coordinates only to read it, without copying a row shared with a
+   * fork. The caller must not change the cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the cell
+   */
+  BasicSanguineBoardCell cellAt(int row, int col) {
+    areCoordsValid(row, col);
+
+    return board[row][col];
+  }
+
+  /**
+   * Returns a board that starts out sharing every row with this one. Cells are only copied, a
+   * row at a time, when either board is about to change a shared row.
+   *
+   * @return the fork
+   */
+  SanguineGameBoard fork() {
+    if (shared == null) {
+      shared = new boolean[board.length];
+    }
+    Arrays.fill(shared, true);
+    return new SanguineGameBoard(board.clone(), shared.clone());
+  }
+
   @Override
   public SanguineCard addCardToCell(int row, int col, SanguineCard card, Player player) {
     areCoordsValid(row, col);
+    own(row);
 
     if (board[row][col] == null) {
       throw new IllegalStateException("cannot add card to cell with no pawns.");
@@ -99,6 +167,7 @@ public class SanguineGameBoard implements GameBoard {
   @Override
   public void addPawnToCell(int row, int col, SanguinePlayer player) {
     areCoordsValid(row, col);
+    own(row);
 
     board[row][col].placePawn(player);
   }
@@ -160,18 +229,22 @@ public class SanguineGameBoard implements GameBoard {
 
   @Override
   public SanguineGameBoard getBoard() throws IOException {
+    DecisionTrace.countBoardCopy();
+    BoardCopyEvent event = new BoardCopyEvent();
+    event.begin();
     SanguineGameBoard copy = new SanguineGameBoard(getRows(), getCols());
+    int occupied = 0;
 
     for (int r = 0; r < getRows(); r++) {
       for (int c = 0; c < getCols(); c++) {
-        BasicSanguineBoardCell tempCell = this.getCellAt(r, c);
+        BasicSanguineBoardCell tempCell = cellAt(r, c);
 
         if (tempCell.getColor() == null) {
           continue;
         }
+        occupied++;
 
-        List<SanguineCard> fakeDeck = DeckParser.makeDeck("docs"
-            + File.separator + "example.deck");
+        List<SanguineCard> fakeDeck = DeckCache.get(DeckCache.DEFAULT_DECK_PATH);
         SanguinePlayer tempPlayer = new SanguinePlayer(fakeDeck, tempCell.getColor(), 3);
 
 
@@ -193,11 +266,36 @@ public class SanguineGameBoard implements GameBoard {
         }
       }
     }
+
+    if (event.shouldCommit()) {
+      event.rows = getRows();
+      event.cols = getCols();
+      event.occupied = occupied;
+      event.commit();
+    }
     return copy;
   }
 
   // Private Methods:
 
+  /**
+   * A method that gives this board its own copy of a row it shares with a fork, before the row
+   * is changed. The other board copies the row too when it changes it.
+   *
+   * @param row the row about to be changed
+   */
+  private void own(int row) {
+    if (shared == null || !shared[row]) {
+      return;
+    }
+    BasicSanguineBoardCell[] cells = board[row].clone();
+    for (int col = 0; col < cells.length; col++) {
+      cells[col] = cells[col].duplicate();
+    }
+    board[row] = cells;
+    shared[row] = false;
+  }
+
   /**
    * A method that makes sure given coordinates are valid within the board.
    *
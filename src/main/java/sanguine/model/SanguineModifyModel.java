@@ -46,6 +46,24 @@ public interface SanguineModifyModel<C extends Card> {
                  List<C> deck2, int handSize)
       throws IllegalArgumentException, IllegalStateException, IOException;
 
+  /**
+   * Starts a game like startGame, but shuffles the decks with random numbers derived from a seed
+   * instead of the same fixed way. Games started with the same decks and seed deal the same
+   * cards, and each player shuffles with an independent stream split from the seed.
+   *
+   * @param rows     the number of rows in the game board
+   * @param cols     the number of columns in the game board
+   * @param deck1    the first player's deck
+   * @param deck2    the second player's deck
+   * @param handSize the hand size for each player
+   * @param seed     the seed of the game
+   * @throws IllegalArgumentException if rows/columns are invalid or if the hand size is invalid
+   * @throws IllegalStateException    if the game has already been started
+   */
+  void startGame(int rows, int cols, List<C> deck1,
+                 List<C> deck2, int handSize, long seed)
+      throws IllegalArgumentException, IllegalStateException, IOException;
+
   /**
    * Creates a new deck for a player if their deck was not specified.
    *
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * A SanguineGame specific player that implements the Player interface.
@@ -18,9 +19,10 @@ public class SanguinePlayer implements Player {
   // Private Fields:
 
   private final PlayerColor playerColor;
-  private final List<SanguineCard> hand;
-  private final List<SanguineCard> deck;
+  private List<SanguineCard> hand;
+  private List<SanguineCard> deck;
   private final int maxHandSize;
+  private boolean shared; // whether the hand and deck are shared with a fork
 
   /**
    * A constructor that creates a SanguineGame player that has a deck and player color.
@@ -49,6 +51,60 @@ public class SanguinePlayer implements Player {
     this.maxHandSize = maxHandSize;
   }
 
+  /**
+   * A constructor for a player in the middle of a game, with the given hand and deck. Either can
+   * be empty.
+   *
+   * @param hand        the player's hand, in order
+   * @param deck        the player's remaining deck, in draw order
+   * @param color       the player's color
+   * @param maxHandSize the player's max hand size at any given time
+   * @throws IllegalArgumentException if an argument is null, the hand size is not positive or
+   *                                  the hand is larger than it
+   */
+  SanguinePlayer(List<SanguineCard> hand, List<SanguineCard> deck, PlayerColor color,
+                 int maxHandSize) {
+    if (hand == null || deck == null) {
+      throw new IllegalArgumentException("Hand or deck is null!");
+    }
+    if (color == null) {
+      throw new IllegalArgumentException("Player Color is invalid!");
+    }
+    if (maxHandSize <= 0 || hand.size() > maxHandSize) {
+      throw new IllegalArgumentException("invalid hand size");
+    }
+
+    this.hand = new ArrayList<>(hand);
+    this.deck = new ArrayList<>(deck);
+    this.playerColor = color;
+    this.maxHandSize = maxHandSize;
+  }
+
+  /**
+   * Returns a player that starts out sharing this player's hand and deck. Whichever of the two
+   * changes them first takes its own copy.
+   *
+   * @return the fork
+   */
+  SanguinePlayer fork() {
+    SanguinePlayer fork = new SanguinePlayer(this);
+    shared = true;
+    return fork;
+  }
+
+  /**
+   * A constructor for a fork of a player.
+   *
+   * @param parent the player forked
+   */
+  private SanguinePlayer(SanguinePlayer parent) {
+    this.hand = parent.hand;
+    this.deck = parent.deck;
+    this.playerColor = parent.playerColor;
+    this.maxHandSize = parent.maxHandSize;
+    this.shared = true;
+  }
+
   @Override
   public List<SanguineCard> getHand() {
     return List.copyOf(hand);
@@ -67,6 +123,7 @@ public class SanguinePlayer implements Player {
   @Override
   public SanguineCard drawHandToBoard() throws IllegalArgumentException {
     if (!hand.isEmpty()) {
+      own();
       SanguineCard card = hand.remove(0);
       return new BasicSanguineCard(card.getName(), card.getCost(), card.getValue(),
           card.getStringInfluence());
@@ -77,7 +134,16 @@ public class SanguinePlayer implements Player {
 
   @Override
   public void shuffle() {
-    Collections.shuffle(deck, new Random(42));
+    shuffle(new Random(42));
+  }
+
+  @Override
+  public void shuffle(RandomGenerator random) {
+    if (random == null) {
+      throw new IllegalArgumentException("random is null");
+    }
+    own();
+    Collections.shuffle(deck, random);
   }
 
   @Override
@@ -104,9 +170,24 @@ public class SanguinePlayer implements Player {
       throw new IllegalArgumentException("Can't add this many cards to hand!");
     }
 
+    own();
     for (int count = 0; count < numCards; count++) {
       SanguineCard card = deck.remove(0);
       hand.add(card);
     }
   }
+
+  // Private Methods:
+
+  /**
+   * A method that gives this player its own copy of a hand and deck it shares with a fork, before
+   * they are changed.
+   */
+  private void own() {
+    if (shared) {
+      hand = new ArrayList<>(hand);
+      deck = new ArrayList<>(deck);
+      shared = false;
+    }
+  }
 }
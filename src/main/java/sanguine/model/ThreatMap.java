@@ -0,0 +1,248 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The threats on every cell of a game: for each cell holding pawns, the placements of the other
+ * player's hand whose influence would flip those pawns to that player.
+ *
+ * <p>A placement counts when playTurn would accept it, the cell holding at least as many of the
+ * player's pawns as the card costs and no card, and would really flip the cell. Influence only
+ * flips a cell of three pawns, and playTurn stops at the first cell of one or two of the other
+ * player's pawns it reaches, row by row through the card's grid, so a placement whose influence
+ * gets there before the cell does not count. The placements on a cell are found through each
+ * card's InfluenceIndex. The map is kept up to date move by move. A card only changes cells
+ * within two of where it is placed, and whether a placement flips a cell depends only on cells
+ * within two of the placement, which is within two of the cell, so after a move the map rebuilds
+ * only the cells within six of the placement; every other cell just drops the cards that left a
+ * hand and gains the cards that joined one.</p>
+ */
+final class ThreatMap {
+  // how far from its cell a card's influence reaches
+  private static final int REACH = 2;
+  private static final int GRID = 5;
+  // the most pawns a cell holds, and so the pawns a cell needs to be flipped
+  private static final int FULL = 3;
+
+  private final SanguineGameBoard board;
+  private final int rows;
+  private final int cols;
+  private final SanguinePlayer[] players;
+  private final List<List<SanguineCard>> hands;
+  private final List<List<Placement>> threats;
+
+  /**
+   * A constructor that maps the threats of a game as it is.
+   *
+   * @param board the live board
+   * @param red   the live red player
+   * @param blue  the live blue player
+   */
+  ThreatMap(SanguineGameBoard board, SanguinePlayer red, SanguinePlayer blue) {
+    this.board = board;
+    this.rows = board.getRows();
+    this.cols = board.getCols();
+    this.players = new SanguinePlayer[] {red, blue};
+    this.hands = new ArrayList<>(List.of(distinct(red.getHand()), distinct(blue.getHand())));
+    this.threats = new ArrayList<>(rows * cols);
+
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        threats.add(new ArrayList<>());
+        rebuild(row, col);
+      }
+    }
+  }
+
+  /**
+   * Returns the threats on a cell, in the order of the threatening player's hand, then by row and
+   * column. A cell without pawns has none.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the placements that would flip the cell
+   * @throws IllegalArgumentException if the cell is not on the board
+   */
+  List<Placement> get(int row, int col) {
+    BasicSanguineBoardCell cell = board.cellAt(row, col);
+    List<Placement> found = threats.get(row * cols + col);
+    if (found.isEmpty()) {
+      return List.of();
+    }
+
+    List<SanguineCard> hand = players[other(cell.getColor()).ordinal()].getHand();
+    List<Placement> sorted = new ArrayList<>(found);
+    sorted.sort(Comparator.<Placement>comparingInt(threat -> indexOf(hand, threat.card()))
+        .thenComparingInt(Placement::row)
+        .thenComparingInt(Placement::col));
+    return List.copyOf(sorted);
+  }
+
+  /**
+   * Brings the map up to date after a card was placed on a cell and the hands drew.
+   *
+   * @param row the row the card was placed on
+   * @param col the column the card was placed on
+   */
+  void update(int row, int col) {
+    List<List<SanguineCard>> removed = new ArrayList<>(2);
+    List<List<SanguineCard>> added = new ArrayList<>(2);
+    for (int color = 0; color < players.length; color++) {
+      List<SanguineCard> before = hands.get(color);
+      List<SanguineCard> after = distinct(players[color].getHand());
+      removed.add(minus(before, after));
+      added.add(minus(after, before));
+      hands.set(color, after);
+    }
+    boolean handsChanged = !removed.get(0).isEmpty() || !removed.get(1).isEmpty()
+        || !added.get(0).isEmpty() || !added.get(1).isEmpty();
+
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < cols; c++) {
+        if (Math.abs(r - row) <= 3 * REACH && Math.abs(c - col) <= 3 * REACH) {
+          rebuild(r, c);
+        } else if (handsChanged) {
+          List<Placement> found = threats.get(r * cols + c);
+          PlayerColor owner = board.cellAt(r, c).getColor();
+          if (!found.isEmpty()) {
+            List<SanguineCard> gone = removed.get(other(owner).ordinal());
+            found.removeIf(threat -> indexOf(gone, threat.card()) >= 0);
+          }
+          if (owner != null) {
+            add(r, c, other(owner), added.get(other(owner).ordinal()));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the cards of a hand without repeats of the same card object, so two copies of a card
+   * are two cards but one card held twice is one.
+   *
+   * @param hand the hand
+   * @return the distinct cards, in hand order
+   */
+  static List<SanguineCard> distinct(List<SanguineCard> hand) {
+    List<SanguineCard> cards = new ArrayList<>(hand.size());
+    for (SanguineCard card : hand) {
+      if (indexOf(cards, card) < 0) {
+        cards.add(card);
+      }
+    }
+    return cards;
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that maps the threats on one cell from scratch.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   */
+  private void rebuild(int row, int col) {
+    threats.get(row * cols + col).clear();
+    PlayerColor owner = board.cellAt(row, col).getColor();
+    if (owner != null) {
+      add(row, col, other(owner), hands.get(other(owner).ordinal()));
+    }
+  }
+
+  /**
+   * A helper method that adds the threats some cards of a player make on a cell, if it holds
+   * three of the other player's pawns.
+   *
+   * @param row   the row of the cell
+   * @param col   the column of the cell
+   * @param by    the threatening player
+   * @param cards the cards of that player
+   */
+  private void add(int row, int col, PlayerColor by, List<SanguineCard> cards) {
+    BasicSanguineBoardCell target = board.cellAt(row, col);
+    if (cards.isEmpty() || target.getPawnCount() < FULL || target.getColor() == by) {
+      return;
+    }
+
+    List<Placement> found = threats.get(row * cols + col);
+    for (SanguineCard card : cards) {
+      int from = found.size();
+      InfluenceIndex.addPlacements(board, card, by, row, col, found);
+      found.subList(from, found.size()).removeIf(threat -> stopsBefore(threat, row, col, by));
+    }
+  }
+
+  /**
+   * A helper method that checks whether a placement's influence stops before it reaches a cell:
+   * whether a cell it influences earlier, row by row through the card's grid, holds one or two
+   * of the other player's pawns, which playTurn refuses to influence.
+   *
+   * @param threat the placement
+   * @param row    the row of the cell
+   * @param col    the column of the cell
+   * @param by     the player making the placement
+   * @return whether the influence stops first
+   */
+  private boolean stopsBefore(Placement threat, int row, int col, PlayerColor by) {
+    int mask = threat.card().getInfluenceMask();
+    int target = (row - threat.row() + REACH) * GRID + col - threat.col() + REACH;
+    for (int bit = 0; bit < target; bit++) {
+      int r = threat.row() + bit / GRID - REACH;
+      int c = threat.col() + bit % GRID - REACH;
+      if ((mask >> bit & 1) == 0 || r < 0 || r >= rows || c < 0 || c >= cols) {
+        continue;
+      }
+      BasicSanguineBoardCell cell = board.cellAt(r, c);
+      int pawns = cell.getPawnCount();
+      if (pawns > 0 && pawns < FULL && cell.getColor() != by) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * A helper method that returns the other player's color.
+   *
+   * @param color a player's color
+   * @return the other color
+   */
+  private static PlayerColor other(PlayerColor color) {
+    return color == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+  }
+
+  /**
+   * A helper method that returns the cards of one list that are not in another.
+   *
+   * @param cards  the cards
+   * @param others the cards to leave out
+   * @return the cards left
+   */
+  private static List<SanguineCard> minus(List<SanguineCard> cards, List<SanguineCard> others) {
+    List<SanguineCard> left = new ArrayList<>();
+    for (SanguineCard card : cards) {
+      if (indexOf(others, card) < 0) {
+        left.add(card);
+      }
+    }
+    return left;
+  }
+
+  /**
+   * A helper method that finds a card object in a list, by identity rather than equality.
+   *
+   * @param cards the list
+   * @param card  the card
+   * @return the index of the card, or -1
+   */
+  private static int indexOf(List<SanguineCard> cards, SanguineCard card) {
+    for (int index = 0; index < cards.size(); index++) {
+      if (cards.get(index) == card) {
+        return index;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,399 @@
+package sanguine.net;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import sanguine.metrics.LogHistogram;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.PlayerColor;
+import sanguine.model.PositionCodec;
+import sanguine.model.SanguineCard;
+import sanguine.model.UserPlayer;
+import sanguine.strategies.BasicStrategy;
+import sanguine.strategies.Coordinates;
+import sanguine.view.Listener;
+
+/**
+ * A player in a game on a GameServer, which keeps a mirror of the game from the positions the
+ * server streams to it.
+ *
+ * <p>As a UserPlayer it is told of its turn whenever a position arrives with its side to move.
+ * A client with a strategy then chooses a move on the mirror, exactly as AiPlayer does on a local
+ * model, and sends it; a client without one waits for its moves to come through its own Listener
+ * methods, for example from a view. Either way its subscribers hear of every move it makes.
+ * A move the server rejects is played as a pass by a client with a strategy, since it would only
+ * choose it again.</p>
+ *
+ * <p>Positions are read, and turns taken, on a virtual thread of the client's own.</p>
+ */
+public final class GameClient implements UserPlayer, Listener, AutoCloseable {
+  private final Socket socket;
+  private final DataInputStream in;
+  private final OutputStream out;
+  private final BasicStrategy strategy;
+  private final LogHistogram latency;
+  private final List<Listener> listeners;
+  // the reply to the last CREATE or JOIN, replaced with every request
+  private volatile CompletableFuture<Long> joined;
+  private volatile IOException closedBy;
+  private final CompletableFuture<BasicSanguineModel> ended;
+  private final AtomicInteger errors;
+  private PositionCodec codec;
+  private long sessionId;
+  private volatile BasicSanguineModel model;
+  private volatile int seats;
+  private SanguineCard selectedCard;
+  private int selectedRow = -1;
+  private int selectedCol = -1;
+  private boolean played;
+  private long sentAt;
+
+  /**
+   * A constructor that connects to a server on the loopback address.
+   *
+   * @param port     the server's port
+   * @param strategy the strategy the client plays with, or null to be moved through its Listener
+   *                 methods
+   * @param latency  where the time from sending each move to the position after it is recorded,
+   *                 in nanoseconds, or null
+   * @throws IOException if the server can not be reached
+   */
+  public GameClient(int port, BasicStrategy strategy, LogHistogram latency) throws IOException {
+    this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+    socket.setTcpNoDelay(true);
+    this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    this.out = new BufferedOutputStream(socket.getOutputStream());
+    this.strategy = strategy;
+    this.latency = latency;
+    this.listeners = new ArrayList<>();
+    this.joined = CompletableFuture.completedFuture(-1L);
+    this.ended = new CompletableFuture<>();
+    this.errors = new AtomicInteger();
+    Thread.ofVirtual().start(this::read);
+  }
+
+  /**
+   * Starts a game in a new session on the server.
+   *
+   * @param rows     the rows of the board
+   * @param cols     the columns of the board
+   * @param handSize the hand size
+   * @param seed     the seed the decks are shuffled from
+   * @param red      red's seat, one of Protocol's SEAT constants
+   * @param blue     blue's seat, one of Protocol's SEAT constants
+   * @return the id of the session
+   * @throws IllegalArgumentException if the server rejects the game
+   * @throws IOException              if the connection fails
+   */
+  public long create(int rows, int cols, int handSize, long seed, int red, int blue)
+      throws IOException {
+    return awaitJoined(Protocol.frame(Protocol.CREATE, body -> {
+      body.writeShort(rows);
+      body.writeShort(cols);
+      body.writeByte(handSize);
+      body.writeLong(seed);
+      body.writeByte(red);
+      body.writeByte(blue);
+    }));
+  }
+
+  /**
+   * Takes an open seat in a session on the server.
+   *
+   * @param id    the id of the session
+   * @param color the seat
+   * @throws IllegalArgumentException if the server rejects the request
+   * @throws IOException              if the connection fails
+   */
+  public void join(long id, PlayerColor color) throws IOException {
+    if (color == null) {
+      throw new IllegalArgumentException("color is null");
+    }
+    awaitJoined(Protocol.frame(Protocol.JOIN, body -> {
+      body.writeLong(id);
+      body.writeByte(color.ordinal());
+    }));
+  }
+
+  /**
+   * Returns the mirror of the game at the last position the server sent.
+   *
+   * @return the mirror, whose players have empty decks, or null before the first position
+   */
+  public BasicSanguineModel getModel() {
+    return model;
+  }
+
+  /**
+   * Returns whether the client holds a seat.
+   *
+   * @param color the seat
+   * @return true if the client plays that side
+   */
+  public boolean holds(PlayerColor color) {
+    return (seats & 1 << color.ordinal()) != 0;
+  }
+
+  /**
+   * Returns a future that completes with the final position once the game is over, or
+   * completes exceptionally if the session fails or the connection closes first.
+   *
+   * @return the future
+   */
+  public CompletableFuture<BasicSanguineModel> getEnded() {
+    return ended;
+  }
+
+  /**
+   * Returns the amount of requests the server has rejected.
+   *
+   * @return the errors
+   */
+  public int getErrorCount() {
+    return errors.get();
+  }
+
+  @Override
+  public void notifyTurn() throws IOException {
+    if (strategy == null) {
+      return;
+    }
+    BasicSanguineModel mirror = model;
+    Coordinates coor = strategy.choose(mirror, mirror.getTurn().getColor());
+    if (coor == null) {
+      throw new IllegalStateException("Strategy choice is null!");
+    }
+
+    List<Listener> targets = new ArrayList<>(seeSubscribers());
+    targets.add(this);
+    for (Listener listener : targets) {
+      if (coor.col() == -1 || coor.row() == -1 || coor.card() == null) {
+        listener.pressP();
+      } else {
+        listener.clickCard(coor.card());
+        listener.clickCell(coor.row(), coor.col());
+        listener.pressM();
+      }
+    }
+  }
+
+  @Override
+  public synchronized void subscribe(Listener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener is null!");
+    }
+    listeners.add(listener);
+  }
+
+  @Override
+  public synchronized List<Listener> seeSubscribers() {
+    return List.copyOf(listeners);
+  }
+
+  @Override
+  public synchronized void clickCard(SanguineCard card) {
+    selectedCard = card;
+  }
+
+  @Override
+  public synchronized void clickCell(int row, int col) {
+    selectedRow = row;
+    selectedCol = col;
+  }
+
+  @Override
+  public synchronized void pressP() {
+    played = false;
+    sendMove(Protocol.frame(Protocol.PASS, body -> { }));
+  }
+
+  @Override
+  public synchronized void pressM() {
+    if (selectedCard == null || selectedRow == -1 || selectedCol == -1 || model == null) {
+      return;
+    }
+    int index = model.getPlayerHand(model.getTurn().getColor()).indexOf(selectedCard);
+    int row = selectedRow;
+    int col = selectedCol;
+    selectedCard = null;
+    selectedRow = -1;
+    selectedCol = -1;
+    if (index < 0) {
+      return;
+    }
+    played = true;
+    sendMove(Protocol.frame(Protocol.PLAY, body -> {
+      body.writeByte(index);
+      body.writeShort(row);
+      body.writeShort(col);
+    }));
+  }
+
+  /**
+   * Closes the connection. The client's seats are opened again on the server.
+   */
+  @Override
+  public void close() {
+    try {
+      socket.close();
+    } catch (IOException exo) {
+      // closing anyway
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that sends a move and notes when it was sent.
+   *
+   * @param frame the move
+   */
+  private void sendMove(byte[] frame) {
+    sentAt = System.nanoTime();
+    try {
+      send(frame);
+    } catch (IOException exo) {
+      close();
+    }
+  }
+
+  /**
+   * A helper method that writes a frame to the server.
+   *
+   * @param frame the frame
+   * @throws IOException if the connection fails
+   */
+  private void send(byte[] frame) throws IOException {
+    synchronized (out) {
+      Protocol.write(out, frame);
+    }
+  }
+
+  /**
+   * A helper method that sends a CREATE or JOIN request and waits for the server to seat the
+   * client and send the first position. Every request waits on a reply of its own, so a rejected
+   * one leaves the client free to try again, as the connection stays open.
+   *
+   * @param request the request
+   * @return the id of the session
+   * @throws IllegalArgumentException if the server rejected the request
+   * @throws IOException              if the connection failed
+   */
+  private long awaitJoined(byte[] request) throws IOException {
+    CompletableFuture<Long> reply = new CompletableFuture<>();
+    joined = reply;
+    if (closedBy != null) {
+      reply.completeExceptionally(closedBy);
+    }
+    send(request);
+    try {
+      return reply.join();
+    } catch (CompletionException exo) {
+      if (exo.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      throw new IllegalArgumentException(exo.getCause().getMessage(), exo.getCause());
+    }
+  }
+
+  /**
+   * A helper method that reads frames from the server until the connection closes.
+   */
+  private void read() {
+    IOException failure = new IOException("connection closed");
+    try {
+      Protocol.Frame frame;
+      while ((frame = Protocol.read(in)) != null) {
+        handle(frame);
+      }
+    } catch (IOException exo) {
+      failure = exo;
+    } catch (RuntimeException exo) {
+      failure = new IOException("invalid frame from the server: " + exo.getMessage(), exo);
+    } finally {
+      close();
+      closedBy = failure;
+      joined.completeExceptionally(failure);
+      ended.completeExceptionally(failure);
+    }
+  }
+
+  /**
+   * A helper method that acts on one frame from the server.
+   *
+   * @param frame the frame
+   * @throws IOException if the frame is malformed
+   */
+  private void handle(Protocol.Frame frame) throws IOException {
+    DataInputStream body = frame.body();
+    switch (frame.type()) {
+      case Protocol.JOINED -> {
+        sessionId = body.readLong();
+        seats = body.readUnsignedByte();
+        codec = PositionCodec.readCards(body);
+        Protocol.expectEnd(body);
+      }
+      case Protocol.STATE -> {
+        BasicSanguineModel position = codec.readPosition(body);
+        Protocol.expectEnd(body);
+        state(position);
+      }
+      case Protocol.ERROR -> {
+        String message = body.readUTF();
+        if (!joined.isDone()) {
+          joined.completeExceptionally(new IllegalArgumentException(message));
+          return;
+        }
+        errors.incrementAndGet();
+        boolean rejectedMove;
+        synchronized (this) {
+          rejectedMove = played;
+          played = false;
+        }
+        if (rejectedMove && strategy != null) {
+          pressP();
+        }
+      }
+      case Protocol.FAILED -> ended.completeExceptionally(
+          new IllegalStateException(body.readUTF()));
+      default -> throw new IOException("unknown frame type " + frame.type());
+    }
+  }
+
+  /**
+   * A helper method that takes in a new position and takes the turn if it is the client's.
+   *
+   * @param position the position
+   */
+  private void state(BasicSanguineModel position) {
+    synchronized (this) {
+      model = position;
+      played = false;
+      if (sentAt != 0 && latency != null) {
+        latency.record(System.nanoTime() - sentAt);
+      }
+      sentAt = 0;
+    }
+    joined.complete(sessionId);
+    if (position.isGameOver()) {
+      ended.complete(position);
+    } else if (holds(position.getTurn().getColor())) {
+      try {
+        notifyTurn();
+      } catch (IOException | RuntimeException exo) {
+        // a strategy that fails would fail every turn after this one too
+        ended.completeExceptionally(exo);
+        close();
+      }
+    }
+  }
+}
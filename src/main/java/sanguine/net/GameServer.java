@@ -0,0 +1,347 @@
+package sanguine.net;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.DeckCache;
+import sanguine.model.PlayerColor;
+import sanguine.model.PositionCodec;
+import sanguine.model.SanguineCard;
+import sanguine.session.GameSession;
+import sanguine.session.GameSessionManager;
+
+/**
+ * A TCP server on the loopback address that lets clients start games, take seats in them and
+ * play, over the binary Protocol, with the position streamed to every seated client after each
+ * move.
+ *
+ * <p>Games run in the sessions of a GameSessionManager, so the server holds no game state of its
+ * own beyond which connection sits in which seat. Every connection is served by a virtual thread
+ * that reads its requests and another that writes its frames, so thousands of connections cost
+ * little more than their sockets, and a slow client never holds up the session it plays in;
+ * one that stops reading altogether is disconnected once too many frames wait for it.
+ * Positions are encoded once per move, on the session's actor, and the same bytes are queued to
+ * every connection in the session.</p>
+ *
+ * <p>Usage: GameServer [port] [deck], which serves games with that deck for both players until
+ * the process is stopped. Port 0 picks a free port.</p>
+ */
+public final class GameServer implements AutoCloseable {
+  private final GameSessionManager sessions;
+  private final List<SanguineCard> deck;
+  private final ServerSocket socket;
+  private final Map<Long, Table> tables;
+  private final Set<ServerConnection> connections;
+  private Thread acceptor;
+
+  /**
+   * A constructor that binds a server to a port on the loopback address, without accepting
+   * connections yet.
+   *
+   * @param sessions the manager games are hosted in, which the caller keeps and closes
+   * @param deck     the deck of both players in every game
+   * @param port     the port, or 0 for any free one
+   * @throws IllegalArgumentException if the manager or deck is null
+   * @throws IOException              if the port can not be bound
+   */
+  public GameServer(GameSessionManager sessions, List<SanguineCard> deck, int port)
+      throws IOException {
+    if (sessions == null || deck == null) {
+      throw new IllegalArgumentException("session manager or deck is null");
+    }
+    this.sessions = sessions;
+    this.deck = List.copyOf(deck);
+    this.socket = new ServerSocket(port, 4096, InetAddress.getLoopbackAddress());
+    this.tables = new ConcurrentHashMap<>();
+    this.connections = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Serves games until the process is stopped.
+   *
+   * @param args the port and deck
+   * @throws IOException if the deck can not be read or the port can not be bound
+   */
+  public static void main(String[] args) throws IOException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 7878;
+    String deck = args.length > 1 ? args[1] : DeckCache.DEFAULT_DECK_PATH;
+
+    GameSessionManager sessions = new GameSessionManager(Duration.ofMinutes(10));
+    GameServer server = new GameServer(sessions, DeckCache.get(deck), port);
+    server.start();
+    System.out.println("serving games on port " + server.getPort());
+    while (true) {
+      try {
+        Thread.sleep(60_000);
+      } catch (InterruptedException exo) {
+        break;
+      }
+      sessions.expireIdle();
+    }
+    server.close();
+    sessions.close();
+  }
+
+  /**
+   * Starts accepting connections, on a thread of its own.
+   *
+   * @throws IllegalStateException if the server has already been started
+   */
+  public synchronized void start() {
+    if (acceptor != null) {
+      throw new IllegalStateException("server already started");
+    }
+    acceptor = Thread.ofPlatform().daemon().name("game-server-" + getPort()).start(this::accept);
+  }
+
+  /**
+   * Returns the port the server is bound to.
+   *
+   * @return the port
+   */
+  public int getPort() {
+    return socket.getLocalPort();
+  }
+
+  /**
+   * Returns the amount of open connections.
+   *
+   * @return the connections
+   */
+  public int getConnectionCount() {
+    return connections.size();
+  }
+
+  /**
+   * Stops accepting connections and closes every open one. The sessions are left to their
+   * manager.
+   */
+  @Override
+  public void close() {
+    try {
+      socket.close();
+    } catch (IOException exo) {
+      // closing anyway
+    }
+    for (ServerConnection connection : connections) {
+      connection.close();
+    }
+  }
+
+  /**
+   * Returns the manager games are hosted in.
+   *
+   * @return the manager
+   */
+  GameSessionManager getSessions() {
+    return sessions;
+  }
+
+  /**
+   * Returns the deck of both players in every game.
+   *
+   * @return the deck
+   */
+  List<SanguineCard> getDeck() {
+    return deck;
+  }
+
+  /**
+   * Registers the table of a session that has just been created, and forgets it once the game
+   * ends, when there is no seat left worth joining.
+   *
+   * @param table the table
+   */
+  void addTable(Table table) {
+    GameSession session = table.session;
+    tables.put(session.getId(), table);
+    session.getEnded().whenComplete((ended, failure) -> {
+      tables.remove(session.getId());
+      if (failure != null) {
+        table.broadcast(Protocol.message(Protocol.FAILED, failure.getMessage()));
+      }
+    });
+  }
+
+  /**
+   * Looks up the table of a session.
+   *
+   * @param id the id of the session
+   * @return the table, or null if there is none or its game is over
+   */
+  Table getTable(long id) {
+    return tables.get(id);
+  }
+
+  /**
+   * Forgets a connection that has closed.
+   *
+   * @param connection the connection
+   */
+  void removeConnection(ServerConnection connection) {
+    connections.remove(connection);
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that accepts connections until the socket is closed.
+   */
+  private void accept() {
+    while (!socket.isClosed()) {
+      Socket client;
+      try {
+        client = socket.accept();
+      } catch (IOException exo) {
+        return;
+      }
+      ServerConnection connection = new ServerConnection(this, client);
+      connections.add(connection);
+      Thread.ofVirtual().start(connection);
+    }
+  }
+
+  /**
+   * A session as the server sees it: the codec of its positions, the connections in it and
+   * which seats are still open.
+   */
+  static final class Table {
+    private final GameSession session;
+    private final PositionCodec codec;
+    private final byte[] joinedCards;
+    private final List<ServerConnection> seated;
+    private final boolean[] open;
+
+    /**
+     * A constructor for the table of a session that has just been created.
+     *
+     * @param session the session
+     * @param codec   the codec of the session's cards
+     * @param red     whether red's seat is open for joining
+     * @param blue    whether blue's seat is open for joining
+     */
+    Table(GameSession session, PositionCodec codec, boolean red, boolean blue) {
+      this.session = session;
+      this.codec = codec;
+      this.seated = new CopyOnWriteArrayList<>();
+      this.open = new boolean[] {red, blue};
+      try {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.writeCards(new DataOutputStream(bytes));
+        this.joinedCards = bytes.toByteArray();
+      } catch (IOException exo) {
+        throw new IllegalStateException("can not write the card table", exo);
+      }
+      session.addObserver(this::moved);
+    }
+
+    /**
+     * Returns the session.
+     *
+     * @return the session
+     */
+    GameSession getSession() {
+      return session;
+    }
+
+    /**
+     * Takes an open seat.
+     *
+     * @param color the seat
+     * @return true if the seat was open
+     */
+    synchronized boolean claim(PlayerColor color) {
+      if (!open[color.ordinal()]) {
+        return false;
+      }
+      open[color.ordinal()] = false;
+      return true;
+    }
+
+    /**
+     * Opens seats again, after the connection that held them has closed.
+     *
+     * @param seats the seats, as a bit per color
+     */
+    synchronized void release(int seats) {
+      for (PlayerColor color : PlayerColor.values()) {
+        if ((seats & 1 << color.ordinal()) != 0) {
+          open[color.ordinal()] = true;
+        }
+      }
+    }
+
+    /**
+     * Seats a connection: queues the JOINED frame and the current position to it, and streams
+     * every position from then on. Runs on the session's actor, so no move can fall between the
+     * position sent and the stream starting.
+     *
+     * @param connection the connection
+     * @param seats      the seats it holds, as a bit per color
+     * @throws IOException if the session has failed or is closed
+     */
+    void seat(ServerConnection connection, int seats) throws IOException {
+      session.call(model -> {
+        connection.send(Protocol.frame(Protocol.JOINED, out -> {
+          out.writeLong(session.getId());
+          out.writeByte(seats);
+          out.write(joinedCards);
+        }));
+        connection.send(state(model));
+        seated.add(connection);
+        return null;
+      });
+    }
+
+    /**
+     * Stops streaming positions to a connection.
+     *
+     * @param connection the connection
+     */
+    void leave(ServerConnection connection) {
+      seated.remove(connection);
+    }
+
+    /**
+     * Queues a frame to every seated connection.
+     *
+     * @param frame the frame
+     */
+    void broadcast(byte[] frame) {
+      for (ServerConnection connection : seated) {
+        connection.send(frame);
+      }
+    }
+
+    /**
+     * Streams the position after a move.
+     *
+     * @param model the session's model
+     */
+    private void moved(BasicSanguineModel model) {
+      if (!seated.isEmpty()) {
+        broadcast(state(model));
+      }
+    }
+
+    /**
+     * Encodes a position as a STATE frame.
+     *
+     * @param model the session's model
+     * @return the frame
+     */
+    private byte[] state(BasicSanguineModel model) {
+      return Protocol.frame(Protocol.STATE, out -> codec.writePosition(model, out));
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package sanguine.net;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import sanguine.metrics.HistogramSnapshot;
+import sanguine.metrics.LogHistogram;
+import sanguine.model.DeckCache;
+import sanguine.session.GameSessionManager;
+import sanguine.strategies.FirstSpot;
+import sanguine.tournament.Entrant;
+
+/**
+ * Drives many simultaneous games against a GameServer over the loopback address, and reports
+ * how fast they were played and how long each move took to come back.
+ *
+ * <p>Every game is one GameClient playing FirstSpot against MaximizeRowScore run by the server,
+ * with the client red in even games and blue in odd ones. All clients connect and start their
+ * games at once, so the server holds every game open at the same time.</p>
+ *
+ * <p>Usage: LoadTest [games] [deck] [port], which starts a server of its own with that deck
+ * unless the port of a running one is given.</p>
+ */
+public final class LoadTest {
+
+  /**
+   * This class only has static methods.
+   */
+  private LoadTest() {
+  }
+
+  /**
+   * What a load test measured.
+   *
+   * @param games    the games started
+   * @param finished the games played to the end
+   * @param failed   the games stopped by a failure, or not over in time
+   * @param rejected the moves the server rejected
+   * @param nanos    how long the whole test took
+   * @param latency  the time from sending each move to the position after it, in nanoseconds
+   */
+  public record Report(int games, int finished, int failed, int rejected, long nanos,
+                       HistogramSnapshot latency) {
+
+    @Override
+    public String toString() {
+      double seconds = nanos / 1e9;
+      return String.format(Locale.ROOT, "%d games in %.2f s: %d finished, %d failed, "
+              + "%d moves rejected, %.0f games/s, %.0f moves/s, latency p50 %d us, "
+              + "p99 %d us, max %d us", games, seconds, finished, failed, rejected,
+          finished / seconds, latency.getCount() / seconds, latency.getPercentile(50) / 1000,
+          latency.getPercentile(99) / 1000, latency.getMax() / 1000);
+    }
+  }
+
+  /**
+   * Runs a load test.
+   *
+   * @param args the amount of games, the deck and the port of a running server
+   * @throws IOException if the deck can not be read or the server can not be started
+   */
+  public static void main(String[] args) throws IOException {
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    String deck = args.length > 1 ? args[1] : DeckCache.DEFAULT_DECK_PATH;
+    int port = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+    if (port != 0) {
+      System.out.println(run(port, games, 3, 5, 5, 0, Duration.ofMinutes(5)));
+      return;
+    }
+    try (GameSessionManager sessions = new GameSessionManager(Duration.ofMinutes(10));
+         GameServer server = new GameServer(sessions, DeckCache.get(deck), 0)) {
+      server.start();
+      System.out.println(run(server.getPort(), games, 3, 5, 5, 0, Duration.ofMinutes(5)));
+    }
+  }
+
+  /**
+   * Plays games against a running server, all at once.
+   *
+   * @param port     the server's port
+   * @param games    how many games to play
+   * @param rows     the rows of each board
+   * @param cols     the columns of each board
+   * @param handSize the hand size
+   * @param seed     the seed of the first game; game i is dealt from seed + i
+   * @param timeout  how long to wait for the games to end
+   * @return what was measured
+   * @throws IllegalArgumentException if games is not positive or the timeout is null
+   */
+  public static Report run(int port, int games, int rows, int cols, int handSize, long seed,
+                           Duration timeout) {
+    if (games < 1 || timeout == null) {
+      throw new IllegalArgumentException("games must be positive and the timeout not null");
+    }
+    LogHistogram latency = new LogHistogram();
+    List<GameClient> clients = new ArrayList<>(games);
+    int finished = 0;
+    int failed = 0;
+    int rejected = 0;
+    long start = System.nanoTime();
+
+    try (ExecutorService starters = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<GameClient>> started = new ArrayList<>(games);
+      for (int i = 0; i < games; i++) {
+        int game = i;
+        started.add(starters.submit(() -> start(port, rows, cols, handSize, seed + game,
+            game % 2 == 0, latency)));
+      }
+      for (Future<GameClient> future : started) {
+        try {
+          clients.add(future.get());
+        } catch (ExecutionException exo) {
+          failed++;
+        } catch (InterruptedException exo) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("interrupted while starting games");
+        }
+      }
+    }
+
+    long deadline = start + timeout.toNanos();
+    for (GameClient client : clients) {
+      CompletableFuture<?> ended = client.getEnded();
+      try {
+        ended.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        finished++;
+      } catch (ExecutionException | TimeoutException exo) {
+        failed++;
+      } catch (InterruptedException exo) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("interrupted while playing games");
+      } finally {
+        rejected += client.getErrorCount();
+      }
+    }
+    long nanos = System.nanoTime() - start;
+    for (GameClient client : clients) {
+      client.close();
+    }
+    return new Report(games, finished, failed, rejected, nanos, latency.snapshot());
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that connects a client and starts its game.
+   *
+   * @param port     the server's port
+   * @param rows     the rows of the board
+   * @param cols     the columns of the board
+   * @param handSize the hand size
+   * @param seed     the seed of the game
+   * @param red      whether the client plays red
+   * @param latency  where move latencies are recorded
+   * @return the client, playing
+   * @throws IOException if the connection fails
+   */
+  private static GameClient start(int port, int rows, int cols, int handSize, long seed,
+                                  boolean red, LogHistogram latency) throws IOException {
+    GameClient client = new GameClient(port, new FirstSpot(), latency);
+    int server = Protocol.SEAT_AI + Entrant.BUILT_IN.indexOf("MaximizeRowScore");
+    try {
+      client.create(rows, cols, handSize, seed, red ? Protocol.SEAT_CLIENT : server,
+          red ? server : Protocol.SEAT_CLIENT);
+    } catch (IOException | RuntimeException exo) {
+      client.close();
+      throw exo;
+    }
+    return client;
+  }
+}
@@ -0,0 +1,229 @@
+package sanguine.net;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The binary protocol between a GameServer and its clients.
+ *
+ * <p>Every message is a frame: a u32 payload length, a u8 type and the payload. Integers are
+ * big endian and strings modified UTF-8, as written by DataOutput. A client sends:</p>
+ * <ul>
+ *   <li>CREATE: u16 rows, u16 columns, u8 hand size, i64 seed and a u8 seat for red and then
+ *   blue, which starts a game in a new session.</li>
+ *   <li>JOIN: i64 session id and u8 color (0 red, 1 blue), which takes an open seat.</li>
+ *   <li>PLAY: u8 index in the hand, u16 row and u16 column.</li>
+ *   <li>PASS: no payload.</li>
+ * </ul>
+ *
+ * <p>A seat is SEAT_CLIENT for the connection that sends the request, SEAT_OPEN for a player
+ * who joins later, or SEAT_AI plus the index of a strategy in Entrant.BUILT_IN for a player the
+ * server runs. A connection holds at most one session. The server sends:</p>
+ * <ul>
+ *   <li>JOINED: i64 session id, u8 seats held (bit 0 red, bit 1 blue) and the card table, in
+ *   reply to CREATE or JOIN.</li>
+ *   <li>STATE: the position, as written by PositionCodec, once after JOINED and then after
+ *   every move by either player. It is also the reply to a PLAY or PASS that was made.</li>
+ *   <li>ERROR: a message, in reply to a request that was rejected. The connection stays
+ *   open.</li>
+ *   <li>FAILED: a message, when the session stopped because of a failure on the server.</li>
+ * </ul>
+ */
+public final class Protocol {
+  /**
+   * Starts a game in a new session.
+   */
+  public static final int CREATE = 1;
+
+  /**
+   * Takes an open seat in a session.
+   */
+  public static final int JOIN = 2;
+
+  /**
+   * Plays a card from the hand.
+   */
+  public static final int PLAY = 3;
+
+  /**
+   * Passes the turn.
+   */
+  public static final int PASS = 4;
+
+  /**
+   * Confirms a CREATE or JOIN.
+   */
+  public static final int JOINED = 0x81;
+
+  /**
+   * Streams a position.
+   */
+  public static final int STATE = 0x82;
+
+  /**
+   * Rejects a request.
+   */
+  public static final int ERROR = 0x83;
+
+  /**
+   * Reports a session stopped by a failure.
+   */
+  public static final int FAILED = 0x84;
+
+  /**
+   * A seat played by the connection that creates the session.
+   */
+  public static final int SEAT_CLIENT = 0;
+
+  /**
+   * A seat left open for another connection to join.
+   */
+  public static final int SEAT_OPEN = 1;
+
+  /**
+   * The first seat played by the server, with the first strategy of Entrant.BUILT_IN.
+   */
+  public static final int SEAT_AI = 2;
+
+  /**
+   * The largest payload either side accepts.
+   */
+  static final int MAX_PAYLOAD = 1 << 20;
+
+  /**
+   * This class only has static methods.
+   */
+  private Protocol() {
+  }
+
+  /**
+   * The payload of a frame being built.
+   */
+  @FunctionalInterface
+  interface Payload {
+
+    /**
+     * Writes the payload.
+     *
+     * @param out where the payload is written
+     * @throws IOException if writing fails
+     */
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  /**
+   * A frame that has been read.
+   *
+   * @param type    the type of the frame
+   * @param payload the payload
+   */
+  record Frame(int type, byte[] payload) {
+
+    /**
+     * Returns a stream over the payload.
+     *
+     * @return the stream
+     */
+    DataInputStream body() {
+      return new DataInputStream(new ByteArrayInputStream(payload));
+    }
+  }
+
+  /**
+   * Builds a frame.
+   *
+   * @param type    the type of the frame
+   * @param payload writes the payload
+   * @return the frame, ready to be sent
+   * @throws IllegalArgumentException if the payload is too large or can not be written
+   */
+  static byte[] frame(int type, Payload payload) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+    DataOutputStream out = new DataOutputStream(bytes);
+    try {
+      out.writeInt(0);
+      out.writeByte(type);
+      payload.write(out);
+    } catch (IOException exo) {
+      throw new IllegalArgumentException("can not write frame: " + exo.getMessage(), exo);
+    }
+    byte[] frame = bytes.toByteArray();
+    int length = frame.length - 5;
+    if (length > MAX_PAYLOAD) {
+      throw new IllegalArgumentException("frame payload too large: " + length);
+    }
+    frame[0] = (byte) (length >>> 24);
+    frame[1] = (byte) (length >>> 16);
+    frame[2] = (byte) (length >>> 8);
+    frame[3] = (byte) length;
+    return frame;
+  }
+
+  /**
+   * Builds a frame that holds a message.
+   *
+   * @param type    ERROR or FAILED
+   * @param message the message
+   * @return the frame
+   */
+  static byte[] message(int type, String message) {
+    String text = message == null ? "unknown error" : message;
+    String shortened = text.length() > 1000 ? text.substring(0, 1000) : text;
+    return frame(type, out -> out.writeUTF(shortened));
+  }
+
+  /**
+   * Reads the next frame.
+   *
+   * @param in where the frame is read from
+   * @return the frame, or null if the stream ended between frames
+   * @throws IOException if reading fails, the stream ends inside a frame or the frame is too
+   *                     large
+   */
+  static Frame read(InputStream in) throws IOException {
+    DataInputStream data = in instanceof DataInputStream stream ? stream
+        : new DataInputStream(in);
+    int first = data.read();
+    if (first < 0) {
+      return null;
+    }
+    int length = first << 24 | data.readUnsignedByte() << 16 | data.readUnsignedByte() << 8
+        | data.readUnsignedByte();
+    if (length < 0 || length > MAX_PAYLOAD) {
+      throw new IOException("frame payload too large: " + length);
+    }
+    int type = data.readUnsignedByte();
+    byte[] payload = new byte[length];
+    data.readFully(payload);
+    return new Frame(type, payload);
+  }
+
+  /**
+   * Writes a frame and flushes it.
+   *
+   * @param out   where the frame is written
+   * @param frame the frame
+   * @throws IOException if writing fails
+   */
+  static void write(OutputStream out, byte[] frame) throws IOException {
+    out.write(frame);
+    out.flush();
+  }
+
+  /**
+   * Checks that a payload has been read to its end.
+   *
+   * @param body the payload
+   * @throws IOException if bytes are left over
+   */
+  static void expectEnd(DataInputStream body) throws IOException {
+    if (body.available() > 0) {
+      throw new IOException("unexpected bytes after the payload");
+    }
+  }
+}
@@ -0,0 +1,328 @@
+package sanguine.net;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import sanguine.model.PlayerColor;
+import sanguine.model.PositionCodec;
+import sanguine.model.SanguineCard;
+import sanguine.session.GameSession;
+import sanguine.session.PlayerFactory;
+import sanguine.tournament.Entrant;
+
+/**
+ * One client of a GameServer. Its requests are read and answered on the virtual thread that
+ * runs it, one at a time, and every frame to it is queued to a writer thread of its own.
+ *
+ * <p>A request the server rejects is answered with an ERROR frame and the connection carries on;
+ * a malformed frame or a broken socket closes it. When a connection closes, the seats it held are
+ * opened again, so its player can reconnect and join.</p>
+ *
+ * <p>At most MAX_QUEUED frames wait to be written. A client that stops reading while its game
+ * goes on would otherwise grow the server's heap by a position every move, so once its queue is
+ * full the connection is closed, as a broken socket would be.</p>
+ */
+final class ServerConnection implements Runnable {
+  // the frames that may wait to be written before the client is taken to have stopped reading
+  static final int MAX_QUEUED = 1024;
+  private static final byte[] CLOSED = new byte[0];
+
+  private final GameServer server;
+  private final Socket socket;
+  private final BlockingQueue<byte[]> outbox;
+  private GameServer.Table table;
+  private int seats;
+
+  /**
+   * A constructor for a connection that has just been accepted.
+   *
+   * @param server the server
+   * @param socket the connection's socket
+   */
+  ServerConnection(GameServer server, Socket socket) {
+    this.server = server;
+    this.socket = socket;
+    this.outbox = new LinkedBlockingQueue<>(MAX_QUEUED);
+  }
+
+  @Override
+  public void run() {
+    try (socket) {
+      socket.setTcpNoDelay(true);
+      InputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+      Thread writer = Thread.ofVirtual().start(() -> write(out));
+      try {
+        Protocol.Frame frame;
+        while ((frame = Protocol.read(in)) != null) {
+          handle(frame);
+        }
+      } finally {
+        if (!outbox.offer(CLOSED)) {
+          // the writer is stuck behind a full queue, so only closing the socket stops it
+          close();
+        }
+        writer.join();
+      }
+    } catch (IOException | InterruptedException exo) {
+      // the client went away
+    } finally {
+      if (table != null) {
+        table.leave(this);
+        table.release(seats);
+      }
+      server.removeConnection(this);
+    }
+  }
+
+  /**
+   * Queues a frame to be written to the client, or closes the connection if the client has
+   * fallen MAX_QUEUED frames behind. Never blocks, so a slow client can not hold up a session.
+   *
+   * @param frame the frame
+   */
+  void send(byte[] frame) {
+    if (!outbox.offer(frame)) {
+      close();
+    }
+  }
+
+  /**
+   * Closes the connection from the server's side.
+   */
+  void close() {
+    try {
+      socket.close();
+    } catch (IOException exo) {
+      // closing anyway
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that answers one request.
+   *
+   * @param frame the request
+   * @throws IOException if the request is malformed
+   */
+  private void handle(Protocol.Frame frame) throws IOException {
+    DataInputStream body = frame.body();
+    try {
+      switch (frame.type()) {
+        case Protocol.CREATE -> create(body);
+        case Protocol.JOIN -> join(body);
+        case Protocol.PLAY -> play(body);
+        case Protocol.PASS -> pass(body);
+        default -> throw new IOException("unknown request type " + frame.type());
+      }
+    } catch (IllegalArgumentException | IllegalStateException exo) {
+      send(Protocol.message(Protocol.ERROR, exo.getMessage()));
+    }
+  }
+
+  /**
+   * A helper method that starts a game in a new session and seats the connection in it.
+   *
+   * @param body the payload of the request
+   * @throws IOException if the request is malformed
+   */
+  private void create(DataInputStream body) throws IOException {
+    int rows = body.readUnsignedShort();
+    int cols = body.readUnsignedShort();
+    int handSize = body.readUnsignedByte();
+    long seed = body.readLong();
+    int red = body.readUnsignedByte();
+    int blue = body.readUnsignedByte();
+    Protocol.expectEnd(body);
+
+    checkNoTable();
+    int held = (red == Protocol.SEAT_CLIENT ? 1 : 0) | (blue == Protocol.SEAT_CLIENT ? 2 : 0);
+    if (held == 0 && red != Protocol.SEAT_OPEN && blue != Protocol.SEAT_OPEN) {
+      throw new IllegalArgumentException("a game needs a seat that is not played by the server");
+    }
+    List<SanguineCard> deck = server.getDeck();
+    // a game needs a card for every cell, so a board larger than the deck is refused before the
+    // session allocates it
+    if ((long) rows * cols > deck.size()) {
+      throw new IllegalArgumentException("a " + rows + "x" + cols + " board needs more than the "
+          + deck.size() + " cards in the deck");
+    }
+    GameSession session = server.getSessions().create(rows, cols, deck, deck, handSize, seed,
+        factory(red), factory(blue));
+    GameServer.Table created = new GameServer.Table(session, session.call(PositionCodec::of),
+        red == Protocol.SEAT_OPEN, blue == Protocol.SEAT_OPEN);
+    server.addTable(created);
+    sit(created, held);
+  }
+
+  /**
+   * A helper method that takes an open seat in a session.
+   *
+   * @param body the payload of the request
+   * @throws IOException if the request is malformed
+   */
+  private void join(DataInputStream body) throws IOException {
+    long id = body.readLong();
+    int side = body.readUnsignedByte();
+    Protocol.expectEnd(body);
+
+    checkNoTable();
+    if (side > 1) {
+      throw new IllegalArgumentException("invalid color " + side);
+    }
+    PlayerColor color = PlayerColor.values()[side];
+    GameServer.Table found = server.getTable(id);
+    if (found == null) {
+      throw new IllegalArgumentException("no open session " + id);
+    }
+    if (!found.claim(color)) {
+      throw new IllegalStateException(color + "'s seat in session " + id + " is taken");
+    }
+    sit(found, 1 << side);
+  }
+
+  /**
+   * A helper method that plays a card from the hand of the side to move.
+   *
+   * @param body the payload of the request
+   * @throws IOException if the request is malformed
+   */
+  private void play(DataInputStream body) throws IOException {
+    int index = body.readUnsignedByte();
+    int row = body.readUnsignedShort();
+    int col = body.readUnsignedShort();
+    Protocol.expectEnd(body);
+
+    GameSession session = checkTable().getSession();
+    PlayerColor color = session.call(model -> {
+      checkMyTurn(model.isGameOver() ? null : model.getTurn().getColor());
+      return model.getTurn().getColor();
+    });
+    SanguineCard card = session.call(model -> {
+      List<SanguineCard> hand = model.getPlayerHand(color);
+      if (index >= hand.size()) {
+        throw new IllegalArgumentException("no card at " + index + " in the hand");
+      }
+      return hand.get(index);
+    });
+    session.playTurn(color, row, col, card);
+  }
+
+  /**
+   * A helper method that passes for the side to move.
+   *
+   * @param body the payload of the request
+   * @throws IOException if the request is malformed
+   */
+  private void pass(DataInputStream body) throws IOException {
+    Protocol.expectEnd(body);
+
+    GameSession session = checkTable().getSession();
+    PlayerColor color = session.call(model -> {
+      checkMyTurn(model.isGameOver() ? null : model.getTurn().getColor());
+      return model.getTurn().getColor();
+    });
+    session.passTurn(color);
+  }
+
+  /**
+   * A helper method that seats the connection at a table.
+   *
+   * @param found the table
+   * @param held  the seats the connection holds, as a bit per color
+   * @throws IOException if the session has failed or is closed
+   */
+  private void sit(GameServer.Table found, int held) throws IOException {
+    table = found;
+    seats = held;
+    found.seat(this, held);
+  }
+
+  /**
+   * A helper method that makes the player for a seat.
+   *
+   * @param seat the seat, as sent in a CREATE request
+   * @return the player factory
+   * @throws IllegalArgumentException if there is no such seat
+   */
+  private static PlayerFactory factory(int seat) {
+    if (seat == Protocol.SEAT_CLIENT || seat == Protocol.SEAT_OPEN) {
+      return PlayerFactory.human();
+    }
+    int strategy = seat - Protocol.SEAT_AI;
+    if (strategy >= Entrant.BUILT_IN.size()) {
+      throw new IllegalArgumentException("invalid seat " + seat);
+    }
+    return PlayerFactory.ai(Entrant.builtIn(Entrant.BUILT_IN.get(strategy)).strategy());
+  }
+
+  /**
+   * A helper method that checks the connection is not seated yet.
+   *
+   * @throws IllegalStateException if it is
+   */
+  private void checkNoTable() {
+    if (table != null) {
+      throw new IllegalStateException("connection is already in session "
+          + table.getSession().getId());
+    }
+  }
+
+  /**
+   * A helper method that returns the table the connection is seated at.
+   *
+   * @return the table
+   * @throws IllegalStateException if it is not seated
+   */
+  private GameServer.Table checkTable() {
+    if (table == null) {
+      throw new IllegalStateException("connection is not in a session");
+    }
+    return table;
+  }
+
+  /**
+   * A helper method that checks the connection holds the seat of the side to move.
+   *
+   * @param color the side to move, or null if the game is over
+   * @throws IllegalStateException if it does not
+   */
+  private void checkMyTurn(PlayerColor color) {
+    if (color == null) {
+      throw new IllegalStateException("the game is over");
+    }
+    if ((seats & 1 << color.ordinal()) == 0) {
+      throw new IllegalStateException("it is not your turn");
+    }
+  }
+
+  /**
+   * A helper method that writes queued frames until the connection closes.
+   *
+   * @param out the socket's stream
+   */
+  private void write(OutputStream out) {
+    try {
+      while (true) {
+        byte[] frame = outbox.take();
+        if (frame == CLOSED) {
+          return;
+        }
+        out.write(frame);
+        if (outbox.isEmpty()) {
+          out.flush();
+        }
+      }
+    } catch (IOException | InterruptedException exo) {
+      close();
+    }
+  }
+}
@@ -0,0 +1,369 @@
+package sanguine.session;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+import sanguine.model.UserPlayer;
+
+/**
+ * One game hosted by a GameSessionManager: a model, the two players on its sides, and the actor
+ * every access to the model runs on.
+ *
+ * <p>The model is not thread safe, so it is only touched by tasks on the session's actor, one at
+ * a time and in the order they were submitted; callers on any thread submit actions and wait for,
+ * or chain on, their results. AI players take their turns in tasks of their own as soon as the
+ * turn reaches them. Human players move through playTurn and passTurn, which check that it is
+ * their turn.</p>
+ *
+ * <p>Observers are told of the position after every move, on the actor and before the next move
+ * is made, so they see every position of the game in order. A move the model throws on after
+ * the turn has already passed still counts as made, and ends the game if it was the second pass
+ * in a row, so observers and the ended future never fall behind the model.</p>
+ */
+public final class GameSession {
+  private static final int FEED_CAPACITY = 64;
+
+  private final long id;
+  private final BasicSanguineModel model;
+  private final SessionActor actor;
+  private final UserPlayer red;
+  private final UserPlayer blue;
+  private final CompletableFuture<Void> ended;
+  private final List<Consumer<BasicSanguineModel>> observers;
+  private volatile SpectatorFeed feed;
+  private volatile long lastActive;
+  private volatile boolean closed;
+
+  /**
+   * A constructor that creates the model and players of a session without starting the game.
+   *
+   * @param id          the id of the session
+   * @param carrier     the executor the session's actor borrows threads from
+   * @param redFactory  creates the red player
+   * @param blueFactory creates the blue player
+   */
+  GameSession(long id, Executor carrier, PlayerFactory redFactory, PlayerFactory blueFactory) {
+    this.id = id;
+    this.model = new BasicSanguineModel();
+    this.actor = new SessionActor(carrier);
+    this.ended = new CompletableFuture<>();
+    this.observers = new CopyOnWriteArrayList<>();
+    this.red = redFactory.create(PlayerColor.RED, model);
+    this.blue = blueFactory.create(PlayerColor.BLUE, model);
+    new SessionController(this, model, red, PlayerColor.RED);
+    new SessionController(this, model, blue, PlayerColor.BLUE);
+    this.lastActive = System.nanoTime();
+  }
+
+  /**
+   * An action on a session's model.
+   *
+   * @param <T> the result of the action
+   */
+  @FunctionalInterface
+  public interface Action<T> {
+
+    /**
+     * Runs the action on the session's actor.
+     *
+     * @param model the model
+     * @return the result
+     * @throws IOException if the model throws it
+     */
+    T apply(BasicSanguineModel model) throws IOException;
+  }
+
+  /**
+   * Returns the id of the session.
+   *
+   * @return the id
+   */
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Returns the player on one side.
+   *
+   * @param color the side
+   * @return the player
+   */
+  public UserPlayer getPlayer(PlayerColor color) {
+    return color == PlayerColor.RED ? red : blue;
+  }
+
+  /**
+   * Runs an action on the session's actor after every action submitted before it.
+   *
+   * @param action the action
+   * @param <T>    the result of the action
+   * @return the result, completed exceptionally with whatever the action threw, or with an
+   *         IllegalStateException if the session is closed
+   * @throws IllegalArgumentException if the action is null
+   */
+  public <T> CompletableFuture<T> submit(Action<T> action) {
+    if (action == null) {
+      throw new IllegalArgumentException("action is null");
+    }
+    CompletableFuture<T> result = new CompletableFuture<>();
+    if (closed) {
+      result.completeExceptionally(new IllegalStateException("session " + id + " is closed"));
+      return result;
+    }
+    lastActive = System.nanoTime();
+    actor.execute(() -> {
+      if (closed) {
+        result.completeExceptionally(new IllegalStateException("session " + id + " is closed"));
+        return;
+      }
+      try {
+        result.complete(action.apply(model));
+      } catch (IOException | RuntimeException exo) {
+        result.completeExceptionally(exo);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Runs an action on the session's actor and waits for its result.
+   *
+   * @param action the action
+   * @param <T>    the result of the action
+   * @return the result
+   * @throws IllegalArgumentException if the action is null or throws it
+   * @throws IllegalStateException    if the session is closed or the action throws it
+   * @throws IOException              if the action throws it
+   */
+  public <T> T call(Action<T> action) throws IOException {
+    try {
+      return submit(action).join();
+    } catch (CompletionException exo) {
+      if (exo.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      if (exo.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw exo;
+    }
+  }
+
+  /**
+   * Plays a card for a player and waits for the move to be made.
+   *
+   * @param color the player
+   * @param row   the row of the cell
+   * @param col   the column of the cell
+   * @param card  the card, from the player's hand
+   * @throws IllegalStateException    if it is not the player's turn or the session is closed
+   * @throws IllegalArgumentException if the model rejects the move
+   * @throws IOException              if the model throws it
+   */
+  public void playTurn(PlayerColor color, int row, int col, SanguineCard card)
+      throws IOException {
+    call(model -> {
+      checkTurn(model, color);
+      try {
+        model.playTurn(row, col, card);
+      } finally {
+        moved(color);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Passes for a player and waits for the pass to be made.
+   *
+   * @param color the player
+   * @throws IllegalStateException if it is not the player's turn or the session is closed
+   * @throws IOException           if the model throws it
+   */
+  public void passTurn(PlayerColor color) throws IOException {
+    call(model -> {
+      checkTurn(model, color);
+      try {
+        model.passTurn();
+      } finally {
+        moved(color);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Adds an observer that is told of the position after every move from now on. It runs on the
+   * session's actor, so it may read the model but must not block or move; an observer that throws
+   * is removed.
+   *
+   * @param observer the observer
+   * @throws IllegalArgumentException if the observer is null
+   */
+  public void addObserver(Consumer<BasicSanguineModel> observer) {
+    if (observer == null) {
+      throw new IllegalArgumentException("observer is null");
+    }
+    observers.add(observer);
+  }
+
+  /**
+   * Removes an observer.
+   *
+   * @param observer the observer
+   */
+  public void removeObserver(Consumer<BasicSanguineModel> observer) {
+    observers.remove(observer);
+  }
+
+  /**
+   * Returns the session's spectator feed, starting it at the current position the first time it
+   * is asked for.
+   *
+   * @return the feed
+   * @throws IllegalStateException if the session is closed
+   * @throws IOException           if the model throws it
+   */
+  public SpectatorFeed getFeed() throws IOException {
+    SpectatorFeed current = feed;
+    if (current != null) {
+      return current;
+    }
+    return call(model -> {
+      if (feed == null) {
+        SpectatorFeed started = new SpectatorFeed(model, FEED_CAPACITY);
+        addObserver(started::publish);
+        feed = started;
+      }
+      return feed;
+    });
+  }
+
+  /**
+   * Returns a future that completes when the game ends, or completes exceptionally with the
+   * failure that stopped it.
+   *
+   * @return the future
+   */
+  public CompletableFuture<Void> getEnded() {
+    return ended;
+  }
+
+  /**
+   * Returns how long it has been since an action was last submitted.
+   *
+   * @return the idle time in nanoseconds
+   */
+  public long getIdleNanos() {
+    return System.nanoTime() - lastActive;
+  }
+
+  /**
+   * Returns whether the session has been closed, after which actions are rejected.
+   *
+   * @return true if closed
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Starts the game on the actor and waits for it to start.
+   *
+   * @param rows     the rows of the board
+   * @param cols     the columns of the board
+   * @param redDeck  red's deck
+   * @param blueDeck blue's deck
+   * @param handSize the hand size
+   * @param seed     the seed the decks are shuffled from
+   * @throws IllegalArgumentException if the model rejects the game
+   * @throws IOException              if the model throws it
+   */
+  void start(int rows, int cols, List<SanguineCard> redDeck, List<SanguineCard> blueDeck,
+             int handSize, long seed) throws IOException {
+    call(model -> {
+      model.startGame(rows, cols, redDeck, blueDeck, handSize, seed);
+      return null;
+    });
+  }
+
+  /**
+   * Returns the actor the session's tasks run on.
+   *
+   * @return the actor
+   */
+  SessionActor getActor() {
+    return actor;
+  }
+
+  /**
+   * Tells every observer of the position after a move, if the turn has passed, and ends the game
+   * if it is over. Only called on the actor.
+   *
+   * @param mover the player who moved
+   */
+  void moved(PlayerColor mover) {
+    if (model.isGameOver()) {
+      end();
+    } else if (model.getTurn().getColor() == mover) {
+      return;
+    }
+    for (Consumer<BasicSanguineModel> observer : observers) {
+      try {
+        observer.accept(model);
+      } catch (RuntimeException exo) {
+        observers.remove(observer);
+      }
+    }
+  }
+
+  /**
+   * Marks the game as ended.
+   */
+  void end() {
+    ended.complete(null);
+  }
+
+  /**
+   * Marks the game as stopped by a failure, for example an AI player whose strategy threw.
+   *
+   * @param failure the failure
+   */
+  void fail(Throwable failure) {
+    ended.completeExceptionally(failure);
+  }
+
+  /**
+   * Closes the session: actions submitted from now on are rejected, and queued ones are
+   * rejected when they come up.
+   */
+  void close() {
+    closed = true;
+    ended.completeExceptionally(new IllegalStateException("session " + id + " is closed"));
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that checks that it is a player's turn.
+   *
+   * @param model the model
+   * @param color the player
+   * @throws IllegalStateException if the game is over or it is the other player's turn
+   */
+  private static void checkTurn(BasicSanguineModel model, PlayerColor color) {
+    if (model.isGameOver()) {
+      throw new IllegalStateException("the game is over");
+    }
+    if (model.getTurn().getColor() != color) {
+      throw new IllegalStateException("it is not " + color + "'s turn");
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package sanguine.session;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import sanguine.model.DeckCache;
+import sanguine.model.SanguineCard;
+
+/**
+ * Hosts many games in one JVM, each in a GameSession looked up by id.
+ *
+ * <p>Every session runs its model on an actor of its own, and actors borrow virtual threads from
+ * one executor only while they have work, so an idle session costs only its model, players and
+ * an empty mailbox. Sessions that go unused for longer than the idle timeout are expired by
+ * expireIdle, which the owner calls as often as it likes; expired sessions reject any further
+ * actions.</p>
+ *
+ * <p>Usage: GameSessionManager [sessions rows cols hand size [deck]], which starts that many
+ * idle sessions between two human players and reports the heap each one takes, 10000 3x5 sessions
+ * with hands of five by default.</p>
+ */
+public final class GameSessionManager implements AutoCloseable {
+  private static final long BYTES_PER_GB = 1L << 30;
+
+  private final Map<Long, GameSession> sessions;
+  private final AtomicLong ids;
+  private final ExecutorService carrier;
+  private final long idleTimeout;
+
+  /**
+   * A constructor that takes in how long a session may go unused before it expires.
+   *
+   * @param idleTimeout the idle timeout
+   * @throws IllegalArgumentException if the timeout is null or negative
+   */
+  public GameSessionManager(Duration idleTimeout) {
+    if (idleTimeout == null || idleTimeout.isNegative()) {
+      throw new IllegalArgumentException("idle timeout is null or negative");
+    }
+    this.sessions = new ConcurrentHashMap<>();
+    this.ids = new AtomicLong();
+    this.carrier = Executors.newVirtualThreadPerTaskExecutor();
+    this.idleTimeout = idleTimeout.toNanos();
+  }
+
+  /**
+   * Reports the heap an idle session takes.
+   *
+   * @param args nothing, or the amount of sessions, the rows, columns and hand size, then
+   *             optionally the deck
+   * @throws IOException if the deck can not be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 0 && args.length != 4 && args.length != 5) {
+      System.err.println("usage: GameSessionManager [<sessions> <rows> <cols> <hand size> "
+          + "[deck]]");
+      System.exit(1);
+    }
+
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+    int rows = args.length > 0 ? Integer.parseInt(args[1]) : 3;
+    int cols = args.length > 0 ? Integer.parseInt(args[2]) : 5;
+    int handSize = args.length > 0 ? Integer.parseInt(args[3]) : 5;
+    String deck = args.length > 4 ? args[4] : DeckCache.DEFAULT_DECK_PATH;
+
+    long bytes = measureIdleSession(count, rows, cols, DeckCache.get(deck), handSize);
+    System.out.printf(Locale.ROOT, "%d idle %dx%d sessions: %d bytes each, %d per GB of heap%n",
+        count, rows, cols, bytes, BYTES_PER_GB / Math.max(1, bytes));
+  }
+
+  /**
+   * Starts a game in a new session.
+   *
+   * @param rows     the rows of the board
+   * @param cols     the columns of the board
+   * @param redDeck  red's deck, which the session copies
+   * @param blueDeck blue's deck, which the session copies
+   * @param handSize the hand size
+   * @param seed     the seed the decks are shuffled from
+   * @param red      creates the red player
+   * @param blue     creates the blue player
+   * @return the session, with the game started
+   * @throws IllegalArgumentException if a deck or factory is null or the model rejects the game
+   * @throws IllegalStateException    if the manager is closed
+   * @throws IOException              if the model throws it
+   */
+  public GameSession create(int rows, int cols, List<SanguineCard> redDeck,
+                            List<SanguineCard> blueDeck, int handSize, long seed,
+                            PlayerFactory red, PlayerFactory blue) throws IOException {
+    if (redDeck == null || blueDeck == null || red == null || blue == null) {
+      throw new IllegalArgumentException("a deck or player factory is null");
+    }
+    if (carrier.isShutdown()) {
+      throw new IllegalStateException("the session manager is closed");
+    }
+    GameSession session = new GameSession(ids.incrementAndGet(), carrier, red, blue);
+    session.start(rows, cols, new ArrayList<>(redDeck), new ArrayList<>(blueDeck), handSize,
+        seed);
+    sessions.put(session.getId(), session);
+    return session;
+  }
+
+  /**
+   * Looks up a session.
+   *
+   * @param id the id of the session
+   * @return the session, or null if there is none or it has expired
+   */
+  public GameSession get(long id) {
+    return sessions.get(id);
+  }
+
+  /**
+   * Expires a session now.
+   *
+   * @param id the id of the session
+   * @return true if the session existed
+   */
+  public boolean expire(long id) {
+    GameSession session = sessions.remove(id);
+    if (session == null) {
+      return false;
+    }
+    session.close();
+    return true;
+  }
+
+  /**
+   * Expires every session no action has been submitted to for longer than the idle timeout.
+   *
+   * @return the amount of sessions expired
+   */
+  public int expireIdle() {
+    int expired = 0;
+    for (GameSession session : sessions.values()) {
+      if (session.getIdleNanos() > idleTimeout && expire(session.getId())) {
+        expired++;
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * Returns the amount of live sessions.
+   *
+   * @return the amount of sessions
+   */
+  public int getSessionCount() {
+    return sessions.size();
+  }
+
+  /**
+   * Expires every session and stops lending threads to their actors.
+   */
+  @Override
+  public void close() {
+    for (Long id : List.copyOf(sessions.keySet())) {
+      expire(id);
+    }
+    carrier.shutdown();
+  }
+
+  /**
+   * Measures the heap an idle session takes, by starting sessions between two human players in a
+   * new manager and comparing the heap in use, after garbage collection, before and after.
+   *
+   * @param count    how many sessions to start; more give a steadier figure
+   * @param rows     the rows of each board
+   * @param cols     the columns of each board
+   * @param deck     the deck of both players
+   * @param handSize the hand size
+   * @return the bytes per session
+   * @throws IllegalArgumentException if count is not positive or the model rejects the game
+   * @throws IOException              if the model throws it
+   */
+  public static long measureIdleSession(int count, int rows, int cols, List<SanguineCard> deck,
+                                        int handSize) throws IOException {
+    if (count < 1) {
+      throw new IllegalArgumentException("count must be positive");
+    }
+    try (GameSessionManager manager = new GameSessionManager(Duration.ofHours(1))) {
+      // one session first, so classes and shared structures are not charged to the others
+      manager.create(rows, cols, deck, deck, handSize, 0, PlayerFactory.human(),
+          PlayerFactory.human());
+      long before = usedHeap();
+      for (int i = 0; i < count; i++) {
+        manager.create(rows, cols, deck, deck, handSize, i, PlayerFactory.human(),
+            PlayerFactory.human());
+      }
+      long after = usedHeap();
+      return Math.max(0, after - before) / count;
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that returns the heap in use after asking for a few garbage collections.
+   *
+   * @return the bytes in use
+   */
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException exo) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("interrupted while measuring the heap");
+      }
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
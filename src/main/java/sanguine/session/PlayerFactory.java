@@ -0,0 +1,48 @@
+package sanguine.session;
+
+import java.util.function.Supplier;
+import sanguine.model.AiPlayer;
+import sanguine.model.HumanPlayer;
+import sanguine.model.ModelReadOnlyInterface;
+import sanguine.model.PlayerColor;
+import sanguine.model.UserPlayer;
+import sanguine.strategies.BasicStrategy;
+
+/**
+ * Creates the player on one side of a session once its model exists.
+ */
+@FunctionalInterface
+public interface PlayerFactory {
+
+  /**
+   * Creates a player.
+   *
+   * @param color the player's color
+   * @param model the session's model, read only
+   * @return the player
+   */
+  UserPlayer create(PlayerColor color, ModelReadOnlyInterface model);
+
+  /**
+   * Returns a factory for a human player, whose moves are made through the session.
+   *
+   * @return the factory
+   */
+  static PlayerFactory human() {
+    return (color, model) -> new HumanPlayer(color);
+  }
+
+  /**
+   * Returns a factory for an AI player that plays its turns on the session's actor.
+   *
+   * @param strategy creates the player's strategy
+   * @return the factory
+   * @throws IllegalArgumentException if the supplier is null
+   */
+  static PlayerFactory ai(Supplier<? extends BasicStrategy> strategy) {
+    if (strategy == null) {
+      throw new IllegalArgumentException("strategy is null");
+    }
+    return (color, model) -> new AiPlayer(strategy.get(), color, model);
+  }
+}
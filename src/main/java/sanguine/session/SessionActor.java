@@ -0,0 +1,65 @@
+package sanguine.session;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the tasks of one session one at a time, in the order they were submitted, on threads
+ * borrowed from a shared executor.
+ *
+ * <p>Tasks wait in a mailbox. The first task submitted to an idle actor borrows a thread that
+ * drains the mailbox and returns once it is empty, so an idle session holds no thread at all and
+ * thousands of sessions can share a few carriers, or one virtual thread each while busy.</p>
+ */
+final class SessionActor implements Executor {
+  private final Executor carrier;
+  private final Queue<Runnable> mailbox;
+  private final AtomicBoolean draining;
+
+  /**
+   * A constructor that takes in the executor the actor borrows threads from.
+   *
+   * @param carrier the executor
+   */
+  SessionActor(Executor carrier) {
+    this.carrier = carrier;
+    this.mailbox = new ConcurrentLinkedQueue<>();
+    this.draining = new AtomicBoolean();
+  }
+
+  /**
+   * Queues a task to run after every task submitted before it.
+   *
+   * @param task the task; a task that throws does not stop the ones after it
+   */
+  @Override
+  public void execute(Runnable task) {
+    mailbox.add(task);
+    if (draining.compareAndSet(false, true)) {
+      carrier.execute(this::drain);
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that runs queued tasks until the mailbox is empty. A task queued after the
+   * last poll but before the flag is cleared would otherwise be stranded, so the mailbox is
+   * checked again once the flag is down.
+   */
+  private void drain() {
+    do {
+      Runnable task;
+      while ((task = mailbox.poll()) != null) {
+        try {
+          task.run();
+        } catch (RuntimeException exo) {
+          // the task reports its own failure; the session keeps running
+        }
+      }
+      draining.set(false);
+    } while (!mailbox.isEmpty() && draining.compareAndSet(false, true));
+  }
+}
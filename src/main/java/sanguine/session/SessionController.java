@@ -0,0 +1,135 @@
+package sanguine.session;
+
+import java.io.IOException;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.ModelListener;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+import sanguine.model.UserPlayer;
+import sanguine.view.Listener;
+
+/**
+ * The controller of one side of a session: SanguinePlayerController without a view.
+ *
+ * <p>It listens to the model for turn changes and to its player for moves. A player is told of
+ * its turn in a new task on the session's actor rather than from inside the move that ended the
+ * last turn, so a game between two AI players takes one task per turn instead of recursing
+ * through the whole game. A move the model rejects as illegal is played as a pass, since an AI
+ * player would only choose it again; any other failure fails the session.</p>
+ */
+final class SessionController implements Listener, ModelListener {
+  private final GameSession session;
+  private final BasicSanguineModel model;
+  private final UserPlayer player;
+  private final PlayerColor color;
+  private SanguineCard selectedCard;
+  private int selectedRow = -1;
+  private int selectedCol = -1;
+
+  /**
+   * A constructor that subscribes a controller to the model and its player.
+   *
+   * @param session the session
+   * @param model   the session's model
+   * @param player  the player
+   * @param color   the player's color
+   */
+  SessionController(GameSession session, BasicSanguineModel model, UserPlayer player,
+                    PlayerColor color) {
+    this.session = session;
+    this.model = model;
+    this.player = player;
+    this.color = color;
+    model.addControllerSubscriber(this);
+    player.subscribe(this);
+  }
+
+  @Override
+  public void turnChanged(PlayerColor color) {
+    if (this.color == color) {
+      session.getActor().execute(this::notifyTurn);
+    }
+  }
+
+  @Override
+  public void notifyGameEnded() {
+    session.end();
+  }
+
+  @Override
+  public void clickCard(SanguineCard card) {
+    selectedCard = card;
+  }
+
+  @Override
+  public void clickCell(int row, int col) {
+    selectedRow = row;
+    selectedCol = col;
+  }
+
+  @Override
+  public void pressP() {
+    if (isMyTurn()) {
+      try {
+        model.passTurn();
+      } catch (IOException | RuntimeException exo) {
+        session.fail(exo);
+        return;
+      }
+      session.moved(color);
+    }
+  }
+
+  @Override
+  public void pressM() {
+    if (!isMyTurn() || selectedCard == null || selectedRow == -1 || selectedCol == -1) {
+      return;
+    }
+    SanguineCard card = selectedCard;
+    int row = selectedRow;
+    int col = selectedCol;
+    selectedCard = null;
+    selectedRow = -1;
+    selectedCol = -1;
+
+    try {
+      model.playTurn(row, col, card);
+    } catch (IllegalArgumentException exo) {
+      if (isMyTurn()) {
+        // rejected before the board changed
+        pressP();
+        return;
+      }
+    } catch (IOException | IllegalStateException exo) {
+      session.fail(exo);
+      return;
+    }
+    session.moved(color);
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that tells the player it is its turn, unless the turn has moved on or the
+   * session has ended since the task was queued.
+   */
+  private void notifyTurn() {
+    if (!isMyTurn()) {
+      return;
+    }
+    try {
+      player.notifyTurn();
+    } catch (IOException | RuntimeException exo) {
+      session.fail(exo);
+    }
+  }
+
+  /**
+   * A helper method that decides whether this side may move.
+   *
+   * @return true if the session is live, the game is not over and it is this side's turn
+   */
+  private boolean isMyTurn() {
+    return !session.isClosed() && !model.isGameOver() && model.getTurn().getColor() == color;
+  }
+}
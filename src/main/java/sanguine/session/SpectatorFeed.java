@@ -0,0 +1,284 @@
+package sanguine.session;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import sanguine.model.BoardView;
+import sanguine.model.ModelReadOnlyInterface;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+
+/**
+ * A live feed of one game for any number of spectators: a snapshot of the game, then one delta
+ * per move holding only the cells and row scores the move changed and the side to move.
+ *
+ * <p>Frames are computed once per move, on the session's actor, and published to a ring buffer
+ * every spectator reads from at its own pace, so the game never waits for a spectator and a
+ * thousand spectators cost no more to feed than one. A snapshot is also taken every half ring
+ * of moves. A spectator that falls a whole ring behind has lost deltas it needs, so instead of
+ * holding the game up it skips ahead to the latest snapshot and carries on from there.</p>
+ */
+public final class SpectatorFeed {
+  private static final int EMPTY = 0;
+
+  private final AtomicReferenceArray<SpectatorFrame> ring;
+  private final int mask;
+  private final int snapshotInterval;
+  private final Object signal;
+  private final AtomicInteger waiting;
+  private volatile SpectatorFrame snapshot;
+  private volatile long sequence;
+
+  // the last published position, only touched on the actor
+  private final int rows;
+  private final int cols;
+  private final int[] codes;
+  private final SanguineCard[] cards;
+  private final int[] redScores;
+  private final int[] blueScores;
+
+  /**
+   * A constructor that starts a feed at a game's current position.
+   *
+   * @param model    the started game
+   * @param capacity the frames the ring holds, a power of two from 2
+   * @throws IllegalArgumentException if the capacity is not a power of two from 2
+   */
+  SpectatorFeed(ModelReadOnlyInterface model, int capacity) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("capacity must be a power of two from 2: " + capacity);
+    }
+    BoardView board = model.getBoardView();
+    this.ring = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+    this.snapshotInterval = capacity / 2;
+    this.signal = new Object();
+    this.waiting = new AtomicInteger();
+    this.rows = board.getRows();
+    this.cols = board.getCols();
+    this.codes = new int[rows * cols];
+    this.cards = new SanguineCard[rows * cols];
+    this.redScores = new int[rows];
+    this.blueScores = new int[rows];
+
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        codes[row * cols + col] = -1;
+      }
+      redScores[row] = -1;
+    }
+    SpectatorFrame first = frame(model, 0, true);
+    ring.set(0, first);
+    this.snapshot = first;
+  }
+
+  /**
+   * A spectator's place in a feed.
+   *
+   * <p>A subscription is meant for one thread; any number of them may read the same feed at
+   * once.</p>
+   */
+  public final class Subscription {
+    private long next = -1;
+    private long skipped;
+
+    /**
+     * A constructor for a subscription that starts with the latest snapshot.
+     */
+    private Subscription() {
+    }
+
+    /**
+     * Returns the next frame without waiting: the latest snapshot first, then every delta after
+     * it in order, or the latest snapshot again after falling too far behind.
+     *
+     * @return the frame, or null if the spectator is up to date
+     */
+    public SpectatorFrame poll() {
+      if (next < 0) {
+        return skipToSnapshot();
+      }
+      if (next > sequence) {
+        return null;
+      }
+      SpectatorFrame frame = ring.get((int) (next & mask));
+      if (frame == null || frame.sequence() != next) {
+        return skipToSnapshot();
+      }
+      next++;
+      return frame;
+    }
+
+    /**
+     * Returns the next frame, waiting for the next move if the spectator is up to date.
+     *
+     * @param timeout how long to wait at most
+     * @return the frame, or null if no move was made in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public SpectatorFrame next(Duration timeout) throws InterruptedException {
+      long deadline = System.nanoTime() + timeout.toNanos();
+      while (true) {
+        SpectatorFrame frame = poll();
+        if (frame != null) {
+          return frame;
+        }
+        long left = deadline - System.nanoTime();
+        if (left <= 0) {
+          return null;
+        }
+        waiting.incrementAndGet();
+        try {
+          synchronized (signal) {
+            if (next > sequence) {
+              TimeUnit.NANOSECONDS.timedWait(signal, left);
+            }
+          }
+        } finally {
+          waiting.decrementAndGet();
+        }
+      }
+    }
+
+    /**
+     * Returns how many deltas the spectator skipped by falling behind.
+     *
+     * @return the deltas skipped
+     */
+    public long getSkipped() {
+      return skipped;
+    }
+
+    /**
+     * A helper method that moves the subscription to the latest snapshot.
+     *
+     * @return the snapshot
+     */
+    private SpectatorFrame skipToSnapshot() {
+      SpectatorFrame latest = snapshot;
+      if (next >= 0) {
+        skipped += latest.sequence() - next + 1;
+      }
+      next = latest.sequence() + 1;
+      return latest;
+    }
+  }
+
+  /**
+   * Subscribes a spectator, who first reads the latest snapshot.
+   *
+   * @return the subscription
+   */
+  public Subscription subscribe() {
+    return new Subscription();
+  }
+
+  /**
+   * Returns the sequence number of the newest frame.
+   *
+   * @return the moves published so far
+   */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Returns the frames the ring holds.
+   *
+   * @return the capacity
+   */
+  public int getCapacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Publishes the delta of a move. Only called on the session's actor, once per move.
+   *
+   * @param model the session's model, after the move
+   */
+  void publish(ModelReadOnlyInterface model) {
+    long published = sequence + 1;
+    SpectatorFrame delta = frame(model, published, false);
+    ring.set((int) (published & mask), delta);
+    if (published % snapshotInterval == 0) {
+      snapshot = snapshotOfCurrent(delta);
+    }
+    sequence = published;
+    if (waiting.get() > 0) {
+      synchronized (signal) {
+        signal.notifyAll();
+      }
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that builds a frame of the cells and row scores that changed since the last
+   * one, and remembers them. When nothing was remembered yet every cell counts as changed.
+   *
+   * @param model    the game
+   * @param number   the sequence number of the frame
+   * @param complete whether the frame is a snapshot
+   * @return the frame
+   */
+  private SpectatorFrame frame(ModelReadOnlyInterface model, long number, boolean complete) {
+    BoardView board = model.getBoardView();
+    List<SpectatorFrame.Cell> changed = new ArrayList<>();
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        PlayerColor owner = board.getOwner(row, col);
+        boolean hasCard = board.hasCard(row, col);
+        int pawns = board.getPawnCount(row, col);
+        int code = owner == null ? EMPTY
+            : (owner.ordinal() + 1) | pawns << 2 | (hasCard ? 1 << 8 : 0);
+        int index = row * cols + col;
+        if (code == codes[index]) {
+          continue;
+        }
+        codes[index] = code;
+        cards[index] = hasCard ? model.getCellAt(row, col).getCard() : null;
+        changed.add(new SpectatorFrame.Cell(row, col, owner, pawns, cards[index]));
+      }
+    }
+
+    List<SpectatorFrame.RowScore> scores = new ArrayList<>();
+    for (int row = 0; row < rows; row++) {
+      int red = board.getRowScore(PlayerColor.RED, row);
+      int blue = board.getRowScore(PlayerColor.BLUE, row);
+      if (red != redScores[row] || blue != blueScores[row]) {
+        redScores[row] = red;
+        blueScores[row] = blue;
+        scores.add(new SpectatorFrame.RowScore(row, red, blue));
+      }
+    }
+    return new SpectatorFrame(number, complete, rows, cols, model.getTurn().getColor(),
+        model.isGameOver(), changed, scores);
+  }
+
+  /**
+   * A helper method that builds a snapshot from the remembered position, which a delta has just
+   * brought up to date.
+   *
+   * @param delta the delta just built
+   * @return the snapshot
+   */
+  private SpectatorFrame snapshotOfCurrent(SpectatorFrame delta) {
+    List<SpectatorFrame.Cell> all = new ArrayList<>(rows * cols);
+    List<SpectatorFrame.RowScore> scores = new ArrayList<>(rows);
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        int code = codes[row * cols + col];
+        PlayerColor owner = code == EMPTY ? null : PlayerColor.values()[(code & 3) - 1];
+        all.add(new SpectatorFrame.Cell(row, col, owner, code >> 2 & 0x3F,
+            cards[row * cols + col]));
+      }
+      scores.add(new SpectatorFrame.RowScore(row, redScores[row], blueScores[row]));
+    }
+    return new SpectatorFrame(delta.sequence(), true, rows, cols, delta.turn(), delta.gameOver(),
+        all, scores);
+  }
+}
@@ -0,0 +1,57 @@
+package sanguine.session;
+
+import java.util.List;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+
+/**
+ * One frame of a SpectatorFeed: either a snapshot of the whole game or the delta one move made
+ * to the frame before it.
+ *
+ * <p>A snapshot lists every cell and every row's scores. A delta lists only the cells and row
+ * scores the move changed, so a spectator that applies frames in order to a board of its own
+ * always holds the current position.</p>
+ *
+ * @param sequence the number of moves made before the frame, counting from the start of the feed
+ * @param snapshot whether the frame holds the whole game rather than a delta
+ * @param rows     the rows of the board
+ * @param cols     the columns of the board
+ * @param turn     the side to move
+ * @param gameOver whether the game is over
+ * @param cells    the cells listed, row by row
+ * @param scores   the row scores listed, top to bottom
+ */
+public record SpectatorFrame(long sequence, boolean snapshot, int rows, int cols,
+                             PlayerColor turn, boolean gameOver, List<Cell> cells,
+                             List<RowScore> scores) {
+
+  /**
+   * A constructor that keeps its own copy of the lists.
+   */
+  public SpectatorFrame {
+    cells = List.copyOf(cells);
+    scores = List.copyOf(scores);
+  }
+
+  /**
+   * The contents of one cell.
+   *
+   * @param row   the row of the cell
+   * @param col   the column of the cell
+   * @param owner the owner, or null if the cell is empty
+   * @param pawns the pawns in the cell, 0 once it holds a card
+   * @param card  the card in the cell, or null
+   */
+  public record Cell(int row, int col, PlayerColor owner, int pawns, SanguineCard card) {
+  }
+
+  /**
+   * The scores of one row.
+   *
+   * @param row  the row
+   * @param red  red's score in the row
+   * @param blue blue's score in the row
+   */
+  public record RowScore(int row, int red, int blue) {
+  }
+}
@@ -1,6 +1,5 @@
 package sanguine.strategies;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.List;
 
@@ -24,8 +23,7 @@ public class FirstSpot implements BasicStrategy {
       throw new IllegalArgumentException("model cannot be null");
     }
 
-    List<SanguineCard> fakeDeck = DeckParser.makeDeck("docs"
-              + File.separator + "example.deck");
+    List<SanguineCard> fakeDeck = DeckCache.get(DeckCache.DEFAULT_DECK_PATH);
     SanguinePlayer player = new SanguinePlayer(fakeDeck, color, 7);
     List<SanguineCard> hand = model.getPlayerHand(color);
     model.getBoard();
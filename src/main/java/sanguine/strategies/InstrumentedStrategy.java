@@ -0,0 +1,92 @@
+package sanguine.strategies;
+
+import java.io.IOException;
+import sanguine.metrics.DecisionEvent;
+import sanguine.metrics.DecisionMetrics;
+import sanguine.metrics.DecisionTrace;
+import sanguine.metrics.MetricsRegistry;
+import sanguine.model.BoardView;
+import sanguine.model.ModelReadOnlyInterface;
+import sanguine.model.PlayerColor;
+
+/**
+ * A strategy that makes the same choices as the strategy it wraps while recording every
+ * decision into a MetricsRegistry: how long it took, how many placements it simulated and how
+ * many boards it copied. Each decision is also reported to Flight Recorder as a DecisionEvent.
+ */
+public class InstrumentedStrategy implements BasicStrategy {
+  private final BasicStrategy strategy;
+  private final DecisionMetrics metrics;
+
+  /**
+   * A constructor that records a strategy's decisions under its class name.
+   *
+   * @param strategy the strategy to measure
+   * @param registry where the decisions are recorded
+   * @throws IllegalArgumentException if an argument is null
+   */
+  public InstrumentedStrategy(BasicStrategy strategy, MetricsRegistry registry) {
+    this(strategy, strategy == null ? null : strategy.getClass().getSimpleName(), registry);
+  }
+
+  /**
+   * A constructor that records a strategy's decisions under the given name.
+   *
+   * @param strategy the strategy to measure
+   * @param name     the name the decisions are recorded under
+   * @param registry where the decisions are recorded
+   * @throws IllegalArgumentException if an argument is null
+   */
+  public InstrumentedStrategy(BasicStrategy strategy, String name, MetricsRegistry registry) {
+    if (strategy == null) {
+      throw new IllegalArgumentException("strategy is null");
+    }
+    if (name == null) {
+      throw new IllegalArgumentException("name is null");
+    }
+    if (registry == null) {
+      throw new IllegalArgumentException("registry is null");
+    }
+    this.strategy = strategy;
+    this.metrics = registry.strategy(name);
+  }
+
+  @Override
+  public Coordinates choose(ModelReadOnlyInterface model, PlayerColor color)
+      throws IOException {
+    DecisionEvent event = new DecisionEvent();
+    event.begin();
+    DecisionTrace trace = DecisionTrace.start(metrics);
+    Coordinates choice;
+    try {
+      choice = strategy.choose(model, color);
+    } finally {
+      trace.finish();
+    }
+
+    if (event.shouldCommit()) {
+      BoardView board = model.getBoardView();
+      event.strategy = metrics.getStrategy();
+      event.player = String.valueOf(color);
+      if (board != null) {
+        event.rows = board.getRows();
+        event.cols = board.getCols();
+        event.candidates = model.getPlayerHand(color).size() * event.rows * event.cols;
+      }
+      event.placements = trace.getPlacements();
+      event.boardCopies = trace.getBoardCopies();
+      event.passed = choice == null || choice.card() == null;
+      event.commit();
+    }
+    return choice;
+  }
+
+  /**
+   * Returns the strategy being measured.
+   *
+   * @return the wrapped strategy
+   */
+  public BasicStrategy getStrategy() {
+    return strategy;
+  }
+}
@@ -2,7 +2,6 @@ package sanguine.strategies;
 
 import static sanguine.strategies.SimulatePlacement.pretendPlaceCard;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -72,21 +71,20 @@ public class MaxOwnership implements BasicStrategy {
       throws IOException {
 
     SanguineGameBoard board = model.getBoard().getBoard();
-      List<SanguineCard> fakeDeck = DeckParser.makeDeck("docs"
-              + File.separator + "example.deck");
+      List<SanguineCard> fakeDeck = DeckCache.get(DeckCache.DEFAULT_DECK_PATH);
       SanguinePlayer tempPlayer = new SanguinePlayer(fakeDeck, color, 7);
     if (!model.placeCardLegal(row, col, card, tempPlayer)) {
       return -1;
     }
 
-    board.getCellAt(row, col).placeCard(card, model.getTurn().getColor());
+    board.getCellAt(row, col).placeCard(card, color);
 
-    pretendPlaceCard(board, card, row, col, model.getTurn().getColor(), model);
+    pretendPlaceCard(board, card, row, col, tempPlayer);
     int counter = 0;
 
     for (int r = 0; r < board.getRows(); r++) {
       for (int c = 0; c < board.getCols(); c++) {
-        if (board.getCellAt(r, c).getColor() == model.getTurn().getColor()) {
+        if (board.getCellAt(r, c).getColor() == color) {
           counter++;
         }
       }
@@ -1,6 +1,5 @@
 package sanguine.strategies;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.List;
 
@@ -34,8 +33,7 @@ public class MaximizeRowScore implements BasicStrategy {
     GameBoard board = model.getBoard();
 
     for (int r = 0; r < board.getRows(); r++) {
-        List<SanguineCard> fakeDeck = DeckParser.makeDeck("docs"
-                + File.separator + "example.deck");
+        List<SanguineCard> fakeDeck = DeckCache.get(DeckCache.DEFAULT_DECK_PATH);
       Player oppositePlayer = getOppositePlayer(new SanguinePlayer(fakeDeck, color, 7));
 
       int oppositeScore = model.getRowScore(oppositePlayer.getColor(), r);
@@ -3,9 +3,11 @@ package sanguine.strategies;
 import java.io.IOException;
 import java.util.List;
 import jdk.dynalink.linker.support.SimpleLinkRequest;
+import sanguine.metrics.DecisionTrace;
 import sanguine.model.BasicSanguineModel;
 import sanguine.model.GameBoard;
 import sanguine.model.ModelReadOnlyInterface;
+import sanguine.model.Placement;
 import sanguine.model.PlayerColor;
 import sanguine.model.SanguineBoardCell;
 import sanguine.model.SanguineCard;
@@ -156,38 +158,41 @@ public class MiniMax implements BasicStrategy {
    */
   public static Coordinates executeFirst(ModelReadOnlyInterface model, PlayerColor opponent)
       throws IOException {
-    FirstSpot first = new FirstSpot();
-    Coordinates coords = first.choose(model, opponent);
-    Coordinates coords1 = blockedDaOps(model, coords);
-    return coords1;
+    return DecisionTrace.phase("executeFirst", () -> {
+      FirstSpot first = new FirstSpot();
+      Coordinates coords = first.choose(model, opponent);
+      Coordinates coords1 = blockedDaOps(model, coords);
+      return coords1;
+    });
   }
 
   /**
    * checks to see if there is a possible move that we can do to block the opponent from using
-   * strategy 1.
+   * strategy 1. a move blocks them if it flips the cell they want to play on, so this looks up the
+   * threats the model keeps on that cell instead of simulating every card on every cell. those
+   * are only the placements playTurn really flips the cell with, so the block is never a move
+   * that stops short of it.
    *
    * @param model model
    * @param coords contains the row and col where the opponent will go next if they went to use S1
    *
-   * @return row, col, and card to place at row,col to stop opponent.
-   *
-   * @throws IOException if deck file cannot be read.
+   * @return row, col, and card to place at row,col to stop opponent, or (-1,-1,null) if the
+   *         opponent passes or no card in hand can flip the cell.
    */
-  private static Coordinates blockedDaOps(ModelReadOnlyInterface model, Coordinates coords)
-      throws IOException {
-    for (SanguineCard card : model.getPlayerHand(model.getTurn().getColor())) {
-      for (int r = 0; r < model.getBoard().getRows(); r++) {
-        for (int c = 0; c < model.getBoard().getCols(); c++) {
-          GameBoard board = SimulatePlacement.pretendPlaceCard(model.getBoard(), card, r, c,
-              model.getTurn().getColor(), model);
-          if (board.getCellAt(coords.row(),
-              coords.col()).getColor() == model.getTurn().getColor()) {
-            return new Coordinates(r, c, card);
-          }
-        }
+  private static Coordinates blockedDaOps(ModelReadOnlyInterface model, Coordinates coords) {
+    return DecisionTrace.phase("blockedDaOps", () -> {
+      PlayerColor current = model.getTurn().getColor();
+      if (coords.card() == null
+          || model.getBoardView().getOwner(coords.row(), coords.col()) == current) {
+        return new Coordinates(-1, -1, null);
       }
-    }
-    return new Coordinates(-1, -1, null);
+      List<Placement> threats = model.getThreats(coords.row(), coords.col());
+      if (threats.isEmpty()) {
+        return new Coordinates(-1, -1, null);
+      }
+      Placement first = threats.getFirst();
+      return new Coordinates(first.row(), first.col(), first.card());
+    });
   }
 
   /**
@@ -203,9 +208,11 @@ public class MiniMax implements BasicStrategy {
    */
   public static Coordinates executeSecond(ModelReadOnlyInterface model, PlayerColor opponent)
       throws IOException {
-    MaximizeRowScore max = new MaximizeRowScore();
-    Coordinates coords = max.choose(model, opponent);
-    return blockedDaOps(model, coords);
+    return DecisionTrace.phase("executeSecond", () -> {
+      MaximizeRowScore max = new MaximizeRowScore();
+      Coordinates coords = max.choose(model, opponent);
+      return blockedDaOps(model, coords);
+    });
   }
 
   /**
@@ -221,8 +228,10 @@ public class MiniMax implements BasicStrategy {
    */
   public static Coordinates executeThird(ModelReadOnlyInterface model, PlayerColor opponent)
       throws IOException {
-    MaxOwnership max = new MaxOwnership();
-    Coordinates coords = max.choose(model, opponent);
-    return blockedDaOps(model, coords);
+    return DecisionTrace.phase("executeThird", () -> {
+      MaxOwnership max = new MaxOwnership();
+      Coordinates coords = max.choose(model, opponent);
+      return blockedDaOps(model, coords);
+    });
   }
 }
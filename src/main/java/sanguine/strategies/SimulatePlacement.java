@@ -2,12 +2,12 @@ package sanguine.strategies;
 
 import java.util.ArrayList;
 import java.util.List;
+import sanguine.metrics.DecisionTrace;
+import sanguine.metrics.SimulationEvent;
 import sanguine.model.BasicSanguineBoardCell;
-import sanguine.model.BasicSanguineModel;
-import sanguine.model.ModelReadOnlyInterface;
-import sanguine.model.PlayerColor;
 import sanguine.model.SanguineCard;
 import sanguine.model.SanguineGameBoard;
+import sanguine.model.SanguinePlayer;
 
 /**
  * this code simulates placing a card in a cell on a model. uses similar code to that in the model.
@@ -22,11 +22,14 @@ public class SimulatePlacement {
    * @param card card
    * @param row row
    * @param col col
-   * @param color color of player
-   * @param model so that we can use model.getTurn()
+   * @param player the player placing the card, whose pawns are added and flipped to. this is not
+   *               always the player to move, as strategies simulate the opponent too
    */
-  public static SanguineGameBoard pretendPlaceCard(SanguineGameBoard board, SanguineCard card, int row,
-                                       int col, PlayerColor color, ModelReadOnlyInterface model) {
+  public static SanguineGameBoard pretendPlaceCard(SanguineGameBoard board, SanguineCard card,
+                                                   int row, int col, SanguinePlayer player) {
+    DecisionTrace.countPlacement();
+    SimulationEvent event = new SimulationEvent();
+    event.begin();
 
     //calculates the offset of coords. which cells will contain pawns relative to the cell
     //where the card was placed
@@ -45,11 +48,20 @@ public class SimulatePlacement {
         } catch (Exception ignored) {}
         if (cell.getPawns().isEmpty() || cell.getPawns().size() == 1
             || cell.getPawns().size() == 2) {
-          cell.placePawn(model.getTurn());
+          cell.placePawn(player);
         }
-        cell.changeColorsOfPawns(model.getTurn());
+        cell.changeColorsOfPawns(player);
       } catch (Exception ignored) {}
     }
+
+    if (event.shouldCommit()) {
+      event.rows = board.getRows();
+      event.cols = board.getCols();
+      event.row = row;
+      event.col = col;
+      event.influenced = finalCoords.size();
+      event.commit();
+    }
     return board;
   }
 
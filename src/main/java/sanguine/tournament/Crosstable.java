@@ -0,0 +1,248 @@
+package sanguine.tournament;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The running results of a tournament: every entrant's wins, draws and losses against every
+ * other, and Elo estimates with 95% intervals, for each pairing and for each entrant against the
+ * whole field. Results can be added while the tournament is still playing, from any thread.
+ */
+public final class Crosstable {
+  private final List<String> entrants;
+  private final Map<String, Integer> indexes;
+  // [a][b] holds a's results against b
+  private final int[][] wins;
+  private final int[][] draws;
+  private final int[][] losses;
+  private final int[][] errors;
+  private int games;
+
+  /**
+   * A constructor for an empty crosstable.
+   *
+   * @param entrants the names of the entrants, in the order they are listed
+   * @throws IllegalArgumentException if the names are null or not distinct
+   */
+  public Crosstable(List<String> entrants) {
+    if (entrants == null) {
+      throw new IllegalArgumentException("entrants is null");
+    }
+    this.entrants = List.copyOf(entrants);
+    this.indexes = new HashMap<>();
+    for (String entrant : this.entrants) {
+      if (indexes.put(entrant, indexes.size()) != null) {
+        throw new IllegalArgumentException("entrant listed twice: " + entrant);
+      }
+    }
+    int size = entrants.size();
+    this.wins = new int[size][size];
+    this.draws = new int[size][size];
+    this.losses = new int[size][size];
+    this.errors = new int[size][size];
+  }
+
+  /**
+   * Adds the result of one game.
+   *
+   * @param result the result
+   * @throws IllegalArgumentException if the result is null or an entrant is not listed
+   */
+  public synchronized void add(GameResult result) {
+    if (result == null) {
+      throw new IllegalArgumentException("result is null");
+    }
+    int red = index(result.red());
+    int blue = index(result.blue());
+    games++;
+
+    switch (result.outcome()) {
+      case RED_WIN -> {
+        wins[red][blue]++;
+        losses[blue][red]++;
+      }
+      case BLUE_WIN -> {
+        wins[blue][red]++;
+        losses[red][blue]++;
+      }
+      case DRAW -> {
+        draws[red][blue]++;
+        draws[blue][red]++;
+      }
+      default -> {
+        errors[red][blue]++;
+        errors[blue][red]++;
+      }
+    }
+  }
+
+  /**
+   * Returns one entrant's results against another.
+   *
+   * @param entrant  the entrant
+   * @param opponent the opponent
+   * @return the results, from the entrant's point of view
+   * @throws IllegalArgumentException if either is not listed
+   */
+  public synchronized Record get(String entrant, String opponent) {
+    int a = index(entrant);
+    int b = index(opponent);
+    return new Record(wins[a][b], draws[a][b], losses[a][b], errors[a][b]);
+  }
+
+  /**
+   * Returns one entrant's results against the whole field.
+   *
+   * @param entrant the entrant
+   * @return the results
+   * @throws IllegalArgumentException if the entrant is not listed
+   */
+  public synchronized Record total(String entrant) {
+    int a = index(entrant);
+    Record total = new Record(0, 0, 0, 0);
+    for (int b = 0; b < entrants.size(); b++) {
+      total = total.plus(new Record(wins[a][b], draws[a][b], losses[a][b], errors[a][b]));
+    }
+    return total;
+  }
+
+  /**
+   * Returns the amount of games added, errors included.
+   *
+   * @return the amount of games
+   */
+  public synchronized int getGames() {
+    return games;
+  }
+
+  /**
+   * Returns the names of the entrants, in order.
+   *
+   * @return the entrants
+   */
+  public List<String> getEntrants() {
+    return entrants;
+  }
+
+  /**
+   * Renders the crosstable: one row per entrant, sorted by Elo against the field, with its
+   * wins, draws and losses against every opponent, its score and its Elo estimate.
+   *
+   * @return the rendering, one line per entrant after a heading
+   */
+  public synchronized String render() {
+    List<String> order = new ArrayList<>(entrants);
+    order.sort((a, b) -> Double.compare(total(b).score(), total(a).score()));
+
+    int width = 8;
+    for (String entrant : entrants) {
+      width = Math.max(width, entrant.length() + 2);
+    }
+    int cell = 12;
+
+    StringBuilder out = new StringBuilder();
+    out.append(pad("", width));
+    for (int i = 0; i < order.size(); i++) {
+      out.append(pad(String.valueOf(i + 1), cell));
+    }
+    out.append(pad("games", 8)).append(pad("score", 8)).append(pad("errors", 8))
+        .append("Elo vs field").append(System.lineSeparator());
+
+    for (int i = 0; i < order.size(); i++) {
+      String entrant = order.get(i);
+      out.append(pad((i + 1) + " " + entrant, width));
+      for (String opponent : order) {
+        Record record = get(entrant, opponent);
+        out.append(pad(entrant.equals(opponent) ? "-" : record.wins() + "-" + record.draws()
+            + "-" + record.losses(), cell));
+      }
+      Record total = total(entrant);
+      out.append(pad(String.valueOf(total.games()), 8))
+          .append(pad(total.games() == 0 ? "-"
+              : String.format(Locale.ROOT, "%.1f%%", 100 * total.score()), 8))
+          .append(pad(String.valueOf(total.errors()), 8))
+          .append(total.elo()).append(System.lineSeparator());
+    }
+    return out.toString();
+  }
+
+  /**
+   * One entrant's results against an opponent or the field. Errors are not games.
+   *
+   * @param wins   the wins
+   * @param draws  the draws
+   * @param losses the losses
+   * @param errors the games that failed
+   */
+  public record Record(int wins, int draws, int losses, int errors) {
+
+    /**
+     * Returns the games won, drawn or lost.
+     *
+     * @return the amount of games
+     */
+    public int games() {
+      return wins + draws + losses;
+    }
+
+    /**
+     * Returns the fraction of points scored, with a draw worth half a win.
+     *
+     * @return the score, NaN if there are no games
+     */
+    public double score() {
+      return games() == 0 ? Double.NaN : (wins + 0.5 * draws) / games();
+    }
+
+    /**
+     * Returns the Elo estimate of these results.
+     *
+     * @return the estimate
+     */
+    public Elo elo() {
+      return Elo.estimate(wins, draws, losses);
+    }
+
+    /**
+     * Adds two records.
+     *
+     * @param other the other record
+     * @return the sum
+     */
+    Record plus(Record other) {
+      return new Record(wins + other.wins, draws + other.draws, losses + other.losses,
+          errors + other.errors);
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that returns the index of an entrant.
+   *
+   * @param entrant the name of the entrant
+   * @return the index
+   * @throws IllegalArgumentException if the entrant is not listed
+   */
+  private int index(String entrant) {
+    Integer index = indexes.get(entrant);
+    if (index == null) {
+      throw new IllegalArgumentException("entrant not in the crosstable: " + entrant);
+    }
+    return index;
+  }
+
+  /**
+   * A helper method that pads text with spaces to a width.
+   *
+   * @param text  the text
+   * @param width the width
+   * @return the padded text
+   */
+  private static String pad(String text, int width) {
+    return text.length() >= width ? text + " " : text + " ".repeat(width - text.length());
+  }
+}
@@ -0,0 +1,91 @@
+package sanguine.tournament;
+
+import java.util.Locale;
+
+/**
+ * Elo difference estimates from game scores.
+ *
+ * <p>An entrant that scores s of the points against an opponent is rated 400 log10(s / (1 - s))
+ * above it. The 95% interval comes from the standard error of the mean score over the games,
+ * with draws counted as half a point, mapped through the same curve. A score of 0 or 1 rates
+ * infinitely far apart.</p>
+ *
+ * @param elo  the estimated Elo difference
+ * @param low  the low end of the 95% interval
+ * @param high the high end of the 95% interval
+ */
+public record Elo(double elo, double low, double high) {
+  private static final double Z95 = 1.959964;
+
+  /**
+   * Returns the expected score of an entrant rated the given difference above its opponent.
+   *
+   * @param difference the Elo difference
+   * @return the expected score, from 0 to 1
+   */
+  public static double expectedScore(double difference) {
+    return 1 / (1 + Math.pow(10, -difference / 400));
+  }
+
+  /**
+   * Returns the Elo difference that gives an expected score.
+   *
+   * @param score the score, from 0 to 1
+   * @return the Elo difference, infinite for a score of 0 or 1
+   */
+  public static double fromScore(double score) {
+    if (score <= 0) {
+      return Double.NEGATIVE_INFINITY;
+    }
+    if (score >= 1) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return -400 * Math.log10(1 / score - 1);
+  }
+
+  /**
+   * Estimates an entrant's Elo difference from its results.
+   *
+   * @param wins   the entrant's wins
+   * @param draws  the draws
+   * @param losses the entrant's losses
+   * @return the estimate, NaN if there are no games
+   */
+  public static Elo estimate(int wins, int draws, int losses) {
+    int games = wins + draws + losses;
+    if (games == 0) {
+      return new Elo(Double.NaN, Double.NaN, Double.NaN);
+    }
+    double score = (wins + 0.5 * draws) / games;
+    double variance = (wins * Math.pow(1 - score, 2) + draws * Math.pow(0.5 - score, 2)
+        + losses * Math.pow(score, 2)) / games;
+    double margin = Z95 * Math.sqrt(variance / games);
+    return new Elo(fromScore(score), fromScore(score - margin), fromScore(score + margin));
+  }
+
+  /**
+   * Writes the estimate as "+12.3 [-4.5, +29.0]".
+   *
+   * @return the estimate
+   */
+  @Override
+  public String toString() {
+    return format(elo) + " [" + format(low) + ", " + format(high) + "]";
+  }
+
+  /**
+   * A helper method that writes one Elo difference with its sign.
+   *
+   * @param value the difference
+   * @return the difference
+   */
+  private static String format(double value) {
+    if (Double.isNaN(value)) {
+      return "n/a";
+    }
+    if (Double.isInfinite(value)) {
+      return value > 0 ? "+inf" : "-inf";
+    }
+    return String.format(Locale.ROOT, "%+.1f", value);
+  }
+}
@@ -0,0 +1,57 @@
+package sanguine.tournament;
+
+import java.util.List;
+import java.util.function.Supplier;
+import sanguine.strategies.BasicStrategy;
+import sanguine.strategies.FirstSpot;
+import sanguine.strategies.MaxOwnership;
+import sanguine.strategies.MaximizeRowScore;
+import sanguine.strategies.MiniMax;
+
+/**
+ * A strategy entered in a tournament, under a name. A new strategy is made for every game, so
+ * strategies that keep state between decisions never share it across games or threads.
+ *
+ * @param name     the name the entrant is reported under
+ * @param strategy makes the entrant's strategy for one game
+ */
+public record Entrant(String name, Supplier<BasicStrategy> strategy) {
+  /**
+   * The names of the built in strategies, in order of strength as designed.
+   */
+  public static final List<String> BUILT_IN = List.of("FirstSpot", "MaxOwnership",
+      "MaximizeRowScore", "MiniMax");
+
+  /**
+   * A constructor that checks the entrant is complete.
+   *
+   * @throws IllegalArgumentException if an argument is null or the name is blank or holds a tab
+   */
+  public Entrant {
+    if (name == null || name.isBlank() || name.indexOf('\t') >= 0) {
+      throw new IllegalArgumentException("invalid entrant name: " + name);
+    }
+    if (strategy == null) {
+      throw new IllegalArgumentException("strategy is null");
+    }
+  }
+
+  /**
+   * Returns a built in strategy as an entrant.
+   *
+   * @param name the name of the strategy, one of BUILT_IN
+   * @return the entrant
+   * @throws IllegalArgumentException if there is no such strategy
+   */
+  public static Entrant builtIn(String name) {
+    Supplier<BasicStrategy> strategy = switch (name == null ? "" : name) {
+      case "FirstSpot" -> FirstSpot::new;
+      case "MaxOwnership" -> MaxOwnership::new;
+      case "MaximizeRowScore" -> MaximizeRowScore::new;
+      case "MiniMax" -> MiniMax::new;
+      default -> throw new IllegalArgumentException("no built in strategy " + name + ", expected "
+          + String.join(", ", BUILT_IN));
+    };
+    return new Entrant(name, strategy);
+  }
+}
@@ -0,0 +1,85 @@
+package sanguine.tournament;
+
+/**
+ * The result of one tournament game.
+ *
+ * <p>A game that threw, because a strategy made a move the model rejected or the model itself
+ * failed, is an error. Errors are reported but count for neither entrant.</p>
+ *
+ * @param pairing   the index of the pairing the game belongs to
+ * @param game      the index of the game within its pairing
+ * @param red       the name of the red entrant
+ * @param blue      the name of the blue entrant
+ * @param seed      the seed the game was started with
+ * @param outcome   how the game ended
+ * @param redScore  red's final score, 0 for an error
+ * @param blueScore blue's final score, 0 for an error
+ * @param turns     the turns played, passes included
+ * @param nanos     how long the game took
+ */
+public record GameResult(int pairing, int game, String red, String blue, long seed,
+                         Outcome outcome, int redScore, int blueScore, int turns, long nanos) {
+
+  /**
+   * How a game ended.
+   */
+  public enum Outcome {
+    RED_WIN,
+    BLUE_WIN,
+    DRAW,
+    ERROR
+  }
+
+  /**
+   * Returns the points the named entrant scored in this game: 1 for a win, 0.5 for a draw and 0
+   * for a loss.
+   *
+   * @param entrant the name of the entrant
+   * @return the points
+   * @throws IllegalArgumentException if the entrant did not play or the game was an error
+   */
+  public double pointsFor(String entrant) {
+    if (outcome == Outcome.ERROR) {
+      throw new IllegalArgumentException("an error scores no points");
+    }
+    if (!entrant.equals(red) && !entrant.equals(blue)) {
+      throw new IllegalArgumentException(entrant + " did not play this game");
+    }
+    if (outcome == Outcome.DRAW) {
+      return 0.5;
+    }
+    return (outcome == Outcome.RED_WIN) == entrant.equals(red) ? 1 : 0;
+  }
+
+  /**
+   * Writes the result as one tab separated line, without a line break.
+   *
+   * @return the line
+   */
+  public String toLine() {
+    return pairing + "\t" + game + "\t" + red + "\t" + blue + "\t" + seed + "\t" + outcome
+        + "\t" + redScore + "\t" + blueScore + "\t" + turns + "\t" + nanos;
+  }
+
+  /**
+   * Reads a result written by toLine.
+   *
+   * @param line the line
+   * @return the result
+   * @throws IllegalArgumentException if the line is malformed
+   */
+  public static GameResult parse(String line) {
+    String[] parts = line == null ? new String[0] : line.split("\t", -1);
+    if (parts.length != 10) {
+      throw new IllegalArgumentException("invalid game result: " + line);
+    }
+    try {
+      return new GameResult(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), parts[2],
+          parts[3], Long.parseLong(parts[4]), Outcome.valueOf(parts[5]),
+          Integer.parseInt(parts[6]), Integer.parseInt(parts[7]), Integer.parseInt(parts[8]),
+          Long.parseLong(parts[9]));
+    } catch (IllegalArgumentException exo) {
+      throw new IllegalArgumentException("invalid game result: " + line, exo);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package sanguine.tournament;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import sanguine.metrics.MetricsRegistry;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineBoardCell;
+import sanguine.model.SanguineCard;
+import sanguine.strategies.BasicStrategy;
+import sanguine.strategies.Coordinates;
+import sanguine.strategies.InstrumentedStrategy;
+
+/**
+ * Plays single tournament games between two entrants, without a view or controller: each turn
+ * the mover's strategy chooses, and the choice is played or passed straight on the model.
+ */
+final class Match {
+
+  /**
+   * This class only has static methods.
+   */
+  private Match() {
+  }
+
+  /**
+   * Plays one game. Both players get a copy of the deck, shuffled from the seed.
+   *
+   * @param pairing  the index of the pairing the game belongs to
+   * @param game     the index of the game within its pairing
+   * @param red      the red entrant
+   * @param blue     the blue entrant
+   * @param settings the board, hand and deck of the game
+   * @param seed     the seed of the game
+   * @param registry where the strategies' decisions are recorded
+   * @return the result, an error if the model or a strategy threw
+   */
+  static GameResult play(int pairing, int game, Entrant red, Entrant blue,
+                         TournamentSettings settings, long seed, MetricsRegistry registry) {
+    long start = System.nanoTime();
+    int turns = 0;
+    try {
+      BasicStrategy redStrategy = new InstrumentedStrategy(red.strategy().get(), red.name(),
+          registry);
+      BasicStrategy blueStrategy = new InstrumentedStrategy(blue.strategy().get(), blue.name(),
+          registry);
+      List<SanguineCard> deck = settings.deck();
+      BasicSanguineModel model = new BasicSanguineModel();
+      model.startGame(settings.rows(), settings.cols(), new ArrayList<>(deck),
+          new ArrayList<>(deck), settings.handSize(), seed);
+
+      // every placement fills a cell, so a game that runs past this is stuck
+      int maxTurns = 4 * settings.rows() * settings.cols() + 2;
+      while (!model.isGameOver()) {
+        if (turns++ == maxTurns) {
+          throw new IllegalStateException("game did not end in " + maxTurns + " turns");
+        }
+        PlayerColor color = model.getTurn().getColor();
+        Coordinates choice = (color == PlayerColor.RED ? redStrategy : blueStrategy)
+            .choose(model, color);
+        if (!playable(model, choice, color)) {
+          model.passTurn();
+        } else {
+          model.playTurn(choice.row(), choice.col(), choice.card());
+        }
+      }
+
+      int redScore = model.getScore(PlayerColor.RED);
+      int blueScore = model.getScore(PlayerColor.BLUE);
+      GameResult.Outcome outcome = redScore > blueScore ? GameResult.Outcome.RED_WIN
+          : redScore < blueScore ? GameResult.Outcome.BLUE_WIN : GameResult.Outcome.DRAW;
+      return new GameResult(pairing, game, red.name(), blue.name(), seed, outcome, redScore,
+          blueScore, turns, System.nanoTime() - start);
+    } catch (IOException | RuntimeException exo) {
+      return new GameResult(pairing, game, red.name(), blue.name(), seed,
+          GameResult.Outcome.ERROR, 0, 0, turns, System.nanoTime() - start);
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that decides whether a strategy's choice can be played. A choice of no card
+   * or no cell is a pass, and so is a card the cell can not afford: the strategies ask
+   * placeCardLegal, which lets through cards that cost more than the cell's pawns, and playing
+   * one of those would stop the game.
+   *
+   * @param model  the game
+   * @param choice the strategy's choice, possibly null
+   * @param color  the mover
+   * @return true if the choice is placed, false if the mover passes instead
+   */
+  private static boolean playable(BasicSanguineModel model, Coordinates choice,
+                                  PlayerColor color) {
+    if (choice == null || choice.card() == null || choice.row() < 0 || choice.col() < 0) {
+      return false;
+    }
+    SanguineBoardCell cell = model.getCellAt(choice.row(), choice.col());
+    return !cell.containsCard() && cell.getColor() == color
+        && cell.getPawns().size() >= choice.card().getCost();
+  }
+}
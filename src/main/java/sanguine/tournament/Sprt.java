@@ -0,0 +1,117 @@
+package sanguine.tournament;
+
+/**
+ * A sequential probability ratio test between two Elo differences, used to stop a pairing as
+ * soon as its games show which one it is closer to.
+ *
+ * <p>The log likelihood ratio uses the normal approximation of the trinomial (win, draw, loss)
+ * score distribution: with n games of mean score s and per game variance v, and expected scores
+ * s0 and s1 under elo0 and elo1,</p>
+ * <pre>
+ * LLR = n (s1 - s0) (2 s - s0 - s1) / (2 v)
+ * </pre>
+ * <p>The test accepts elo1 once the ratio reaches log((1 - beta) / alpha) and accepts elo0 once
+ * it falls to log(beta / (1 - alpha)).</p>
+ *
+ * @param elo0  the Elo difference of the null hypothesis
+ * @param elo1  the Elo difference of the alternative hypothesis, above elo0
+ * @param alpha the chance of accepting elo1 when elo0 holds
+ * @param beta  the chance of accepting elo0 when elo1 holds
+ */
+public record Sprt(double elo0, double elo1, double alpha, double beta) {
+  // the games added to every outcome before estimating the score and its variance
+  private static final double PSEUDO_COUNT = 0.5;
+
+  /**
+   * The state of a test.
+   */
+  public enum Status {
+    CONTINUE,
+    ACCEPT_H0,
+    ACCEPT_H1
+  }
+
+  /**
+   * A constructor that checks the bounds and error rates.
+   *
+   * @throws IllegalArgumentException if elo1 is not above elo0 or a rate is not in (0, 0.5)
+   */
+  public Sprt {
+    if (!(elo1 > elo0)) {
+      throw new IllegalArgumentException("elo1 must be above elo0");
+    }
+    if (!(alpha > 0 && alpha < 0.5 && beta > 0 && beta < 0.5)) {
+      throw new IllegalArgumentException("alpha and beta must be between 0 and 0.5");
+    }
+  }
+
+  /**
+   * Returns the log likelihood ratio of elo1 against elo0 after the given games, from the point
+   * of view of the entrant whose wins are counted.
+   *
+   * <p>Every outcome is counted with half a game more than it was played, so a one sided record,
+   * such as only wins, still has a variance and keeps moving the ratio instead of leaving it at
+   * 0.</p>
+   *
+   * @param wins   the entrant's wins
+   * @param draws  the draws
+   * @param losses the entrant's losses
+   * @return the ratio, 0 before any games
+   */
+  public double llr(int wins, int draws, int losses) {
+    if (wins + draws + losses == 0) {
+      return 0;
+    }
+    double w = wins + PSEUDO_COUNT;
+    double d = draws + PSEUDO_COUNT;
+    double l = losses + PSEUDO_COUNT;
+    double games = w + d + l;
+    double score = (w + 0.5 * d) / games;
+    double variance = (w * Math.pow(1 - score, 2) + d * Math.pow(0.5 - score, 2)
+        + l * Math.pow(score, 2)) / games;
+    double s0 = Elo.expectedScore(elo0);
+    double s1 = Elo.expectedScore(elo1);
+    return games * (s1 - s0) * (2 * score - s0 - s1) / (2 * variance);
+  }
+
+  /**
+   * Returns the state of the test after the given games.
+   *
+   * @param wins   the entrant's wins
+   * @param draws  the draws
+   * @param losses the entrant's losses
+   * @return whether to keep playing or which hypothesis was accepted
+   */
+  public Status status(int wins, int draws, int losses) {
+    double llr = llr(wins, draws, losses);
+    if (llr >= Math.log((1 - beta) / alpha)) {
+      return Status.ACCEPT_H1;
+    }
+    if (llr <= Math.log(beta / (1 - alpha))) {
+      return Status.ACCEPT_H0;
+    }
+    return Status.CONTINUE;
+  }
+
+  /**
+   * Reads a test written as "elo0,elo1" or "elo0,elo1,alpha,beta", with alpha and beta 0.05 when
+   * left out.
+   *
+   * @param text the test
+   * @return the test
+   * @throws IllegalArgumentException if the text is malformed
+   */
+  public static Sprt parse(String text) {
+    String[] parts = text == null ? new String[0] : text.split(",");
+    if (parts.length != 2 && parts.length != 4) {
+      throw new IllegalArgumentException("expected elo0,elo1[,alpha,beta]: " + text);
+    }
+    try {
+      return new Sprt(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]),
+          parts.length == 4 ? Double.parseDouble(parts[2]) : 0.05,
+          parts.length == 4 ? Double.parseDouble(parts[3]) : 0.05);
+    } catch (NumberFormatException exo) {
+      throw new IllegalArgumentException("expected elo0,elo1[,alpha,beta]: " + text, exo);
+    }
+  }
+}
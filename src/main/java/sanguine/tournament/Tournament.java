@@ -0,0 +1,321 @@
+package sanguine.tournament;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import sanguine.metrics.MetricsRegistry;
+import sanguine.model.GameSeeds;
+
+/**
+ * Plays strategies against each other on every core and rates them.
+ *
+ * <p>Every pairing plays deals in pairs: each deal is played twice with the same seed, once with
+ * each entrant as red, so neither color nor the luck of the deal favors either side. Deal k of
+ * every pairing uses the same seed, derived from the master seed, so the whole tournament can be
+ * reproduced from its settings alone.</p>
+ *
+ * <p>Games of all pairings are interleaved on a fixed pool of threads, and results are added to
+ * the crosstable and passed to the listener as they finish. With an SPRT, a pairing stops being
+ * scheduled once its test is decided; games of it already running still count.</p>
+ *
+ * <p>With --workers, the games are played by that many worker processes instead, fed through a
+ * work queue on disk by a TournamentCoordinator, so a crashing game only takes down its worker
+ * and a stopped tournament resumes where it left off.</p>
+ *
+ * <p>Usage: Tournament [--format round-robin|gauntlet] [--board RxC] [--hand N] [--deck path]
+ * [--games N] [--seed N] [--threads N] [--sprt elo0,elo1[,alpha,beta]] [--results file]
+ * [--workers N] [--dir path] [entrant ...], with every built in strategy entered when none are
+ * named.</p>
+ */
+public final class Tournament {
+  private final List<Entrant> entrants;
+  private final TournamentSettings settings;
+  private final List<Pairing> pairings;
+  private final MetricsRegistry registry;
+
+  /**
+   * A constructor that takes in the entrants and settings of a tournament.
+   *
+   * @param entrants the entrants, in order; the first is the gauntlet runner in a gauntlet
+   * @param settings how the tournament is played
+   * @throws IllegalArgumentException if an argument is null, there are fewer than two entrants
+   *                                  or two share a name
+   */
+  public Tournament(List<Entrant> entrants, TournamentSettings settings) {
+    if (entrants == null || settings == null) {
+      throw new IllegalArgumentException("entrants or settings is null");
+    }
+    if (entrants.size() < 2) {
+      throw new IllegalArgumentException("a tournament needs at least two entrants");
+    }
+    this.entrants = List.copyOf(entrants);
+    this.settings = settings;
+    this.registry = new MetricsRegistry();
+    this.pairings = new ArrayList<>();
+
+    List<String> names = new ArrayList<>();
+    for (Entrant entrant : this.entrants) {
+      if (names.contains(entrant.name())) {
+        throw new IllegalArgumentException("two entrants are named " + entrant.name());
+      }
+      names.add(entrant.name());
+    }
+    for (int first = 0; first < this.entrants.size(); first++) {
+      for (int second = first + 1; second < this.entrants.size(); second++) {
+        if (settings.format() == TournamentSettings.Format.ROUND_ROBIN || first == 0) {
+          pairings.add(new Pairing(pairings.size(), this.entrants.get(first),
+              this.entrants.get(second)));
+        }
+      }
+    }
+  }
+
+  /**
+   * Runs a tournament from the command line, printing the final crosstable and the result of
+   * every pairing.
+   *
+   * @param args the options and entrants
+   * @throws IOException if the deck can not be read or the results can not be written
+   */
+  public static void main(String[] args) throws IOException {
+    TournamentOptions options = null;
+    try {
+      options = TournamentOptions.parse(args);
+    } catch (IllegalArgumentException exo) {
+      System.err.println(exo.getMessage());
+      System.err.println(TournamentOptions.USAGE);
+      System.exit(1);
+    }
+
+    Tournament tournament = new Tournament(options.entrants(), options.settings());
+    Path results = options.results();
+    Sprt sprt = options.settings().sprt();
+    if (options.workers() == 0) {
+      System.out.println(tournament.getPairings().size() + " pairings of up to "
+          + options.settings().maxGames() + " games on " + options.settings().threads()
+          + " threads");
+    } else {
+      System.out.println(tournament.getPairings().size() + " pairings of up to "
+          + options.settings().maxGames() + " games in " + options.workers()
+          + " worker processes, queued in " + options.directory());
+    }
+
+    Crosstable table;
+    if (results == null) {
+      table = run(tournament, options, result -> { });
+    } else {
+      try (BufferedWriter out = Files.newBufferedWriter(results, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+        table = run(tournament, options, result -> {
+          try {
+            out.write(result.toLine());
+            out.newLine();
+          } catch (IOException exo) {
+            throw new IllegalStateException("can not write results: " + exo.getMessage(), exo);
+          }
+        });
+      }
+    }
+
+    System.out.println();
+    System.out.print(table.render());
+    for (Pairing pairing : tournament.getPairings()) {
+      Crosstable.Record record = table.get(pairing.first().name(), pairing.second().name());
+      System.out.println(pairing.first().name() + " vs " + pairing.second().name() + ": +"
+          + record.wins() + " =" + record.draws() + " -" + record.losses() + ", Elo "
+          + record.elo() + (sprt == null ? ""
+          : ", SPRT " + sprt.status(record.wins(), record.draws(), record.losses())));
+    }
+  }
+
+  /**
+   * Returns every pairing of the tournament, in the order they are scheduled.
+   *
+   * @return the pairings
+   */
+  public List<Pairing> getPairings() {
+    return List.copyOf(pairings);
+  }
+
+  /**
+   * Returns the settings of the tournament.
+   *
+   * @return the settings
+   */
+  public TournamentSettings getSettings() {
+    return settings;
+  }
+
+  /**
+   * Returns the registry the entrants' decisions are recorded in, under their names.
+   *
+   * @return the registry
+   */
+  public MetricsRegistry getMetrics() {
+    return registry;
+  }
+
+  /**
+   * Returns the game a pairing plays at an index: its seed, and which entrant is red.
+   *
+   * @param pairing the pairing
+   * @param game    the index of the game within the pairing
+   * @return the red entrant, blue entrant and seed of the game
+   */
+  public Assignment assignment(Pairing pairing, int game) {
+    long seed = new GameSeeds(settings.masterSeed()).gameSeed(game / 2);
+    return game % 2 == 0 ? new Assignment(pairing.index(), game, pairing.first(),
+        pairing.second(), seed) : new Assignment(pairing.index(), game, pairing.second(),
+        pairing.first(), seed);
+  }
+
+  /**
+   * Plays one game of the tournament on the calling thread.
+   *
+   * @param assignment the game
+   * @return its result
+   */
+  public GameResult play(Assignment assignment) {
+    return Match.play(assignment.pairing(), assignment.game(), assignment.red(),
+        assignment.blue(), settings, assignment.seed(), registry);
+  }
+
+  /**
+   * Plays the tournament.
+   *
+   * @param listener is passed every result as it finishes, on the calling thread
+   * @return the final crosstable
+   * @throws IllegalArgumentException if the listener is null
+   * @throws IllegalStateException    if the thread is interrupted while playing
+   */
+  public Crosstable run(Consumer<GameResult> listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener is null");
+    }
+
+    Crosstable table = newCrosstable();
+    int[] scheduled = new int[pairings.size()];
+    boolean[] decided = new boolean[pairings.size()];
+
+    ExecutorService pool = Executors.newFixedThreadPool(settings.threads());
+    try {
+      CompletionService<GameResult> results = new ExecutorCompletionService<>(pool);
+      int running = 0;
+      int next = 0;
+      while (true) {
+        // keep every thread busy with one game queued behind it, spread over the pairings
+        for (int tries = 0; running < 2 * settings.threads() && tries < pairings.size(); ) {
+          int index = next;
+          next = (next + 1) % pairings.size();
+          if (decided[index] || scheduled[index] == settings.maxGames()) {
+            tries++;
+            continue;
+          }
+          Assignment assignment = assignment(pairings.get(index), scheduled[index]++);
+          results.submit(() -> play(assignment));
+          running++;
+          tries = 0;
+        }
+        if (running == 0) {
+          return table;
+        }
+
+        GameResult result = results.take().get();
+        running--;
+        table.add(result);
+        listener.accept(result);
+
+        decided[result.pairing()] = isDecided(table, pairings.get(result.pairing()));
+      }
+    } catch (InterruptedException exo) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("interrupted while playing the tournament");
+    } catch (ExecutionException exo) {
+      throw new IllegalStateException("a game failed: " + exo.getCause(), exo.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns an empty crosstable of the entrants.
+   *
+   * @return the crosstable
+   */
+  Crosstable newCrosstable() {
+    List<String> names = new ArrayList<>();
+    for (Entrant entrant : entrants) {
+      names.add(entrant.name());
+    }
+    return new Crosstable(names);
+  }
+
+  /**
+   * Returns whether the SPRT of the tournament has decided a pairing, so it is not scheduled
+   * any more.
+   *
+   * @param table   the results so far
+   * @param pairing the pairing
+   * @return true if there is a test and it is decided
+   */
+  boolean isDecided(Crosstable table, Pairing pairing) {
+    if (settings.sprt() == null) {
+      return false;
+    }
+    Crosstable.Record record = table.get(pairing.first().name(), pairing.second().name());
+    return settings.sprt().status(record.wins(), record.draws(), record.losses())
+        != Sprt.Status.CONTINUE;
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that plays a tournament in this process or in worker processes.
+   *
+   * @param tournament the tournament
+   * @param options    the command line it was read from
+   * @param listener   is passed every result
+   * @return the final crosstable
+   * @throws IOException if the work queue can not be used
+   */
+  private static Crosstable run(Tournament tournament, TournamentOptions options,
+                                Consumer<GameResult> listener) throws IOException {
+    if (options.workers() == 0) {
+      return tournament.run(listener);
+    }
+    return new TournamentCoordinator(tournament, options).run(listener);
+  }
+
+  /**
+   * Two entrants that play each other.
+   *
+   * @param index  the index of the pairing in the tournament
+   * @param first  the entrant that is red in even games
+   * @param second the entrant that is red in odd games
+   */
+  public record Pairing(int index, Entrant first, Entrant second) {
+  }
+
+  /**
+   * One game to play.
+   *
+   * @param pairing the index of the pairing
+   * @param game    the index of the game within the pairing
+   * @param red     the red entrant
+   * @param blue    the blue entrant
+   * @param seed    the seed of the game
+   */
+  public record Assignment(int pairing, int game, Entrant red, Entrant blue, long seed) {
+  }
+}
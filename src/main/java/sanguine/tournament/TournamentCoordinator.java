@@ -0,0 +1,375 @@
+package sanguine.tournament;
+
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Plays a tournament in worker processes, each with its own heap, so a game that crashes or
+ * exhausts its JVM only takes down one worker.
+ *
+ * <p>The coordinator keeps a WorkQueue in its directory topped up with a few games per worker,
+ * scheduled like Tournament.run schedules them, and merges the lines the workers append to
+ * results/worker-&lt;id&gt;.tsv as they are written, reading each file from where it last stopped.
+ * A worker that dies has its unfinished claims queued again and is replaced; a game that kills
+ * its worker twice is recorded as an error instead of being queued a third time.</p>
+ *
+ * <p>Everything the coordinator knows is on disk, so running it again on the same directory and
+ * arguments resumes the tournament: finished games are read back from the result files and only
+ * the rest are played.</p>
+ */
+public final class TournamentCoordinator {
+  private static final String ARGUMENTS_FILE = "tournament.args";
+  private static final String ERRORS_FILE = "coordinator.tsv";
+  private static final int MAX_ATTEMPTS = 2;
+  private static final int MAX_RESTARTS_PER_WORKER = 10;
+
+  private final Tournament tournament;
+  private final Path directory;
+  private final int workers;
+  private final List<String> arguments;
+  private final List<Tournament.Pairing> pairings;
+  private final Map<Path, Long> offsets;
+  private final Set<WorkQueue.Item> finished;
+  private final Set<WorkQueue.Item> outstanding;
+  private final Map<WorkQueue.Item, Integer> attempts;
+  private final Map<String, Process> processes;
+  private final int[] next;
+  private final boolean[] decided;
+  private WorkQueue queue;
+  private Crosstable table;
+  private int nextId;
+  private int launched;
+  private int cursor;
+
+  /**
+   * A constructor that takes in the tournament's command line.
+   *
+   * @param directory where the queue and results are kept; reusing it resumes the tournament
+   * @param workers   the most worker processes running at once
+   * @param arguments the tournament options and entrants, as Tournament takes them
+   * @throws IllegalArgumentException if the arguments are invalid or workers is not positive
+   * @throws IOException              if the deck can not be read
+   */
+  public TournamentCoordinator(Path directory, int workers, String... arguments)
+      throws IOException {
+    this(directory, workers, TournamentOptions.parse(arguments));
+  }
+
+  /**
+   * A constructor that takes in a tournament read from its command line.
+   *
+   * @param tournament the tournament
+   * @param options    the command line it was read from
+   */
+  TournamentCoordinator(Tournament tournament, TournamentOptions options) {
+    this(tournament, options.directory(), options.workers(), options.arguments());
+  }
+
+  /**
+   * A constructor that reads the tournament from its options.
+   *
+   * @param directory where the queue and results are kept
+   * @param workers   the most worker processes running at once
+   * @param options   the tournament's command line
+   */
+  private TournamentCoordinator(Path directory, int workers, TournamentOptions options) {
+    this(new Tournament(options.entrants(), options.settings()), directory, workers,
+        options.arguments());
+  }
+
+  /**
+   * A constructor that takes in every field.
+   *
+   * @param tournament the tournament
+   * @param directory  where the queue and results are kept
+   * @param workers    the most worker processes running at once
+   * @param arguments  the arguments the workers read the same tournament from
+   */
+  private TournamentCoordinator(Tournament tournament, Path directory, int workers,
+                                List<String> arguments) {
+    if (directory == null) {
+      throw new IllegalArgumentException("directory is null");
+    }
+    if (workers < 1) {
+      throw new IllegalArgumentException("there must be at least one worker");
+    }
+    this.tournament = tournament;
+    this.directory = directory;
+    this.workers = workers;
+    this.arguments = List.copyOf(arguments);
+    this.pairings = tournament.getPairings();
+    this.offsets = new HashMap<>();
+    this.finished = new HashSet<>();
+    this.outstanding = new HashSet<>();
+    this.attempts = new HashMap<>();
+    this.processes = new LinkedHashMap<>();
+    this.next = new int[pairings.size()];
+    this.decided = new boolean[pairings.size()];
+  }
+
+  /**
+   * Plays the tournament, or what is left of it, in worker processes.
+   *
+   * @param listener is passed every result merged in this run, on the calling thread; results
+   *                 of earlier runs are only added to the crosstable
+   * @return the crosstable of every game played in this directory
+   * @throws IllegalArgumentException if the listener is null or the directory holds a different
+   *                                  tournament
+   * @throws IllegalStateException    if workers keep dying or the thread is interrupted
+   * @throws IOException              if the queue, results or logs can not be used
+   */
+  public Crosstable run(Consumer<GameResult> listener) throws IOException {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener is null");
+    }
+    Files.createDirectories(directory.resolve("results"));
+    Files.createDirectories(directory.resolve("logs"));
+    checkArguments();
+    queue = new WorkQueue(directory);
+    queue.setClosed(false);
+    table = tournament.newCrosstable();
+
+    // pick up where an earlier run stopped: its results, and the games its workers had claimed;
+    // new workers get new ids, so none appends to a file a dead worker may have left mid line
+    merge(result -> { });
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory.resolve("results"),
+        TournamentWorker.resultsFile("*"))) {
+      for (Path file : files) {
+        String name = file.getFileName().toString();
+        nextId = Math.max(nextId, 1 + Integer.parseInt(name.substring(
+            name.indexOf('-') + 1, name.lastIndexOf('.'))));
+      }
+    }
+    for (String worker : queue.workers()) {
+      nextId = Math.max(nextId, Integer.parseInt(worker) + 1);
+      requeue(worker, false);
+    }
+    for (WorkQueue.Item item : queue.pending()) {
+      if (finished.contains(item)) {
+        queue.remove(item);
+      } else {
+        outstanding.add(item);
+      }
+    }
+
+    try {
+      while (true) {
+        merge(listener);
+        for (String worker : new ArrayList<>(processes.keySet())) {
+          if (!processes.get(worker).isAlive()) {
+            // whatever it wrote before dying counts, so merge before taking its claims back
+            processes.remove(worker);
+            merge(listener);
+            requeue(worker, true);
+          }
+        }
+        fill();
+        if (outstanding.isEmpty()) {
+          return table;
+        }
+        while (processes.size() < workers) {
+          launch();
+        }
+        TimeUnit.MILLISECONDS.sleep(TournamentWorker.POLL_MILLIS);
+      }
+    } catch (InterruptedException exo) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("interrupted while playing the tournament");
+    } finally {
+      stop();
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that records the arguments of a new tournament, or checks that a resumed
+   * one was started with the same arguments.
+   *
+   * @throws IllegalArgumentException if the directory holds a different tournament
+   * @throws IOException              if the arguments can not be read or written
+   */
+  private void checkArguments() throws IOException {
+    Path file = directory.resolve(ARGUMENTS_FILE);
+    if (!Files.exists(file)) {
+      Files.write(file, arguments, StandardCharsets.UTF_8);
+    } else if (!Files.readAllLines(file, StandardCharsets.UTF_8).equals(arguments)) {
+      throw new IllegalArgumentException(directory + " holds a different tournament: "
+          + String.join(" ", Files.readAllLines(file, StandardCharsets.UTF_8)));
+    }
+  }
+
+  /**
+   * A helper method that reads the result lines appended since the last merge. A line is only
+   * read once it ends, so a line a worker is still writing, or was writing when it died, is
+   * left alone; a game already merged is skipped.
+   *
+   * @param listener is passed every new result
+   * @throws IOException if a result file can not be read
+   */
+  private void merge(Consumer<GameResult> listener) throws IOException {
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory.resolve("results"),
+        "*.tsv")) {
+      for (Path file : files) {
+        long offset = offsets.getOrDefault(file, 0L);
+        String text;
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+          long size = channel.size();
+          if (size <= offset) {
+            continue;
+          }
+          ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size - offset));
+          channel.position(offset);
+          while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+            continue;
+          }
+          text = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        }
+        int end = text.lastIndexOf('\n');
+        if (end < 0) {
+          continue;
+        }
+        offsets.put(file, offset + text.substring(0, end + 1)
+            .getBytes(StandardCharsets.UTF_8).length);
+
+        for (String line : text.substring(0, end).split("\n")) {
+          GameResult result;
+          try {
+            result = GameResult.parse(line.strip());
+          } catch (IllegalArgumentException exo) {
+            continue;
+          }
+          WorkQueue.Item item = new WorkQueue.Item(result.pairing(), result.game());
+          if (finished.add(item)) {
+            outstanding.remove(item);
+            table.add(result);
+            listener.accept(result);
+            decided[item.pairing()] = tournament.isDecided(table,
+                pairings.get(item.pairing()));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * A helper method that takes back the unfinished games a worker claimed and queues them
+   * again, or records a game as an error once it has killed too many workers.
+   *
+   * @param worker the id of the worker, which is no longer running
+   * @param died   true if the worker died while running, false if it was left by an earlier run
+   * @throws IOException if the games can not be queued or the error can not be recorded
+   */
+  private void requeue(String worker, boolean died) throws IOException {
+    for (WorkQueue.Item item : queue.release(worker)) {
+      if (finished.contains(item)) {
+        continue;
+      }
+      if (died && attempts.merge(item, 1, Integer::sum) >= MAX_ATTEMPTS) {
+        Tournament.Assignment assignment = tournament.assignment(
+            pairings.get(item.pairing()), item.game());
+        GameResult error = new GameResult(item.pairing(), item.game(),
+            assignment.red().name(), assignment.blue().name(), assignment.seed(),
+            GameResult.Outcome.ERROR, 0, 0, 0, 0);
+        Files.writeString(directory.resolve("results").resolve(ERRORS_FILE),
+            error.toLine() + "\n", StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND);
+        outstanding.add(item);
+      } else {
+        queue.offer(item);
+        outstanding.add(item);
+      }
+    }
+  }
+
+  /**
+   * A helper method that queues games until every worker has a couple waiting, taking the
+   * pairings in turn and skipping games already played or queued and pairings that are decided
+   * or complete.
+   *
+   * @throws IOException if a game can not be queued
+   */
+  private void fill() throws IOException {
+    int maxGames = tournament.getSettings().maxGames();
+    for (int tries = 0; outstanding.size() < 2 * workers && tries < pairings.size(); ) {
+      int index = cursor;
+      cursor = (cursor + 1) % pairings.size();
+      while (next[index] < maxGames && (finished.contains(new WorkQueue.Item(index, next[index]))
+          || outstanding.contains(new WorkQueue.Item(index, next[index])))) {
+        next[index]++;
+      }
+      if (decided[index] || next[index] == maxGames) {
+        tries++;
+        continue;
+      }
+      WorkQueue.Item item = new WorkQueue.Item(index, next[index]++);
+      queue.offer(item);
+      outstanding.add(item);
+      tries = 0;
+    }
+  }
+
+  /**
+   * A helper method that starts a worker process with the same class path and tournament
+   * arguments, logging its output to logs/worker-&lt;id&gt;.log.
+   *
+   * @throws IllegalStateException if workers have been replaced too many times
+   * @throws IOException           if the process can not be started
+   */
+  private void launch() throws IOException {
+    if (launched == workers * (1 + MAX_RESTARTS_PER_WORKER)) {
+      throw new IllegalStateException("workers keep dying, see the logs in "
+          + directory.resolve("logs"));
+    }
+    String id = String.valueOf(nextId++);
+    List<String> command = new ArrayList<>(List.of(
+        Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+        "-cp", System.getProperty("java.class.path"), TournamentWorker.class.getName(),
+        directory.toString(), id));
+    command.addAll(arguments);
+    Process process = new ProcessBuilder(command)
+        .redirectErrorStream(true)
+        .redirectOutput(Redirect.appendTo(
+            directory.resolve("logs").resolve("worker-" + id + ".log").toFile()))
+        .start();
+    processes.put(id, process);
+    launched++;
+  }
+
+  /**
+   * A helper method that closes the queue and waits a moment for the workers to exit before
+   * killing them.
+   *
+   * @throws IOException if the queue can not be closed
+   */
+  private void stop() throws IOException {
+    queue.setClosed(true);
+    for (Process process : processes.values()) {
+      try {
+        if (!process.waitFor(5, TimeUnit.SECONDS)) {
+          process.destroyForcibly();
+        }
+      } catch (InterruptedException exo) {
+        process.destroyForcibly();
+        Thread.currentThread().interrupt();
+      }
+    }
+    processes.clear();
+  }
+}
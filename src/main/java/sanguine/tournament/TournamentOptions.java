@@ -0,0 +1,109 @@
+package sanguine.tournament;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import sanguine.model.DeckCache;
+
+/**
+ * The command line of a tournament, read into its entrants and settings.
+ *
+ * <p>Options are --format round-robin|gauntlet, --board RxC, --hand N, --deck path, --games N,
+ * --seed N, --threads N, --sprt elo0,elo1[,alpha,beta], --results file, --workers N and
+ * --dir path; every other argument names an entrant, and every built in strategy is entered when
+ * none are named.</p>
+ *
+ * @param entrants  the entrants
+ * @param settings  how the tournament is played
+ * @param results   the file results are appended to, or null
+ * @param workers   the worker processes to fork, or 0 to play in this process
+ * @param directory the directory the work queue and worker results are kept in
+ * @param arguments the arguments that decide which games are played and how, which workers are
+ *                  started with and a resumed tournament must repeat
+ */
+record TournamentOptions(List<Entrant> entrants, TournamentSettings settings, Path results,
+                         int workers, Path directory, List<String> arguments) {
+  static final String USAGE = "usage: Tournament [--format round-robin|gauntlet] [--board RxC] "
+      + "[--hand N] [--deck path] [--games N] [--seed N] [--threads N] "
+      + "[--sprt elo0,elo1[,alpha,beta]] [--results file] [--workers N] [--dir path] "
+      + "[entrant ...]";
+
+  /**
+   * Reads a command line.
+   *
+   * @param args the options and entrants
+   * @return the options
+   * @throws IllegalArgumentException if an option is unknown, missing its value or invalid
+   * @throws IOException              if the deck can not be read
+   */
+  static TournamentOptions parse(String... args) throws IOException {
+    List<Entrant> entrants = new ArrayList<>();
+    List<String> arguments = new ArrayList<>();
+    TournamentSettings.Format format = TournamentSettings.Format.ROUND_ROBIN;
+    int rows = 3;
+    int cols = 5;
+    int hand = 5;
+    String deck = DeckCache.DEFAULT_DECK_PATH;
+    int games = 100;
+    long seed = 1;
+    int threads = Runtime.getRuntime().availableProcessors();
+    Sprt sprt = null;
+    Path results = null;
+    int workers = 0;
+    Path directory = Path.of("build", "tournament");
+
+    try {
+      for (int i = 0; i < args.length; i++) {
+        String arg = args[i];
+        if (!arg.startsWith("--")) {
+          entrants.add(Entrant.builtIn(arg));
+          arguments.add(arg);
+          continue;
+        }
+        if (i + 1 == args.length) {
+          throw new IllegalArgumentException("missing value for " + arg);
+        }
+        String value = args[++i];
+        switch (arg) {
+          case "--format" -> format = TournamentSettings.Format.valueOf(
+              value.toUpperCase().replace('-', '_'));
+          case "--board" -> {
+            String[] size = value.split("x");
+            rows = Integer.parseInt(size[0]);
+            cols = Integer.parseInt(size[size.length - 1]);
+          }
+          case "--hand" -> hand = Integer.parseInt(value);
+          case "--deck" -> deck = value;
+          case "--games" -> games = Integer.parseInt(value);
+          case "--seed" -> seed = Long.parseLong(value);
+          case "--threads" -> threads = Integer.parseInt(value);
+          case "--sprt" -> sprt = Sprt.parse(value);
+          case "--results" -> results = Path.of(value);
+          case "--workers" -> workers = Integer.parseInt(value);
+          case "--dir" -> directory = Path.of(value);
+          default -> throw new IllegalArgumentException("unknown option " + arg);
+        }
+        if (!arg.equals("--results") && !arg.equals("--workers") && !arg.equals("--dir")
+            && !arg.equals("--threads")) {
+          arguments.add(arg);
+          arguments.add(value);
+        }
+      }
+    } catch (NumberFormatException exo) {
+      throw new IllegalArgumentException("not a number: " + exo.getMessage(), exo);
+    }
+    if (workers < 0) {
+      throw new IllegalArgumentException("workers must not be negative");
+    }
+    if (entrants.isEmpty()) {
+      for (String name : Entrant.BUILT_IN) {
+        entrants.add(Entrant.builtIn(name));
+      }
+    }
+
+    return new TournamentOptions(entrants, new TournamentSettings(format, rows, cols, hand,
+        DeckCache.get(deck), games, seed, threads, sprt), results, workers, directory,
+        List.copyOf(arguments));
+  }
+}
@@ -0,0 +1,55 @@
+package sanguine.tournament;
+
+import java.util.List;
+import sanguine.model.SanguineCard;
+
+/**
+ * How a tournament is played.
+ *
+ * @param format       which entrants meet
+ * @param rows         the rows of every board
+ * @param cols         the columns of every board
+ * @param handSize     the hand size of both players
+ * @param deck         the deck both players get a copy of, shuffled from the game's seed
+ * @param maxGames     the most games a pairing plays; rounded up to an even number so every
+ *                     deal is played once with each entrant as red
+ * @param masterSeed   the seed every game seed is derived from
+ * @param threads      the most games played at the same time
+ * @param sprt         the test that stops a pairing early once it is decided, or null to play
+ *                     every pairing to maxGames
+ */
+public record TournamentSettings(Format format, int rows, int cols, int handSize,
+                                 List<SanguineCard> deck, int maxGames, long masterSeed,
+                                 int threads, Sprt sprt) {
+
+  /**
+   * Which entrants meet in a tournament.
+   */
+  public enum Format {
+    /**
+     * Every entrant plays every other entrant.
+     */
+    ROUND_ROBIN,
+    /**
+     * The first entrant plays every other entrant, who do not play each other.
+     */
+    GAUNTLET
+  }
+
+  /**
+   * A constructor that checks the settings and makes the deck unmodifiable.
+   *
+   * @throws IllegalArgumentException if an argument is null or a count is not positive
+   */
+  public TournamentSettings {
+    if (format == null || deck == null) {
+      throw new IllegalArgumentException("format or deck is null");
+    }
+    if (rows < 1 || cols < 1 || handSize < 1 || maxGames < 1 || threads < 1) {
+      throw new IllegalArgumentException("board, hand size, games and threads must be "
+          + "positive");
+    }
+    deck = List.copyOf(deck);
+    maxGames += maxGames % 2;
+  }
+}
@@ -0,0 +1,100 @@
+package sanguine.tournament;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A worker process of a tournament played across processes: it claims games from the work queue
+ * of a TournamentCoordinator one at a time, plays them, and appends each result as a line to a
+ * file of its own, flushing before the game is marked done.
+ *
+ * <p>The worker exits once the queue is closed and empty, or once the coordinator that started
+ * it has gone, so workers never outlive their tournament.</p>
+ *
+ * <p>Usage: TournamentWorker directory id [tournament options and entrants], with the same
+ * tournament arguments as the coordinator.</p>
+ */
+public final class TournamentWorker {
+  static final long POLL_MILLIS = 10;
+
+  /**
+   * This class only has static methods.
+   */
+  private TournamentWorker() {
+  }
+
+  /**
+   * Runs a worker.
+   *
+   * @param args the queue directory, the worker's id and the tournament arguments
+   * @throws IOException if the queue can not be used or a result can not be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("usage: TournamentWorker directory id [tournament arguments]");
+      System.exit(1);
+    }
+    Path directory = Path.of(args[0]);
+    String id = args[1];
+    TournamentOptions options = TournamentOptions.parse(Arrays.copyOfRange(args, 2,
+        args.length));
+    Tournament tournament = new Tournament(options.entrants(), options.settings());
+    List<Tournament.Pairing> pairings = tournament.getPairings();
+    WorkQueue queue = new WorkQueue(directory);
+
+    Path results = Files.createDirectories(directory.resolve("results"))
+        .resolve(resultsFile(id));
+    try (BufferedWriter out = Files.newBufferedWriter(results, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      while (ProcessHandle.current().parent().map(ProcessHandle::isAlive).orElse(false)) {
+        WorkQueue.Item item = queue.claim(id);
+        if (item == null) {
+          if (queue.isClosed()) {
+            return;
+          }
+          pause();
+          continue;
+        }
+
+        GameResult result = tournament.play(tournament.assignment(
+            pairings.get(item.pairing()), item.game()));
+        out.write(result.toLine());
+        out.newLine();
+        out.flush();
+        queue.complete(id, item);
+      }
+    }
+  }
+
+  /**
+   * Returns the name of the file a worker appends its results to.
+   *
+   * @param id the id of the worker
+   * @return the name of the file
+   */
+  static String resultsFile(String id) {
+    return "worker-" + id + ".tsv";
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that waits before polling the queue again.
+   *
+   * @throws IllegalStateException if the thread is interrupted
+   */
+  private static void pause() {
+    try {
+      Thread.sleep(POLL_MILLIS);
+    } catch (InterruptedException exo) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("interrupted while waiting for games");
+    }
+  }
+}
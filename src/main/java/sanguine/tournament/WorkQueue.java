@@ -0,0 +1,215 @@
+package sanguine.tournament;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A queue of tournament games shared by processes through a directory.
+ *
+ * <p>Each queued game is an empty file named after it in pending/. A worker claims a game by
+ * moving its file into running/&lt;worker&gt;/, which only one worker can do, and deletes it once
+ * the result is written. The games a dead worker had claimed are still in its directory and can
+ * be released back to pending/. A closed marker tells workers that nothing more will be queued.
+ * </p>
+ */
+final class WorkQueue {
+  private final Path pending;
+  private final Path running;
+  private final Path closed;
+
+  /**
+   * A constructor that opens the queue in a directory, creating it if needed.
+   *
+   * @param directory the directory
+   * @throws IOException if the directory can not be created
+   */
+  WorkQueue(Path directory) throws IOException {
+    this.pending = Files.createDirectories(directory.resolve("pending"));
+    this.running = Files.createDirectories(directory.resolve("running"));
+    this.closed = directory.resolve("closed");
+  }
+
+  /**
+   * Queues a game, unless it is already queued.
+   *
+   * @param item the game
+   * @throws IOException if the game can not be queued
+   */
+  void offer(Item item) throws IOException {
+    try {
+      Files.createFile(pending.resolve(item.toString()));
+    } catch (FileAlreadyExistsException exo) {
+      // already queued
+    }
+  }
+
+  /**
+   * Claims a queued game for a worker.
+   *
+   * @param worker the id of the worker
+   * @return the game, or null if none is queued
+   * @throws IOException if the queue can not be read
+   */
+  Item claim(String worker) throws IOException {
+    Path claims = Files.createDirectories(running.resolve(worker));
+    for (Path file : list(pending)) {
+      try {
+        Files.move(file, claims.resolve(file.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+        return Item.parse(file.getFileName().toString());
+      } catch (NoSuchFileException exo) {
+        // another worker claimed it first
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Marks a claimed game as done.
+   *
+   * @param worker the id of the worker that played it
+   * @param item   the game
+   * @throws IOException if the claim can not be removed
+   */
+  void complete(String worker, Item item) throws IOException {
+    Files.deleteIfExists(running.resolve(worker).resolve(item.toString()));
+  }
+
+  /**
+   * Returns the games queued and not yet claimed.
+   *
+   * @return the games
+   * @throws IOException if the queue can not be read
+   */
+  List<Item> pending() throws IOException {
+    List<Item> items = new ArrayList<>();
+    for (Path file : list(pending)) {
+      items.add(Item.parse(file.getFileName().toString()));
+    }
+    return items;
+  }
+
+  /**
+   * Removes a game from the queue if it has not been claimed.
+   *
+   * @param item the game
+   * @throws IOException if the game can not be removed
+   */
+  void remove(Item item) throws IOException {
+    Files.deleteIfExists(pending.resolve(item.toString()));
+  }
+
+  /**
+   * Returns the ids of the workers that have claimed games, finished or not.
+   *
+   * @return the ids
+   * @throws IOException if the queue can not be read
+   */
+  List<String> workers() throws IOException {
+    List<String> workers = new ArrayList<>();
+    for (Path directory : list(running)) {
+      workers.add(directory.getFileName().toString());
+    }
+    return workers;
+  }
+
+  /**
+   * Takes back every game a worker claimed and did not complete, for example because it died.
+   *
+   * @param worker the id of the worker
+   * @return the games, which are no longer claimed or queued
+   * @throws IOException if the claims can not be removed
+   */
+  List<Item> release(String worker) throws IOException {
+    Path claims = running.resolve(worker);
+    List<Item> items = new ArrayList<>();
+    if (!Files.isDirectory(claims)) {
+      return items;
+    }
+    for (Path file : list(claims)) {
+      items.add(Item.parse(file.getFileName().toString()));
+      Files.deleteIfExists(file);
+    }
+    Files.deleteIfExists(claims);
+    return items;
+  }
+
+  /**
+   * Tells workers whether more games may still be queued.
+   *
+   * @param isClosed true once nothing more will be queued
+   * @throws IOException if the marker can not be changed
+   */
+  void setClosed(boolean isClosed) throws IOException {
+    if (!isClosed) {
+      Files.deleteIfExists(closed);
+    } else if (!Files.exists(closed)) {
+      Files.createFile(closed);
+    }
+  }
+
+  /**
+   * Returns whether nothing more will be queued.
+   *
+   * @return true once closed
+   */
+  boolean isClosed() {
+    return Files.exists(closed);
+  }
+
+  /**
+   * One game of a tournament, named "pairing-game".
+   *
+   * @param pairing the index of the pairing
+   * @param game    the index of the game within the pairing
+   */
+  record Item(int pairing, int game) {
+
+    /**
+     * Reads a game from its name.
+     *
+     * @param name the name
+     * @return the game
+     * @throws IllegalArgumentException if the name is malformed
+     */
+    static Item parse(String name) {
+      int dash = name.indexOf('-');
+      try {
+        return new Item(Integer.parseInt(name.substring(0, dash)),
+            Integer.parseInt(name.substring(dash + 1)));
+      } catch (RuntimeException exo) {
+        throw new IllegalArgumentException("not a queued game: " + name, exo);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return pairing + "-" + game;
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that lists a directory.
+   *
+   * @param directory the directory
+   * @return its entries
+   * @throws IOException if the directory can not be read
+   */
+  private static List<Path> list(Path directory) throws IOException {
+    List<Path> entries = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+      for (Path entry : stream) {
+        entries.add(entry);
+      }
+    }
+    return entries;
+  }
+}
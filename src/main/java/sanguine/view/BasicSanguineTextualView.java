@@ -1,11 +1,9 @@
 package sanguine.view;
 
 import java.io.IOException;
-import sanguine.model.BasicSanguineBoardCell;
-import sanguine.model.BasicSanguineModel;
+import sanguine.model.BoardView;
 import sanguine.model.ModelReadOnlyInterface;
 import sanguine.model.PlayerColor;
-import sanguine.model.SanguineGameBoard;
 
 /**
  * A textual view for a SanguineGame game. It renders the current state of the game as a string.
@@ -16,11 +14,18 @@ import sanguine.model.SanguineGameBoard;
  * When a cell is empty we denote it with "_"
  * When a cell has a card, we put the first letter of the player that placed it "R" or "B"
  * When a cell has pawns, we put the number of pawns "1", "2", or "3"
+ *
+ * <p>Rows are read straight from the model's live BoardView and written into one reused buffer,
+ * so rendering after every move copies no cells and builds no per-row Strings.</p>
  */
 public class BasicSanguineTextualView implements SanguineTextualView {
 
   // Private fields
   private final ModelReadOnlyInterface model;
+  // reused for every row so rendering does not build a String per row
+  private final StringBuilder line;
+  // the rows written by the last renderChanges call, null before the first call
+  private StringBuilder[] lastRows;
 
   /**
    * A constructor for a textual view that only takes the model.
@@ -29,87 +34,109 @@ public class BasicSanguineTextualView implements SanguineTextualView {
    */
   public BasicSanguineTextualView(ModelReadOnlyInterface model) {
     this.model = model;
+    this.line = new StringBuilder();
   }
 
   @Override
   public String toString() {
     StringBuilder game = new StringBuilder();
     try {
-      SanguineGameBoard board = model.getBoard();
-
-      for (int row = 0; row < board.getRows(); row++) {
-
-        StringBuilder line = new StringBuilder();
-
-        for (int col = 0; col < board.getCols(); col++) {
-          addCellToString(board, row, col, line);
-        }
-        game.append(addScore(line, board, row));
-        game.append(System.lineSeparator());
-      }
+      render(game);
     } catch (IllegalStateException exo) {
       throw new IllegalArgumentException("Trouble reading file");
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
 
-
     return game.toString();
   }
 
-  /**
-   * A private helper method that helps with adding the correct string for an object in a cell.
-   *
-   * @param board the game board
-   * @param row   the specific row to convert to a String
-   * @param col   the specific column to convert to a String
-   * @param line  the StringBuilder to add to
-   */
-  private static void addCellToString(
-      SanguineGameBoard board, int row, int col, StringBuilder line) {
+  @Override
+  public void render(Appendable out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("output is null");
+    }
 
-    BasicSanguineBoardCell cell = board.getCellAt(row, col);
+    BoardView board = model.getBoardView();
 
-    int cardValue = cell.getValue();
+    for (int row = 0; row < board.getRows(); row++) {
+      writeRow(board, row);
+      out.append(line).append(System.lineSeparator());
+    }
+  }
 
-    if (cardValue != 0) {
-      if (cell.getColor() == PlayerColor.RED) {
-        line.append("R");
-        return;
-      }
-      line.append("B");
-      return;
+  @Override
+  public int renderChanges(Appendable out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("output is null");
     }
 
-    if (!cell.getPawns().isEmpty()) {
-      line.append(cell.getPawns().size());
-      return;
+    BoardView board = model.getBoardView();
+
+    if (lastRows == null || lastRows.length != board.getRows()) {
+      lastRows = new StringBuilder[board.getRows()];
     }
 
-    line.append("_");
+    int written = 0;
+    for (int row = 0; row < board.getRows(); row++) {
+      writeRow(board, row);
 
+      StringBuilder last = lastRows[row];
+      if (last != null && CharSequence.compare(last, line) == 0) {
+        continue;
+      }
+      if (last == null) {
+        last = new StringBuilder(line.length());
+        lastRows[row] = last;
+      }
+      last.setLength(0);
+      last.append(line);
+
+      out.append(Integer.toString(row)).append(": ").append(line)
+          .append(System.lineSeparator());
+      written++;
+    }
+    return written;
   }
 
   /**
-   * A private helper method to calculate and add the score to the textual view.
+   * A private helper method that writes one row, surrounded by both players' row scores, into
+   * the reused line buffer.
    *
-   * @param line  the StringBuilder to add to
-   * @param board the game board
-   * @param row   the specific row to convert to a String
-   * @return the String with an added score
+   * @param board the live board view
+   * @param row   the specific row to write
    */
-  private String addScore(StringBuilder line, SanguineGameBoard board, int row) {
+  private void writeRow(BoardView board, int row) {
+    line.setLength(0);
+    line.append(board.getRowScore(PlayerColor.RED, row)).append(' ');
 
-    int red = 0;
-    int blue = 0;
+    for (int col = 0; col < board.getCols(); col++) {
+      addCellToString(board, row, col, line);
+    }
 
-    for (int i = 0; i < board.getCols(); i++) {
-      if (board.getCellAt(row, i).getColor() == PlayerColor.RED) {
-        red += board.getCellAt(row, i).getValue();
-      } else {
-        blue += board.getCellAt(row, i).getValue();
-      }
+    line.append(' ').append(board.getRowScore(PlayerColor.BLUE, row));
+  }
+
+  /**
+   * A private helper method that helps with adding the correct string for an object in a cell.
+   *
+   * @param board the live board view
+   * @param row   the specific row to convert to a String
+   * @param col   the specific column to convert to a String
+   * @param line  the StringBuilder to add to
+   */
+  private static void addCellToString(BoardView board, int row, int col, StringBuilder line) {
+    if (board.hasCard(row, col)) {
+      line.append(board.getOwner(row, col) == PlayerColor.RED ? 'R' : 'B');
+      return;
     }
-    return red + " " + line.toString() + " " + blue;
+
+    int pawns = board.getPawnCount(row, col);
+    if (pawns > 0) {
+      line.append(pawns);
+      return;
+    }
+
+    line.append('_');
   }
 }
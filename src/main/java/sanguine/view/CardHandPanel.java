@@ -19,6 +19,7 @@ public class CardHandPanel extends JPanel {
   private final ModelReadOnlyInterface model;
   private final Listener controller;
   private final PlayerColor color;
+  private final RenderCache cache;
 
   /**
    * A constructor that takes in a read only version of the model.
@@ -29,6 +30,24 @@ public class CardHandPanel extends JPanel {
    */
   public CardHandPanel(ModelReadOnlyInterface model, Listener controller, PlayerColor color)
       throws IllegalArgumentException {
+    this(model, controller, color, new RenderCache());
+  }
+
+  /**
+   * A constructor that takes in a read only version of the model and the render cache that its
+   * cards share.
+   *
+   * @param model the read only game model
+   * @param controller the game controller which is a listener
+   * @param color the player whose hand is displayed
+   * @param cache the shared render cache
+   * @throws IllegalArgumentException if model, controller or cache is null
+   */
+  public CardHandPanel(ModelReadOnlyInterface model, Listener controller, PlayerColor color,
+                       RenderCache cache) throws IllegalArgumentException {
+    if (cache == null) {
+      throw new IllegalArgumentException("Render cache is null!");
+    }
     if (controller == null) {
       throw new IllegalArgumentException("controller is null");
     }
@@ -39,6 +58,7 @@ public class CardHandPanel extends JPanel {
     this.color = color;
     this.controller = controller;
     this.model = model;
+    this.cache = cache;
   }
 
   /**
@@ -71,7 +91,7 @@ public class CardHandPanel extends JPanel {
     List<SanguineCard> blueHand = model.getPlayerHand(PlayerColor.BLUE);
 
     for (SanguineCard card : blueHand) {
-      CardPanel cardPanel = new CardPanel(card, PlayerColor.BLUE);
+      CardPanel cardPanel = new CardPanel(card, PlayerColor.BLUE, cache);
       cardPanel.addMouseListener(new CardClickListener(List.of(controller), card, cardPanel));
       this.add(cardPanel);
     }
@@ -84,7 +104,7 @@ public class CardHandPanel extends JPanel {
     List<SanguineCard> redHand = model.getPlayerHand(PlayerColor.RED);
 
     for (SanguineCard card : redHand) {
-      CardPanel cardPanel = new CardPanel(card, PlayerColor.RED);
+      CardPanel cardPanel = new CardPanel(card, PlayerColor.RED, cache);
       cardPanel.addMouseListener(new CardClickListener(List.of(controller), card, cardPanel));
       this.add(cardPanel);
     }
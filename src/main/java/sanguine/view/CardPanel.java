@@ -1,25 +1,14 @@
 package sanguine.view;
 
-import java.awt.Color;
-import java.awt.Dimension;
-import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
-import java.util.List;
-import javax.swing.BorderFactory;
 import javax.swing.JPanel;
-import sanguine.model.ModelReadOnlyInterface;
 import sanguine.model.PlayerColor;
 import sanguine.model.SanguineCard;
-import sanguine.model.SanguinePlayer;
 
 /**
  * A JPanel that represents a Sanguine card.
  *
- * <p>This card holds a SanguineCard, player color, and creates the cards using Graphics2D.</p>
+ * <p>This card holds a SanguineCard, player color, and draws itself from a RenderCache.</p>
  *
  * <p>This class also handles clicking and highlighting a card.</p>
  */
@@ -27,8 +16,7 @@ public class CardPanel extends JPanel {
   // Private fields
   private final SanguineCard card;
   private final PlayerColor color;
-  private Color red = new Color(0xC41E3A);
-  private Color blue = new Color(0x0077b6);
+  private final RenderCache cache;
   private boolean highlighted;
 
   /**
@@ -38,17 +26,33 @@ public class CardPanel extends JPanel {
    * @param color the player color who owns the card
    */
   public CardPanel(SanguineCard card, PlayerColor color) {
+    this(card, color, new RenderCache());
+  }
+
+  /**
+   * A constructor that takes in a card that this panel represents, the owner, and the render
+   * cache shared with the rest of the GUI.
+   *
+   * @param card the Sanguine card the panel represents
+   * @param color the player color who owns the card
+   * @param cache the shared render cache
+   */
+  public CardPanel(SanguineCard card, PlayerColor color, RenderCache cache) {
     if (color == null) {
       throw new IllegalArgumentException("Color is null!");
     }
     if (card == null) {
       throw new IllegalArgumentException("Card is null!");
     }
+    if (cache == null) {
+      throw new IllegalArgumentException("Render cache is null!");
+    }
 
     this.card = card;
     this.color = color;
+    this.cache = cache;
 
-    this.setBorder(BorderFactory.createLineBorder(new Color(0xE7DECC), 2));
+    this.setBorder(RenderCache.BORDER);
   }
 
   /**
@@ -63,11 +67,11 @@ public class CardPanel extends JPanel {
 
     if (highlighted) {
       // unhighlight the card
-      setBorder(BorderFactory.createLineBorder(new Color(0xE7DECC), 2));
+      setBorder(RenderCache.BORDER);
       highlighted = false;
     } else {
       // highlight the card
-      setBorder(BorderFactory.createLineBorder(Color.yellow, 2));
+      setBorder(RenderCache.HIGHLIGHT_BORDER);
       highlighted = true;
     }
   }
@@ -76,7 +80,7 @@ public class CardPanel extends JPanel {
    * A method that unhighlights a card.
    */
   public void removeHighlight() {
-      setBorder(BorderFactory.createLineBorder(new Color(0xE7DECC), 2));
+      setBorder(RenderCache.BORDER);
       highlighted = false;
   }
 
@@ -84,66 +88,9 @@ public class CardPanel extends JPanel {
   protected void paintComponent(Graphics g) {
     super.paintComponent(g);
 
-    Graphics2D g2d = (Graphics2D)g.create();
-    if (color == PlayerColor.RED) {
-      g2d.setColor(red);
-    } else {
-      g2d.setColor(blue);
+    if (getWidth() <= 0 || getHeight() <= 0) {
+      return;
     }
-    g2d.fillRect(0, 0, getWidth(), getHeight());
-
-    placeCardText(g2d);
-    placeInfluenceGrid(g2d);
-  }
-
-  /**
-   * A helper method that places a card's basic information like name, value, and cost on the panel.
-   *
-   * @param g2d Graphics 2D object
-   */
-  private void placeCardText(Graphics g2d) {
-    String name = card.getName();
-    String cost = "Cost: " + card.getCost();
-    String value = "Value: " + card.getValue();
-
-    g2d.setColor(Color.BLACK);
-    g2d.setFont(new Font("TimesNewRoman", Font.BOLD, 20));
-
-    FontMetrics valueMetrics = g2d.getFontMetrics();
-    int textWidth = valueMetrics.stringWidth(name);
-
-    int x = (getWidth() - textWidth) / 2;
-    int y = 70;
-    g2d.drawString(name, x, y - 40);
-    g2d.drawString(cost, x, y - 20);
-    g2d.drawString(value, x, y);
-  }
-
-  /**
-   * A helper method that places a card's influence grid on the panel.
-   *
-   * @param g2d Graphics 2D object
-   */
-  private void placeInfluenceGrid(Graphics g2d) {
-    List<String> influenceGrid = card.getStringInfluence();
-    String row1 = influenceGrid.get(0);
-    String row2 = influenceGrid.get(1);;
-    String row3 = influenceGrid.get(2);;
-    String row4 = influenceGrid.get(3);;
-    String row5 = influenceGrid.get(4);;
-
-    g2d.setColor(Color.BLACK);
-    g2d.setFont(new Font("TimesNewRoman", Font.BOLD, 25));
-
-    FontMetrics valueMetrics = g2d.getFontMetrics();
-    int textWidth = valueMetrics.stringWidth(row1);
-
-    int x = (getWidth() - textWidth) / 2;
-    int y = 70;
-    g2d.drawString(row1, x, y + 100);
-    g2d.drawString(row2, x, y + 125);
-    g2d.drawString(row3, x, y + 150);
-    g2d.drawString(row4, x, y + 175);
-    g2d.drawString(row5, x, y + 200);
+    g.drawImage(cache.cardFace(card, color, getWidth(), getHeight()), 0, 0, null);
   }
 }
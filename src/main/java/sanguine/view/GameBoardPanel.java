@@ -30,6 +30,23 @@ public class GameBoardPanel extends JPanel {
    */
   public GameBoardPanel(ModelReadOnlyInterface model, Listener controller)
       throws IllegalArgumentException, IOException {
+    this(model, controller, new RenderCache());
+  }
+
+  /**
+   * A constructor that takes in a read only version of the model, the controller, and the
+   * render cache that its cells share.
+   *
+   * @param model SanguineGame read only game model
+   * @param controller the game controller which is a listener
+   * @param cache the shared render cache
+   * @throws IllegalArgumentException if model or cache is null
+   */
+  public GameBoardPanel(ModelReadOnlyInterface model, Listener controller, RenderCache cache)
+      throws IllegalArgumentException, IOException {
+    if (cache == null) {
+      throw new IllegalArgumentException("render cache is null!");
+    }
     if (model == null) {
       throw new IllegalArgumentException("model is null!");
     }
@@ -53,7 +70,7 @@ public class GameBoardPanel extends JPanel {
     for (int row = 0; row < board.getRows(); row++) {
       List<CellPanel> currentRow = new ArrayList<>();
       for (int col = 0; col < board.getCols(); col++) {
-        CellPanel newPanel = new CellPanel(row, col, model);
+        CellPanel newPanel = new CellPanel(row, col, model, cache);
         newPanel.addMouseListener(new CellClickListener(List.of(controller), row, col, newPanel));
         currentRow.add(newPanel);
         this.add(currentRow.get(col));
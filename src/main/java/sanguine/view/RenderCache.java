@@ -0,0 +1,283 @@
+package sanguine.view;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.swing.BorderFactory;
+import javax.swing.border.Border;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+
+/**
+ * A shared cache of render resources for the SanguineGame GUI.
+ *
+ * <p>Fonts, borders and colors are created once and shared by every panel. Cell and card
+ * faces are rendered once into BufferedImages so that a repaint is a single image blit.</p>
+ *
+ * <p>Sprites are keyed by their size. Every sprite kind (card cells, pawn stacks and hand cards)
+ * remembers the size it was last drawn at, and when a panel asks for a different size
+ * (the window was resized) the old sprites of that kind are thrown away.</p>
+ *
+ * <p>This cache is only meant to be used from the Swing event dispatch thread.</p>
+ */
+public class RenderCache {
+  // Shared resources:
+  static final Color RED = new Color(0xC41E3A);
+  static final Color BLUE = new Color(0x0077b6);
+  static final Border BORDER = BorderFactory.createLineBorder(new Color(0xE7DECC), 2);
+  static final Border HIGHLIGHT_BORDER = BorderFactory.createLineBorder(Color.yellow, 2);
+  private static final Font CELL_VALUE_FONT = new Font("TimesNewRoman", Font.BOLD, 32);
+  private static final Font CARD_TEXT_FONT = new Font("TimesNewRoman", Font.BOLD, 20);
+  private static final Font CARD_GRID_FONT = new Font("TimesNewRoman", Font.BOLD, 25);
+  private static final int PAWN_DIAMETER = 24;
+
+  // Private fields:
+  private final Map<SpriteKind, Map<Object, BufferedImage>> sprites;
+  private final Map<SpriteKind, Long> sizes;
+
+  /**
+   * A constructor that creates an empty cache. Sprites are rendered lazily on first use.
+   */
+  public RenderCache() {
+    sprites = new HashMap<>();
+    sizes = new HashMap<>();
+    for (SpriteKind kind : SpriteKind.values()) {
+      sprites.put(kind, new HashMap<>());
+    }
+  }
+
+  /**
+   * Returns the color used to paint a player's cards and pawns.
+   *
+   * @param color the player color
+   * @return the paint color
+   */
+  static Color paintFor(PlayerColor color) {
+    return color == PlayerColor.RED ? RED : BLUE;
+  }
+
+  /**
+   * Returns the image of a cell that holds a card of the given owner and value.
+   *
+   * @param color  the owner of the card
+   * @param value  the value of the card
+   * @param width  the width of the cell
+   * @param height the height of the cell
+   * @return the pre-rendered image of the cell
+   */
+  public BufferedImage cardCell(PlayerColor color, int value, int width, int height) {
+    return sprite(SpriteKind.CARD_CELL, new CellKey(color, value), width, height);
+  }
+
+  /**
+   * Returns the image of a cell that holds a stack of one to three pawns.
+   *
+   * @param color  the owner of the pawns
+   * @param count  the amount of pawns in the cell
+   * @param width  the width of the cell
+   * @param height the height of the cell
+   * @return the pre-rendered image of the cell
+   * @throws IllegalArgumentException if count is not between one and three
+   */
+  public BufferedImage pawnCell(PlayerColor color, int count, int width, int height) {
+    if (count < 1 || count > 3) {
+      throw new IllegalArgumentException("pawn count is invalid: " + count);
+    }
+    return sprite(SpriteKind.PAWN_CELL, new CellKey(color, count), width, height);
+  }
+
+  /**
+   * Returns the image of a card face shown in a player's hand.
+   *
+   * @param card   the card to render
+   * @param color  the owner of the card
+   * @param width  the width of the card panel
+   * @param height the height of the card panel
+   * @return the pre-rendered image of the card
+   */
+  public BufferedImage cardFace(SanguineCard card, PlayerColor color, int width, int height) {
+    return sprite(SpriteKind.CARD_FACE, new CardKey(card, color), width, height);
+  }
+
+  /**
+   * Drops every cached sprite. Shared fonts and borders are kept.
+   */
+  public void invalidate() {
+    for (Map<Object, BufferedImage> kind : sprites.values()) {
+      kind.clear();
+    }
+    sizes.clear();
+  }
+
+  /**
+   * Returns the amount of sprites currently held by the cache.
+   *
+   * @return the amount of cached images
+   */
+  public int size() {
+    int total = 0;
+    for (Map<Object, BufferedImage> kind : sprites.values()) {
+      total += kind.size();
+    }
+    return total;
+  }
+
+  // Private Methods:
+
+  /**
+   * A helper method that looks up a sprite, rendering it if needed. If the sprite kind was last
+   * rendered at another size, the stale sprites of that kind are dropped first.
+   *
+   * @param kind   the kind of sprite
+   * @param key    the sprite key within its kind
+   * @param width  the width of the sprite
+   * @param height the height of the sprite
+   * @return the sprite
+   */
+  private BufferedImage sprite(SpriteKind kind, Object key, int width, int height) {
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException("sprite size is invalid: " + width + "x" + height);
+    }
+
+    long size = ((long) width << 32) | height;
+    Map<Object, BufferedImage> cached = sprites.get(kind);
+    Long lastSize = sizes.put(kind, size);
+    if (lastSize != null && lastSize != size) {
+      cached.clear();
+    }
+
+    BufferedImage image = cached.get(key);
+    if (image == null) {
+      image = render(kind, key, width, height);
+      cached.put(key, image);
+    }
+    return image;
+  }
+
+  /**
+   * A helper method that renders a sprite into a new image.
+   *
+   * @param kind   the kind of sprite
+   * @param key    the sprite key within its kind
+   * @param width  the width of the sprite
+   * @param height the height of the sprite
+   * @return the rendered image
+   */
+  private static BufferedImage render(SpriteKind kind, Object key, int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = image.createGraphics();
+    g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+        RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+    try {
+      switch (kind) {
+        case CARD_CELL -> drawCardCell(g2d, (CellKey) key, width, height);
+        case PAWN_CELL -> drawPawnCell(g2d, (CellKey) key, width, height);
+        case CARD_FACE -> drawCardFace(g2d, (CardKey) key, width, height);
+        default -> throw new IllegalStateException("unknown sprite kind: " + kind);
+      }
+    } finally {
+      g2d.dispose();
+    }
+    return image;
+  }
+
+  /**
+   * A helper method that draws a cell holding a card: the owner's color with the value centered.
+   */
+  private static void drawCardCell(Graphics2D g2d, CellKey key, int width, int height) {
+    g2d.setColor(paintFor(key.color()));
+    g2d.fillRect(0, 0, width, height);
+
+    String value = String.valueOf(key.amount());
+    g2d.setColor(Color.BLACK);
+    g2d.setFont(CELL_VALUE_FONT);
+
+    FontMetrics valueMetrics = g2d.getFontMetrics();
+    int textWidth = valueMetrics.stringWidth(value);
+    int textHeight = valueMetrics.getAscent();
+
+    int x = (width - textWidth) / 2;
+    int y = (height + textHeight) / 2 - 2;
+    g2d.drawString(value, x, y);
+  }
+
+  /**
+   * A helper method that draws a cell holding pawns as circles placed along the diagonal.
+   */
+  private static void drawPawnCell(Graphics2D g2d, CellKey key, int width, int height) {
+    g2d.setColor(Color.WHITE);
+    g2d.fillRect(0, 0, width, height);
+    g2d.setColor(paintFor(key.color()));
+
+    // Margins used for pawn placement
+    int step = key.amount() + 1;
+    int x = (width - PAWN_DIAMETER) / step;
+    int y = (height - PAWN_DIAMETER) / step;
+
+    for (int pawn = 1; pawn <= key.amount(); pawn++) {
+      g2d.fillOval(pawn * x, pawn * y, PAWN_DIAMETER, PAWN_DIAMETER);
+    }
+  }
+
+  /**
+   * A helper method that draws a card in a hand: its name, cost, value and influence grid.
+   */
+  private static void drawCardFace(Graphics2D g2d, CardKey key, int width, int height) {
+    SanguineCard card = key.card();
+    g2d.setColor(paintFor(key.color()));
+    g2d.fillRect(0, 0, width, height);
+
+    String name = card.getName();
+    g2d.setColor(Color.BLACK);
+    g2d.setFont(CARD_TEXT_FONT);
+
+    int x = (width - g2d.getFontMetrics().stringWidth(name)) / 2;
+    int y = 70;
+    g2d.drawString(name, x, y - 40);
+    g2d.drawString("Cost: " + card.getCost(), x, y - 20);
+    g2d.drawString("Value: " + card.getValue(), x, y);
+
+    List<String> influenceGrid = card.getStringInfluence();
+    g2d.setFont(CARD_GRID_FONT);
+
+    x = (width - g2d.getFontMetrics().stringWidth(influenceGrid.get(0))) / 2;
+    for (int row = 0; row < influenceGrid.size(); row++) {
+      g2d.drawString(influenceGrid.get(row), x, y + 100 + 25 * row);
+    }
+  }
+
+  /**
+   * The kinds of sprites held by the cache. Each kind is invalidated on its own.
+   */
+  private enum SpriteKind {
+    CARD_CELL,
+    PAWN_CELL,
+    CARD_FACE
+  }
+
+  /**
+   * The key of a cell sprite.
+   *
+   * @param color  the owner of the cell
+   * @param amount the card value or the amount of pawns
+   */
+  private record CellKey(PlayerColor color, int amount) {
+  }
+
+  /**
+   * The key of a card face sprite.
+   *
+   * @param card  the card
+   * @param color the owner of the card
+   */
+  private record CardKey(SanguineCard card, PlayerColor color) {
+  }
+}
@@ -1,8 +1,11 @@
 package sanguine.view;
 
+import java.io.IOException;
+
 /**
- * This is an interface for a class. there is only one public method in this, toString().
- * this prints the status of the board.
+ * This is an interface for a textual view of the board. toString() prints the status of the
+ * board, and the render methods stream the same text to any Appendable without building it as
+ * one String first.
  */
 public interface SanguineTextualView {
 
@@ -12,4 +15,25 @@ public interface SanguineTextualView {
    * @return a formatted string of the board.
    */
   String toString();
+
+  /**
+   * Writes the status of the board, one row per line, to the given output.
+   *
+   * @param out where the board is written to
+   * @throws IOException if the output can not be written to
+   * @throws IllegalArgumentException if out is null
+   */
+  void render(Appendable out) throws IOException;
+
+  /**
+   * Writes only the rows that changed since the last call to this method, each prefixed with its
+   * row index ("2: 0 1R__1 0"). The first call writes every row. This is used for compact
+   * move-by-move logs.
+   *
+   * @param out where the changed rows are written to
+   * @return the amount of rows written
+   * @throws IOException if the output can not be written to
+   * @throws IllegalArgumentException if out is null
+   */
+  int renderChanges(Appendable out) throws IOException;
 }
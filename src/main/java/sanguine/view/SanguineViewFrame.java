@@ -58,8 +58,10 @@ public class SanguineViewFrame extends JFrame implements SanguineGuiView {
     this.setBackground(Color.cyan);
     this.getContentPane().setBackground(Color.WHITE);
 
-    boardPanel = new GameBoardPanel(model, controller);
-    handPanel = new CardHandPanel(model, controller, color);
+    // one render cache is shared by every cell and card in this window
+    RenderCache cache = new RenderCache();
+    boardPanel = new GameBoardPanel(model, controller, cache);
+    handPanel = new CardHandPanel(model, controller, color, cache);
 
     // using a pane to organize the board and hand panels
     JSplitPane splitPane = new JSplitPane(
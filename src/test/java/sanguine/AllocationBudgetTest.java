@@ -0,0 +1,179 @@
+package sanguine;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.BasicSanguineCard;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.BoardView;
+import sanguine.model.SanguineCard;
+import sanguine.model.SanguinePlayer;
+import sanguine.strategies.BasicStrategy;
+import sanguine.strategies.FirstSpot;
+import sanguine.strategies.MaxOwnership;
+
+/**
+ * tests that hold the move application hot paths to the allocation budgets in
+ * allocation-budgets.properties, on a 3x5 and an 11x11 board.
+ */
+public class AllocationBudgetTest {
+  private static final String[] BOARDS = {"3x5", "11x11"};
+
+  /**
+   * makes sure scanning the board for legal moves allocates nothing.
+   *
+   * @throws Exception if a game cannot be set up
+   */
+  @Test
+  public void testPlaceCardLegalBudget() throws Exception {
+    for (String board : BOARDS) {
+      BasicSanguineModel model = startedGame(board);
+      SanguinePlayer player = model.getTurn();
+      SanguineCard card = player.getHand().getFirst();
+      int[] size = dimensions(board);
+
+      long bytes = AllocationMeter.measure(() -> model, game -> {
+        int legal = 0;
+        for (int row = 0; row < size[0]; row++) {
+          for (int col = 0; col < size[1]; col++) {
+            legal += game.placeCardLegal(row, col, card, player) ? 1 : 0;
+          }
+        }
+        assertTrue(legal > 0);
+      });
+      assertWithinBudget("placeCardLegal." + board, bytes);
+    }
+  }
+
+  /**
+   * makes sure reading every cell through the board view allocates nothing.
+   *
+   * @throws Exception if a game cannot be set up
+   */
+  @Test
+  public void testBoardViewBudget() throws Exception {
+    for (String board : BOARDS) {
+      BoardView view = startedGame(board).getBoardView();
+
+      long bytes = AllocationMeter.measure(() -> view, cells -> {
+        int pawns = 0;
+        for (int row = 0; row < cells.getRows(); row++) {
+          for (int col = 0; col < cells.getCols(); col++) {
+            pawns += cells.getPawnCount(row, col) + (cells.getOwner(row, col) == null ? 0 : 1);
+          }
+        }
+        assertTrue(pawns > 0);
+      });
+      assertWithinBudget("boardView." + board, bytes);
+    }
+  }
+
+  /**
+   * makes sure playing an opening move stays within its budget.
+   *
+   * @throws Exception if a game cannot be set up
+   */
+  @Test
+  public void testPlayTurnBudget() throws Exception {
+    for (String board : BOARDS) {
+      long bytes = AllocationMeter.measure(() -> startedGame(board), game -> {
+        SanguineCard card = game.getTurn().getHand().getFirst();
+        game.playTurn(1, 0, card);
+      });
+      assertWithinBudget("playTurn." + board, bytes);
+    }
+  }
+
+  /**
+   * makes sure forking a game costs the same on every board, since the fork shares its rows.
+   *
+   * @throws Exception if a game cannot be set up
+   */
+  @Test
+  public void testForkBudget() throws Exception {
+    for (String board : BOARDS) {
+      long bytes = AllocationMeter.measure(() -> startedGame(board), game -> {
+        assertTrue(game.fork().getTurn() != null);
+      });
+      assertWithinBudget("fork." + board, bytes);
+    }
+  }
+
+  /**
+   * makes sure one decision of each strategy stays within its budget.
+   *
+   * @throws Exception if a game cannot be set up
+   */
+  @Test
+  public void testStrategyBudgets() throws Exception {
+    for (String board : BOARDS) {
+      assertStrategyWithinBudget("firstSpot." + board, new FirstSpot(), board);
+      assertStrategyWithinBudget("maxOwnership." + board, new MaxOwnership(), board);
+    }
+  }
+
+  // Private Methods:
+
+  /**
+   * measures one decision of a strategy on a fresh game and checks it against its budget.
+   *
+   * @param name     the budget name
+   * @param strategy the strategy
+   * @param board    the board size
+   * @throws Exception if a game cannot be set up
+   */
+  private static void assertStrategyWithinBudget(String name, BasicStrategy strategy,
+                                                 String board) throws Exception {
+    long bytes = AllocationMeter.measure(() -> startedGame(board),
+        game -> strategy.choose(game, game.getTurn().getColor()));
+    assertWithinBudget(name, bytes);
+  }
+
+  /**
+   * fails if an operation allocated more than its budget.
+   *
+   * @param name  the budget name
+   * @param bytes the bytes allocated
+   * @throws Exception if the budgets cannot be read
+   */
+  private static void assertWithinBudget(String name, long bytes) throws Exception {
+    assumeTrue("thread allocation counters are not supported", AllocationMeter.isSupported());
+    long budget = AllocationMeter.budget(name);
+    assertTrue(name + " allocated " + bytes + " bytes, over its budget of " + budget,
+        bytes <= budget);
+  }
+
+  /**
+   * starts a game with hands of five on a board of the given size, with cost one cards.
+   *
+   * @param board the board size, such as 3x5
+   * @return the started game
+   * @throws Exception if the game cannot be started
+   */
+  private static BasicSanguineModel startedGame(String board) throws Exception {
+    int[] size = dimensions(board);
+    List<SanguineCard> deck = new ArrayList<>();
+    for (int i = 0; i < size[0] * size[1]; i++) {
+      deck.add(new BasicSanguineCard("Card" + i, 1, 1 + i % 3,
+          List.of("XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX")));
+    }
+
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.startGame(size[0], size[1], new ArrayList<>(deck), new ArrayList<>(deck), 5);
+    return model;
+  }
+
+  /**
+   * parses a board size such as 3x5.
+   *
+   * @param board the board size
+   * @return the rows and columns
+   */
+  private static int[] dimensions(String board) {
+    String[] parts = board.split("x");
+    return new int[] {Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+  }
+}
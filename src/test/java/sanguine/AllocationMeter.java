@@ -0,0 +1,123 @@
+package sanguine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+/**
+ * A meter of the bytes the current thread allocates while running an action, read from the
+ * ThreadMXBean allocated bytes counter, along with the allocation budgets the tests hold
+ * actions to.
+ *
+ * <p>Every measurement runs the action several times and keeps the smallest count, so warm up
+ * (class loading, lazily built caches, the interpreter allocating where compiled code would not)
+ * does not count against the budget.</p>
+ */
+public final class AllocationMeter {
+  private static final int RUNS = 20;
+  private static final String BUDGETS = "/allocation-budgets.properties";
+  private static final String OVERRIDE_PREFIX = "sanguine.alloc.";
+
+  /**
+   * An action to measure, on state built fresh for every run.
+   *
+   * @param <T> the state the action runs on
+   */
+  public interface Action<T> {
+
+    /**
+     * Runs the action.
+     *
+     * @param state the state built for this run
+     * @throws Exception if the action fails
+     */
+    void run(T state) throws Exception;
+  }
+
+  /**
+   * Builds the state of one run. Its allocations are not measured.
+   *
+   * @param <T> the state built
+   */
+  public interface Setup<T> {
+
+    /**
+     * Builds the state.
+     *
+     * @return the state
+     * @throws Exception if the state can not be built
+     */
+    T create() throws Exception;
+  }
+
+  /**
+   * This class only has static methods.
+   */
+  private AllocationMeter() {
+  }
+
+  /**
+   * Returns whether this JVM can count the bytes a thread allocates.
+   *
+   * @return if allocations can be measured
+   */
+  public static boolean isSupported() {
+    return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+        && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled();
+  }
+
+  /**
+   * Returns the fewest bytes the action allocated over several runs, each on fresh state.
+   *
+   * @param setup  builds the state of every run
+   * @param action the action measured
+   * @param <T>    the state the action runs on
+   * @return the bytes allocated
+   * @throws Exception if the setup or action fails
+   */
+  public static <T> long measure(Setup<T> setup, Action<T> action) throws Exception {
+    com.sun.management.ThreadMXBean bean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    long fewest = Long.MAX_VALUE;
+    for (int i = 0; i < RUNS; i++) {
+      T state = setup.create();
+      long before = bean.getCurrentThreadAllocatedBytes();
+      action.run(state);
+      long allocated = bean.getCurrentThreadAllocatedBytes() - before;
+      fewest = Math.min(fewest, allocated);
+    }
+    return fewest;
+  }
+
+  /**
+   * Returns the allocation budget of an operation: the system property sanguine.alloc.name if
+   * set, otherwise the value in allocation-budgets.properties.
+   *
+   * @param name the operation, such as playTurn.3x5
+   * @return the budget in bytes
+   * @throws IllegalArgumentException if the operation has no budget
+   * @throws IOException              if the budgets can not be read
+   */
+  public static long budget(String name) throws IOException {
+    String override = System.getProperty(OVERRIDE_PREFIX + name);
+    if (override != null) {
+      return Long.parseLong(override.trim());
+    }
+
+    Properties budgets = new Properties();
+    try (InputStream in = AllocationMeter.class.getResourceAsStream(BUDGETS)) {
+      if (in == null) {
+        throw new IOException(BUDGETS + " is not on the classpath");
+      }
+      budgets.load(in);
+    }
+
+    String budget = budgets.getProperty(name);
+    if (budget == null) {
+      throw new IllegalArgumentException("no allocation budget for " + name);
+    }
+    return Long.parseLong(budget.trim());
+  }
+}
@@ -0,0 +1,224 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.BasicSanguineCard;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.BitBoard;
+import sanguine.model.BoardView;
+import sanguine.model.Placement;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+
+/**
+ * tests for the bitboard engine, played side by side with the model.
+ */
+public class BitBoardTest {
+
+  /**
+   * makes sure placing every move of random games on a bitboard leaves it matching the model
+   * cell for cell, on boards wide enough for rows to cross one and two words, including the moves
+   * the model refuses or stops partway through.
+   *
+   * @throws IOException if the model throws it
+   */
+  @Test
+  public void testMatchesModel() throws IOException {
+    int[][] sizes = {{5, 5}, {3, 7}, {7, 63}, {3, 65}, {4, 71}, {3, 129}, {5, 131}};
+    int played = 0;
+    int stopped = 0;
+    for (int[] size : sizes) {
+      for (long seed = 1; seed <= 6; seed++) {
+        Random random = new Random(seed * 31 + size[1]);
+        BasicSanguineModel model = new BasicSanguineModel();
+        int cards = size[0] * size[1];
+        model.startGame(size[0], size[1], randomDeck(random, "Red", cards),
+            randomDeck(random, "Blue", cards), 5, seed);
+        BitBoard bits = BitBoard.of(model.getBoardView());
+        assertSame(model.getBoardView(), bits);
+
+        for (int move = 0; move < 120 && !model.isGameOver(); move++) {
+          PlayerColor color = model.getTurn().getColor();
+          Placement placement = pick(model, color, random);
+          if (placement == null) {
+            model.passTurn();
+            continue;
+          }
+
+          Class<?> expected = null;
+          try {
+            model.playTurn(placement.row(), placement.col(), placement.card());
+            played++;
+          } catch (IllegalArgumentException | IllegalStateException exo) {
+            expected = exo.getClass();
+          }
+          Class<?> actual = null;
+          try {
+            bits.place(placement.row(), placement.col(), placement.card(), color);
+          } catch (IllegalArgumentException | IllegalStateException exo) {
+            actual = exo.getClass();
+          }
+          if (actual == null && expected != null) {
+            // the model drew from an empty hand after placing the card, as the board shows
+            assertTrue(model.getPlayerHand(model.getTurn().getColor()).isEmpty());
+          } else {
+            assertEquals(expected, actual);
+          }
+          stopped += actual == IllegalStateException.class ? 1 : 0;
+          assertSame(model.getBoardView(), bits);
+        }
+      }
+    }
+    assertTrue(played > 1000);
+    assertTrue(stopped > 0);
+  }
+
+  /**
+   * makes sure influence grows pawns up to three, flips three of the other player's pawns, skips
+   * cards and the edges of the board, and stops at one or two of the other player's pawns, and
+   * that copies change on their own.
+   *
+   * @throws IOException if the deck can not be read
+   */
+  @Test
+  public void testInfluence() throws IOException {
+    SanguineCard all = new BasicSanguineCard("All", 1, 2,
+        List.of("IIIII", "IIIII", "IICII", "IIIII", "IIIII"));
+    SanguineCard left = new BasicSanguineCard("Left", 1, 3,
+        List.of("XXXXX", "XXXXX", "IXCXX", "XXXXX", "XXXXX"));
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.startGame(3, 5, model.createDeck(), model.createDeck(), 5);
+    BitBoard board = BitBoard.of(model.getBoardView());
+    assertThrows(IllegalArgumentException.class, () -> new BitBoard(3, 66));
+    assertThrows(IllegalArgumentException.class, () -> board.getOwner(0, 5));
+    assertThrows(IllegalArgumentException.class, () -> board.place(1, 1, all, PlayerColor.RED));
+    assertThrows(IllegalArgumentException.class, () -> board.place(1, 4, all, PlayerColor.RED));
+
+    board.place(1, 0, all, PlayerColor.RED);
+    board.place(0, 0, all, PlayerColor.RED);
+    board.place(2, 0, all, PlayerColor.RED);
+    for (int row = 0; row < 3; row++) {
+      assertEquals(2, board.getRowScore(PlayerColor.RED, row));
+      assertEquals(3, board.getPawnCount(row, 1));
+      assertEquals(3, board.getPawnCount(row, 2));
+      assertEquals(PlayerColor.RED, board.getOwner(row, 2));
+      assertEquals(1, board.getPawnCount(row, 4));
+    }
+
+    BitBoard before = board.copy();
+    board.place(1, 4, left, PlayerColor.BLUE);
+    assertEquals(PlayerColor.BLUE, board.getOwner(1, 2));
+    assertEquals(3, board.getPawnCount(1, 2));
+    assertEquals(3, board.getValue(1, 4));
+    assertEquals(3, board.getRowScore(PlayerColor.BLUE, 1));
+    assertEquals(PlayerColor.RED, before.getOwner(1, 2));
+    assertEquals(0, before.getValue(1, 4));
+
+    board.place(0, 4, all, PlayerColor.BLUE);
+    assertEquals(PlayerColor.BLUE, board.getOwner(0, 2));
+    assertEquals(PlayerColor.BLUE, board.getOwner(2, 2));
+    assertEquals(1, board.getPawnCount(0, 3));
+    assertEquals(2, board.getPawnCount(2, 4));
+    assertTrue(board.hasCard(1, 4));
+
+    // row 0 is influenced up to the one blue pawn on (0, 3), and nothing after it
+    assertThrows(IllegalStateException.class, () -> board.place(1, 1, all, PlayerColor.RED));
+    assertEquals(PlayerColor.RED, board.getOwner(0, 2));
+    assertEquals(PlayerColor.BLUE, board.getOwner(0, 3));
+    assertEquals(PlayerColor.BLUE, board.getOwner(2, 2));
+    assertEquals(4, board.getRowScore(PlayerColor.RED, 1));
+  }
+
+  /**
+   * a helper method that picks a move for a player: usually a card from their hand on a cell it
+   * can be placed on, sometimes on any cell, and null to pass when there is none.
+   *
+   * @param model  the game
+   * @param color  the player
+   * @param random the source of the moves
+   * @return the move, or null to pass
+   */
+  private static Placement pick(BasicSanguineModel model, PlayerColor color, Random random) {
+    BoardView view = model.getBoardView();
+    List<SanguineCard> hand = model.getPlayerHand(color);
+    if (hand.isEmpty()) {
+      return null;
+    }
+    if (random.nextInt(8) == 0) {
+      return new Placement(hand.get(random.nextInt(hand.size())),
+          random.nextInt(view.getRows()), random.nextInt(view.getCols()));
+    }
+
+    List<Placement> moves = new ArrayList<>();
+    for (SanguineCard card : hand) {
+      for (int row = 0; row < view.getRows(); row++) {
+        for (int col = 0; col < view.getCols(); col++) {
+          if (view.getOwner(row, col) == color && !view.hasCard(row, col)
+              && view.getPawnCount(row, col) >= card.getCost()) {
+            moves.add(new Placement(card, row, col));
+          }
+        }
+      }
+    }
+    return moves.isEmpty() ? null : moves.get(random.nextInt(moves.size()));
+  }
+
+  /**
+   * a helper method that makes a deck of distinct cards with random costs, values and influence.
+   *
+   * @param random the source of the cards
+   * @param name   the start of every card's name
+   * @param size   the amount of cards
+   * @return the deck
+   */
+  private static List<SanguineCard> randomDeck(Random random, String name, int size) {
+    List<SanguineCard> deck = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      List<String> grid = new ArrayList<>();
+      for (int row = 0; row < 5; row++) {
+        StringBuilder line = new StringBuilder();
+        for (int col = 0; col < 5; col++) {
+          if (row == 2 && col == 2) {
+            line.append('C');
+          } else {
+            line.append(random.nextInt(3) == 0 ? 'I' : 'X');
+          }
+        }
+        grid.add(line.toString());
+      }
+      deck.add(new BasicSanguineCard(name + i, 1 + random.nextInt(3), 1 + random.nextInt(3),
+          grid));
+    }
+    return deck;
+  }
+
+  /**
+   * a helper method that checks a bitboard shows the same cells and scores as a view.
+   *
+   * @param expected the view
+   * @param actual   the bitboard
+   */
+  private static void assertSame(BoardView expected, BitBoard actual) {
+    assertEquals(expected.getRows(), actual.getRows());
+    assertEquals(expected.getCols(), actual.getCols());
+    for (int row = 0; row < expected.getRows(); row++) {
+      for (int col = 0; col < expected.getCols(); col++) {
+        String at = row + "," + col;
+        assertEquals(at, expected.getOwner(row, col), actual.getOwner(row, col));
+        assertEquals(at, expected.getPawnCount(row, col), actual.getPawnCount(row, col));
+        assertEquals(at, expected.hasCard(row, col), actual.hasCard(row, col));
+        assertEquals(at, expected.getValue(row, col), actual.getValue(row, col));
+      }
+      for (PlayerColor color : PlayerColor.values()) {
+        assertEquals(expected.getRowScore(color, row), actual.getRowScore(color, row));
+      }
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.BoardView;
+import sanguine.model.ConcurrentSanguineModel;
+import sanguine.model.ModelListener;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineBoardCell;
+import sanguine.model.SanguineCard;
+import sanguine.model.SanguineModel;
+
+/**
+ * tests for the model that is safe to read while it is played.
+ */
+public class ConcurrentSanguineModelTest {
+
+  /**
+   * makes sure readers on other threads only ever see whole moves while a game is played, and
+   * that the game ends exactly as it does on a plain model.
+   *
+   * @throws Exception if a reader or the game fails
+   */
+  @Test
+  public void testReadersDuringGame() throws Exception {
+    ConcurrentSanguineModel model = new ConcurrentSanguineModel();
+    model.startGame(40, 3, TestDecks.column(120), TestDecks.column(120), 5, 4);
+    BasicSanguineModel plain = new BasicSanguineModel();
+    plain.startGame(40, 3, TestDecks.column(120), TestDecks.column(120), 5, 4);
+
+    AtomicBoolean done = new AtomicBoolean();
+    ExecutorService readers = Executors.newFixedThreadPool(4);
+    List<Future<Integer>> reads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      reads.add(readers.submit(() -> {
+        int count = 0;
+        while (!done.get()) {
+          checkConsistent(model);
+          count++;
+        }
+        return count;
+      }));
+    }
+
+    int moves = 0;
+    while (!model.isGameOver()) {
+      moves += play(model) ? 1 : 0;
+      play(plain);
+    }
+    done.set(true);
+    for (Future<Integer> read : reads) {
+      assertTrue(read.get(10, TimeUnit.SECONDS) > 0);
+    }
+    readers.shutdown();
+
+    assertTrue(moves > 40);
+    assertTrue(plain.isGameOver());
+    for (PlayerColor color : PlayerColor.values()) {
+      assertEquals(plain.getScore(color), model.getScore(color));
+    }
+    for (int row = 0; row < 40; row++) {
+      for (int col = 0; col < 3; col++) {
+        assertEquals(plain.getOwnershipOfCell(row, col), model.getOwnershipOfCell(row, col));
+        assertEquals(plain.getCellAt(row, col).getPawns().size(),
+            model.getCellAt(row, col).getPawns().size());
+      }
+    }
+  }
+
+  /**
+   * makes sure a listener may read and change the model from inside a move, on the thread that
+   * made it, and that what queries return is not live.
+   *
+   * @throws IOException if the model throws it
+   */
+  @Test
+  public void testListenersAndCopies() throws IOException {
+    ConcurrentSanguineModel model = new ConcurrentSanguineModel();
+    assertThrows(IllegalStateException.class, model::getBoardView);
+    model.startGame(40, 3, TestDecks.column(120), TestDecks.column(120), 5, 4);
+
+    AtomicInteger turns = new AtomicInteger();
+    model.addControllerSubscriber(new ModelListener() {
+      @Override
+      public void turnChanged(PlayerColor color) {
+        turns.incrementAndGet();
+        assertEquals(color, model.getTurn().getColor());
+        assertEquals(40, model.getBoardView().getRows());
+        assertThrows(IllegalStateException.class, () -> model.setJournal(null));
+      }
+
+      @Override
+      public void notifyGameEnded() {
+        // checked below
+      }
+    });
+    for (int i = 0; i < 10; i++) {
+      play(model);
+    }
+    assertEquals(10, turns.get());
+
+    SanguineBoardCell cell = model.getCellAt(0, 0);
+    List<SanguineCard> hand = model.getPlayerHand(PlayerColor.RED);
+    BoardView view = model.getBoardView();
+    assertEquals(40, view.getRows());
+    assertEquals(model.getRowScore(PlayerColor.RED, 0), view.getRowScore(PlayerColor.RED, 0));
+    assertThrows(UnsupportedOperationException.class, () -> hand.add(hand.get(0)));
+    assertFalse(cell == model.getCellAt(0, 0));
+  }
+
+  /**
+   * a helper method that checks what one reader sees: every cell within the rules, no negative
+   * scores and a hand no larger than its limit.
+   *
+   * @param model the model
+   */
+  private static void checkConsistent(ConcurrentSanguineModel model) {
+    BoardView view = model.getBoardView();
+    for (int row = 0; row < 40; row++) {
+      for (int col = 0; col < 3; col++) {
+        SanguineBoardCell cell = model.getCellAt(row, col);
+        assertTrue(cell.getPawns().size() <= 3);
+        assertTrue(cell.getColor() != null || cell.getPawns().isEmpty());
+      }
+      assertTrue(view.getRowScore(PlayerColor.RED, row) >= 0);
+    }
+    assertTrue(model.getPlayerHand(model.getTurn().getColor()).size() <= 5);
+    assertTrue(model.getScore(PlayerColor.RED) >= 0 && model.getScore(PlayerColor.BLUE) >= 0);
+  }
+
+  /**
+   * a helper method that plays the first card in hand on the first cell the side to move owns
+   * without a card, or passes if there is none.
+   *
+   * @param model the model
+   * @return true if a card was played
+   * @throws IOException if the model throws it
+   */
+  private static boolean play(SanguineModel<SanguineCard> model) throws IOException {
+    PlayerColor color = model.getTurn().getColor();
+    List<SanguineCard> hand = model.getPlayerHand(color);
+    for (int row = 0; row < 40 && !hand.isEmpty(); row++) {
+      for (int col = 0; col < 3; col++) {
+        SanguineBoardCell cell = model.getCellAt(row, col);
+        if (cell.getColor() == color && !cell.containsCard()) {
+          model.playTurn(row, col, hand.get(0));
+          return true;
+        }
+      }
+    }
+    model.passTurn();
+    return false;
+  }
+}
@@ -0,0 +1,112 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.DeckCache;
+import sanguine.model.DeckParser;
+import sanguine.model.SanguineCard;
+
+/**
+ * tests for the process wide deck cache.
+ */
+public class DeckCacheTest {
+
+  /**
+   * makes sure loading the same deck twice returns the cached deck, equal to a fresh parse.
+   *
+   * @throws IOException if the deck file cannot be read
+   */
+  @Test
+  public void testRepeatedLoadsAreCached() throws IOException {
+    List<SanguineCard> first = DeckCache.get(DeckCache.DEFAULT_DECK_PATH);
+    List<SanguineCard> second = DeckCache.get(DeckCache.DEFAULT_DECK_PATH);
+
+    assertSame(first, second);
+    assertEquals(DeckParser.makeDeck(DeckCache.DEFAULT_DECK_PATH), first);
+  }
+
+  /**
+   * makes sure the cached deck can not be modified.
+   *
+   * @throws IOException if the deck file cannot be read
+   */
+  @Test
+  public void testCachedDeckIsImmutable() throws IOException {
+    List<SanguineCard> deck = DeckCache.get(DeckCache.DEFAULT_DECK_PATH);
+
+    assertThrows(UnsupportedOperationException.class, () -> deck.remove(0));
+    assertThrows(UnsupportedOperationException.class,
+        () -> Collections.shuffle(deck, new Random(1)));
+  }
+
+  /**
+   * makes sure a copy can be shuffled and drawn from without changing the cached deck.
+   *
+   * @throws IOException if the deck file cannot be read
+   */
+  @Test
+  public void testCopiesAreIndependent() throws IOException {
+    List<SanguineCard> cached = DeckCache.get(DeckCache.DEFAULT_DECK_PATH);
+    List<SanguineCard> copy = DeckCache.copy(DeckCache.DEFAULT_DECK_PATH);
+    List<SanguineCard> other = DeckCache.copy(DeckCache.DEFAULT_DECK_PATH);
+
+    assertEquals(cached, copy);
+
+    Collections.shuffle(copy, new Random(3));
+    SanguineCard drawn = copy.remove(0);
+
+    assertEquals(cached.size() - 1, copy.size());
+    assertEquals(cached.size(), other.size());
+    assertEquals(cached, other);
+    assertEquals(DeckParser.makeDeck(DeckCache.DEFAULT_DECK_PATH), cached);
+    assertTrue(cached.contains(drawn));
+  }
+
+  /**
+   * makes sure a deck is parsed again once its file changes.
+   *
+   * @throws IOException if the deck file cannot be read
+   */
+  @Test
+  public void testChangedFileIsReloaded() throws IOException {
+    Path path = Files.createTempFile("deckCache", ".deck");
+    String card = "Security 1 1\nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n";
+
+    Files.write(path, card.getBytes(StandardCharsets.UTF_8));
+    List<SanguineCard> before = DeckCache.get(path.toString());
+    assertEquals(1, before.size());
+
+    Files.write(path, (card + card).getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(path, FileTime.fromMillis(
+        Files.getLastModifiedTime(path).toMillis() + 5000));
+    List<SanguineCard> after = DeckCache.get(path.toString());
+
+    assertNotSame(before, after);
+    assertEquals(2, after.size());
+
+    Files.delete(path);
+    assertThrows(IOException.class, () -> DeckCache.get(path.toString()));
+  }
+
+  /**
+   * makes sure a missing file is reported like DeckParser does.
+   */
+  @Test
+  public void testMissingFile() {
+    assertThrows(IOException.class, () -> DeckCache.get("docs/missing.deck"));
+    assertThrows(IllegalArgumentException.class, () -> DeckCache.get(null));
+  }
+}
@@ -0,0 +1,139 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.DeckCache;
+import sanguine.model.DeckCompiler;
+import sanguine.model.DeckParser;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+
+/**
+ * tests for compiling text decks into binary decks and loading them back.
+ */
+public class DeckCompilerTest {
+
+  /**
+   * compiles the example deck into a temporary file.
+   */
+  private Path compileExample() throws IOException {
+    Path compiled = Files.createTempFile("compiled", ".sdeck");
+    DeckCompiler.compile(DeckCache.DEFAULT_DECK_PATH, compiled.toString());
+    return compiled;
+  }
+
+  /**
+   * makes sure a compiled deck loads into the same cards as its text deck.
+   *
+   * @throws IOException if a deck file cannot be read
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    Path compiled = compileExample();
+
+    List<SanguineCard> text = DeckParser.makeDeck(DeckCache.DEFAULT_DECK_PATH);
+    List<SanguineCard> binary = DeckParser.makeDeck(compiled.toString());
+
+    assertEquals(text.size(), binary.size());
+    for (int i = 0; i < text.size(); i++) {
+      SanguineCard expected = text.get(i);
+      SanguineCard actual = binary.get(i);
+
+      assertEquals(expected.toString(), actual.toString());
+      assertEquals(expected, actual);
+      assertEquals(actual, expected);
+      assertEquals(expected.hashCode(), actual.hashCode());
+      assertEquals(expected.getInfluenceMask(), actual.getInfluenceMask());
+      assertEquals(expected.getIntInfluence(), actual.getIntInfluence());
+      assertEquals(expected.getColorInfluence(), actual.getColorInfluence());
+    }
+    Files.delete(compiled);
+  }
+
+  /**
+   * makes sure the influence mask has one bit per influenced cell, row by row.
+   *
+   * @throws IOException if a deck file cannot be read
+   */
+  @Test
+  public void testInfluenceMask() throws IOException {
+    Path text = Files.createTempFile("mask", ".deck");
+    Files.write(text, "Corner 1 1\nIXXXX\nXXXXX\nXXCXX\nXXXXX\nXXXXI\n"
+        .getBytes(StandardCharsets.UTF_8));
+
+    SanguineCard card = DeckParser.makeDeck(text.toString()).get(0);
+
+    assertEquals(1 | 1 << 24, card.getInfluenceMask());
+    Files.delete(text);
+  }
+
+  /**
+   * makes sure a game can be played with compiled decks.
+   *
+   * @throws IOException if a deck file cannot be read
+   */
+  @Test
+  public void testPlayWithCompiledDeck() throws IOException {
+    Path compiled = compileExample();
+    BasicSanguineModel model = new BasicSanguineModel();
+
+    model.startGame(3, 5, DeckParser.makeDeck(compiled.toString()),
+        DeckParser.makeDeck(compiled.toString()), 3);
+
+    boolean played = false;
+    for (SanguineCard card : model.getPlayerHand(PlayerColor.RED)) {
+      if (!played && model.placeCardLegal(0, 0, card, model.getTurn())) {
+        model.playTurn(0, 0, card);
+        played = true;
+      }
+    }
+    assertTrue(played);
+    assertEquals(PlayerColor.RED, model.getOwnershipOfCell(0, 0));
+    Files.delete(compiled);
+  }
+
+  /**
+   * makes sure a corrupt compiled deck is rejected.
+   *
+   * @throws IOException if a deck file cannot be written
+   */
+  @Test
+  public void testCorruptDeck() throws IOException {
+    Path compiled = compileExample();
+    byte[] bytes = Files.readAllBytes(compiled);
+
+    // claim more cards than the file holds
+    bytes[12] = 0x7F;
+    Files.write(compiled, bytes);
+
+    assertThrows(IllegalArgumentException.class, () -> DeckParser.makeDeck(compiled.toString()));
+    Files.delete(compiled);
+  }
+
+  /**
+   * makes sure grids with a C away from the center can not be compiled.
+   *
+   * @throws IOException if a deck file cannot be written
+   */
+  @Test
+  public void testExtraCenterFails() throws IOException {
+    Path text = Files.createTempFile("extraC", ".deck");
+    Path compiled = Files.createTempFile("extraC", ".sdeck");
+    Files.write(text, "Twin 1 1\nXXXXX\nXXXXX\nCXCXX\nXXXXX\nXXXIX\n"
+        .getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> DeckCompiler.compile(text.toString(), compiled.toString()));
+    Files.delete(text);
+    Files.delete(compiled);
+  }
+}
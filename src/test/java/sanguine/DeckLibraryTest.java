@@ -0,0 +1,109 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.DeckCache;
+import sanguine.model.DeckCompiler;
+import sanguine.model.DeckComposition;
+import sanguine.model.DeckLibrary;
+
+/**
+ * tests for loading a directory of decks into a deck library.
+ */
+public class DeckLibraryTest {
+  private static final String SECURITY = "Security 1 1\nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n";
+  private static final String QUEEN = "Queen 1 2\nXXIXX\nXXXXX\nXXCXX\nXXXXX\nXXIXX\n";
+
+  /**
+   * helper method that writes a deck file into a directory.
+   */
+  private Path write(Path directory, String name, String content) throws IOException {
+    Path file = directory.resolve(name);
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  /**
+   * makes sure valid decks are loaded and bad files are reported without stopping the load.
+   *
+   * @throws IOException if a file cannot be written
+   */
+  @Test
+  public void testLoadReportsErrors() throws IOException {
+    Path directory = Files.createTempDirectory("library");
+    Path good = write(directory, "good.deck", SECURITY + QUEEN);
+    Path tripled = write(directory, "tripled.deck", SECURITY + SECURITY + SECURITY);
+    Path broken = write(directory, "broken.deck", "Security 1 1\nXXXXX\n");
+    write(directory, "notes.txt", "not a deck");
+
+    DeckLibrary library = DeckLibrary.load(directory, 2);
+
+    assertEquals(List.of(good), List.copyOf(library.getDecks().keySet()));
+    assertEquals(2, library.getDecks().get(good).size());
+    assertEquals(List.of(broken, tripled), List.copyOf(library.getErrors().keySet()));
+    assertTrue(library.getErrors().get(tripled).contains("more than two"));
+  }
+
+  /**
+   * makes sure decks with the same cards in another order share a composition.
+   *
+   * @throws IOException if a file cannot be written
+   */
+  @Test
+  public void testCompositionIndex() throws IOException {
+    Path directory = Files.createTempDirectory("library");
+    Path first = write(directory, "a.deck", SECURITY + QUEEN + SECURITY);
+    Path second = write(directory, "b.deck", QUEEN + SECURITY + SECURITY);
+    Path third = write(directory, "c.deck", QUEEN + QUEEN + SECURITY);
+
+    DeckLibrary library = DeckLibrary.load(directory, 3);
+    DeckComposition composition = library.getComposition(first);
+
+    assertEquals(composition, library.getComposition(second));
+    assertNotEquals(composition, library.getComposition(third));
+    assertEquals(List.of(first, second), library.findByComposition(composition));
+    assertEquals(2, library.getIndex().size());
+    assertEquals(3, composition.size());
+    assertEquals(2, composition.distinctCards());
+    assertEquals(2, composition.count(library.getDecks().get(first).get(0)));
+  }
+
+  /**
+   * makes sure compiled decks are loaded alongside text decks.
+   *
+   * @throws IOException if a file cannot be written
+   */
+  @Test
+  public void testCompiledDecks() throws IOException {
+    Path directory = Files.createTempDirectory("library");
+    Path text = directory.resolve("example.deck");
+    Files.copy(Path.of(DeckCache.DEFAULT_DECK_PATH), text);
+    Path compiled = directory.resolve("example.sdeck");
+    DeckCompiler.compile(text.toString(), compiled.toString());
+
+    DeckLibrary library = DeckLibrary.load(directory);
+
+    assertEquals(2, library.getDecks().size());
+    assertEquals(library.getComposition(text), library.getComposition(compiled));
+    assertEquals(0, library.getErrors().size());
+  }
+
+  /**
+   * makes sure invalid arguments are rejected.
+   */
+  @Test
+  public void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> DeckLibrary.load(null));
+    assertThrows(IllegalArgumentException.class, () -> DeckLibrary.load(Path.of("docs"), 0));
+    assertThrows(IOException.class, () -> DeckLibrary.load(Path.of("docs", "missing")));
+  }
+}
@@ -393,4 +393,84 @@ public class DeckParserTest {
     );
   }
 
+  /**
+   * makes sure windows line endings and a missing final newline are read like BufferedReader.
+   *
+   * @throws IOException if path is invalid
+   */
+  @Test
+  public void testLineEndings() throws IOException {
+    Path path = createTempDeck();
+
+    writeToFile("Security 1 2\r\nXXXXX\r\nXXIXX\r\nXICIX\r\nXXIXX\r\nXXXXX\r\n"
+        + "Queen 2 3\rXXIXX\rXXXXX\rXXCXX\rXXXXX\rXXIXX", path.toString());
+
+    List<SanguineCard> deck = DeckParser.makeDeck(path.toString());
+
+    assertEquals(2, deck.size());
+    assertEquals("Security", deck.get(0).getName());
+    assertEquals(2, deck.get(0).getValue());
+    assertEquals(List.of("XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"),
+        deck.get(0).getStringInfluence());
+    assertEquals("Queen", deck.get(1).getName());
+    assertEquals(2, deck.get(1).getCost());
+    assertEquals("XXIXX", deck.get(1).getStringInfluence().get(4));
+  }
+
+  /**
+   * makes sure a card cut off in the middle of its grid makes the deck invalid.
+   *
+   * @throws IOException if path is invalid
+   */
+  @Test
+  public void testPartialCardFails() throws IOException {
+    Path path = createTempDeck();
+
+    writeToFile("Security 1 1\nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\nQueen 1 1\nXXIXX\n",
+        path.toString());
+
+    assertThrows(IllegalArgumentException.class, () -> DeckParser.makeDeck(path.toString()));
+  }
+
+  /**
+   * makes sure titles are split on single spaces, so doubled spaces make a title invalid.
+   *
+   * @throws IOException if path is invalid
+   */
+  @Test
+  public void testTitleSpacing() throws IOException {
+    Path path = createTempDeck();
+
+    writeToFile("Security  1 1\nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n", path.toString());
+    assertThrows(IllegalArgumentException.class, () -> DeckParser.makeDeck(path.toString()));
+
+    // trailing spaces are dropped, like String.split
+    writeToFile("Security 1 1  \nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n", path.toString());
+    assertEquals(1, DeckParser.makeDeck(path.toString()).size());
+  }
+
+  /**
+   * makes sure a deck bigger than one read chunk is parsed completely.
+   *
+   * @throws IOException if path is invalid
+   */
+  @Test
+  public void testLargeDeck() throws IOException {
+    Path path = createTempDeck();
+    StringBuilder content = new StringBuilder();
+    int cards = 20000;
+
+    for (int i = 0; i < cards; i++) {
+      content.append("Card").append(i).append(" ").append(i % 3 + 1).append(" ")
+          .append(i % 7 + 1).append("\nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n");
+    }
+    writeToFile(content.toString(), path.toString());
+
+    List<SanguineCard> deck = DeckParser.makeDeck(path.toString());
+
+    assertEquals(cards, deck.size());
+    assertEquals("Card19999", deck.get(cards - 1).getName());
+    assertEquals(19999 % 7 + 1, deck.get(cards - 1).getValue());
+    Files.delete(path);
+  }
 }
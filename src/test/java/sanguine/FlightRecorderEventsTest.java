@@ -0,0 +1,97 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import sanguine.metrics.MetricsRegistry;
+import sanguine.model.BasicSanguineCard;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.DeckCache;
+import sanguine.model.DeckParser;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+import sanguine.strategies.InstrumentedStrategy;
+import sanguine.strategies.MiniMax;
+
+/**
+ * tests for the Flight Recorder events emitted by the model, deck parser and strategies.
+ */
+public class FlightRecorderEventsTest {
+
+  /**
+   * makes sure a recording sees every kind of event with its fields, and that the board copy and
+   * simulated placement events are only recorded when asked for.
+   *
+   * @throws IOException if the deck or recording cannot be read or written
+   */
+  @Test
+  public void testEventsAreRecorded() throws IOException {
+    List<SanguineCard> deck = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      deck.add(new BasicSanguineCard("Card" + i, 1, 2,
+          List.of("XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX")));
+    }
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.startGame(3, 5, new ArrayList<>(deck), new ArrayList<>(deck), 5);
+
+    Path file = Files.createTempFile("sanguine", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("sanguine.Turn");
+      recording.enable("sanguine.DeckLoad");
+      recording.enable("sanguine.Decision");
+      recording.enable("sanguine.DecisionPhase");
+      recording.enable("sanguine.BoardCopy");
+      recording.start();
+
+      DeckParser.makeDeck(DeckCache.DEFAULT_DECK_PATH);
+      new InstrumentedStrategy(new MiniMax(), new MetricsRegistry())
+          .choose(model, PlayerColor.RED);
+      model.playTurn(1, 0, model.getPlayerHand(PlayerColor.RED).getFirst());
+      model.passTurn();
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    Map<String, List<RecordedEvent>> events = new TreeMap<>();
+    for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+      events.computeIfAbsent(event.getEventType().getName(), key -> new ArrayList<>())
+          .add(event);
+    }
+    Files.delete(file);
+
+    List<RecordedEvent> turns = events.get("sanguine.Turn");
+    assertEquals(2, turns.size());
+    assertEquals("RED", turns.get(0).getString("player"));
+    assertEquals(1, turns.get(0).getInt("row"));
+    assertEquals(5, turns.get(0).getInt("cols"));
+    assertFalse(turns.get(0).getBoolean("passed"));
+    assertTrue(turns.get(1).getBoolean("passed"));
+
+    RecordedEvent load = events.get("sanguine.DeckLoad").getFirst();
+    assertEquals(DeckCache.DEFAULT_DECK_PATH, load.getString("path"));
+    assertTrue(load.getInt("cards") > 0);
+    assertFalse(load.getBoolean("compiled"));
+
+    RecordedEvent decision = events.get("sanguine.Decision").getFirst();
+    assertEquals("MiniMax", decision.getString("strategy"));
+    assertEquals(5 * 15, decision.getInt("candidates"));
+    assertTrue(decision.getLong("placements") > 0);
+    assertEquals(decision.getLong("boardCopies"), events.get("sanguine.BoardCopy").size());
+
+    assertEquals(6, events.get("sanguine.DecisionPhase").size());
+    assertFalse(events.containsKey("sanguine.SimulatedPlacement"));
+  }
+}
@@ -0,0 +1,201 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.GameJournalReader;
+import sanguine.model.GameJournalWriter;
+import sanguine.model.Perft;
+import sanguine.model.PlayerColor;
+import sanguine.model.PositionNotation;
+
+/**
+ * tests for recording games to a binary journal and replaying them.
+ */
+public class GameJournalTest {
+  private static final List<String> RIGHT = List.of("XXXXX", "XXXXX", "XXCXI", "XXXXX", "XXXXX");
+  private static final List<String> LEFT = List.of("XXXXX", "XXXXX", "IXCXX", "XXXXX", "XXXXX");
+
+  /**
+   * makes sure a recorded game replays into the same position, move for move, and that the
+   * journal is closed when the game ends.
+   *
+   * @throws IOException if the journal cannot be written or read
+   */
+  @Test
+  public void testRecordAndReplay() throws IOException {
+    Path path = Files.createTempFile("game", ".sgj");
+    BasicSanguineModel model = new BasicSanguineModel();
+    GameJournalWriter journal = new GameJournalWriter(path);
+    model.setJournal(journal);
+    model.startGame(3, 5, TestDecks.cross(15), TestDecks.cross(15), 5);
+
+    List<Perft.Move> played = new ArrayList<>();
+    for (int turn = 0; turn < 4; turn++) {
+      List<Perft.Move> moves = Perft.legalMoves(model);
+      Perft.Move move = moves.get(moves.size() / 2);
+      playMove(model, move);
+      played.add(move);
+    }
+    model.passTurn();
+    model.passTurn();
+    played.add(Perft.Move.PASS);
+    played.add(Perft.Move.PASS);
+    assertTrue(model.isGameOver());
+    assertEquals(played.size(), journal.getMoveCount());
+
+    GameJournalReader reader = GameJournalReader.open(path);
+    assertEquals(3, reader.getRows());
+    assertEquals(5, reader.getCols());
+    assertEquals(5, reader.getHandSize());
+    assertFalse(reader.isSeeded());
+    assertEquals(TestDecks.cross(15), reader.getRedDeck());
+    assertEquals(played.size(), reader.getMoveCount());
+    for (int i = 0; i < played.size(); i++) {
+      assertEquals(played.get(i), reader.getMove(i));
+    }
+
+    List<Perft.Move> visited = new ArrayList<>();
+    reader.visitMoves((handIndex, row, col) -> visited.add(new Perft.Move(handIndex, row, col)));
+    assertEquals(played, visited);
+    assertEquals(PositionNotation.write(model), PositionNotation.write(reader.replay()));
+    Files.delete(path);
+  }
+
+  /**
+   * makes sure a move that throws partway through its influence, after its card is down, is
+   * recorded and replays into the same position.
+   *
+   * @throws IOException if the journal cannot be written or read
+   */
+  @Test
+  public void testReplayMoveThatThrew() throws IOException {
+    Path path = Files.createTempFile("game", ".sgj");
+    BasicSanguineModel model = new BasicSanguineModel();
+    GameJournalWriter journal = new GameJournalWriter(path);
+    model.setJournal(journal);
+    model.startGame(3, 5, TestDecks.deck("Reach", 15, RIGHT),
+        TestDecks.deck("Back", 15, LEFT), 5);
+
+    model.playTurn(0, 0, model.getTurn().getHand().getFirst());
+    // blue's influence reaches red's single pawn on (0, 2) and stops there
+    assertThrows(IllegalStateException.class,
+        () -> model.playTurn(0, 4, model.getTurn().getHand().getFirst()));
+    assertTrue(model.getCellAt(0, 4).containsCard());
+    model.passTurn();
+    model.passTurn();
+    assertEquals(4, journal.getMoveCount());
+
+    GameJournalReader reader = GameJournalReader.open(path);
+    assertEquals(new Perft.Move(0, 0, 4), reader.getMove(1));
+    assertEquals(PositionNotation.write(model), PositionNotation.write(reader.replay()));
+    Files.delete(path);
+  }
+
+  /**
+   * makes sure a game started with a seed is recorded with it and replays with the same deal.
+   *
+   * @throws IOException if the journal cannot be written or read
+   */
+  @Test
+  public void testSeededReplay() throws IOException {
+    Path path = Files.createTempFile("game", ".sgj");
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.setJournal(new GameJournalWriter(path));
+    model.startGame(3, 5, TestDecks.cross(15), TestDecks.cross(15), 5, 12345);
+    model.passTurn();
+    model.passTurn();
+
+    GameJournalReader reader = GameJournalReader.open(path);
+    assertTrue(reader.isSeeded());
+    assertEquals(12345, reader.getSeed());
+    assertEquals(PositionNotation.write(model), PositionNotation.write(reader.replay()));
+    Files.delete(path);
+  }
+
+  /**
+   * makes sure a half written move at the end of a journal is ignored and the moves before it
+   * still replay.
+   *
+   * @throws IOException if the journal cannot be written or read
+   */
+  @Test
+  public void testTruncatedMoveIgnored() throws IOException {
+    Path path = Files.createTempFile("game", ".sgj");
+    try (GameJournalWriter journal = new GameJournalWriter(path)) {
+      journal.writeHeader(3, 5, 5, 9, TestDecks.cross(15), TestDecks.cross(15));
+      journal.writePass();
+      journal.writePlace(2, 1, 4);
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 1);
+    }
+
+    GameJournalReader reader = GameJournalReader.open(path);
+    assertEquals(9, reader.getSeed());
+    assertEquals(1, reader.getMoveCount());
+    assertEquals(Perft.Move.PASS, reader.getMove(0));
+    assertThrows(IllegalArgumentException.class, () -> reader.getMove(1));
+    Files.delete(path);
+  }
+
+  /**
+   * makes sure files that are not journals, and moves and hands the format can not hold, are
+   * rejected.
+   *
+   * @throws IOException if a file cannot be written
+   */
+  @Test
+  public void testInvalid() throws IOException {
+    Path path = Files.createTempFile("game", ".sgj");
+    Files.writeString(path, "not a journal at all, just some text long enough for a header");
+    assertThrows(IllegalArgumentException.class, () -> GameJournalReader.open(path));
+
+    try (GameJournalWriter journal = new GameJournalWriter(path)) {
+      assertThrows(IllegalStateException.class, journal::writePass);
+      journal.writeHeader(3, 5, 5, 0, TestDecks.cross(15), TestDecks.cross(15));
+      assertThrows(IllegalStateException.class,
+          () -> journal.writeHeader(3, 5, 5, 0, TestDecks.cross(15), TestDecks.cross(15)));
+      assertThrows(IllegalArgumentException.class, () -> journal.writePlace(128, 0, 0));
+      assertThrows(IllegalArgumentException.class, () -> journal.writePlace(0, -1, 0));
+    }
+
+    // a hand whose last cards could not be recorded is refused before the game starts
+    try (GameJournalWriter journal = new GameJournalWriter(path)) {
+      BasicSanguineModel model = new BasicSanguineModel();
+      model.setJournal(journal);
+      assertThrows(IllegalArgumentException.class,
+          () -> model.startGame(3, 5, TestDecks.cross(387), TestDecks.cross(387), 129, 0));
+      assertThrows(IllegalStateException.class, () -> model.getTurn());
+      model.startGame(3, 5, TestDecks.cross(384), TestDecks.cross(384), 128, 0);
+      assertEquals(128, model.getPlayerHand(PlayerColor.RED).size());
+    }
+    Files.delete(path);
+  }
+
+  /**
+   * a helper method that plays a move.
+   *
+   * @param model the game
+   * @param move  the move
+   * @throws IOException if the model fails to draw
+   */
+  private static void playMove(BasicSanguineModel model, Perft.Move move) throws IOException {
+    if (move.isPass()) {
+      model.passTurn();
+    } else {
+      model.playTurn(move.row(), move.col(), model.getTurn().getHand().get(move.handIndex()));
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.Test;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.GameSeeds;
+import sanguine.model.PlayerColor;
+import sanguine.model.PositionNotation;
+import sanguine.model.SanguineCard;
+
+/**
+ * tests for seeded games and the seeds of a batch of games.
+ */
+public class GameSeedsTest {
+
+  /**
+   * makes sure games started with the same seed deal the same cards, and that each player
+   * shuffles from its own stream instead of both getting the same order.
+   *
+   * @throws IOException if the model fails to start
+   */
+  @Test
+  public void testSameSeedSameDeal() throws IOException {
+    BasicSanguineModel first = start(11);
+    BasicSanguineModel second = start(11);
+
+    assertEquals(PositionNotation.write(first), PositionNotation.write(second));
+    assertNotEquals(first.getPlayerHand(PlayerColor.RED),
+        first.getPlayerHand(PlayerColor.BLUE));
+  }
+
+  /**
+   * makes sure different seeds deal different cards, while the game without a seed keeps the
+   * fixed shuffle, which deals identical decks the same way to both players.
+   *
+   * @throws IOException if the model fails to start
+   */
+  @Test
+  public void testSeedsDealDifferently() throws IOException {
+    Set<List<SanguineCard>> hands = new HashSet<>();
+    for (long seed = 0; seed < 10; seed++) {
+      hands.add(start(seed).getPlayerHand(PlayerColor.RED));
+    }
+    assertTrue(hands.size() > 1);
+
+    BasicSanguineModel fixed = new BasicSanguineModel();
+    fixed.startGame(3, 5, TestDecks.cross(15), TestDecks.cross(15), 5);
+    assertEquals(fixed.getPlayerHand(PlayerColor.RED), fixed.getPlayerHand(PlayerColor.BLUE));
+  }
+
+  /**
+   * makes sure the seeds of a batch depend only on the master seed and the game index, are
+   * distinct, and that thread streams are apart from game streams, and game streams from the
+   * shuffle.
+   */
+  @Test
+  public void testBatchSeeds() {
+    GameSeeds seeds = new GameSeeds(2024);
+    GameSeeds again = new GameSeeds(2024);
+
+    Set<Long> distinct = new HashSet<>();
+    for (int game = 0; game < 1000; game++) {
+      assertEquals(seeds.gameSeed(game), again.gameSeed(game));
+      distinct.add(seeds.gameSeed(game));
+    }
+    assertEquals(1000, distinct.size());
+    assertNotEquals(seeds.gameSeed(0), new GameSeeds(2025).gameSeed(0));
+
+    assertEquals(seeds.gameRandom(7).nextLong(), again.gameRandom(7).nextLong());
+    assertEquals(seeds.threadRandom(3).nextLong(), again.threadRandom(3).nextLong());
+    assertNotEquals(seeds.threadRandom(0).nextLong(), seeds.gameRandom(0).nextLong());
+
+    // startGame splits the decks' shuffles off a stream of the game's seed
+    SplittableRandom shuffle = new SplittableRandom(seeds.gameSeed(7));
+    SplittableRandom game = seeds.gameRandom(7);
+    assertNotEquals(shuffle.nextLong(), game.nextLong());
+    assertNotEquals(shuffle.split().nextLong(), game.split().nextLong());
+
+    assertThrows(IllegalArgumentException.class, () -> seeds.gameSeed(-1));
+    assertThrows(IllegalArgumentException.class, () -> seeds.threadRandom(-1));
+  }
+
+  /**
+   * a helper method that starts a 3x5 game with two copies of the same deck and a seed.
+   *
+   * @param seed the seed
+   * @return the started game
+   * @throws IOException if the model fails to start
+   */
+  private static BasicSanguineModel start(long seed) throws IOException {
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.startGame(3, 5, TestDecks.cross(15), TestDecks.cross(15), 5, seed);
+    return model;
+  }
+}
@@ -0,0 +1,220 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.Test;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.PlayerColor;
+import sanguine.model.PositionCodec;
+import sanguine.model.SanguineBoardCell;
+import sanguine.net.GameClient;
+import sanguine.net.GameServer;
+import sanguine.net.LoadTest;
+import sanguine.net.Protocol;
+import sanguine.session.GameSession;
+import sanguine.session.GameSessionManager;
+import sanguine.strategies.FirstSpot;
+
+/**
+ * tests for playing games over the network.
+ */
+public class GameServerTest {
+
+  /**
+   * makes sure a position written in binary reads back to the same board, hands and turn.
+   *
+   * @throws IOException if the model throws it
+   */
+  @Test
+  public void testPositionCodec() throws IOException {
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.startGame(3, 5, TestDecks.column(15), TestDecks.column(15), 5, 7);
+    model.playTurn(0, 0, model.getPlayerHand(PlayerColor.RED).get(0));
+    model.passTurn();
+
+    PositionCodec codec = PositionCodec.of(model);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    codec.writeCards(new DataOutputStream(bytes));
+    codec.writePosition(model, new DataOutputStream(bytes));
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    PositionCodec read = PositionCodec.readCards(in);
+    BasicSanguineModel copy = read.readPosition(in);
+    assertEquals(0, in.available());
+
+    assertEquals(codec.getCards().toString(), read.getCards().toString());
+    assertEquals(model.getTurn().getColor(), copy.getTurn().getColor());
+    for (PlayerColor color : PlayerColor.values()) {
+      assertEquals(model.getPlayerHand(color).toString(), copy.getPlayerHand(color).toString());
+      assertEquals(model.getScore(color), copy.getScore(color));
+    }
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 5; col++) {
+        SanguineBoardCell cell = model.getCellAt(row, col);
+        SanguineBoardCell other = copy.getCellAt(row, col);
+        assertEquals(cell.getColor(), other.getColor());
+        assertEquals(cell.getPawns().size(), other.getPawns().size());
+        assertEquals(cell.containsCard(), other.containsCard());
+        if (cell.containsCard()) {
+          assertEquals(cell.getCard().toString(), other.getCard().toString());
+        }
+      }
+    }
+    copy.passTurn();
+    assertTrue(copy.isGameOver());
+  }
+
+  /**
+   * makes sure a client with a strategy plays a whole game against the server's AI, and that its
+   * mirror ends in the same position as the server's game.
+   *
+   * @throws Exception if the game fails or does not end in time
+   */
+  @Test
+  public void testClientPlaysServerAi() throws Exception {
+    try (GameSessionManager sessions = new GameSessionManager(Duration.ofMinutes(1));
+         GameServer server = new GameServer(sessions, TestDecks.column(15), 0);
+         GameClient client = new GameClient(server.getPort(), new FirstSpot(), null)) {
+      server.start();
+      long id = client.create(3, 5, 5, 3, Protocol.SEAT_CLIENT, Protocol.SEAT_AI);
+      BasicSanguineModel mirror = client.getEnded().get(10, TimeUnit.SECONDS);
+
+      GameSession session = sessions.get(id);
+      assertTrue(session.call(model -> model.isGameOver()));
+      for (PlayerColor color : PlayerColor.values()) {
+        int score = mirror.getScore(color);
+        assertEquals(score, (int) session.call(model -> model.getScore(color)));
+      }
+      assertEquals(0, client.getErrorCount());
+    }
+  }
+
+  /**
+   * makes sure a second client can join an open seat, that each client may only move on its
+   * own turn, that boards too large for the deck are refused, and that rejected requests leave
+   * the connection open for the next one.
+   *
+   * @throws Exception if a request fails unexpectedly
+   */
+  @Test
+  public void testSeatsAndErrors() throws Exception {
+    try (GameSessionManager sessions = new GameSessionManager(Duration.ofMinutes(1));
+         GameServer server = new GameServer(sessions, TestDecks.column(15), 0);
+         GameClient red = new GameClient(server.getPort(), null, null);
+         GameClient blue = new GameClient(server.getPort(), null, null);
+         GameClient late = new GameClient(server.getPort(), null, null)) {
+      server.start();
+      long id = red.create(3, 5, 5, 1, Protocol.SEAT_CLIENT, Protocol.SEAT_OPEN);
+      assertThrows(IllegalArgumentException.class, () -> late.join(id + 1, PlayerColor.BLUE));
+      // a board with more cells than the deck has cards is refused before it is made
+      assertThrows(IllegalArgumentException.class,
+          () -> late.create(65535, 65535, 5, 1, Protocol.SEAT_CLIENT, Protocol.SEAT_AI));
+      assertThrows(IllegalArgumentException.class,
+          () -> late.create(5, 5, 5, 1, Protocol.SEAT_CLIENT, Protocol.SEAT_AI));
+      assertEquals(1, sessions.getSessionCount());
+      blue.join(id, PlayerColor.BLUE);
+      assertThrows(IllegalArgumentException.class, () -> late.join(id, PlayerColor.BLUE));
+      // every rejection left the connection open, so the client can still start a game
+      long other = late.create(3, 5, 5, 1, Protocol.SEAT_CLIENT, Protocol.SEAT_OPEN);
+      assertTrue(late.holds(PlayerColor.RED) && other != id);
+      assertTrue(red.holds(PlayerColor.RED) && blue.holds(PlayerColor.BLUE));
+
+      blue.pressP();
+      await(() -> blue.getErrorCount() == 1);
+      red.clickCard(red.getModel().getPlayerHand(PlayerColor.RED).get(0));
+      red.clickCell(0, 0);
+      red.pressM();
+      await(() -> blue.getModel().getTurn().getColor() == PlayerColor.BLUE);
+      assertEquals(PlayerColor.RED, blue.getModel().getCellAt(0, 0).getColor());
+      assertTrue(blue.getModel().getCellAt(0, 0).containsCard());
+
+      blue.pressP();
+      await(() -> red.getModel().getTurn().getColor() == PlayerColor.RED);
+      red.pressP();
+      assertTrue(red.getEnded().get(5, TimeUnit.SECONDS).isGameOver());
+      assertTrue(blue.getEnded().get(5, TimeUnit.SECONDS).isGameOver());
+      assertEquals(0, red.getErrorCount());
+    }
+  }
+
+  /**
+   * makes sure a client that keeps sending requests but never reads the replies is disconnected
+   * rather than having them queued without end.
+   *
+   * @throws Exception if the server can not be started or does not disconnect the client
+   */
+  @Test
+  public void testClientThatStopsReading() throws Exception {
+    try (GameSessionManager sessions = new GameSessionManager(Duration.ofMinutes(1));
+         GameServer server = new GameServer(sessions, TestDecks.column(15), 0);
+         Socket socket = new Socket()) {
+      server.start();
+      socket.setReceiveBufferSize(4096);
+      socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()));
+      await(() -> server.getConnectionCount() == 1);
+
+      // JOIN requests for a session that does not exist, each answered with an ERROR
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream frame = new DataOutputStream(bytes);
+      for (int i = 0; i < 1000; i++) {
+        frame.writeInt(9);
+        frame.writeByte(Protocol.JOIN);
+        frame.writeLong(12345);
+        frame.writeByte(0);
+      }
+      OutputStream out = socket.getOutputStream();
+      try {
+        for (int i = 0; i < 1000 && server.getConnectionCount() == 1; i++) {
+          out.write(bytes.toByteArray());
+        }
+      } catch (IOException exo) {
+        // the server closed the connection while we were still writing
+      }
+      await(() -> server.getConnectionCount() == 0);
+    }
+  }
+
+  /**
+   * makes sure many games played at once over the network all finish.
+   *
+   * @throws IOException if the server can not be started
+   */
+  @Test
+  public void testLoad() throws IOException {
+    try (GameSessionManager sessions = new GameSessionManager(Duration.ofMinutes(1));
+         GameServer server = new GameServer(sessions, TestDecks.column(15), 0)) {
+      server.start();
+      LoadTest.Report report = LoadTest.run(server.getPort(), 300, 3, 5, 5, 0,
+          Duration.ofSeconds(60));
+      assertEquals(report.toString(), 300, report.finished());
+      assertTrue(report.latency().getCount() >= 300);
+    }
+  }
+
+  /**
+   * a helper method that waits for a condition to hold, for up to five seconds.
+   *
+   * @param condition the condition
+   * @throws InterruptedException if interrupted while waiting
+   */
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertTrue("condition did not hold in time", System.nanoTime() < deadline);
+      Thread.sleep(5);
+    }
+  }
+}
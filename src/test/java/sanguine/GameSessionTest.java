@@ -0,0 +1,251 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineBoardCell;
+import sanguine.model.SanguineCard;
+import sanguine.session.GameSession;
+import sanguine.session.GameSessionManager;
+import sanguine.session.PlayerFactory;
+import sanguine.session.SpectatorFeed;
+import sanguine.session.SpectatorFrame;
+import sanguine.strategies.FirstSpot;
+import sanguine.strategies.MaximizeRowScore;
+
+/**
+ * tests for hosting many games in one process.
+ */
+public class GameSessionTest {
+
+  /**
+   * makes sure games between AI players play out on their own, many at once, and that every
+   * session gets its own copy of the decks.
+   *
+   * @throws Exception if a game fails or does not end in time
+   */
+  @Test
+  public void testAiSessionsPlayOut() throws Exception {
+    List<SanguineCard> deck = TestDecks.column(15);
+    try (GameSessionManager manager = new GameSessionManager(Duration.ofMinutes(1))) {
+      List<GameSession> sessions = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        sessions.add(manager.create(3, 5, deck, deck, 5, i,
+            PlayerFactory.ai(FirstSpot::new), PlayerFactory.ai(MaximizeRowScore::new)));
+      }
+      assertEquals(200, manager.getSessionCount());
+      assertEquals(TestDecks.column(15), deck);
+
+      List<CompletableFuture<Void>> ended = new ArrayList<>();
+      for (GameSession session : sessions) {
+        ended.add(session.getEnded());
+      }
+      CompletableFuture.allOf(ended.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+      for (GameSession session : sessions) {
+        assertTrue(session.call(model -> model.isGameOver()));
+        assertEquals(session, manager.get(session.getId()));
+      }
+    }
+  }
+
+  /**
+   * makes sure human players can only move on their turn, that actions run in the order they
+   * were submitted, and that idle sessions expire and reject any further action.
+   *
+   * @throws Exception if an action fails unexpectedly
+   */
+  @Test
+  public void testHumanTurnsAndExpiry() throws Exception {
+    try (GameSessionManager manager = new GameSessionManager(Duration.ZERO)) {
+      GameSession session = manager.create(3, 5, TestDecks.column(15), TestDecks.column(15), 5, 1,
+          PlayerFactory.human(), PlayerFactory.human());
+      SanguineCard card = session.call(model -> model.getPlayerHand(PlayerColor.RED).get(0));
+
+      assertThrows(IllegalStateException.class, () -> session.passTurn(PlayerColor.BLUE));
+      session.playTurn(PlayerColor.RED, 0, 0, card);
+      assertThrows(IllegalStateException.class, () -> session.passTurn(PlayerColor.RED));
+      assertThrows(IllegalArgumentException.class, () -> session.playTurn(PlayerColor.BLUE, 0, 0,
+          card));
+      assertEquals(PlayerColor.BLUE, session.call(model -> model.getTurn().getColor()));
+
+      List<Integer> order = new ArrayList<>();
+      List<CompletableFuture<Boolean>> appended = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        int value = i;
+        appended.add(session.submit(model -> order.add(value)));
+      }
+      appended.get(999).join();
+      for (int i = 0; i < 1000; i++) {
+        assertEquals(i, (int) order.get(i));
+      }
+
+      session.passTurn(PlayerColor.BLUE);
+      session.passTurn(PlayerColor.RED);
+      session.getEnded().get(5, TimeUnit.SECONDS);
+
+      Thread.sleep(5);
+      assertEquals(1, manager.expireIdle());
+      assertNull(manager.get(session.getId()));
+      assertTrue(session.isClosed());
+      assertFalse(manager.expire(session.getId()));
+      assertThrows(IllegalStateException.class, () -> session.call(model -> model.isGameOver()));
+    }
+  }
+
+  /**
+   * makes sure a failure in an AI player's turn ends its session instead of stalling it, and that
+   * a game the model rejects is never registered.
+   *
+   * @throws Exception if a session can not be created
+   */
+  @Test
+  public void testFailures() throws Exception {
+    try (GameSessionManager manager = new GameSessionManager(Duration.ofMinutes(1))) {
+      GameSession session = manager.create(3, 5, TestDecks.column(15), TestDecks.column(15), 5, 1,
+          PlayerFactory.ai(() -> (model, color) -> {
+            throw new IllegalStateException("broken strategy");
+          }), PlayerFactory.human());
+      ExecutionException failure = assertThrows(ExecutionException.class,
+          () -> session.getEnded().get(5, TimeUnit.SECONDS));
+      assertEquals("broken strategy", failure.getCause().getMessage());
+
+      assertThrows(IllegalArgumentException.class, () -> manager.create(3, 5,
+          TestDecks.column(15), TestDecks.column(15), 50, 1, PlayerFactory.human(),
+          PlayerFactory.human()));
+      assertEquals(1, manager.getSessionCount());
+    }
+  }
+
+  /**
+   * makes sure an idle session is small enough to hold ten thousand of them in a gigabyte of
+   * heap.
+   *
+   * @throws IOException if a session can not be created
+   */
+  @Test
+  public void testIdleFootprint() throws IOException {
+    long bytes = GameSessionManager.measureIdleSession(2000, 3, 5, TestDecks.column(15), 5);
+    assertTrue(bytes + " bytes per session", bytes < (1L << 30) / 10_000);
+  }
+
+  /**
+   * makes sure a spectator that applies every frame of a feed holds the game's position after
+   * every move, and that one that falls a whole ring behind skips ahead to a snapshot instead.
+   *
+   * @throws Exception if an action fails unexpectedly
+   */
+  @Test
+  public void testSpectatorFeed() throws Exception {
+    try (GameSessionManager manager = new GameSessionManager(Duration.ofMinutes(1))) {
+      // a tall board, so the game lasts longer than the feed's ring
+      GameSession session = manager.create(40, 3, TestDecks.column(120),
+          TestDecks.column(120), 5, 2, PlayerFactory.human(), PlayerFactory.human());
+      SpectatorFeed feed = session.getFeed();
+      SpectatorFeed.Subscription fast = feed.subscribe();
+      SpectatorFeed.Subscription slow = feed.subscribe();
+
+      SpectatorFrame.Cell[][] mirror = new SpectatorFrame.Cell[40][3];
+      SpectatorFrame first = fast.poll();
+      assertTrue(first.snapshot());
+      assertEquals(120, first.cells().size());
+      assertEquals(40, first.scores().size());
+      apply(mirror, first);
+      assertNull(fast.next(Duration.ofMillis(1)));
+      SpectatorFrame.Cell[][] late = new SpectatorFrame.Cell[40][3];
+      apply(late, slow.poll());
+
+      int moves = 0;
+      while (!session.call(model -> model.isGameOver()) && moves < 200) {
+        PlayerColor color = session.call(model -> model.getTurn().getColor());
+        int[] cell = session.call(model -> ownCell(model, color));
+        if (cell == null) {
+          session.passTurn(color);
+        } else {
+          session.playTurn(color, cell[0], cell[1],
+              session.call(model -> model.getPlayerHand(color).get(0)));
+        }
+        moves++;
+
+        SpectatorFrame delta = fast.poll();
+        assertFalse(delta.snapshot());
+        assertTrue(delta.cells().size() < 10);
+        assertNull(fast.poll());
+        apply(mirror, delta);
+        session.call(model -> checkMirror(model, mirror));
+      }
+      assertTrue(moves > feed.getCapacity());
+
+      SpectatorFrame frame = slow.poll();
+      assertTrue(frame.snapshot());
+      assertTrue(slow.getSkipped() > 0);
+      while (frame != null) {
+        apply(late, frame);
+        frame = slow.poll();
+      }
+      session.call(model -> checkMirror(model, late));
+    }
+  }
+
+  /**
+   * a helper method that applies a spectator frame to a board of cells.
+   *
+   * @param board the board
+   * @param frame the frame
+   */
+  private static void apply(SpectatorFrame.Cell[][] board, SpectatorFrame frame) {
+    for (SpectatorFrame.Cell cell : frame.cells()) {
+      board[cell.row()][cell.col()] = cell;
+    }
+  }
+
+  /**
+   * a helper method that checks a board of spectator cells against a game.
+   *
+   * @param model the game
+   * @param board the board
+   * @return null
+   */
+  private static Void checkMirror(BasicSanguineModel model, SpectatorFrame.Cell[][] board) {
+    for (int row = 0; row < board.length; row++) {
+      for (int col = 0; col < board[row].length; col++) {
+        SanguineBoardCell cell = model.getCellAt(row, col);
+        assertEquals(cell.getColor(), board[row][col].owner());
+        assertEquals(cell.getPawns().size(), board[row][col].pawns());
+        assertEquals(cell.containsCard(), board[row][col].card() != null);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * a helper method that finds a cell a player owns pawns in and has no card yet.
+   *
+   * @param model the game
+   * @param color the player
+   * @return the row and column, or null if there is none
+   */
+  private static int[] ownCell(BasicSanguineModel model, PlayerColor color) {
+    for (int row = 0; row < model.getBoardView().getRows(); row++) {
+      for (int col = 0; col < model.getBoardView().getCols(); col++) {
+        SanguineBoardCell cell = model.getCellAt(row, col);
+        if (cell.getColor() == color && !cell.containsCard()) {
+          return new int[] {row, col};
+        }
+      }
+    }
+    return null;
+  }
+}
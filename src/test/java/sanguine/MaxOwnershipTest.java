@@ -13,10 +13,13 @@ import sanguine.model.DeckParser;
 import sanguine.model.ModelReadOnlyInterface;
 import sanguine.model.PlayerColor;
 import sanguine.model.SanguineCard;
+import sanguine.model.SanguineGameBoard;
 import sanguine.model.SanguineModel;
+import sanguine.model.SanguinePlayer;
 import sanguine.strategies.Coordinates;
 import sanguine.strategies.MaxOwnership;
 import sanguine.strategies.MaximizeRowScore;
+import sanguine.strategies.SimulatePlacement;
 import sanguine.view.BasicSanguineTextualView;
 
 /**
@@ -94,6 +97,64 @@ public class MaxOwnershipTest {
     printTextView(model);
   }
 
+  /**
+   * makes sure the strategy simulates the color it is asked about rather than the player to move,
+   * as MiniMax asks on the opponent's behalf: asking for blue on red's turn picks the same move
+   * as asking for blue on blue's turn.
+   *
+   * @throws IOException if the deck file cant be read.
+   */
+  @Test
+  public void choosesForTheColorAsked() throws IOException {
+    SanguineModel model = makeModel();
+    MaxOwnership max = new MaxOwnership();
+    model.playTurn(1, 0, model.getPlayerHand(PlayerColor.RED).getFirst());
+    model.passTurn();
+    model.playTurn(0, 0, model.getPlayerHand(PlayerColor.RED).getFirst());
+    assertEquals(PlayerColor.BLUE, model.getTurn().getColor());
+    Coordinates onTurn = max.choose(model, PlayerColor.BLUE);
+
+    model.passTurn();
+    assertEquals(PlayerColor.RED, model.getTurn().getColor());
+    Coordinates offTurn = max.choose(model, PlayerColor.BLUE);
+    assertEquals(onTurn.row(), offTurn.row());
+    assertEquals(onTurn.col(), offTurn.col());
+    assertEquals(onTurn.card(), offTurn.card());
+    assertEquals(PlayerColor.BLUE, model.getCellAt(offTurn.row(), offTurn.col()).getColor());
+  }
+
+  /**
+   * makes sure a simulated placement adds and flips pawns for the player placing the card, not
+   * the player to move: blue's card on red's turn gives blue the cells it influences.
+   *
+   * @throws IOException if the board cant be copied.
+   */
+  @Test
+  public void simulatesTheColorAsked() throws IOException {
+    SanguineModel model = new BasicSanguineModel();
+    model.startGame(3, 5, TestDecks.cross(15), TestDecks.cross(15), 5);
+    assertEquals(PlayerColor.RED, model.getTurn().getColor());
+    SanguineCard card = model.getPlayerHand(PlayerColor.BLUE).getFirst();
+    SanguinePlayer blue = new SanguinePlayer(TestDecks.cross(15), PlayerColor.BLUE, 5);
+
+    SanguineGameBoard board = model.getBoard();
+    board.getCellAt(1, 4).placeCard(card, PlayerColor.BLUE);
+    SimulatePlacement.pretendPlaceCard(board, card, 1, 4, blue);
+    assertEquals(PlayerColor.BLUE, board.getCellAt(1, 3).getColor());
+    assertEquals(1, board.getCellAt(1, 3).getPawns().size());
+    assertEquals(2, board.getCellAt(0, 4).getPawns().size());
+    assertEquals(2, board.getCellAt(2, 4).getPawns().size());
+
+    int owned = 0;
+    for (int r = 0; r < 3; r++) {
+      for (int c = 0; c < 5; c++) {
+        owned += board.getCellAt(r, c).getColor() == PlayerColor.BLUE ? 1 : 0;
+      }
+    }
+    assertEquals(4, owned);
+    assertNull(model.getCellAt(1, 3).getColor());
+  }
+
   /**
    * this test makes sure that the model returns -1,-1,null as coordinates. this goes until the
    * game is over, because you cannot place a card when the game is over.
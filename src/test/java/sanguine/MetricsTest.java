@@ -0,0 +1,142 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import sanguine.metrics.DecisionMetrics;
+import sanguine.metrics.DecisionSnapshot;
+import sanguine.metrics.DecisionTrace;
+import sanguine.metrics.HistogramSnapshot;
+import sanguine.metrics.LogHistogram;
+import sanguine.metrics.MetricsRegistry;
+import sanguine.model.BasicSanguineCard;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+import sanguine.strategies.InstrumentedStrategy;
+import sanguine.strategies.MaxOwnership;
+import sanguine.strategies.MiniMax;
+
+/**
+ * tests for the strategy decision metrics.
+ */
+public class MetricsTest {
+
+  /**
+   * makes sure values are counted exactly and percentiles land on their bucket's upper bound.
+   */
+  @Test
+  public void testHistogramBuckets() {
+    LogHistogram histogram = new LogHistogram();
+    for (int i = 0; i < 90; i++) {
+      histogram.record(3);
+    }
+    for (int i = 0; i < 10; i++) {
+      histogram.record(1000);
+    }
+    histogram.record(-5);
+
+    HistogramSnapshot snapshot = histogram.snapshot();
+    long[] buckets = snapshot.getBuckets();
+
+    assertEquals(101, snapshot.getCount());
+    assertEquals(270 + 10000, snapshot.getSum());
+    assertEquals(0, snapshot.getMin());
+    assertEquals(1000, snapshot.getMax());
+    assertEquals(1, buckets[0]);
+    assertEquals(90, buckets[2]);
+    assertEquals(10, buckets[10]);
+    assertEquals(3, snapshot.getPercentile(50));
+    assertEquals(1000, snapshot.getPercentile(99));
+    assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentile(101));
+
+    histogram.reset();
+    assertEquals(0, histogram.snapshot().getCount());
+    assertEquals(0, histogram.snapshot().getPercentile(50));
+  }
+
+  /**
+   * makes sure work counted in a nested decision is recorded for both decisions, and nothing is
+   * counted once no decision is open.
+   */
+  @Test
+  public void testNestedTraces() {
+    MetricsRegistry registry = new MetricsRegistry();
+    DecisionMetrics outer = registry.strategy("outer");
+    DecisionMetrics inner = registry.strategy("inner");
+
+    DecisionTrace outerTrace = DecisionTrace.start(outer);
+    DecisionTrace.countPlacement();
+    DecisionTrace innerTrace = DecisionTrace.start(inner);
+    DecisionTrace.countPlacement();
+    DecisionTrace.countBoardCopy();
+    DecisionTrace.phase("search", () -> {
+      DecisionTrace.countPlacement();
+      return null;
+    });
+    assertThrows(IllegalStateException.class, outerTrace::finish);
+    innerTrace.finish();
+    outerTrace.finish();
+    DecisionTrace.countPlacement();
+
+    DecisionSnapshot innerSnapshot = inner.snapshot();
+    DecisionSnapshot outerSnapshot = outer.snapshot();
+    assertEquals(1, innerSnapshot.decisions());
+    assertEquals(2, innerSnapshot.placements().getSum());
+    assertEquals(1, innerSnapshot.boardCopies().getSum());
+    assertEquals(1, innerSnapshot.phases().get("search").getCount());
+    assertEquals(3, outerSnapshot.placements().getSum());
+    assertEquals(1, outerSnapshot.boardCopies().getSum());
+    assertThrows(IllegalStateException.class, innerTrace::finish);
+  }
+
+  /**
+   * makes sure an instrumented strategy chooses like the strategy it wraps and records its
+   * simulated placements, board copies and phases.
+   *
+   * @throws IOException if the deck file cannot be read
+   */
+  @Test
+  public void testInstrumentedStrategy() throws IOException {
+    // cost 1 cards, which the strategies' placement checks and the model agree on
+    List<SanguineCard> deck = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      deck.add(new BasicSanguineCard("Card" + i, 1, 1 + i % 3,
+          List.of("XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX")));
+    }
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.startGame(3, 5, new ArrayList<>(deck), new ArrayList<>(deck), 5);
+    MetricsRegistry registry = new MetricsRegistry();
+
+    assertEquals(new MaxOwnership().choose(model, PlayerColor.RED),
+        new InstrumentedStrategy(new MaxOwnership(), registry).choose(model, PlayerColor.RED));
+    new InstrumentedStrategy(new MiniMax(), registry).choose(model, PlayerColor.RED);
+
+    List<DecisionSnapshot> snapshots = registry.snapshot();
+    assertEquals(2, snapshots.size());
+
+    DecisionSnapshot owner = snapshots.get(0);
+    assertEquals("MaxOwnership", owner.strategy());
+    assertEquals(1, owner.decisions());
+    assertTrue(owner.placements().getSum() > 0);
+    assertTrue(owner.boardCopies().getSum() >= owner.placements().getSum());
+    assertTrue(owner.placementsPerSecond() > 0);
+
+    DecisionSnapshot miniMax = snapshots.get(1);
+    assertEquals("MiniMax", miniMax.strategy());
+    assertEquals(1, miniMax.phases().get("executeFirst").getCount());
+    assertEquals(3, miniMax.phases().get("blockedDaOps").getCount());
+
+    String json = registry.toJson();
+    assertTrue(json.startsWith("{\"strategies\":[{\"strategy\":\"MaxOwnership\""));
+    assertTrue(json.contains("\"phaseNanos\":{\"blockedDaOps\":{\"count\":3"));
+
+    registry.reset();
+    assertEquals(0, registry.snapshot().get(0).decisions());
+  }
+}
@@ -3,8 +3,10 @@ package sanguine;
 import java.io.IOException;
 import java.util.List;
 import sanguine.model.BasicSanguineModel;
+import sanguine.model.BoardView;
 import sanguine.model.Card;
 import sanguine.model.ModelListener;
+import sanguine.model.Placement;
 import sanguine.model.PlayerColor;
 import sanguine.model.SanguineBoardCell;
 import sanguine.model.SanguineCard;
@@ -49,6 +51,16 @@ public class MockModel implements SanguineModel {
     return null;
   }
 
+  /**
+   * Returns a live, read only view of the board.
+   *
+   * @return the board view
+   */
+  @Override
+  public BoardView getBoardView() {
+    return null;
+  }
+
   /**
    * When both players pass their turn in a row.
    *
@@ -177,6 +189,46 @@ public class MockModel implements SanguineModel {
     return false;
   }
 
+  /**
+   * Returns the threats on a cell, which the mock has none of.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return no threats
+   */
+  @Override
+  public List<Placement> getThreats(int row, int col) {
+    return List.of();
+  }
+
+  /**
+   * Returns the placements of a player touching a cell, which the mock has none of.
+   *
+   * @param color the player
+   * @param row   the row of the cell
+   * @param col   the column of the cell
+   * @return no placements
+   */
+  @Override
+  public List<Placement> getPlacementsTouching(PlayerColor color, int row, int col) {
+    return List.of();
+  }
+
+  /**
+   * Returns a fork of the game, which for the mock is the mock itself.
+   *
+   * @return this mock
+   */
+  @Override
+  public SanguineModel fork() {
+    try {
+      log.append("fork");
+    } catch (IOException e) {
+      // if we are here, the test will fail anyway so let it fail.
+    }
+    return this;
+  }
+
   /**
    * A method that returns a list of subscribers.
    *
@@ -215,6 +267,12 @@ public class MockModel implements SanguineModel {
 
   }
 
+  @Override
+  public void startGame(int rows, int cols, List deck1, List deck2, int handSize, long seed)
+      throws IllegalArgumentException, IllegalStateException, IOException {
+
+  }
+
   /**
    * Creates a new deck for a player if their deck was not specified.
    *
@@ -0,0 +1,96 @@
+package sanguine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.DeckCache;
+import sanguine.model.Perft;
+
+/**
+ * tests for the perft move generation counter. The reference counts were produced by
+ * BasicSanguineModel; a faster engine must reproduce them exactly, rejected moves included.
+ */
+public class PerftTest {
+
+  /**
+   * makes sure a 3x5 game with hands of five, seed 7, has its reference counts to depth 3.
+   *
+   * @throws IOException if the deck file cannot be read
+   */
+  @Test
+  public void testReferenceCountsHandFive() throws IOException {
+    Perft.Result result = Perft.run(position(5, 7), 3);
+
+    assertArrayEquals(new long[] {1, 16, 115, 860}, result.positions());
+    assertArrayEquals(new long[] {0, 0, 96, 0}, result.rejected());
+    assertEquals(991, result.totalPositions());
+    assertEquals(16, result.rootMoves().size());
+    assertEquals(Long.valueOf(860),
+        result.rootMoves().values().stream().reduce(0L, Long::sum));
+  }
+
+  /**
+   * makes sure a 3x5 game with hands of three, seed 1, has its reference counts to depth 3.
+   *
+   * @throws IOException if the deck file cannot be read
+   */
+  @Test
+  public void testReferenceCountsHandThree() throws IOException {
+    Perft.Result result = Perft.run(position(3, 1), 3);
+
+    assertArrayEquals(new long[] {1, 7, 52, 273}, result.positions());
+    assertArrayEquals(new long[] {0, 3, 0, 31}, result.rejected());
+  }
+
+  /**
+   * makes sure the moves of the opening are a pass and every card on every cell of red's
+   * column, and that a finished game has none.
+   *
+   * @throws IOException if the deck file cannot be read
+   */
+  @Test
+  public void testLegalMoves() throws IOException {
+    BasicSanguineModel model = position(5, 7).start();
+    List<Perft.Move> moves = Perft.legalMoves(model);
+
+    assertEquals(Perft.Move.PASS, moves.getFirst());
+    assertEquals(1 + 5 * 3, moves.size());
+    assertTrue(moves.stream().skip(1).allMatch(move -> move.col() == 0));
+
+    model.passTurn();
+    model.passTurn();
+    assertEquals(List.of(), Perft.legalMoves(model));
+  }
+
+  /**
+   * makes sure bad arguments are rejected.
+   */
+  @Test
+  public void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> Perft.run(null, 1));
+    assertThrows(IllegalArgumentException.class, () -> Perft.run(position(5, 7), 0));
+    assertThrows(IllegalArgumentException.class, () -> Perft.legalMoves(null));
+  }
+
+  /**
+   * makes a 3x5 position with both players using the example deck.
+   *
+   * @param handSize the hand size
+   * @param seed     the shuffle seed
+   * @return the position
+   */
+  private static Perft.Position position(int handSize, long seed) {
+    try {
+      return new Perft.Position(3, 5, handSize, seed, DeckCache.get(DeckCache.DEFAULT_DECK_PATH),
+          DeckCache.get(DeckCache.DEFAULT_DECK_PATH));
+    } catch (IOException exo) {
+      throw new IllegalStateException(exo);
+    }
+  }
+}
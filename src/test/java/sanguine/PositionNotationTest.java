@@ -0,0 +1,157 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.BasicSanguineCard;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.BoardView;
+import sanguine.model.DeckCache;
+import sanguine.model.Perft;
+import sanguine.model.PlayerColor;
+import sanguine.model.PositionNotation;
+import sanguine.model.SanguineCard;
+
+/**
+ * tests for the compact position notation.
+ */
+public class PositionNotationTest {
+
+  /**
+   * makes sure a game in progress is written, read back and written again to the same position,
+   * and that the read game answers every query and plays on like the original.
+   *
+   * @throws IOException if the deck file cannot be read
+   */
+  @Test
+  public void testRoundTripAfterPlay() throws IOException {
+    BasicSanguineModel model = new Perft.Position(3, 5, 5, 7,
+        DeckCache.get(DeckCache.DEFAULT_DECK_PATH),
+        DeckCache.get(DeckCache.DEFAULT_DECK_PATH)).start();
+    playLastMove(model);
+    model.passTurn();
+    playLastMove(model);
+
+    String position = PositionNotation.write(model);
+    BasicSanguineModel copy = PositionNotation.read(position);
+
+    assertEquals(position, PositionNotation.write(copy));
+    assertSameGame(model, copy);
+
+    playLastMove(model);
+    playLastMove(copy);
+    assertEquals(PositionNotation.write(model), PositionNotation.write(copy));
+  }
+
+  /**
+   * makes sure a hand written position is read into the board, hands, decks and turn it
+   * describes, including escaped card names.
+   */
+  @Test
+  public void testReadHandWritten() {
+    BasicSanguineModel model = PositionNotation.read(
+        "3x5 2 b 1 r1,R0,1,b2,B1/5/r3,3,b1 1 - 0,0 1 Big%20One:1:4:22880;Small%3BOne:1:2:22880");
+
+    BoardView board = model.getBoardView();
+    assertEquals(3, board.getRows());
+    assertEquals(5, board.getCols());
+    assertEquals(PlayerColor.BLUE, model.getTurn().getColor());
+    assertFalse(model.isGameOver());
+
+    assertEquals(PlayerColor.RED, model.getOwnershipOfCell(0, 1));
+    assertEquals(4, model.getCellAt(0, 1).getValue());
+    assertEquals(2, model.getCellAt(0, 3).getPawns().size());
+    assertEquals("Small;One", model.getCellAt(0, 4).getCard().getName());
+    assertTrue(model.getCellAt(1, 2).getPawns().isEmpty());
+    assertEquals(3, model.getCellAt(2, 0).getPawns().size());
+    assertEquals(4, model.getRowScore(PlayerColor.RED, 0));
+    assertEquals(2, model.getRowScore(PlayerColor.BLUE, 0));
+
+    SanguineCard big = new BasicSanguineCard("Big One", 1, 4, TestDecks.CROSS);
+    SanguineCard small = new BasicSanguineCard("Small;One", 1, 2, TestDecks.CROSS);
+    assertEquals(List.of(small), model.getPlayerHand(PlayerColor.RED));
+    assertEquals(List.of(big, big), model.getPlayerHand(PlayerColor.BLUE));
+    assertEquals(List.of(small), model.getTurn().getDeck());
+  }
+
+  /**
+   * makes sure malformed positions are rejected with an IllegalArgumentException, including
+   * boards with more cells than the position could describe, before they are allocated.
+   */
+  @Test
+  public void testReadMalformed() {
+    String valid = "3x5 1 r 0 r1,3,b1/r1,3,b1/r1,3,b1 0 - 0 - A:1:1:22880";
+    PositionNotation.read(valid);
+
+    for (String position : List.of("",
+        "3x5 1 r 0 r1,3,b1/r1,3,b1/r1,3,b1 0 - 0 -",
+        "3x5 1 g 0 r1,3,b1/r1,3,b1/r1,3,b1 0 - 0 - A:1:1:22880",
+        "3x4 1 r 0 r1,2,b1/r1,2,b1/r1,2,b1 0 - 0 - A:1:1:22880",
+        "3x5 1 r 0 r1,3,b1/r1,3,b1 0 - 0 - A:1:1:22880",
+        "3x5 1 r 0 r1,2,b1/r1,3,b1/r1,3,b1 0 - 0 - A:1:1:22880",
+        "3x5 1 r 0 r4,3,b1/r1,3,b1/r1,3,b1 0 - 0 - A:1:1:22880",
+        "3x5 1 r 0 R1,3,b1/r1,3,b1/r1,3,b1 0 - 0 - A:1:1:22880",
+        "3x5 1 r 0 r1,3,b1/r1,3,b1/r1,3,b1 0,0 - 0 - A:1:1:22880",
+        "3x5 1 r 0 r1,3,b1/r1,3,b1/r1,3,b1 0 - 0 - A:1:1:1000",
+        "3x5 1 r 0 r1,3,b1/r1,3,b1/r1,3,b1 0 - 0 - A:4:1:22880",
+        "3x5 1 r 0 r1,3,b1/r1,3,b1/r1,3,b1 0 - 0 - A:1:1:22880 ",
+        "3x5 1 r 0 r1,3,b1/r1,3,b1/r1,3,b1 0 - 0 - A%2:1:1:22880",
+        "1x65535 1 r 0 r1,65533,b1 0 - 0 - A:1:1:22880",
+        "3x99999 1 r 0 r1,99997,b1/r1,99997,b1/r1,99997,b1 0 - 0 - A:1:1:22880",
+        "65535x65535 1 r 0 r1,65533,b1 0 - 0 - A:1:1:22880")) {
+      assertThrows(position, IllegalArgumentException.class,
+          () -> PositionNotation.read(position));
+    }
+    assertThrows(IllegalArgumentException.class, () -> PositionNotation.read(null));
+    assertThrows(IllegalArgumentException.class, () -> PositionNotation.write(null));
+  }
+
+  /**
+   * a helper method that plays the last legal move of the player to move.
+   *
+   * @param model the game
+   * @throws IOException if the model fails to draw
+   */
+  private static void playLastMove(BasicSanguineModel model) throws IOException {
+    List<Perft.Move> moves = Perft.legalMoves(model);
+    Perft.Move move = moves.get(moves.size() - 1);
+    if (move.isPass()) {
+      model.passTurn();
+    } else {
+      model.playTurn(move.row(), move.col(), model.getTurn().getHand().get(move.handIndex()));
+    }
+  }
+
+  /**
+   * a helper method that makes sure two games answer every query the same way.
+   *
+   * @param expected the original game
+   * @param actual   the game read back
+   */
+  private static void assertSameGame(BasicSanguineModel expected, BasicSanguineModel actual) {
+    assertEquals(expected.getTurn().getColor(), actual.getTurn().getColor());
+    assertEquals(expected.isGameOver(), actual.isGameOver());
+    assertEquals(expected.getTurn().getDeck(), actual.getTurn().getDeck());
+    for (PlayerColor color : PlayerColor.values()) {
+      assertEquals(expected.getPlayerHand(color), actual.getPlayerHand(color));
+      assertEquals(expected.getScore(color), actual.getScore(color));
+    }
+
+    BoardView board = expected.getBoardView();
+    for (int row = 0; row < board.getRows(); row++) {
+      for (int col = 0; col < board.getCols(); col++) {
+        assertEquals(expected.getCellAt(row, col).getColor(),
+            actual.getCellAt(row, col).getColor());
+        assertEquals(expected.getCellAt(row, col).getPawns().size(),
+            actual.getCellAt(row, col).getPawns().size());
+        assertEquals(expected.getCellAt(row, col).getValue(),
+            actual.getCellAt(row, col).getValue());
+      }
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import sanguine.benchmarks.RegressionGate;
+import sanguine.benchmarks.RegressionGate.Comparison;
+import sanguine.benchmarks.RegressionGate.Score;
+
+/**
+ * tests for the benchmark regression gate: reading JMH results, comparing them to a baseline and
+ * deciding what fails.
+ */
+public class RegressionGateTest {
+
+  /**
+   * makes sure every result is read with its mode, score and unit, keyed by its name and sorted
+   * parameters, and that the NaN JMH writes as a string is read as NaN.
+   */
+  @Test
+  public void testParse() {
+    String json = "[\n"
+        + "  {\"benchmark\" : \"sanguine.benchmarks.ModelBenchmark.playTurn\",\n"
+        + "   \"mode\" : \"thrpt\", \"threads\" : 1, \"forks\" : [1, 2.5e1, -3],\n"
+        + "   \"params\" : {\"handSize\" : \"7\", \"board\" : \"11x11\"},\n"
+        + "   \"primaryMetric\" : {\"score\" : 34735.5, \"scoreUnit\" : \"ops/s\",\n"
+        + "     \"scoreConfidence\" : [1.0, 2.0], \"note\" : \"a \\\"quoted\\\" \\u0041\"},\n"
+        + "   \"secondaryMetrics\" : {}, \"ok\" : true, \"none\" : null},\n"
+        + "  {\"benchmark\" : \"sanguine.benchmarks.DeckParserBenchmark.parseText\",\n"
+        + "   \"mode\" : \"avgt\",\n"
+        + "   \"primaryMetric\" : {\"score\" : \"NaN\", \"scoreUnit\" : \"us/op\"}}\n"
+        + "]\n";
+
+    Map<String, Score> scores = RegressionGate.parse(json);
+    assertEquals(List.of(
+        "sanguine.benchmarks.ModelBenchmark.playTurn [board=11x11, handSize=7]",
+        "sanguine.benchmarks.DeckParserBenchmark.parseText"), List.copyOf(scores.keySet()));
+    Score turn = scores.get("sanguine.benchmarks.ModelBenchmark.playTurn "
+        + "[board=11x11, handSize=7]");
+    assertEquals(new Score("thrpt", 34735.5, "ops/s"), turn);
+    assertTrue(turn.higherIsBetter());
+    Score parse = scores.get("sanguine.benchmarks.DeckParserBenchmark.parseText");
+    assertTrue(Double.isNaN(parse.value()));
+    assertFalse(parse.higherIsBetter());
+    assertEquals(Map.of(), RegressionGate.parse(" [ ] "));
+  }
+
+  /**
+   * makes sure text that is not JMH results is rejected rather than read as no benchmarks.
+   */
+  @Test
+  public void testParseRejectsMalformed() {
+    assertThrows(IllegalArgumentException.class, () -> RegressionGate.parse(null));
+    assertThrows(IllegalArgumentException.class, () -> RegressionGate.parse("{}"));
+    assertThrows(IllegalArgumentException.class, () -> RegressionGate.parse("[1]"));
+    assertThrows(IllegalArgumentException.class, () -> RegressionGate.parse("[] x"));
+    assertThrows(IllegalArgumentException.class, () -> RegressionGate.parse("[{\"a\" 1}]"));
+    assertThrows(IllegalArgumentException.class, () -> RegressionGate.parse("[\"open"));
+    assertThrows(IllegalArgumentException.class,
+        () -> RegressionGate.parse("[{\"benchmark\" : \"b\", \"mode\" : \"avgt\"}]"));
+    assertThrows(IllegalArgumentException.class, () -> RegressionGate.parse(
+        "[{\"benchmark\" : \"b\", \"primaryMetric\" : {\"score\" : \"fast\"}}]"));
+  }
+
+  /**
+   * makes sure a benchmark fails only past the allowed percentage, in the direction that is
+   * worse for its mode, and that scores of different modes or units are not compared.
+   */
+  @Test
+  public void testThreshold() {
+    Score time = new Score("avgt", 100, "us/op");
+    assertFalse(new Comparison("b", time, new Score("avgt", 110, "us/op"), 10).failed());
+    assertTrue(new Comparison("b", time, new Score("avgt", 110.5, "us/op"), 10).failed());
+    assertFalse(new Comparison("b", time, new Score("avgt", 50, "us/op"), 0).failed());
+    assertEquals("+10.5%", new Comparison("b", time, new Score("avgt", 110.5, "us/op"), 10)
+        .change());
+
+    Score rate = new Score("thrpt", 1000, "ops/s");
+    Comparison slower = new Comparison("b", rate, new Score("thrpt", 800, "ops/s"), 10);
+    assertEquals(20.0, slower.regression(), 1e-9);
+    assertEquals("REGRESSED", slower.status());
+    Comparison faster = new Comparison("b", rate, new Score("thrpt", 2000, "ops/s"), 10);
+    assertEquals("ok", faster.status());
+    assertEquals("-100.0%", faster.change());
+
+    Comparison unit = new Comparison("b", time, new Score("avgt", 500, "ms/op"), 10);
+    assertEquals("incomparable", unit.status());
+    assertFalse(unit.failed());
+  }
+
+  /**
+   * makes sure comparing lists the baseline's benchmarks then the new ones, and that a baseline
+   * benchmark missing from the results or without a score fails the gate while a new one does
+   * not.
+   */
+  @Test
+  public void testCompare() {
+    Map<String, Score> baseline = new LinkedHashMap<>();
+    baseline.put("a", new Score("avgt", 10, "us/op"));
+    baseline.put("b", new Score("avgt", 10, "us/op"));
+    baseline.put("c", new Score("avgt", 10, "us/op"));
+    Map<String, Score> results = new LinkedHashMap<>();
+    results.put("d", new Score("avgt", 10, "us/op"));
+    results.put("c", new Score("avgt", Double.NaN, "us/op"));
+    results.put("a", new Score("avgt", 10.5, "us/op"));
+
+    List<Comparison> comparisons = RegressionGate.compare(baseline, results, 10);
+    assertEquals(List.of("a", "b", "c", "d"),
+        comparisons.stream().map(Comparison::benchmark).toList());
+    assertEquals(List.of("ok", "MISSING", "MISSING", "new"),
+        comparisons.stream().map(Comparison::status).toList());
+    assertEquals(List.of(false, true, true, false),
+        comparisons.stream().map(Comparison::failed).toList());
+
+    String table = RegressionGate.table(comparisons);
+    assertTrue(table.startsWith("Benchmark"));
+    assertTrue(table.contains("MISSING"));
+    assertEquals(5, table.lines().count());
+
+    assertThrows(IllegalArgumentException.class,
+        () -> RegressionGate.compare(baseline, results, -1));
+    assertThrows(IllegalArgumentException.class,
+        () -> RegressionGate.compare(null, results, 10));
+  }
+}
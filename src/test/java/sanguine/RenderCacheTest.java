@@ -0,0 +1,107 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.DeckParser;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineCard;
+import sanguine.view.RenderCache;
+
+/**
+ * tests for the render cache shared by the GUI panels.
+ */
+public class RenderCacheTest {
+
+  /**
+   * makes sure asking for the same sprite twice at the same size reuses the rendered image.
+   */
+  @Test
+  public void testSpritesAreReused() {
+    RenderCache cache = new RenderCache();
+
+    BufferedImage first = cache.pawnCell(PlayerColor.RED, 2, 80, 60);
+    BufferedImage second = cache.pawnCell(PlayerColor.RED, 2, 80, 60);
+
+    assertSame(first, second);
+    assertEquals(80, first.getWidth());
+    assertEquals(60, first.getHeight());
+    assertEquals(1, cache.size());
+  }
+
+  /**
+   * makes sure sprites of different colors, counts and values are kept apart.
+   */
+  @Test
+  public void testDifferentKeysDifferentSprites() {
+    RenderCache cache = new RenderCache();
+
+    assertNotSame(cache.pawnCell(PlayerColor.RED, 1, 80, 60),
+        cache.pawnCell(PlayerColor.BLUE, 1, 80, 60));
+    assertNotSame(cache.pawnCell(PlayerColor.RED, 1, 80, 60),
+        cache.pawnCell(PlayerColor.RED, 3, 80, 60));
+    assertNotSame(cache.cardCell(PlayerColor.RED, 1, 80, 60),
+        cache.cardCell(PlayerColor.RED, 2, 80, 60));
+    assertEquals(5, cache.size());
+  }
+
+  /**
+   * makes sure resizing drops the old sprites of that kind and renders new ones at the new size.
+   */
+  @Test
+  public void testResizeInvalidates() {
+    RenderCache cache = new RenderCache();
+
+    BufferedImage small = cache.cardCell(PlayerColor.BLUE, 3, 50, 50);
+    cache.cardCell(PlayerColor.RED, 3, 50, 50);
+    cache.pawnCell(PlayerColor.RED, 1, 50, 50);
+    BufferedImage big = cache.cardCell(PlayerColor.BLUE, 3, 100, 70);
+
+    assertNotSame(small, big);
+    assertEquals(100, big.getWidth());
+    assertEquals(70, big.getHeight());
+    // the pawn sprite is untouched, the other card cell was dropped
+    assertEquals(2, cache.size());
+  }
+
+  /**
+   * makes sure card faces are cached per card and color.
+   *
+   * @throws IOException if the deck file cannot be read
+   */
+  @Test
+  public void testCardFaces() throws IOException {
+    RenderCache cache = new RenderCache();
+    List<SanguineCard> deck = DeckParser.makeDeck("docs" + File.separator + "example.deck");
+
+    BufferedImage red = cache.cardFace(deck.get(0), PlayerColor.RED, 120, 300);
+
+    assertSame(red, cache.cardFace(deck.get(0), PlayerColor.RED, 120, 300));
+    assertNotSame(red, cache.cardFace(deck.get(0), PlayerColor.BLUE, 120, 300));
+
+    cache.invalidate();
+    assertEquals(0, cache.size());
+  }
+
+  /**
+   * makes sure invalid pawn counts and sizes are rejected.
+   */
+  @Test
+  public void testInvalidRequests() {
+    RenderCache cache = new RenderCache();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> cache.pawnCell(PlayerColor.RED, 4, 80, 60));
+    assertThrows(IllegalArgumentException.class,
+        () -> cache.pawnCell(PlayerColor.RED, 0, 80, 60));
+    assertThrows(IllegalArgumentException.class,
+        () -> cache.cardCell(PlayerColor.RED, 1, 0, 60));
+  }
+}
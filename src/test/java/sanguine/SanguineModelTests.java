@@ -583,4 +583,60 @@ public class SanguineModelTests {
     hand.add(deck1.removeFirst());
     assertEquals(hand, model.getPlayerHand(PlayerColor.RED));
   }
+
+  /**
+   * tests that moves on a fork follow the rules of the game without changing it, and that moves
+   * on the game do not change the fork.
+   *
+   * @throws IOException if files is unreadable.
+   */
+  @Test
+  public void testFork() throws IOException {
+    BasicSanguineModel unstarted = new BasicSanguineModel();
+    assertThrows(IllegalStateException.class, unstarted::fork);
+
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.startGame(3, 5, model.createDeck(), model.createDeck(), 5, 7);
+    BasicSanguineModel same = new BasicSanguineModel();
+    same.startGame(3, 5, same.createDeck(), same.createDeck(), 5, 7);
+    SanguineCard card = null;
+    for (SanguineCard inHand : model.getPlayerHand(PlayerColor.RED)) {
+      if (card == null && inHand.getCost() == 1) {
+        card = inHand;
+      }
+    }
+    assertTrue(card != null);
+    List<SanguineCard> hand = model.getPlayerHand(PlayerColor.RED);
+
+    BasicSanguineModel fork = model.fork();
+    fork.playTurn(0, 0, card);
+    same.playTurn(0, 0, card);
+    assertEquals(PlayerColor.RED, model.getTurn().getColor());
+    assertEquals(PlayerColor.BLUE, fork.getTurn().getColor());
+    assertFalse(model.getCellAt(0, 0).containsCard());
+    assertEquals(hand, model.getPlayerHand(PlayerColor.RED));
+    for (PlayerColor color : PlayerColor.values()) {
+      assertEquals(same.getPlayerHand(color), fork.getPlayerHand(color));
+      assertEquals(same.getScore(color), fork.getScore(color));
+    }
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 5; col++) {
+        assertEquals(same.getCellAt(row, col).getColor(), fork.getCellAt(row, col).getColor());
+        assertEquals(same.getCellAt(row, col).getPawns().size(),
+            fork.getCellAt(row, col).getPawns().size());
+        assertEquals(same.getCellAt(row, col).containsCard(),
+            fork.getCellAt(row, col).containsCard());
+      }
+    }
+
+    BasicSanguineModel second = fork.fork();
+    model.playTurn(1, 0, card);
+    second.passTurn();
+    assertFalse(fork.getCellAt(1, 0).containsCard());
+    assertFalse(second.getCellAt(1, 0).containsCard());
+    assertTrue(model.getCellAt(1, 0).containsCard());
+    assertEquals(PlayerColor.BLUE, fork.getTurn().getColor());
+    assertEquals(PlayerColor.RED, second.getTurn().getColor());
+    assertTrue(second.getCellAt(0, 0).containsCard());
+  }
 }
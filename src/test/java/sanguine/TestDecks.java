@@ -0,0 +1,70 @@
+package sanguine;
+
+import java.util.ArrayList;
+import java.util.List;
+import sanguine.model.BasicSanguineCard;
+import sanguine.model.SanguineCard;
+
+/**
+ * Decks of distinct cost one cards for the tests that need a deck of a given size or influence,
+ * which the example deck does not have.
+ *
+ * <p>Cards are named by their place in the deck and worth one to three points in turn, so two
+ * decks made the same way hold equal cards.</p>
+ */
+public final class TestDecks {
+  /**
+   * An influence grid reaching the four cells next to the card.
+   */
+  public static final List<String> CROSS =
+      List.of("XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX");
+
+  /**
+   * An influence grid reaching only the cells above and below the card, so the players never
+   * meet and games between AI players always play out.
+   */
+  public static final List<String> COLUMN =
+      List.of("XXXXX", "XXIXX", "XXCXX", "XXIXX", "XXXXX");
+
+  /**
+   * This class only has static methods.
+   */
+  private TestDecks() {
+  }
+
+  /**
+   * Makes a deck of cards influencing the four cells next to them.
+   *
+   * @param size the amount of cards
+   * @return the deck
+   */
+  public static List<SanguineCard> cross(int size) {
+    return deck("Card", size, CROSS);
+  }
+
+  /**
+   * Makes a deck of cards influencing only their own column.
+   *
+   * @param size the amount of cards
+   * @return the deck
+   */
+  public static List<SanguineCard> column(int size) {
+    return deck("Card", size, COLUMN);
+  }
+
+  /**
+   * Makes a deck of cards sharing one influence grid.
+   *
+   * @param name the start of every card's name
+   * @param size the amount of cards
+   * @param grid the influence grid
+   * @return the deck
+   */
+  public static List<SanguineCard> deck(String name, int size, List<String> grid) {
+    List<SanguineCard> deck = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      deck.add(new BasicSanguineCard(name + " " + i, 1, 1 + i % 3, grid));
+    }
+    return deck;
+  }
+}
@@ -2,6 +2,7 @@ package sanguine;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
@@ -9,6 +10,7 @@ import java.util.List;
 import org.junit.Test;
 import sanguine.model.BasicSanguineModel;
 import sanguine.model.DeckParser;
+import sanguine.model.PlayerColor;
 import sanguine.model.SanguineCard;
 import sanguine.view.BasicSanguineTextualView;
 
@@ -115,4 +117,58 @@ public class TextualViewTests {
 
   }
 
-}
\ No newline at end of file
+
+  /**
+   * makes sure streaming the board to an appendable gives the same text as toString.
+   */
+  @Test
+  public void testRenderMatchesToString() throws IOException {
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.startGame(3, 5, DeckParser.makeDeck("docs" + File.separator + "example.deck"),
+        DeckParser.makeDeck("docs" + File.separator + "example.deck"), 3);
+    BasicSanguineTextualView view = new BasicSanguineTextualView(model);
+
+    StringBuilder out = new StringBuilder();
+    view.render(out);
+
+    assertEquals(view.toString(), out.toString());
+    assertEquals("0 1___1 0" + System.lineSeparator(),
+        out.substring(0, 9 + System.lineSeparator().length()));
+  }
+
+  /**
+   * makes sure only the rows that changed since the last render are written.
+   */
+  @Test
+  public void testRenderChanges() throws IOException {
+    BasicSanguineModel model = new BasicSanguineModel();
+    model.startGame(3, 5, DeckParser.makeDeck("docs" + File.separator + "example.deck"),
+        DeckParser.makeDeck("docs" + File.separator + "example.deck"), 3);
+    BasicSanguineTextualView view = new BasicSanguineTextualView(model);
+
+    StringBuilder out = new StringBuilder();
+    assertEquals(3, view.renderChanges(out));
+    assertEquals("0: 0 1___1 0" + System.lineSeparator()
+        + "1: 0 1___1 0" + System.lineSeparator()
+        + "2: 0 1___1 0" + System.lineSeparator(), out.toString());
+
+    // nothing changed, nothing is written
+    out.setLength(0);
+    assertEquals(0, view.renderChanges(out));
+    assertEquals("", out.toString());
+
+    // a red card in the middle row only changes the rows it influences
+    for (SanguineCard card : model.getPlayerHand(PlayerColor.RED)) {
+      if (model.placeCardLegal(1, 0, card, model.getTurn())) {
+        model.playTurn(1, 0, card);
+        break;
+      }
+    }
+    out.setLength(0);
+    int written = view.renderChanges(out);
+
+    assertTrue(written >= 1);
+    assertTrue(out.toString().contains("1: "));
+    assertEquals(written, out.toString().split(System.lineSeparator()).length);
+  }
+}
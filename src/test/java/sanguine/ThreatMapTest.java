@@ -0,0 +1,322 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.BasicSanguineCard;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.BitBoard;
+import sanguine.model.InfluenceIndex;
+import sanguine.model.ModelReadOnlyInterface;
+import sanguine.model.Placement;
+import sanguine.model.PlayerColor;
+import sanguine.model.SanguineBoardCell;
+import sanguine.model.SanguineCard;
+
+/**
+ * tests for the threats the model keeps on every cell, and for finding the placements that
+ * influence a cell.
+ */
+public class ThreatMapTest {
+
+  /**
+   * makes sure the threats kept move by move always match the threats found by trying every
+   * card in hand on every cell of a bitboard, over many random games with the example deck.
+   *
+   * @throws IOException if the deck can not be read
+   */
+  @Test
+  public void testThreatsMatchSearch() throws IOException {
+    int checked = 0;
+    int threatened = 0;
+    for (long seed = 1; seed <= 20; seed++) {
+      BasicSanguineModel model = new BasicSanguineModel();
+      model.startGame(5, 5, model.createDeck(), model.createDeck(), 5, seed);
+      Random random = new Random(seed);
+
+      for (int move = 0; move < 40 && !model.isGameOver(); move++) {
+        threatened += assertThreatsMatch(model);
+        checked++;
+        playRandom(model, random);
+      }
+    }
+    assertTrue(checked > 200);
+    assertTrue(threatened > 0);
+  }
+
+  /**
+   * makes sure the placements touching a cell match the placements found by trying every card
+   * in hand on every cell, for both players over random games, and that a card's influence
+   * index reverses its grid.
+   *
+   * @throws IOException if the deck can not be read
+   */
+  @Test
+  public void testPlacementsTouching() throws IOException {
+    SanguineCard cross = new BasicSanguineCard("Cross", 1, 1,
+        List.of("XXXXX", "XXIXX", "XICXX", "XXXXX", "XXXXI"));
+    InfluenceIndex index = InfluenceIndex.of(cross);
+    assertEquals(3, index.size());
+    assertEquals(List.of(-2, 0, 1), List.of(index.getRowOffset(0), index.getRowOffset(1),
+        index.getRowOffset(2)));
+    assertEquals(List.of(-2, 1, 0), List.of(index.getColOffset(0), index.getColOffset(1),
+        index.getColOffset(2)));
+
+    int found = 0;
+    for (long seed = 1; seed <= 10; seed++) {
+      BasicSanguineModel model = new BasicSanguineModel();
+      model.startGame(5, 5, model.createDeck(), model.createDeck(), 5, seed);
+      Random random = new Random(seed);
+      for (int move = 0; move < 30 && !model.isGameOver(); move++) {
+        for (PlayerColor color : PlayerColor.values()) {
+          for (int row = 0; row < 5; row++) {
+            for (int col = 0; col < 5; col++) {
+              List<Placement> expected = touching(model, color, row, col);
+              assertEquals(expected, model.getPlacementsTouching(color, row, col));
+              found += expected.size();
+            }
+          }
+        }
+        playRandom(model, random);
+      }
+      assertThrows(IllegalArgumentException.class,
+          () -> model.getPlacementsTouching(PlayerColor.RED, 5, 0));
+      assertThrows(IllegalArgumentException.class,
+          () -> model.getPlacementsTouching(null, 0, 0));
+    }
+    assertTrue(found > 0);
+  }
+
+  /**
+   * makes sure every threat the model reports, played on a fork, flips its cell to the player
+   * who made it, over many random games with the example deck.
+   *
+   * @throws IOException if the deck can not be read
+   */
+  @Test
+  public void testThreatsFlipOnFork() throws IOException {
+    int flipped = 0;
+    for (long seed = 1; seed <= 20; seed++) {
+      BasicSanguineModel model = new BasicSanguineModel();
+      model.startGame(5, 5, model.createDeck(), model.createDeck(), 5, seed);
+      Random random = new Random(seed);
+
+      for (int move = 0; move < 40 && !model.isGameOver(); move++) {
+        PlayerColor mover = model.getTurn().getColor();
+        List<SanguineCard> hand = model.getPlayerHand(mover);
+        for (int row = 0; row < 5; row++) {
+          for (int col = 0; col < 5; col++) {
+            if (model.getBoardView().getOwner(row, col) == mover) {
+              continue;
+            }
+            for (Placement threat : model.getThreats(row, col)) {
+              BasicSanguineModel fork = model.fork();
+              int index = hand.indexOf(threat.card());
+              try {
+                fork.playTurn(threat.row(), threat.col(), fork.getPlayerHand(mover).get(index));
+              } catch (IllegalArgumentException | IllegalStateException exo) {
+                // influence may stop past the cell, or the hand may be empty to draw from
+              }
+              assertEquals(threat.toString(), mover, fork.getBoardView().getOwner(row, col));
+              flipped++;
+            }
+          }
+        }
+        playRandom(model, random);
+      }
+    }
+    assertTrue(flipped > 0);
+  }
+
+  /**
+   * makes sure threats are listed in hand order, that only three pawns can be threatened, that
+   * a placement whose influence stops before the cell is not a threat, that a fork starts with
+   * the threats of its game, and that cells out of the board are rejected.
+   *
+   * @throws IOException if the model throws it
+   */
+  @Test
+  public void testThreatsOfPlacedCards() throws IOException {
+    BasicSanguineModel model = new BasicSanguineModel();
+    assertThrows(IllegalStateException.class, () -> model.getThreats(0, 0));
+    List<SanguineCard> red = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      // every other card also reaches two up, which it influences before two right
+      red.add(new BasicSanguineCard((i % 2 == 0 ? "Reach" : "Over") + i, 1, 1,
+          List.of(i % 2 == 0 ? "XXXXX" : "XXXXI", "XXXXX", "XXCXI", "XXXXX", "XXXXX")));
+    }
+    model.startGame(5, 5, red, TestDecks.column(25), 5);
+    assertThrows(IllegalArgumentException.class, () -> model.getThreats(5, 0));
+
+    // every red card reaches two columns right, so nothing reaches blue's column from column 0
+    assertEquals(List.of(), model.getThreats(2, 4));
+    model.playTurn(2, 0, card(model, "Reach"));
+    model.playTurn(1, 4, model.getPlayerHand(PlayerColor.BLUE).getFirst());
+    model.passTurn();
+    model.playTurn(3, 4, model.getPlayerHand(PlayerColor.BLUE).getFirst());
+    assertEquals(PlayerColor.RED, model.getBoardView().getOwner(2, 2));
+    assertEquals(2, model.getBoardView().getPawnCount(0, 4));
+    assertEquals(3, model.getBoardView().getPawnCount(2, 4));
+
+    // one or two pawns are never flipped, and the two on (0, 4) stop every Over card from (2, 2)
+    assertEquals(List.of(), model.getThreats(0, 4));
+    List<Placement> threats = model.getThreats(2, 4);
+    List<Placement> expected = new ArrayList<>();
+    List<Placement> touching = new ArrayList<>();
+    for (SanguineCard card : model.getPlayerHand(PlayerColor.RED)) {
+      if (card.getName().startsWith("Reach")) {
+        expected.add(new Placement(card, 2, 2));
+      }
+      touching.add(new Placement(card, 2, 2));
+    }
+    assertTrue(expected.size() > 0 && expected.size() < touching.size());
+    assertEquals(expected, threats);
+    assertEquals(touching, model.getPlacementsTouching(PlayerColor.RED, 2, 4));
+    assertEquals(threats, model.fork().getThreats(2, 4));
+    assertEquals(search(model, 2, 2), model.getThreats(2, 2));
+
+    BasicSanguineModel blocked = model.fork();
+    assertThrows(IllegalStateException.class, () -> blocked.playTurn(2, 2, card(blocked, "Over")));
+    assertEquals(PlayerColor.BLUE, blocked.getBoardView().getOwner(2, 4));
+    model.playTurn(2, 2, threats.getFirst().card());
+    assertEquals(PlayerColor.RED, model.getBoardView().getOwner(2, 4));
+  }
+
+  /**
+   * a helper method that checks the threats on every cell against a search and counts the
+   * threats found.
+   *
+   * @param model the game
+   * @return the threats on the board
+   */
+  private static int assertThreatsMatch(ModelReadOnlyInterface model) {
+    int found = 0;
+    for (int row = 0; row < 5; row++) {
+      for (int col = 0; col < 5; col++) {
+        List<Placement> expected = search(model, row, col);
+        assertEquals(expected, model.getThreats(row, col));
+        found += expected.size();
+      }
+    }
+    return found;
+  }
+
+  /**
+   * a helper method that finds the threats on a cell: the placements of the other player
+   * touching it, if it holds pawns, that flip it when placed on a bitboard of the game.
+   *
+   * @param model the game
+   * @param row   the row of the cell
+   * @param col   the column of the cell
+   * @return the threats, in hand order, then by row and column
+   */
+  private static List<Placement> search(ModelReadOnlyInterface model, int row, int col) {
+    SanguineBoardCell target = model.getCellAt(row, col);
+    if (target.getPawns().isEmpty()) {
+      return List.of();
+    }
+    PlayerColor by = target.getColor() == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+    BitBoard board = BitBoard.of(model.getBoardView());
+    List<Placement> threats = new ArrayList<>();
+    for (Placement placement : touching(model, by, row, col)) {
+      BitBoard copy = board.copy();
+      try {
+        copy.place(placement.row(), placement.col(), placement.card(), by);
+      } catch (IllegalStateException exo) {
+        // the influence stopped, maybe before the cell
+      }
+      if (copy.getOwner(row, col) == by) {
+        threats.add(placement);
+      }
+    }
+    return threats;
+  }
+
+  /**
+   * a helper method that finds the first card in the red player's hand whose name starts a
+   * given way.
+   *
+   * @param model the game
+   * @param name  the start of the name
+   * @return the card
+   */
+  private static SanguineCard card(BasicSanguineModel model, String name) {
+    return model.getPlayerHand(PlayerColor.RED).stream()
+        .filter(card -> card.getName().startsWith(name)).findFirst().orElseThrow();
+  }
+
+  /**
+   * a helper method that finds the placements of a player whose influence reaches a cell by
+   * trying every card in their hand on every cell it can be placed on.
+   *
+   * @param model the game
+   * @param by    the player
+   * @param row   the row of the cell
+   * @param col   the column of the cell
+   * @return the placements, in hand order, then by row and column
+   */
+  private static List<Placement> touching(ModelReadOnlyInterface model, PlayerColor by, int row,
+                                          int col) {
+    List<Placement> placements = new ArrayList<>();
+    List<SanguineCard> seen = new ArrayList<>();
+    for (SanguineCard card : model.getPlayerHand(by)) {
+      if (seen.stream().anyMatch(other -> other == card)) {
+        continue;
+      }
+      seen.add(card);
+      for (int r = 0; r < model.getBoardView().getRows(); r++) {
+        for (int c = 0; c < model.getBoardView().getCols(); c++) {
+          SanguineBoardCell from = model.getCellAt(r, c);
+          int bit = (row - r + 2) * 5 + (col - c + 2);
+          if (Math.abs(row - r) <= 2 && Math.abs(col - c) <= 2
+              && (card.getInfluenceMask() >> bit & 1) == 1 && from.getColor() == by
+              && !from.getPawns().isEmpty() && from.getPawns().size() >= card.getCost()) {
+            placements.add(new Placement(card, r, c));
+          }
+        }
+      }
+    }
+    return placements;
+  }
+
+  /**
+   * a helper method that plays a random card the mover can place, or passes now and then or
+   * when the model rejects the move.
+   *
+   * @param model  the game
+   * @param random the source of the moves
+   * @throws IOException if the model throws it
+   */
+  private static void playRandom(BasicSanguineModel model, Random random) throws IOException {
+    PlayerColor color = model.getTurn().getColor();
+    List<Placement> moves = new ArrayList<>();
+    for (SanguineCard card : model.getPlayerHand(color)) {
+      for (int row = 0; row < 5; row++) {
+        for (int col = 0; col < 5; col++) {
+          SanguineBoardCell cell = model.getCellAt(row, col);
+          if (cell.getColor() == color && cell.getPawns().size() >= card.getCost()
+              && !cell.getPawns().isEmpty()) {
+            moves.add(new Placement(card, row, col));
+          }
+        }
+      }
+    }
+
+    try {
+      if (moves.isEmpty() || random.nextInt(10) == 0) {
+        model.passTurn();
+      } else {
+        Placement move = moves.get(random.nextInt(moves.size()));
+        model.playTurn(move.row(), move.col(), move.card());
+      }
+    } catch (IllegalArgumentException | IllegalStateException exo) {
+      // the model throws on some legal moves; the threats must be right after those too
+    }
+  }
+}
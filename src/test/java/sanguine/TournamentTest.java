@@ -0,0 +1,273 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.junit.Test;
+import sanguine.tournament.Crosstable;
+import sanguine.tournament.Elo;
+import sanguine.tournament.Entrant;
+import sanguine.tournament.GameResult;
+import sanguine.tournament.Sprt;
+import sanguine.tournament.Tournament;
+import sanguine.tournament.TournamentCoordinator;
+import sanguine.tournament.TournamentSettings;
+
+/**
+ * tests for the tournament runner, its ratings and its early stopping.
+ */
+public class TournamentTest {
+
+  /**
+   * makes sure a round robin plays every pairing to the game limit, gives each deal to both
+   * colors, and reaches the same results on any amount of threads.
+   */
+  @Test
+  public void testRoundRobinIsReproducible() {
+    Map<String, String> single = play(1);
+    Map<String, String> parallel = play(4);
+
+    // three pairings of six games
+    assertEquals(18, single.size());
+    assertEquals(single, parallel);
+
+    Tournament tournament = tournament(TournamentSettings.Format.ROUND_ROBIN, 6, 1, null);
+    Tournament.Pairing pairing = tournament.getPairings().get(0);
+    Tournament.Assignment even = tournament.assignment(pairing, 2);
+    Tournament.Assignment odd = tournament.assignment(pairing, 3);
+    assertEquals(even.seed(), odd.seed());
+    assertEquals(even.red(), odd.blue());
+    assertEquals(pairing.first(), even.red());
+  }
+
+  /**
+   * makes sure a gauntlet only pairs the first entrant, and that the crosstable counts every
+   * game from both sides.
+   */
+  @Test
+  public void testGauntlet() {
+    Tournament tournament = tournament(TournamentSettings.Format.GAUNTLET, 3, 2, null);
+    assertEquals(2, tournament.getPairings().size());
+    for (Tournament.Pairing pairing : tournament.getPairings()) {
+      assertEquals("FirstSpot", pairing.first().name());
+    }
+    // rounded up to whole deals
+    assertEquals(4, tournament.getSettings().maxGames());
+
+    List<GameResult> results = new ArrayList<>();
+    Crosstable table = tournament.run(results::add);
+    assertEquals(8, results.size());
+    assertEquals(8, table.getGames());
+    Crosstable.Record record = table.get("FirstSpot", "MaximizeRowScore");
+    Crosstable.Record opposite = table.get("MaximizeRowScore", "FirstSpot");
+    assertEquals(4, record.games());
+    assertEquals(record.wins(), opposite.losses());
+    assertEquals(record.draws(), opposite.draws());
+    assertEquals(0, table.get("MaxOwnership", "MaximizeRowScore").games());
+  }
+
+  /**
+   * makes sure the test stops a pairing once it is decided, even one sided, and reads the usual
+   * notations.
+   */
+  @Test
+  public void testSprt() {
+    Sprt sprt = Sprt.parse("0,50");
+    assertEquals(0.05, sprt.alpha(), 1e-9);
+    assertEquals(Sprt.Status.CONTINUE, sprt.status(3, 2, 2));
+    assertEquals(Sprt.Status.ACCEPT_H1, sprt.status(150, 50, 50));
+    assertEquals(Sprt.Status.ACCEPT_H0, sprt.status(50, 50, 150));
+    assertTrue(sprt.llr(60, 20, 20) > sprt.llr(50, 20, 30));
+
+    // a pairing won or lost every game is still decided
+    assertEquals(0, sprt.llr(0, 0, 0), 1e-9);
+    assertEquals(Sprt.Status.CONTINUE, sprt.status(1, 0, 0));
+    assertEquals(Sprt.Status.ACCEPT_H1, sprt.status(40, 0, 0));
+    assertEquals(Sprt.Status.ACCEPT_H0, sprt.status(0, 0, 40));
+    assertTrue(sprt.llr(20, 0, 0) > sprt.llr(10, 0, 0));
+
+    // the three strategies are about even, so every pairing soon rejects a 100 Elo edge; games
+    // that were running when it did still count, so the final ratio may fall back inside
+    Sprt edge = new Sprt(100, 200, 0.1, 0.1);
+    Tournament tournament = tournament(TournamentSettings.Format.ROUND_ROBIN, 1000, 2, edge);
+    Crosstable table = tournament.run(result -> { });
+    for (Tournament.Pairing pairing : tournament.getPairings()) {
+      Crosstable.Record record = table.get(pairing.first().name(), pairing.second().name());
+      assertEquals(0, record.errors());
+      assertTrue(record.games() < 100);
+      assertNotEquals(Sprt.Status.ACCEPT_H1,
+          edge.status(record.wins(), record.draws(), record.losses()));
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> Sprt.parse("0"));
+    assertThrows(IllegalArgumentException.class, () -> Sprt.parse("10,0"));
+    assertThrows(IllegalArgumentException.class, () -> Sprt.parse("0,10,0.6,0.05"));
+  }
+
+  /**
+   * makes sure Elo estimates follow the logistic curve and widen with fewer games.
+   */
+  @Test
+  public void testElo() {
+    assertEquals(0, Elo.estimate(5, 10, 5).elo(), 1e-9);
+    assertEquals(190.85, Elo.estimate(75, 0, 25).elo(), 0.01);
+    assertEquals(0.75, Elo.expectedScore(Elo.fromScore(0.75)), 1e-9);
+
+    Elo few = Elo.estimate(6, 2, 2);
+    Elo many = Elo.estimate(600, 200, 200);
+    assertEquals(few.elo(), many.elo(), 1e-9);
+    assertTrue(few.high() - few.low() > many.high() - many.low());
+    assertTrue(many.low() < many.elo() && many.elo() < many.high());
+    assertEquals(Double.POSITIVE_INFINITY, Elo.estimate(3, 0, 0).elo(), 0);
+    assertTrue(Double.isNaN(Elo.estimate(0, 0, 0).elo()));
+    assertEquals("+190.8 [+", Elo.estimate(75, 0, 25).toString().substring(0, 9));
+  }
+
+  /**
+   * makes sure results survive being written as lines, and that bad lines and settings are
+   * rejected.
+   */
+  @Test
+  public void testResultLines() {
+    GameResult result = new GameResult(2, 7, "FirstSpot", "MiniMax", -5L,
+        GameResult.Outcome.BLUE_WIN, 3, 9, 14, 123456L);
+    assertEquals(result, GameResult.parse(result.toLine()));
+    assertEquals(1, result.pointsFor("MiniMax"), 0);
+    assertEquals(0, result.pointsFor("FirstSpot"), 0);
+
+    assertThrows(IllegalArgumentException.class, () -> GameResult.parse("1\t2\t3"));
+    assertThrows(IllegalArgumentException.class,
+        () -> GameResult.parse(result.toLine().replace("BLUE_WIN", "LOST")));
+    assertThrows(IllegalArgumentException.class, () -> Entrant.builtIn("Nobody"));
+    assertThrows(IllegalArgumentException.class,
+        () -> new Tournament(List.of(Entrant.builtIn("FirstSpot")),
+            tournament(TournamentSettings.Format.GAUNTLET, 2, 1, null).getSettings()));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TournamentSettings(TournamentSettings.Format.GAUNTLET, 3, 5, 5,
+            TestDecks.column(15), 2, 1, 0, null));
+  }
+
+  /**
+   * makes sure worker processes reach the same results as a tournament played in one process,
+   * and that a tournament whose coordinator stopped resumes without playing a finished game
+   * again, skipping a line that was cut short and queueing the games still claimed.
+   *
+   * @throws IOException if the deck or the queue can not be written
+   */
+  @Test
+  public void testWorkersResume() throws IOException {
+    Path deck = Files.createTempFile("tournament", ".deck");
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 15; i++) {
+      text.append("Card").append(i).append(" 1 ").append(1 + i % 3)
+          .append("\nXXXXX\nXXIXX\nXXCXX\nXXIXX\nXXXXX\n");
+    }
+    Files.writeString(deck, text);
+    String[] arguments = {"--deck", deck.toString(), "--games", "4", "--seed", "9",
+        "FirstSpot", "MaximizeRowScore", "MaxOwnership"};
+
+    List<GameResult> expected = new ArrayList<>();
+    Crosstable local = tournament(TournamentSettings.Format.ROUND_ROBIN, 4, 2, null)
+        .run(expected::add);
+
+    // what a coordinator that died leaves behind: one worker's results, its last line cut
+    // short, and its claims on one game it finished and one it did not
+    Path directory = Files.createTempDirectory("tournament");
+    Path claims = Files.createDirectories(directory.resolve("running").resolve("0"));
+    Path results = Files.createDirectories(directory.resolve("results"));
+    StringBuilder lines = new StringBuilder();
+    for (int i = 0; i < 5; i++) {
+      lines.append(expected.get(i).toLine()).append('\n');
+    }
+    lines.append(expected.get(5).toLine(), 0, 8);
+    Files.writeString(results.resolve("worker-0.tsv"), lines);
+    Files.createFile(claims.resolve(expected.get(4).pairing() + "-" + expected.get(4).game()));
+    Files.createFile(claims.resolve(expected.get(5).pairing() + "-" + expected.get(5).game()));
+
+    List<GameResult> resumed = new ArrayList<>();
+    Crosstable table = new TournamentCoordinator(directory, 2, arguments).run(resumed::add);
+    assertEquals(12, table.getGames());
+    assertEquals(7, resumed.size());
+
+    Map<String, String> played = new TreeMap<>();
+    for (GameResult result : resumed) {
+      played.put(result.pairing() + "/" + result.game(), withoutTime(result));
+    }
+    for (GameResult result : expected.subList(0, 5)) {
+      assertNull(played.put(result.pairing() + "/" + result.game(), withoutTime(result)));
+    }
+    Map<String, String> reference = new TreeMap<>();
+    for (GameResult result : expected) {
+      reference.put(result.pairing() + "/" + result.game(), withoutTime(result));
+    }
+    assertEquals(reference, played);
+    for (String entrant : table.getEntrants()) {
+      for (String opponent : table.getEntrants()) {
+        assertEquals(local.get(entrant, opponent), table.get(entrant, opponent));
+      }
+    }
+    try (Stream<Path> pending = Files.list(directory.resolve("pending"))) {
+      assertEquals(0, pending.count());
+    }
+
+    // a finished tournament has nothing left to play, and a different one can not resume here
+    assertEquals(12, new TournamentCoordinator(directory, 1, arguments).run(result -> {
+      throw new AssertionError("played " + result);
+    }).getGames());
+    arguments[3] = "6";
+    assertThrows(IllegalArgumentException.class,
+        () -> new TournamentCoordinator(directory, 2, arguments).run(result -> { }));
+  }
+
+  /**
+   * a helper method that writes a result as a line without how long the game took.
+   *
+   * @param result the result
+   * @return the line
+   */
+  private static String withoutTime(GameResult result) {
+    return result.toLine().substring(0, result.toLine().lastIndexOf('\t'));
+  }
+
+  /**
+   * a helper method that plays a small round robin and keys its results by pairing and game,
+   * leaving out how long each game took.
+   *
+   * @param threads the amount of threads
+   * @return the results
+   */
+  private static Map<String, String> play(int threads) {
+    Map<String, String> results = new TreeMap<>();
+    tournament(TournamentSettings.Format.ROUND_ROBIN, 6, threads, null).run(result ->
+        results.put(result.pairing() + "/" + result.game(),
+            withoutTime(result)));
+    return results;
+  }
+
+  /**
+   * a helper method that sets up a 3x5 tournament of three strategies.
+   *
+   * @param format  which entrants meet
+   * @param games   the most games a pairing plays
+   * @param threads the amount of threads
+   * @param sprt    the early stopping test, or null
+   * @return the tournament
+   */
+  private static Tournament tournament(TournamentSettings.Format format, int games, int threads,
+                                       Sprt sprt) {
+    return new Tournament(List.of(Entrant.builtIn("FirstSpot"),
+        Entrant.builtIn("MaximizeRowScore"), Entrant.builtIn("MaxOwnership")),
+        new TournamentSettings(format, 3, 5, 5, TestDecks.column(15), games, 9, threads, sprt));
+  }
+}